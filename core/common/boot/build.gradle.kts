@@ -24,6 +24,8 @@ dependencies {
 
     implementation(libs.opentelemetry.api)
     testImplementation(libs.junit.jupiter.api)
+    testImplementation(project(":core:common:lib:policy-engine-lib"))
+    testImplementation(project(":core:common:lib:transform-lib"))
 }
 
 
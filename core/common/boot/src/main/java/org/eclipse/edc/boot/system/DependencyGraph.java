@@ -130,6 +130,52 @@ public class DependencyGraph {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Groups topologically sorted {@link InjectionContainer}s, as returned by {@link #of(List)}, into layers. Every
+     * extension is placed in a later layer than all the extensions it depends on, and base and core extensions are
+     * placed before all other extensions, so extensions within one layer are independent of each other and can be
+     * booted concurrently, while layers have to be booted one after the other.
+     *
+     * @param sortedContainers the topologically sorted containers
+     * @return the layers, in boot order, each one preserving the order of {@code sortedContainers}
+     */
+    public List<List<InjectionContainer<ServiceExtension>>> layers(List<InjectionContainer<ServiceExtension>> sortedContainers) {
+        var extensions = sortedContainers.stream().map(InjectionContainer::getInjectionTarget).collect(Collectors.toList());
+        var dependencyMap = createDependencyMap(extensions);
+
+        var layerIndexes = new HashMap<ServiceExtension, Integer>();
+        var highestLayerByOrder = new HashMap<Integer, Integer>();
+        var layers = new ArrayList<List<InjectionContainer<ServiceExtension>>>();
+        for (var container : sortedContainers) {
+            var extension = container.getInjectionTarget();
+            var order = ServiceExtensionComparator.orderFor(extension.getClass());
+
+            var dependencies = Stream.concat(
+                    container.getInjectionPoints().stream().map(InjectionPoint::getType),
+                    getRequiredFeatures(extension.getClass()).stream());
+
+            var layerIndex = Stream.concat(
+                            dependencies.flatMap(feature -> dependencyMap.getOrDefault(feature, List.of()).stream())
+                                    .filter(dependency -> !Objects.equals(dependency, extension))
+                                    .map(layerIndexes::get)
+                                    .filter(Objects::nonNull),
+                            highestLayerByOrder.entrySet().stream()
+                                    .filter(entry -> entry.getKey() < order)
+                                    .map(Map.Entry::getValue))
+                    .mapToInt(index -> index + 1)
+                    .max()
+                    .orElse(0);
+
+            layerIndexes.put(extension, layerIndex);
+            highestLayerByOrder.merge(order, layerIndex, Math::max);
+            while (layers.size() <= layerIndex) {
+                layers.add(new ArrayList<>());
+            }
+            layers.get(layerIndex).add(container);
+        }
+        return layers;
+    }
+
     private boolean canResolve(Map<Class<?>, List<ServiceExtension>> dependencyMap, Class<?> featureName) {
         var providers = dependencyMap.get(featureName);
         if (providers != null) {
@@ -206,7 +252,7 @@ public class DependencyGraph {
             return orderFor(o1.getClass()).compareTo(orderFor(o2.getClass()));
         }
 
-        private Integer orderFor(Class<? extends ServiceExtension> class1) {
+        private static Integer orderFor(Class<? extends ServiceExtension> class1) {
             return class1.getAnnotation(BaseExtension.class) != null
                     ? 0 : class1.getAnnotation(CoreExtension.class) != null
                     ? 1 : 2;
@@ -23,6 +23,9 @@ import org.eclipse.edc.boot.system.injection.InjectorImpl;
 import org.eclipse.edc.boot.system.injection.ProviderMethod;
 import org.eclipse.edc.boot.system.injection.ProviderMethodScanner;
 import org.eclipse.edc.boot.system.injection.lifecycle.ExtensionLifecycleManager;
+import org.eclipse.edc.boot.system.injection.lifecycle.PreparePhase;
+import org.eclipse.edc.boot.system.injection.lifecycle.StartPhase;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.ConsoleMonitor;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.MonitorExtension;
@@ -31,12 +34,25 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.boot.system.StartupProfile.Phase.INITIALIZE;
+import static org.eclipse.edc.boot.system.StartupProfile.Phase.INJECT;
+import static org.eclipse.edc.boot.system.StartupProfile.Phase.PREPARE;
+import static org.eclipse.edc.boot.system.StartupProfile.Phase.PROVIDE;
+import static org.eclipse.edc.boot.system.StartupProfile.Phase.START;
 
 public class ExtensionLoader {
 
@@ -50,27 +66,137 @@ public class ExtensionLoader {
      * Convenience method for loading service extensions.
      */
     public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context) {
+        bootServiceExtensions(containers, context, new StartupProfile());
+    }
+
+    /**
+     * Boots the service extensions one after the other, in the order of the list, recording the duration of every
+     * lifecycle phase in the {@link StartupProfile}.
+     */
+    public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context, StartupProfile profile) {
+        var injector = createInjector(containers, context);
+
+        // go through the extension initialization lifecycle
+        var lifeCycles = containers.stream()
+                .map(c -> initialize(c, context, injector, profile))
+                .collect(Collectors.toList());
+
+        context.freeze();
+
+        var preparedExtensions = IntStream.range(0, containers.size())
+                .mapToObj(i -> prepare(containers.get(i), lifeCycles.get(i), profile))
+                .collect(Collectors.toList());
+        IntStream.range(0, containers.size())
+                .forEach(i -> start(containers.get(i), preparedExtensions.get(i), profile));
+    }
+
+    /**
+     * Boots the service extensions layer by layer, as computed by {@link DependencyGraph#layers(List)}. The extensions
+     * of one layer are injected, initialized and have their providers invoked concurrently on the executor, and the
+     * same applies to the prepare and start phases once the context is frozen. Extensions that fetch services from the
+     * context without declaring the dependency (through {@code @Inject} or {@code @Requires}) may not find them in this
+     * mode, and services that extensions register into during initialization need to be thread-safe.
+     */
+    public static void bootServiceExtensionsConcurrently(List<List<InjectionContainer<ServiceExtension>>> layers, ServiceExtensionContext context,
+                                                         StartupProfile profile, ExecutorService executor) {
+        var injector = createInjector(layers.stream().flatMap(List::stream).collect(Collectors.toList()), context);
+
+        var lifeCycles = layers.stream()
+                .map(layer -> runConcurrently(executor, layer.stream()
+                        .map(c -> (Callable<PreparePhase>) () -> initialize(c, context, injector, profile))
+                        .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+
+        context.freeze();
+
+        var preparedExtensions = IntStream.range(0, layers.size())
+                .mapToObj(l -> runConcurrently(executor, IntStream.range(0, layers.get(l).size())
+                        .mapToObj(i -> (Callable<StartPhase>) () -> prepare(layers.get(l).get(i), lifeCycles.get(l).get(i), profile))
+                        .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+
+        IntStream.range(0, layers.size())
+                .forEach(l -> runConcurrently(executor, IntStream.range(0, layers.get(l).size())
+                        .mapToObj(i -> (Callable<Void>) () -> {
+                            start(layers.get(l).get(i), preparedExtensions.get(l).get(i), profile);
+                            return null;
+                        })
+                        .collect(Collectors.toList())));
+    }
+
+    @NotNull
+    private static InjectorImpl createInjector(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context) {
         //construct a list of default providers, which are invoked, if a particular service is not present in the context
         var defaultServices = new HashMap<Class<?>, Supplier<Object>>();
+        // default services are created at most once, even when the extensions requiring them are booted concurrently
+        var createdDefaultServices = new ConcurrentHashMap<Class<?>, Object>();
         containers.forEach(se -> {
             var pm = new ProviderMethodScanner(se.getInjectionTarget()).defaultProviders();
-            pm.forEach(p -> defaultServices.put(p.getReturnType(), getDefaultProviderInvoker(context, se, p)));
+            pm.forEach(p -> {
+                var invoker = getDefaultProviderInvoker(context, se, p);
+                defaultServices.put(p.getReturnType(), () -> createdDefaultServices.computeIfAbsent(p.getReturnType(), type -> invoker.get()));
+            });
         });
 
-        var injector = new InjectorImpl(defaultServices);
+        return new InjectorImpl(defaultServices);
+    }
 
-        // go through the extension initialization lifecycle
-        var lifeCycles = containers.stream()
-                .map(c -> new ExtensionLifecycleManager(c, context, injector))
-                .map(ExtensionLifecycleManager::inject)
-                .map(ExtensionLifecycleManager::initialize)
-                .map(ExtensionLifecycleManager::provide)
+    private static PreparePhase initialize(InjectionContainer<ServiceExtension> container, ServiceExtensionContext context, InjectorImpl injector, StartupProfile profile) {
+        var name = container.getInjectionTarget().name();
+        var lifeCycle = new ExtensionLifecycleManager(container, context, injector);
+        var injected = profile.measure(name, INJECT, lifeCycle::inject);
+        var registration = profile.measure(name, INITIALIZE, () -> ExtensionLifecycleManager.initialize(injected));
+        return profile.measure(name, PROVIDE, () -> ExtensionLifecycleManager.provide(registration));
+    }
+
+    private static StartPhase prepare(InjectionContainer<ServiceExtension> container, PreparePhase phase, StartupProfile profile) {
+        return profile.measure(container.getInjectionTarget().name(), PREPARE, () -> ExtensionLifecycleManager.prepare(phase));
+    }
+
+    private static void start(InjectionContainer<ServiceExtension> container, StartPhase phase, StartupProfile profile) {
+        profile.measure(container.getInjectionTarget().name(), START, () -> {
+            ExtensionLifecycleManager.start(phase);
+            return null;
+        });
+    }
+
+    /**
+     * Runs the tasks on the executor and waits for all of them to complete, rethrowing the first failure.
+     */
+    private static <T> List<T> runConcurrently(ExecutorService executor, List<Callable<T>> tasks) {
+        if (tasks.size() == 1) {
+            return List.of(call(tasks.get(0)));
+        }
+
+        var futures = tasks.stream()
+                .map(task -> CompletableFuture.supplyAsync(() -> call(task), executor))
                 .collect(Collectors.toList());
 
-        context.freeze();
+        var results = new ArrayList<T>();
+        RuntimeException failure = null;
+        for (var future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new EdcException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
 
-        var preparedExtensions = lifeCycles.stream().map(ExtensionLifecycleManager::prepare).collect(Collectors.toList());
-        preparedExtensions.forEach(ExtensionLifecycleManager::start);
+    private static <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new EdcException(e);
+        }
     }
 
     @NotNull
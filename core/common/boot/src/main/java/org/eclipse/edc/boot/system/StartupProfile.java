@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.boot.system;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Records how long every extension took in every phase of its boot lifecycle. Safe to use from multiple threads, as
+ * extensions may be booted concurrently.
+ */
+public class StartupProfile {
+
+    private final Map<String, Map<Phase, Duration>> durations = new ConcurrentHashMap<>();
+    private final List<String> extensions = new ArrayList<>();
+
+    /**
+     * Runs the action and records its duration for the given extension and phase.
+     *
+     * @param extension the extension name
+     * @param phase     the lifecycle phase
+     * @param action    the action to measure
+     * @return the result of the action
+     */
+    public <T> T measure(String extension, Phase phase, Supplier<T> action) {
+        var start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(extension, phase, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    public void record(String extension, Phase phase, Duration duration) {
+        durations.compute(extension, (name, phases) -> {
+            if (phases == null) {
+                synchronized (extensions) {
+                    extensions.add(name);
+                }
+                phases = new EnumMap<>(Phase.class);
+            }
+            phases.merge(phase, duration, Duration::plus);
+            return phases;
+        });
+    }
+
+    public Duration duration(String extension, Phase phase) {
+        var phases = durations.get(extension);
+        return phases == null ? Duration.ZERO : phases.getOrDefault(phase, Duration.ZERO);
+    }
+
+    public Duration total(String extension) {
+        var phases = durations.get(extension);
+        return phases == null ? Duration.ZERO : phases.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * Lists the extensions ordered by their total boot duration, slowest first.
+     */
+    public List<String> slowest(int limit) {
+        return extensionNames().stream()
+                .sorted(Comparator.comparing(this::total).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Renders a report with one line per extension, in the order in which they were booted, and the duration of each
+     * phase in milliseconds.
+     */
+    public String report() {
+        var lines = extensionNames().stream()
+                .map(extension -> format("  %-60s total=%6d ms %s", extension, total(extension).toMillis(),
+                        durations.get(extension).entrySet().stream()
+                                .map(entry -> format("%s=%d", entry.getKey().name().toLowerCase(), entry.getValue().toMillis()))
+                                .collect(Collectors.joining(" "))))
+                .collect(Collectors.joining("\n"));
+        return "Startup profile (durations in ms):\n" + lines;
+    }
+
+    private List<String> extensionNames() {
+        synchronized (extensions) {
+            return new ArrayList<>(extensions);
+        }
+    }
+
+    /**
+     * The phases of an extension's boot lifecycle.
+     */
+    public enum Phase {
+        INJECT, INITIALIZE, PROVIDE, PREPARE, START
+    }
+}
@@ -17,10 +17,13 @@ package org.eclipse.edc.boot.system.runtime;
 
 
 import org.eclipse.edc.boot.system.DefaultServiceExtensionContext;
+import org.eclipse.edc.boot.system.DependencyGraph;
 import org.eclipse.edc.boot.system.ExtensionLoader;
 import org.eclipse.edc.boot.system.ServiceLocator;
 import org.eclipse.edc.boot.system.ServiceLocatorImpl;
+import org.eclipse.edc.boot.system.StartupProfile;
 import org.eclipse.edc.boot.system.injection.InjectionContainer;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ConfigurationExtension;
@@ -31,9 +34,13 @@ import org.eclipse.edc.spi.system.health.HealthCheckResult;
 import org.eclipse.edc.spi.system.health.HealthCheckService;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import static java.lang.Runtime.getRuntime;
 import static java.lang.String.format;
@@ -46,15 +53,25 @@ import static java.lang.String.format;
  *     <li>{@link BaseRuntime#createContext(Monitor)}: creates a new {@link DefaultServiceExtensionContext} and invokes its {@link DefaultServiceExtensionContext#initialize()} method</li>
  *     <li>{@link BaseRuntime#createExtensions(ServiceExtensionContext)}: creates a list of {@code ServiceExtension} objects. By default, these are created through {@link ExtensionLoader#loadServiceExtensions(ServiceExtensionContext)}</li>
  *     <li>{@link BaseRuntime#bootExtensions(ServiceExtensionContext, List)}: initializes the service extensions by putting them through their lifecycle.
- *     By default this calls {@link ExtensionLoader#bootServiceExtensions(List, ServiceExtensionContext)} </li>
+ *     By default this calls {@link ExtensionLoader#bootServiceExtensions(List, ServiceExtensionContext, StartupProfile)}, or
+ *     {@link ExtensionLoader#bootServiceExtensionsConcurrently(List, ServiceExtensionContext, StartupProfile, java.util.concurrent.ExecutorService)}
+ *     if {@value #BOOT_CONCURRENT_SETTING} is enabled</li>
  *     <li>{@link BaseRuntime#onError(Exception)}: receives any Exception that was raised during initialization</li>
  * </ul>
+ * Once booted, the time every extension spent in every lifecycle phase is logged as a {@link StartupProfile}.
  */
 public class BaseRuntime {
 
+    @Setting(value = "Experimental: boots independent extensions concurrently, layer by layer of the dependency graph", type = "boolean", defaultValue = "false")
+    public static final String BOOT_CONCURRENT_SETTING = "edc.runtime.boot.concurrent";
+    @Setting(value = "Number of threads used to boot extensions when concurrent boot is enabled. Defaults to the number of available processors", type = "int")
+    public static final String BOOT_CONCURRENT_THREADS_SETTING = "edc.runtime.boot.concurrent.threads";
+    private static final int PROFILE_SLOWEST_EXTENSIONS = 5;
+
     private static String[] programArgs = new String[0];
     private final ExtensionLoader extensionLoader;
     private final List<ServiceExtension> serviceExtensions = new ArrayList<>();
+    private final StartupProfile startupProfile = new StartupProfile();
     protected Monitor monitor;
 
     public BaseRuntime() {
@@ -139,13 +156,37 @@ public class BaseRuntime {
     }
 
     /**
-     * Starts all service extensions by invoking {@link ExtensionLoader#bootServiceExtensions(List, ServiceExtensionContext)}
+     * Starts all service extensions by invoking {@link ExtensionLoader#bootServiceExtensions(List, ServiceExtensionContext, StartupProfile)},
+     * or {@link ExtensionLoader#bootServiceExtensionsConcurrently(List, ServiceExtensionContext, StartupProfile, java.util.concurrent.ExecutorService)}
+     * when concurrent boot is enabled.
      *
      * @param context           The {@code ServiceExtensionContext} that is used in this runtime.
      * @param serviceExtensions a list of extensions
      */
     protected void bootExtensions(ServiceExtensionContext context, List<InjectionContainer<ServiceExtension>> serviceExtensions) {
-        ExtensionLoader.bootServiceExtensions(serviceExtensions, context);
+        if (!context.getSetting(BOOT_CONCURRENT_SETTING, false)) {
+            ExtensionLoader.bootServiceExtensions(serviceExtensions, context, startupProfile);
+            return;
+        }
+
+        var layers = new DependencyGraph(context).layers(serviceExtensions);
+        var threads = context.getSetting(BOOT_CONCURRENT_THREADS_SETTING, Runtime.getRuntime().availableProcessors());
+        monitor.info(format("Booting %d extensions concurrently in %d layers with %d threads", serviceExtensions.size(), layers.size(), threads));
+
+        var threadCount = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(threads, runnable -> new Thread(runnable, "edc-boot-" + threadCount.incrementAndGet()));
+        try {
+            ExtensionLoader.bootServiceExtensionsConcurrently(layers, context, startupProfile, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Returns the time every extension spent in every lifecycle phase while booting.
+     */
+    protected StartupProfile getStartupProfile() {
+        return startupProfile;
     }
 
     /**
@@ -190,6 +231,7 @@ public class BaseRuntime {
         var context = createServiceExtensionContext();
 
         var name = getRuntimeName(context);
+        var bootStart = System.nanoTime();
         try {
             var newExtensions = createExtensions(context);
             bootExtensions(context, newExtensions);
@@ -213,7 +255,16 @@ public class BaseRuntime {
             onError(e);
         }
 
+        reportStartupProfile(Duration.ofNanos(System.nanoTime() - bootStart));
         monitor.info(format("%s ready", name));
     }
 
+    private void reportStartupProfile(Duration bootDuration) {
+        var slowest = startupProfile.slowest(PROFILE_SLOWEST_EXTENSIONS).stream()
+                .map(extension -> format("%s (%d ms)", extension, startupProfile.total(extension).toMillis()))
+                .collect(Collectors.joining(", "));
+        monitor.info(format("Extensions booted in %d ms, slowest: %s", bootDuration.toMillis(), slowest));
+        monitor.debug(startupProfile::report);
+    }
+
 }
@@ -17,6 +17,9 @@ package org.eclipse.edc.boot.system;
 import org.assertj.core.data.Index;
 import org.eclipse.edc.boot.system.injection.EdcInjectionException;
 import org.eclipse.edc.boot.system.injection.InjectionContainer;
+import org.eclipse.edc.boot.system.testextensions.BaseExtension;
+import org.eclipse.edc.boot.system.testextensions.CoreExtension;
+import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +63,22 @@ class DependencyGraphTest {
                 .contains(dependentExtension, Index.atIndex(4));
     }
 
+    @Test
+    void layers_shouldPlaceDependentsAfterProviders() {
+        var provider = TestFunctions.createProviderExtension(false);
+        var dependentExtension = TestFunctions.createDependentExtension(true);
+        var independentExtension = new ServiceExtension() {
+        };
+
+        var layers = graph.layers(graph.of(TestFunctions.createList(dependentExtension, provider, independentExtension)));
+
+        assertThat(layers).hasSize(4);
+        assertThat(layers.get(0)).extracting(InjectionContainer::getInjectionTarget).hasOnlyElementsOfType(BaseExtension.class);
+        assertThat(layers.get(1)).extracting(InjectionContainer::getInjectionTarget).hasOnlyElementsOfType(CoreExtension.class);
+        assertThat(layers.get(2)).extracting(InjectionContainer::getInjectionTarget).containsExactlyInAnyOrder(provider, independentExtension);
+        assertThat(layers.get(3)).extracting(InjectionContainer::getInjectionTarget).containsExactly(dependentExtension);
+    }
+
     @Test
     void sortExtensions_missingDependency() {
 
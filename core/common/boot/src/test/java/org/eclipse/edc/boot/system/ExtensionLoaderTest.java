@@ -23,6 +23,13 @@ import org.eclipse.edc.boot.system.injection.InjectionContainer;
 import org.eclipse.edc.boot.system.testextensions.ProviderDefaultServicesExtension;
 import org.eclipse.edc.boot.system.testextensions.ProviderExtension;
 import org.eclipse.edc.boot.util.CyclicDependencyException;
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.engine.spi.RuleBindingRegistry;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.runtime.metamodel.annotation.BaseExtension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
@@ -33,6 +40,8 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.MonitorExtension;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,13 +49,17 @@ import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.emptyList;
+import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -381,6 +394,96 @@ class ExtensionLoaderTest {
         assertThat(context.getService(TestObject.class)).isNotNull();
     }
 
+    @Test
+    @DisplayName("bootServiceExtensionsConcurrently - Should invoke default provider once and boot all layers")
+    void bootServiceExtensionsConcurrently_withDefaultProvider() {
+        var firstDependent = Mockito.spy(TestFunctions.createDependentExtension(true));
+        var secondDependent = Mockito.spy(TestFunctions.createDependentExtension(true));
+
+        var defaultProvider = (ProviderDefaultServicesExtension) Mockito.spy(TestFunctions.createProviderExtension(true));
+        when(defaultProvider.testObject()).thenCallRealMethod();
+
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), List.of());
+
+        var list = TestFunctions.createInjectionContainers(TestFunctions.createList(firstDependent, secondDependent, defaultProvider), context);
+        var layers = new DependencyGraph(context).layers(list);
+        var profile = new StartupProfile();
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            ExtensionLoader.bootServiceExtensionsConcurrently(layers, context, profile, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        verify(defaultProvider, times(1)).testObject();
+        verify(firstDependent).start();
+        verify(secondDependent).start();
+        assertThat(context.getService(TestObject.class)).isNotNull();
+        assertThat(profile.report()).contains(defaultProvider.name(), "start=");
+    }
+
+    @Test
+    @DisplayName("bootServiceExtensionsConcurrently - Should rethrow extension failures")
+    void bootServiceExtensionsConcurrently_shouldRethrowFailure() {
+        var failing = Mockito.spy(new SomeExtension());
+        Mockito.doThrow(new EdcException("initialization failed")).when(failing).initialize(any());
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), List.of());
+        var list = TestFunctions.createInjectionContainers(TestFunctions.createList(failing, new SomeExtension()), context);
+        var layers = new DependencyGraph(context).layers(list);
+        var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            assertThatThrownBy(() -> ExtensionLoader.bootServiceExtensionsConcurrently(layers, context, new StartupProfile(), executor))
+                    .isInstanceOf(EdcException.class).hasMessage("initialization failed");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("bootServiceExtensions - Should record every lifecycle phase in the startup profile")
+    void bootServiceExtensions_shouldRecordProfile() {
+        var dependentExtension = TestFunctions.createDependentExtension(true);
+        var provider = TestFunctions.createProviderExtension(false);
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), List.of());
+        var list = TestFunctions.createInjectionContainers(TestFunctions.createList(dependentExtension, provider), context);
+        var profile = new StartupProfile();
+
+        ExtensionLoader.bootServiceExtensions(list, context, profile);
+
+        assertThat(profile.report()).contains(dependentExtension.name(), provider.name(), "inject=", "initialize=", "provide=", "prepare=", "start=");
+    }
+
+    @Test
+    @DisplayName("bootServiceExtensionsConcurrently - Should keep every registration of extensions registering into the same registries")
+    void bootServiceExtensionsConcurrently_shouldKeepConcurrentRegistrations() {
+        var transformerRegistry = new TypeTransformerRegistryImpl();
+        var ruleBindingRegistry = new RuleBindingRegistryImpl();
+        var policyEngine = new PolicyEngineImpl(new ScopeFilter(ruleBindingRegistry));
+        var extensions = range(0, 16)
+                .mapToObj(i -> new RegisteringExtension(i, transformerRegistry, ruleBindingRegistry, policyEngine))
+                .toArray(ServiceExtension[]::new);
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), List.of());
+        var layers = new DependencyGraph(context).layers(TestFunctions.createInjectionContainers(TestFunctions.createList(extensions), context));
+        var executor = Executors.newFixedThreadPool(8);
+
+        try {
+            ExtensionLoader.bootServiceExtensionsConcurrently(layers, context, new StartupProfile(), executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        range(0, 16).forEach(i -> range(0, RegisteringExtension.REGISTRATIONS).forEach(j -> {
+            assertThat(transformerRegistry.forContext("context").typeAlias("alias-%d-%d".formatted(i, j))).isEqualTo(String.class);
+            assertThat(ruleBindingRegistry.isInScope("rule-%d-%d".formatted(i, j), "scope")).isTrue();
+        }));
+        RegisteringExtension.VALIDATIONS.set(0);
+        var result = policyEngine.evaluate("scope", Policy.Builder.newInstance().build(), PolicyContextImpl.Builder.newInstance().build());
+        assertThat(result.succeeded()).isTrue();
+        assertThat(RegisteringExtension.VALIDATIONS).hasValue(16 * RegisteringExtension.REGISTRATIONS);
+    }
+
     @SafeVarargs
     private <T> List<T> mutableListOf(T... elements) {
         return new ArrayList<>(List.of(elements));
@@ -394,6 +497,37 @@ class ExtensionLoaderTest {
     private static class SomeExtension implements ServiceExtension {
     }
 
+    /**
+     * Registers into shared registries during initialization, evaluating policies in between so that plans get cached
+     * while other extensions are still registering.
+     */
+    private static class RegisteringExtension implements ServiceExtension {
+        static final int REGISTRATIONS = 50;
+        static final AtomicInteger VALIDATIONS = new AtomicInteger();
+
+        private final int index;
+        private final TypeTransformerRegistry transformerRegistry;
+        private final RuleBindingRegistry ruleBindingRegistry;
+        private final PolicyEngine policyEngine;
+
+        RegisteringExtension(int index, TypeTransformerRegistry transformerRegistry, RuleBindingRegistry ruleBindingRegistry, PolicyEngine policyEngine) {
+            this.index = index;
+            this.transformerRegistry = transformerRegistry;
+            this.ruleBindingRegistry = ruleBindingRegistry;
+            this.policyEngine = policyEngine;
+        }
+
+        @Override
+        public void initialize(ServiceExtensionContext context) {
+            for (var i = 0; i < REGISTRATIONS; i++) {
+                transformerRegistry.forContext("context").registerTypeAlias("alias-%d-%d".formatted(index, i), String.class);
+                ruleBindingRegistry.bind("rule-%d-%d".formatted(index, i), "scope");
+                policyEngine.registerPreValidator("scope", (policy, policyContext) -> VALIDATIONS.incrementAndGet() > 0);
+                policyEngine.evaluate("scope", Policy.Builder.newInstance().build(), PolicyContextImpl.Builder.newInstance().build());
+            }
+        }
+    }
+
     @Provides({ SomeObject.class })
     private static class ProvidingExtension implements ServiceExtension {
     }
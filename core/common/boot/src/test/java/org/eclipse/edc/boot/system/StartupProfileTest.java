@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.boot.system;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.boot.system.StartupProfile.Phase.INITIALIZE;
+import static org.eclipse.edc.boot.system.StartupProfile.Phase.START;
+
+class StartupProfileTest {
+
+    private final StartupProfile profile = new StartupProfile();
+
+    @Test
+    void measure_shouldRecordDurationAndReturnResult() {
+        var result = profile.measure("extension", INITIALIZE, () -> "result");
+
+        assertThat(result).isEqualTo("result");
+        assertThat(profile.duration("extension", INITIALIZE)).isNotNegative();
+        assertThat(profile.duration("extension", START)).isZero();
+    }
+
+    @Test
+    void total_shouldSumPhases() {
+        profile.record("extension", INITIALIZE, Duration.ofMillis(30));
+        profile.record("extension", START, Duration.ofMillis(12));
+
+        assertThat(profile.total("extension")).isEqualTo(Duration.ofMillis(42));
+    }
+
+    @Test
+    void slowest_shouldOrderByTotalDuration() {
+        profile.record("fast", INITIALIZE, Duration.ofMillis(1));
+        profile.record("slow", INITIALIZE, Duration.ofMillis(100));
+        profile.record("medium", START, Duration.ofMillis(10));
+
+        assertThat(profile.slowest(2)).containsExactly("slow", "medium");
+    }
+
+    @Test
+    void report_shouldListExtensionsInBootOrder() {
+        profile.record("first", INITIALIZE, Duration.ofMillis(5));
+        profile.record("second", START, Duration.ofMillis(7));
+
+        var report = profile.report();
+
+        assertThat(report.indexOf("first")).isLessThan(report.indexOf("second"));
+        assertThat(report).contains("initialize=5", "start=7");
+    }
+}
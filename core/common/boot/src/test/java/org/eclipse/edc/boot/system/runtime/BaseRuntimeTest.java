@@ -66,6 +66,32 @@ public class BaseRuntimeTest {
         verify(monitor).severe(startsWith("Error booting runtime: Failed to start base extension"), any(EdcException.class));
     }
 
+    @Test
+    void baseRuntime_shouldReportStartupProfile() {
+        when(serviceLocator.loadImplementors(eq(ServiceExtension.class), anyBoolean())).thenReturn(List.of(new BaseExtension()));
+
+        runtime.boot();
+
+        verify(monitor).info(startsWith("Extensions booted in"));
+    }
+
+    @Test
+    void baseRuntime_shouldBootConcurrently_whenEnabled() {
+        var extension = spy(new BaseExtension());
+        when(serviceLocator.loadImplementors(eq(ServiceExtension.class), anyBoolean())).thenReturn(List.of(extension, registerService(HealthCheckService.class, mock())));
+        System.setProperty(BaseRuntime.BOOT_CONCURRENT_SETTING, "true");
+
+        try {
+            runtime.boot();
+        } finally {
+            System.clearProperty(BaseRuntime.BOOT_CONCURRENT_SETTING);
+        }
+
+        verify(monitor).info(startsWith("Booting 2 extensions concurrently"));
+        verify(extension).start();
+        verify(monitor, never()).severe(anyString(), any());
+    }
+
     @Test
     void shouldSetStartupCheckProvider_whenHealthCheckServiceIsRegistered() {
         var healthCheckService = mock(HealthCheckService.class);
@@ -60,6 +60,8 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     private static final boolean DEFAULT_OK_HTTP_CLIENT_HTTPS_ENFORCE = false;
     private static final int DEFAULT_OK_HTTP_CLIENT_SEND_BUFFER_SIZE = 0;
     private static final int DEFAULT_OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE = 0;
+    private static final int DEFAULT_OK_HTTP_CLIENT_MAX_IDLE_CONNECTIONS = 5;
+    private static final int DEFAULT_OK_HTTP_CLIENT_KEEP_ALIVE = 300;
 
     @Setting(value = "RetryPolicy: Maximum retries before a failure is propagated", defaultValue = DEFAULT_RETRY_POLICY_MAX_RETRIES + "", type = "int")
     private static final String RETRY_POLICY_MAX_RETRIES = "edc.core.retry.retries.max";
@@ -87,6 +89,10 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     private static final String OK_HTTP_CLIENT_SEND_BUFFER_SIZE = "edc.http.client.send.buffer.size";
     @Setting(value = "OkHttpClient: receive buffer size, in bytes", defaultValue = DEFAULT_OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE + "", type = "int", min = 1)
     private static final String OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE = "edc.http.client.receive.buffer.size";
+    @Setting(value = "OkHttpClient: maximum number of idle connections kept in the connection pool", defaultValue = DEFAULT_OK_HTTP_CLIENT_MAX_IDLE_CONNECTIONS + "", type = "int", min = 0)
+    private static final String OK_HTTP_CLIENT_MAX_IDLE_CONNECTIONS = "edc.http.client.pool.max-idle-connections";
+    @Setting(value = "OkHttpClient: time an idle connection is kept in the connection pool, in seconds", defaultValue = DEFAULT_OK_HTTP_CLIENT_KEEP_ALIVE + "", type = "int", min = 1)
+    private static final String OK_HTTP_CLIENT_KEEP_ALIVE = "edc.http.client.pool.keep-alive";
 
     /**
      * An optional OkHttp {@link EventListener} that can be used to instrument OkHttp client for collecting metrics.
@@ -133,6 +139,8 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
                 .readTimeout(context.getSetting(OK_HTTP_CLIENT_TIMEOUT_READ, DEFAULT_OK_HTTP_CLIENT_TIMEOUT_READ))
                 .sendBufferSize(context.getSetting(OK_HTTP_CLIENT_SEND_BUFFER_SIZE, DEFAULT_OK_HTTP_CLIENT_SEND_BUFFER_SIZE))
                 .receiveBufferSize(context.getSetting(OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE, DEFAULT_OK_HTTP_CLIENT_RECEIVE_BUFFER_SIZE))
+                .maxIdleConnections(context.getSetting(OK_HTTP_CLIENT_MAX_IDLE_CONNECTIONS, DEFAULT_OK_HTTP_CLIENT_MAX_IDLE_CONNECTIONS))
+                .keepAlive(context.getSetting(OK_HTTP_CLIENT_KEEP_ALIVE, DEFAULT_OK_HTTP_CLIENT_KEEP_ALIVE))
                 .build();
 
         return OkHttpClientFactory.create(configuration, okHttpEventListener, context.getMonitor());
@@ -21,6 +21,8 @@ public class OkHttpClientConfiguration {
     private int readTimeout;
     private int sendBufferSize;
     private int receiveBufferSize;
+    private int maxIdleConnections = 5;
+    private int keepAlive = 300;
 
     private OkHttpClientConfiguration() {
     }
@@ -45,6 +47,14 @@ public class OkHttpClientConfiguration {
         return receiveBufferSize;
     }
 
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public int getKeepAlive() {
+        return keepAlive;
+    }
+
     public static class Builder {
 
         private final OkHttpClientConfiguration instance = new OkHttpClientConfiguration();
@@ -81,6 +91,19 @@ public class OkHttpClientConfiguration {
             return this;
         }
 
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            instance.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * Time an idle connection is kept in the pool, in seconds.
+         */
+        public Builder keepAlive(int keepAlive) {
+            instance.keepAlive = keepAlive;
+            return this;
+        }
+
         public OkHttpClientConfiguration build() {
             return instance;
         }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.core.base;
 
+import okhttp3.ConnectionPool;
 import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
@@ -45,7 +46,8 @@ public class OkHttpClientFactory {
     public static OkHttpClient create(OkHttpClientConfiguration configuration, EventListener okHttpEventListener, Monitor monitor) {
         var builder = new OkHttpClient.Builder()
                 .connectTimeout(configuration.getConnectTimeout(), SECONDS)
-                .readTimeout(configuration.getReadTimeout(), SECONDS);
+                .readTimeout(configuration.getReadTimeout(), SECONDS)
+                .connectionPool(new ConnectionPool(configuration.getMaxIdleConnections(), configuration.getKeepAlive(), SECONDS));
 
         if (configuration.getSendBufferSize() > 0 || configuration.getReceiveBufferSize() > 0) {
             builder.socketFactory(new CustomSocketFactory(configuration.getSendBufferSize(), configuration.getReceiveBufferSize()));
@@ -24,6 +24,8 @@ import java.time.Clock;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
@@ -149,6 +151,23 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldKeepAllSubscribers_whenRegisteredConcurrently() throws InterruptedException {
+        var subscribers = range(0, 200).mapToObj(i -> mock(EventSubscriber.class)).toList();
+        var executor = Executors.newFixedThreadPool(8);
+        subscribers.forEach(subscriber -> executor.execute(() -> eventRouter.registerSync(TestEvent.class, subscriber)));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        var event = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        eventRouter.publish(event);
+
+        subscribers.forEach(subscriber -> verify(subscriber).on(eq(event)));
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
@@ -34,12 +34,12 @@ import org.eclipse.edc.spi.result.Result;
 
 import java.net.URI;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -57,8 +57,9 @@ public class TitaniumJsonLd implements JsonLd {
     private static final Set<String> EMPTY_CONTEXTS = Collections.emptySet();
 
     private final Monitor monitor;
-    private final Map<String, Map<String, String>> scopedNamespaces = new HashMap<>();
-    private final Map<String, Set<String>> scopedContexts = new HashMap<>();
+    // registrations replace the immutable per-scope snapshot, so that contexts can be built while extensions register
+    private final Map<String, Map<String, String>> scopedNamespaces = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> scopedContexts = new ConcurrentHashMap<>();
     private final CachedDocumentLoader documentLoader;
 
     public TitaniumJsonLd(Monitor monitor) {
@@ -107,14 +108,20 @@ public class TitaniumJsonLd implements JsonLd {
 
     @Override
     public void registerNamespace(String prefix, String contextIri, String scope) {
-        var namespaces = scopedNamespaces.computeIfAbsent(scope, k -> new LinkedHashMap<>());
-        namespaces.put(prefix, contextIri);
+        scopedNamespaces.compute(scope, (k, namespaces) -> {
+            var updated = namespaces == null ? new LinkedHashMap<String, String>() : new LinkedHashMap<>(namespaces);
+            updated.put(prefix, contextIri);
+            return Collections.unmodifiableMap(updated);
+        });
     }
 
     @Override
     public void registerContext(String contextIri, String scope) {
-        var contexts = scopedContexts.computeIfAbsent(scope, k -> new LinkedHashSet<>());
-        contexts.add(contextIri);
+        scopedContexts.compute(scope, (k, contexts) -> {
+            var updated = contexts == null ? new LinkedHashSet<String>() : new LinkedHashSet<>(contexts);
+            updated.add(contextIri);
+            return Collections.unmodifiableSet(updated);
+        });
     }
 
     @Override
@@ -176,8 +183,8 @@ public class TitaniumJsonLd implements JsonLd {
 
     private static class CachedDocumentLoader implements DocumentLoader {
 
-        private final Map<String, URI> uriCache = new HashMap<>();
-        private final Map<URI, Document> documentCache = new HashMap<>();
+        private final Map<String, URI> uriCache = new ConcurrentHashMap<>();
+        private final Map<URI, Document> documentCache = new ConcurrentHashMap<>();
         private final DocumentLoader loader;
         private final Monitor monitor;
 
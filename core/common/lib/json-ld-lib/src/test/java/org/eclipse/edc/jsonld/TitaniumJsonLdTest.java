@@ -30,9 +30,12 @@ import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 
 import java.net.URI;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
+import static java.util.stream.IntStream.range;
 import static org.mockito.Mockito.mock;
 
 class TitaniumJsonLdTest {
@@ -137,6 +140,23 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void compact_withCustomPrefixesRegisteredConcurrently() throws InterruptedException {
+        var service = defaultService();
+        var executor = Executors.newFixedThreadPool(8);
+        range(0, 100).forEach(i -> executor.execute(() -> service.registerNamespace("prefix" + i, "https://test.org/schema" + i + "/")));
+        executor.shutdown();
+        Assertions.assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        var expanded = createObjectBuilder();
+        range(0, 100).forEach(i -> expanded.add("https://test.org/schema" + i + "/key",
+                createArrayBuilder().add(createObjectBuilder().add(JsonLdKeywords.VALUE, "value" + i))));
+
+        var compacted = service.compact(expanded.build());
+
+        AbstractResultAssert.assertThat(compacted).isSucceeded().satisfies(c -> range(0, 100)
+                .forEach(i -> Assertions.assertThat(c.getString("prefix" + i + ":key")).isEqualTo("value" + i)));
+    }
+
     @Test
     void expandAndCompact_withCustomContext() {
         var context = "http://schema.org/";
@@ -34,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -42,6 +43,11 @@ import static org.eclipse.edc.spi.result.Result.success;
 
 /**
  * Default implementation of the policy engine.
+ * <p>
+ * The functions and validators that apply to a scope are resolved once and kept in an evaluation plan that is reused by
+ * all the subsequent evaluations in that scope. Plans are discarded every time a function or a validator gets registered.
+ * Registrations and plan computations are serialized, so that registrations from extensions booted concurrently are
+ * all kept and a plan computed before a registration is never cached after it.
  */
 public class PolicyEngineImpl implements PolicyEngine {
 
@@ -54,6 +60,7 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> preValidators = new HashMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators = new HashMap<>();
+    private final Map<String, ScopePlan> plans = new ConcurrentHashMap<>();
     private final ScopeFilter scopeFilter;
 
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
@@ -67,10 +74,12 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public Result<Void> evaluate(String scope, Policy policy, PolicyContext context) {
-        var delimitedScope = scope + ".";
+        var plan = plans.get(scope);
+        if (plan == null) {
+            plan = compileAndCache(scope);
+        }
 
-        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-        for (var validator : scopedPreValidators) {
+        for (var validator : plan.preValidators()) {
             if (!validator.apply(policy, context)) {
                 return failValidator("Pre-validator", validator, context);
             }
@@ -78,7 +87,7 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         var evalBuilder = PolicyEvaluator.Builder.newInstance();
 
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+        plan.ruleFunctions().forEach(entry -> {
             if (Duty.class.isAssignableFrom(entry.type)) {
                 evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
             } else if (Permission.class.isAssignableFrom(entry.type)) {
@@ -88,7 +97,7 @@ public class PolicyEngineImpl implements PolicyEngine {
             }
         });
 
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+        plan.constraintFunctions().forEach(entry -> {
             if (Duty.class.isAssignableFrom(entry.type)) {
                 evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
             } else if (Permission.class.isAssignableFrom(entry.type)) {
@@ -98,7 +107,7 @@ public class PolicyEngineImpl implements PolicyEngine {
             }
         });
 
-        dynamicConstraintFunctions.stream().filter(entry -> scopeFilter(entry.scope, delimitedScope)).forEach(entry -> {
+        plan.dynamicConstraintFunctions().forEach(entry -> {
             if (Duty.class.isAssignableFrom(entry.type)) {
                 evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) -> entry.function.evaluate(key, operator, value, duty, context));
             } else if (Permission.class.isAssignableFrom(entry.type)) {
@@ -116,8 +125,7 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         if (result.valid()) {
 
-            var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-            for (var validator : scopedPostValidators) {
+            for (var validator : plan.postValidators()) {
                 if (!validator.apply(policy, context)) {
                     return failValidator("Post-validator", validator, context);
                 }
@@ -131,30 +139,58 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
+    public synchronized <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        plans.clear();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    public <R extends Rule> void registerFunction(String scope, Class<R> type, DynamicAtomicConstraintFunction<R> function) {
+    public synchronized <R extends Rule> void registerFunction(String scope, Class<R> type, DynamicAtomicConstraintFunction<R> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(type, scope + DELIMITER, function));
+        plans.clear();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
+    public synchronized <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        plans.clear();
     }
 
     @Override
-    public void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
+    public synchronized void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        plans.clear();
     }
 
     @Override
-    public void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
+    public synchronized void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        plans.clear();
+    }
+
+    /**
+     * Resolves the functions and validators that apply to the scope and caches them, unless a concurrent evaluation
+     * already did.
+     *
+     * @param scope the scope.
+     * @return the evaluation plan.
+     */
+    private synchronized ScopePlan compileAndCache(String scope) {
+        return plans.computeIfAbsent(scope, this::compile);
+    }
+
+    private ScopePlan compile(String scope) {
+        var delimitedScope = scope + DELIMITER;
+
+        return new ScopePlan(
+                preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList(),
+                ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList(),
+                constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList(),
+                dynamicConstraintFunctions.stream().filter(entry -> scopeFilter(entry.scope, delimitedScope)).toList(),
+                postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList()
+        );
     }
 
     private boolean scopeFilter(String entry, String scope) {
@@ -166,6 +202,13 @@ public class PolicyEngineImpl implements PolicyEngine {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.getClass().getName()));
     }
 
+    private record ScopePlan(List<BiFunction<Policy, PolicyContext, Boolean>> preValidators,
+                             List<RuleFunctionEntry<Rule>> ruleFunctions,
+                             List<ConstraintFunctionEntry<Rule>> constraintFunctions,
+                             List<DynamicConstraintFunctionEntry<Rule>> dynamicConstraintFunctions,
+                             List<BiFunction<Policy, PolicyContext, Boolean>> postValidators) {
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
@@ -16,25 +16,28 @@ package org.eclipse.edc.policy.engine;
 
 import org.eclipse.edc.policy.engine.spi.RuleBindingRegistry;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Default {@link RuleBindingRegistry}. Bindings are thread-safe, so that extensions booted concurrently can bind rules
+ * into the same registry.
+ */
 public class RuleBindingRegistryImpl implements RuleBindingRegistry {
     private static final String DELIMITER = ".";
     private static final String DELIMITED_ALL = "*" + DELIMITER;
 
-    private final Map<String, Set<String>> ruleBindings = new HashMap<>();
-    private final List<Function<String, Set<String>>> dynamicBinders = new ArrayList<>();
+    private final Map<String, Set<String>> ruleBindings = new ConcurrentHashMap<>();
+    private final List<Function<String, Set<String>>> dynamicBinders = new CopyOnWriteArrayList<>();
 
     @Override
     public void bind(String ruleType, String scope) {
-        ruleBindings.computeIfAbsent(ruleType, k -> new HashSet<>()).add(scope + DELIMITER);
+        ruleBindings.computeIfAbsent(ruleType, k -> ConcurrentHashMap.newKeySet()).add(scope + DELIMITER);
     }
 
     @Override
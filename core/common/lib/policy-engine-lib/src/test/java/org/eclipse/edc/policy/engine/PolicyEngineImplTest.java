@@ -148,6 +148,19 @@ class PolicyEngineImplTest {
         assertThat(result).isFailed();
     }
 
+    @Test
+    void validateFunctionRegisteredAfterEvaluationIsApplied() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var policy = createTestPolicy();
+
+        var first = policyEngine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().build());
+        policyEngine.registerFunction(ALL_SCOPES, Prohibition.class, "foo", (op, rv, duty, context) -> true);
+        var second = policyEngine.evaluate(TEST_SCOPE, policy, PolicyContextImpl.Builder.newInstance().build());
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isFailed();
+    }
+
     @Test
     void validateConstraintFunctionOutOfScope() {
         bindingRegistry.bind("foo", ALL_SCOPES);
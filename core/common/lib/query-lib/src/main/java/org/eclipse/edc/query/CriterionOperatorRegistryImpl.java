@@ -44,6 +44,7 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
         registry.registerOperatorPredicate(LIKE, new LikeOperatorPredicate());
         registry.registerOperatorPredicate(ILIKE, new IlikeOperatorPredicate());
         registry.registerOperatorPredicate(CONTAINS, new ContainsOperatorPredicate());
+        registry.registerOperatorPredicate(LESS_THAN_OR_EQUAL, new LessThanOrEqualOperatorPredicate());
         return registry;
     }
 
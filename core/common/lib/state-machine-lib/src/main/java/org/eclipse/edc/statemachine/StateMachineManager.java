@@ -22,10 +22,13 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -35,21 +38,33 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * When a number of workers is configured, the entities fetched by every processor are handled in parallel on a bounded
+ * worker pool, while the fetch itself still happens on the loop thread: ordering on the single entity is preserved
+ * by the lease acquired by the store when the entity gets fetched.
+ * <p>
+ * The wait between iterations can be interrupted by calling {@link #wakeUp()}, e.g. when a new entity gets saved.
  */
 public class StateMachineManager {
 
     private final List<Processor> processors = new ArrayList<>();
     private final ScheduledExecutorService executor;
+    private final ExecutorInstrumentation instrumentation;
     private final AtomicBoolean active = new AtomicBoolean();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
     private int shutdownTimeout = 10;
+    private int workers = 0;
+    private ExecutorService workerExecutor;
+    private Future<?> nextIteration;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
         this.monitor = monitor;
         this.waitStrategy = waitStrategy;
+        this.instrumentation = instrumentation;
         executor = instrumentation.instrument(
                 Executors.newSingleThreadScheduledExecutor(r -> {
                     var thread = Executors.defaultThreadFactory().newThread(r);
@@ -78,7 +93,12 @@ public class StateMachineManager {
 
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return executor.awaitTermination(shutdownTimeout, SECONDS);
+                var loopTerminated = executor.awaitTermination(shutdownTimeout, SECONDS);
+                if (workerExecutor != null) {
+                    workerExecutor.shutdown();
+                    return workerExecutor.awaitTermination(shutdownTimeout, SECONDS) && loopTerminated;
+                }
+                return loopTerminated;
             } catch (InterruptedException e) {
                 monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
                 return false;
@@ -95,6 +115,23 @@ public class StateMachineManager {
         return active.get();
     }
 
+    /**
+     * Wake up the loop: if it's waiting for the next iteration it will start immediately, if an iteration is running
+     * the wait strategy won't be applied at its end.
+     */
+    public void wakeUp() {
+        if (!active.get()) {
+            return;
+        }
+
+        wakeUpRequested.set(true);
+        synchronized (this) {
+            if (nextIteration != null && nextIteration.getDelay(MILLISECONDS) > 0 && nextIteration.cancel(false)) {
+                nextIteration = executor.schedule(loop(), 0L, MILLISECONDS);
+            }
+        }
+    }
+
     private Runnable loop() {
         return () -> {
             if (active.get()) {
@@ -105,13 +142,12 @@ public class StateMachineManager {
 
     private void performLogic() {
         try {
-            var processed = processors.stream()
-                    .mapToLong(Processor::process)
-                    .sum();
+            wakeUpRequested.set(false);
+            var processed = workerExecutor == null ? processSequentially() : processInParallel();
 
             waitStrategy.success();
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+            var delay = processed == 0 && !wakeUpRequested.get() ? waitStrategy.waitForMillis() : 0;
 
             scheduleNextIterationIn(delay);
         } catch (Error e) {
@@ -123,9 +159,43 @@ public class StateMachineManager {
         }
     }
 
+    private long processSequentially() {
+        return processors.stream()
+                .mapToLong(Processor::process)
+                .sum();
+    }
+
+    private long processInParallel() {
+        var futures = processors.stream()
+                .map(processor -> processor.processAsync(workerExecutor))
+                .toList();
+
+        try {
+            return futures.stream()
+                    .mapToLong(CompletableFuture::join)
+                    .sum();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private ExecutorService createWorkerExecutor() {
+        var counter = new AtomicInteger();
+        return instrumentation.instrument(
+                Executors.newFixedThreadPool(workers, r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("StateMachineManager-" + name + "-worker-" + counter.incrementAndGet());
+                    return thread;
+                }), name + "-workers");
+    }
+
     @NotNull
-    private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+    private synchronized Future<?> scheduleNextIterationIn(long delayMillis) {
+        nextIteration = executor.schedule(loop(), delayMillis, MILLISECONDS);
+        return nextIteration;
     }
 
     public static class Builder {
@@ -150,7 +220,25 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Set the number of workers on which the entities get processed. With 0 (default) the processing happens
+         * sequentially on the loop thread.
+         *
+         * @param workers the number of workers.
+         * @return the builder.
+         */
+        public Builder workers(int workers) {
+            loop.workers = workers;
+            return this;
+        }
+
         public StateMachineManager build() {
+            if (loop.workers < 0) {
+                throw new IllegalArgumentException("workers should be greater or equal than 0");
+            }
+            if (loop.workers > 0) {
+                loop.workerExecutor = loop.createWorkerExecutor();
+            }
             return loop;
         }
     }
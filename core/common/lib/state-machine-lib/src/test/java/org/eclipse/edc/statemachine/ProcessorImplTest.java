@@ -18,9 +18,11 @@ import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -42,6 +44,21 @@ class ProcessorImplTest {
         assertThat(count).isEqualTo(1);
     }
 
+    @Test
+    void processAsync_shouldProcessEntitiesOnExecutor() {
+        var entities = List.of(TestEntity.Builder.newInstance().id("1").build(), TestEntity.Builder.newInstance().id("2").build(),
+                TestEntity.Builder.newInstance().id("3").build());
+        var executor = Executors.newFixedThreadPool(2);
+        var processor = ProcessorImpl.Builder.newInstance(() -> entities)
+                .process(e -> !e.getId().equals("3"))
+                .build();
+
+        var result = processor.processAsync(executor);
+
+        assertThat(result).succeedsWithin(1, SECONDS).isEqualTo(2L);
+        executor.shutdown();
+    }
+
     @Test
     void shouldNotCountUnprocessedEntities() {
         var entity = TestEntity.Builder.newInstance().id("id").build();
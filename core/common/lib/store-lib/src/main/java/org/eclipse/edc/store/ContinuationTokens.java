@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.store;
+
+import org.eclipse.edc.spi.query.ContinuationToken;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.util.reflection.ReflectionException;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Creates the {@link ContinuationToken} that points to the page following a page of query results.
+ */
+public final class ContinuationTokens {
+
+    private ContinuationTokens() {
+    }
+
+    /**
+     * Returns the encoded token of the last entry of the page, to be passed in the {@link QuerySpec} of the next
+     * page. Tokens are only issued for sorted queries, as the order of unsorted results is not stable. The sort value
+     * is read from the field of the entry named after the sort field.
+     *
+     * @param query the query that returned the page.
+     * @param page  the entries returned by the query.
+     * @return the encoded token, null if there is no further page or the entries cannot be continued.
+     */
+    public static @Nullable String next(QuerySpec query, List<?> page) {
+        return next(query, page, entry -> ReflectionUtil.getFieldValue(query.getSortField(), entry));
+    }
+
+    /**
+     * Returns the encoded token of the last entry of the page, reading the sort value with the passed function. Meant
+     * for stores that do not sort by a field of the entry, e.g. by a property held in a map.
+     *
+     * @param query       the query that returned the page.
+     * @param page        the entries returned by the query.
+     * @param sortValueOf resolves the value of the sort field of an entry, the same way the store does.
+     * @return the encoded token, null if there is no further page or the entries cannot be continued.
+     */
+    public static <T> @Nullable String next(QuerySpec query, List<T> page, Function<T, Object> sortValueOf) {
+        if (query.getSortField() == null || page.isEmpty() || page.size() < query.getLimit()) {
+            return null;
+        }
+
+        var last = page.get(page.size() - 1);
+        try {
+            var sortValue = sortValueOf.apply(last);
+            Object id = ReflectionUtil.getFieldValue("id", last);
+            if (id == null) {
+                return null;
+            }
+            return new ContinuationToken(sortValue instanceof Enum<?> e ? e.name() : sortValue, id.toString()).encode();
+        } catch (ReflectionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Compares the value of an entry with the value of a decoded token, that has been through a JSON round trip: numbers
+     * may have changed their type and enums are represented by their name.
+     *
+     * @param value      the value of the entry.
+     * @param tokenValue the value of the token.
+     * @return the comparison result, 0 if any of the values is null.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static int compareToTokenValue(Object value, Object tokenValue) {
+        if (value == null || tokenValue == null) {
+            return 0;
+        }
+        if (value instanceof Number number && (tokenValue instanceof Number || tokenValue instanceof String)) {
+            return new BigDecimal(number.toString()).compareTo(new BigDecimal(tokenValue.toString()));
+        }
+        if (value instanceof Enum<?> enumValue && tokenValue instanceof String name) {
+            return enumValue.compareTo((Enum) Enum.valueOf(enumValue.getDeclaringClass(), name));
+        }
+        if (!(value instanceof Comparable comparable)) {
+            throw new IllegalArgumentException("A property '" + value + "' is not comparable!");
+        }
+        return comparable.compareTo(tokenValue);
+    }
+}
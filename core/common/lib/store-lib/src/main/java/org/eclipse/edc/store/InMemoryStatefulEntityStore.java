@@ -33,7 +33,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -53,6 +55,7 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     private final String lockId;
     private final Clock clock;
     private final Map<String, Lease> leases = new HashMap<>();
+    private final List<Runnable> saveListeners = new CopyOnWriteArrayList<>();
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
@@ -108,6 +111,23 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
         acquireLease(entity.getId());
         entitiesById.put(entity.getId(), entity.copy());
         freeLease(entity.getId());
+        saveListeners.forEach(Runnable::run);
+    }
+
+    @Override
+    public void registerSaveListener(Runnable listener) {
+        saveListeners.add(listener);
+    }
+
+    /**
+     * Atomically applies the modification to the stored entity, if present, without acquiring a lease.
+     */
+    protected void modify(String id, Consumer<T> modification) {
+        entitiesById.computeIfPresent(id, (key, entity) -> {
+            var copy = entity.copy();
+            modification.accept(copy);
+            return copy;
+        });
     }
 
     public void delete(String id) {
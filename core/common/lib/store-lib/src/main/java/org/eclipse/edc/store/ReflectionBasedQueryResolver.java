@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.store;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -35,6 +36,8 @@ import static java.lang.String.format;
  */
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
+    private static final String ID_FIELD = "id";
+
     private final Class<T> typeParameterClass;
     private final CriterionOperatorRegistry criterionOperatorRegistry;
 
@@ -53,8 +56,8 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
     /**
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
-     * Applies sorting. When sort field is not found returns empty stream.
-     * Applies offset and limit on the query result.
+     * Applies sorting, breaking ties by id. When sort field is not found returns empty stream.
+     * Skips the entries up to the continuation token, if any, then applies offset and limit on the query result.
      *
      * @param stream      stream to be queried.
      * @param spec        query specification.
@@ -71,12 +74,27 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
         // sort
         var sortField = spec.getSortField();
+        var isAscending = spec.getSortOrder() == SortOrder.ASC;
+        var hasId = ReflectionUtil.getFieldRecursive(typeParameterClass, ID_FIELD) != null;
+
+        if (sortField != null && ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
+            throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
+        }
 
-        if (sortField != null) {
-            if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
-                throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
+        if (spec.getContinuationToken() != null) {
+            if (!hasId) {
+                throw new IllegalArgumentException(format("Cannot continue a query on %s, that has no id field", typeParameterClass));
             }
-            var comparator = propertyComparator(spec.getSortOrder() == SortOrder.ASC, sortField);
+            var token = ContinuationToken.decode(spec.getContinuationToken());
+            filteredStream = filteredStream.filter(entry -> isAfter(entry, token, sortField, isAscending));
+        }
+
+        var comparator = sortField != null ? propertyComparator(isAscending, sortField) : null;
+        if (hasId && (comparator != null || spec.getContinuationToken() != null)) {
+            var idComparator = propertyComparator(isAscending, ID_FIELD);
+            comparator = comparator != null ? comparator.thenComparing(idComparator) : idComparator;
+        }
+        if (comparator != null) {
             filteredStream = filteredStream.sorted(comparator);
         }
 
@@ -84,6 +102,14 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private boolean isAfter(T entry, ContinuationToken token, String sortField, boolean isAscending) {
+        var comparison = sortField != null ? ContinuationTokens.compareToTokenValue(ReflectionUtil.getFieldValue(sortField, entry), token.sortValue()) : 0;
+        if (comparison == 0) {
+            comparison = ContinuationTokens.compareToTokenValue(ReflectionUtil.getFieldValue(ID_FIELD, entry), token.id());
+        }
+        return isAscending ? comparison > 0 : comparison < 0;
+    }
+
     @NotNull
     private Comparator<T> propertyComparator(boolean isAscending, String property) {
         return (obj1, obj2) -> {
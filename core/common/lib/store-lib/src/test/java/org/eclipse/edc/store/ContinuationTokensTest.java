@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.store;
+
+import org.eclipse.edc.spi.query.ContinuationToken;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContinuationTokensTest {
+
+    @Test
+    void next_shouldReturnTokenOfLastEntry() {
+        var query = QuerySpec.Builder.newInstance().sortField("createdAt").limit(2).build();
+
+        var token = ContinuationTokens.next(query, List.of(new Item("id1", 1L), new Item("id2", 2L)));
+
+        assertThat(token).isNotNull();
+        var decoded = ContinuationToken.decode(token);
+        assertThat(decoded.id()).isEqualTo("id2");
+        assertThat(decoded.sortValue()).isEqualTo(2);
+    }
+
+    @Test
+    void next_shouldReturnNull_whenPageIsNotFull() {
+        var query = QuerySpec.Builder.newInstance().sortField("createdAt").limit(3).build();
+
+        assertThat(ContinuationTokens.next(query, List.of(new Item("id1", 1L), new Item("id2", 2L)))).isNull();
+    }
+
+    @Test
+    void next_shouldReturnNull_whenQueryIsNotSorted() {
+        var query = QuerySpec.Builder.newInstance().limit(2).build();
+
+        assertThat(ContinuationTokens.next(query, List.of(new Item("id1", 1L), new Item("id2", 2L)))).isNull();
+    }
+
+    @Test
+    void next_shouldReturnNull_whenSortFieldDoesNotExist() {
+        var query = QuerySpec.Builder.newInstance().sortField("unknown").limit(1).build();
+
+        assertThat(ContinuationTokens.next(query, List.of(new Item("id1", 1L)))).isNull();
+    }
+
+    @Test
+    void next_shouldReadSortValueWithPassedFunction() {
+        var query = QuerySpec.Builder.newInstance().sortField("rank").limit(1).build();
+        var item = new PropertiesItem("id1", Map.of("rank", 3));
+
+        var token = ContinuationTokens.next(query, List.of(item), it -> it.properties().get("rank"));
+
+        assertThat(token).isNotNull();
+        assertThat(ContinuationToken.decode(token)).isEqualTo(new ContinuationToken(3, "id1"));
+    }
+
+    @Test
+    void compareToTokenValue_shouldCompareNumbersOfDifferentTypes() {
+        assertThat(ContinuationTokens.compareToTokenValue(2L, 1)).isPositive();
+        assertThat(ContinuationTokens.compareToTokenValue(1.5, 2)).isNegative();
+        assertThat(ContinuationTokens.compareToTokenValue(2, 2L)).isZero();
+    }
+
+    private record PropertiesItem(String id, Map<String, Object> properties) {
+    }
+
+    private record Item(String id, long createdAt) {
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.store;
 
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -119,6 +120,32 @@ class ReflectionBasedQueryResolverTest {
         assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(8, 7);
     }
 
+    @Test
+    void verifyQuery_continuationToken() {
+        var items = Stream.concat(
+                IntStream.range(0, 5).mapToObj(i -> new FakeItem(i, "Bob")),
+                IntStream.range(5, 10).mapToObj(i -> new FakeItem(i, "Alice"))).toList();
+
+        var firstPage = QuerySpec.Builder.newInstance().sortField("name").limit(4).build();
+        var first = queryResolver.query(items.stream(), firstPage).toList();
+        var secondPage = firstPage.toBuilder().continuationToken(ContinuationTokens.next(firstPage, first)).build();
+        var second = queryResolver.query(items.stream(), secondPage).toList();
+
+        assertThat(first).extracting(FakeItem::getId).containsExactly(5, 6, 7, 8);
+        assertThat(second).extracting(FakeItem::getId).containsExactly(9, 0, 1, 2);
+    }
+
+    @Test
+    void verifyQuery_continuationTokenDesc() {
+        var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
+
+        var spec = QuerySpec.Builder.newInstance().sortField("id").sortOrder(SortOrder.DESC).limit(3)
+                .continuationToken(new ContinuationToken(7, "7").encode())
+                .build();
+
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(6, 5, 4);
+    }
+
     @Test
     void verifyExceptionThrown_invalidCriterion() {
         var stream = Stream.concat(
@@ -20,18 +20,22 @@ import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.String.format;
 
+/**
+ * Default {@link TypeTransformerRegistry}. Registrations are thread-safe, so that extensions booted concurrently can
+ * register into the same registry.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
-    private final Map<String, Class<?>> aliases = new HashMap<>();
-    private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
-    private final Map<String, TypeTransformerRegistry> contextRegistries = new HashMap<>();
+    private final Map<String, Class<?>> aliases = new ConcurrentHashMap<>();
+    private final List<TypeTransformer<?, ?>> transformers = new CopyOnWriteArrayList<>();
+    private final Map<String, TypeTransformerRegistry> contextRegistries = new ConcurrentHashMap<>();
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
@@ -68,12 +72,12 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
 
     @Override
     public Class<?> typeAlias(String type) {
-        return aliases.get(type);
+        return type == null ? null : aliases.get(type);
     }
 
     @Override
     public Class<?> typeAlias(String type, Class<?> defaultType) {
-        return aliases.getOrDefault(type, defaultType);
+        return type == null ? defaultType : aliases.getOrDefault(type, defaultType);
     }
 
     @Override
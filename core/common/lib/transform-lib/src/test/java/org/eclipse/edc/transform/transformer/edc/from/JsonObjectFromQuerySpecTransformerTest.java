@@ -17,6 +17,7 @@ package org.eclipse.edc.transform.transformer.edc.from;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -69,4 +70,18 @@ class JsonObjectFromQuerySpecTransformerTest {
 
     }
 
+    @Test
+    void transform_withContinuationToken() {
+        var token = new ContinuationToken("value", "id").encode();
+        var querySpec = QuerySpec.Builder.newInstance()
+                .sortField("field")
+                .continuationToken(token)
+                .build();
+
+        var jsonObject = transformer.transform(querySpec, mock(TransformerContext.class));
+
+        assertThat(jsonObject).isNotNull();
+        assertThat(jsonObject.getString(QuerySpec.EDC_QUERY_SPEC_CONTINUATION_TOKEN)).isEqualTo(token);
+    }
+
 }
@@ -15,6 +15,7 @@
 package org.eclipse.edc.validator.jsonobject.validators.model;
 
 import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.validator.jsonobject.JsonLdPath;
@@ -28,6 +29,7 @@ import java.util.Optional;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CONTINUATION_TOKEN;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -47,6 +49,7 @@ public class QuerySpecValidator {
                 .verify(EDC_QUERY_SPEC_LIMIT, OptionalValueGreaterZero::new)
                 .verify(EDC_QUERY_SPEC_SORT_ORDER, OptionalValueSortField::new)
                 .verify(EDC_QUERY_SPEC_SORT_FIELD, OptionalValueNotBlank::new)
+                .verify(EDC_QUERY_SPEC_CONTINUATION_TOKEN, OptionalValueContinuationToken::new)
                 .verifyArrayItem(EDC_QUERY_SPEC_FILTER_EXPRESSION, path -> CriterionValidator.instance(path, criterionOperatorRegistry));
     }
 
@@ -101,6 +104,27 @@ public class QuerySpecValidator {
         }
     }
 
+    private record OptionalValueContinuationToken(JsonLdPath path) implements Validator<JsonObject> {
+
+        @Override
+        public ValidationResult validate(JsonObject input) {
+            var optional = Optional.ofNullable(input.getJsonArray(path.last()))
+                    .map(it -> it.getJsonObject(0))
+                    .map(it -> it.getString(VALUE));
+
+            if (optional.isEmpty()) {
+                return ValidationResult.success();
+            }
+
+            try {
+                ContinuationToken.decode(optional.get());
+                return ValidationResult.success();
+            } catch (IllegalArgumentException e) {
+                return ValidationResult.failure(violation(format("optional value '%s' is not a valid continuation token", path), path.toString(), optional.get()));
+            }
+        }
+    }
+
     private record OptionalValueNotBlank(JsonLdPath path) implements Validator<JsonObject> {
 
         @Override
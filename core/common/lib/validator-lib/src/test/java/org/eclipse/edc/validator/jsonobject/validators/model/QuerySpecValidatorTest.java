@@ -28,6 +28,7 @@ import static jakarta.json.Json.createObjectBuilder;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CONTINUATION_TOKEN;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -113,6 +114,22 @@ class QuerySpecValidatorTest {
                 .asString().contains("blank");
     }
 
+    @Test
+    void shouldFail_whenContinuationTokenIsNotValid() {
+        var input = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_CONTINUATION_TOKEN, value("not a token"))
+                .build();
+
+        var result = validator.validate(input);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).asInstanceOf(list(Violation.class))
+                .filteredOn(v -> v.path().equals(EDC_QUERY_SPEC_CONTINUATION_TOKEN))
+                .hasSize(1)
+                .first()
+                .extracting(Violation::message)
+                .asString().contains("continuation token");
+    }
+
     @Test
     void shouldFail_whenFilterExpressionEntryNotValid() {
         var input = Json.createObjectBuilder()
@@ -23,6 +23,7 @@ dependencies {
     api(project(":spi:common:jwt-spi"))
 
     implementation(project(":core:common:lib:crypto-common-lib")) // for the CryptoConverter
+    implementation(project(":core:common:lib:util-lib"))
     implementation(libs.nimbus.jwt)
     api(libs.bouncyCastle.bcpkixJdk18on)
 }
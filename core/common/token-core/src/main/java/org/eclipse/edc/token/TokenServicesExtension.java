@@ -15,13 +15,21 @@
 package org.eclipse.edc.token;
 
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.token.spi.TokenDecoratorRegistry;
 import org.eclipse.edc.token.spi.TokenValidationRulesRegistry;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static org.eclipse.edc.token.TokenServicesExtension.NAME;
+import static org.eclipse.edc.token.TokenValidationServiceImpl.DEFAULT_VERIFIED_TOKEN_CACHE_SIZE;
+import static org.eclipse.edc.token.TokenValidationServiceImpl.DEFAULT_VERIFIER_CACHE_SIZE;
 
 /**
  * This extension registers the {@link TokenValidationService} and the {@link TokenValidationRulesRegistry}
@@ -31,14 +39,33 @@ import static org.eclipse.edc.token.TokenServicesExtension.NAME;
 public class TokenServicesExtension implements ServiceExtension {
     public static final String NAME = "Token Services Extension";
 
+    private static final long DEFAULT_VERIFIED_TOKEN_CACHE_TTL_MILLIS = 0;
+
+    @Setting(value = "the maximum number of signature verifiers cached per public key", type = "int", defaultValue = DEFAULT_VERIFIER_CACHE_SIZE + "")
+    private static final String VERIFIER_CACHE_SIZE = "edc.token.validation.verifier-cache.size";
+
+    @Setting(value = "the time in milliseconds the claims of a verified token are cached, never beyond its expiration. 0 disables the cache",
+            type = "long", defaultValue = DEFAULT_VERIFIED_TOKEN_CACHE_TTL_MILLIS + "")
+    private static final String VERIFIED_TOKEN_CACHE_TTL_MILLIS = "edc.token.validation.cache.ttl-millis";
+
+    @Setting(value = "the maximum number of verified tokens held in the cache", type = "int", defaultValue = DEFAULT_VERIFIED_TOKEN_CACHE_SIZE + "")
+    private static final String VERIFIED_TOKEN_CACHE_SIZE = "edc.token.validation.cache.size";
+
+    @Inject
+    private Clock clock;
+
     @Provider
     public TokenValidationRulesRegistry tokenValidationRulesRegistry() {
         return new TokenValidationRulesRegistryImpl();
     }
 
     @Provider
-    public TokenValidationService validationService() {
-        return new TokenValidationServiceImpl();
+    public TokenValidationService validationService(ServiceExtensionContext context) {
+        return new TokenValidationServiceImpl(
+                context.getSetting(VERIFIER_CACHE_SIZE, DEFAULT_VERIFIER_CACHE_SIZE),
+                Duration.ofMillis(context.getSetting(VERIFIED_TOKEN_CACHE_TTL_MILLIS, DEFAULT_VERIFIED_TOKEN_CACHE_TTL_MILLIS)),
+                context.getSetting(VERIFIED_TOKEN_CACHE_SIZE, DEFAULT_VERIFIED_TOKEN_CACHE_SIZE),
+                clock);
     }
 
     @Provider
@@ -15,6 +15,7 @@
 package org.eclipse.edc.token;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.keys.spi.PublicKeyResolver;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
@@ -24,19 +25,103 @@ import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationService;
+import org.eclipse.edc.util.collection.ConcurrentLruCache;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
 import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
-
+import java.util.Map;
+
+/**
+ * Validates JWTs by verifying their signature with the key resolved from the {@link PublicKeyResolver} and checking the
+ * {@link TokenValidationRule}s.
+ * <p>
+ * {@link JWSVerifier}s are cached per public key. Optionally, the claims of successfully verified tokens can be cached
+ * for a short time, keyed by the token hash and the key resolver, and never beyond the token expiration. The rules are
+ * checked on every validation, also for cached tokens.
+ */
 public class TokenValidationServiceImpl implements TokenValidationService {
 
+    public static final int DEFAULT_VERIFIER_CACHE_SIZE = 100;
+    public static final int DEFAULT_VERIFIED_TOKEN_CACHE_SIZE = 1000;
+
+    private final ConcurrentLruCache<PublicKey, JWSVerifier> verifiers;
+    private final ConcurrentLruCache<VerifiedTokenKey, VerifiedToken> verifiedTokens;
+    private final Duration verifiedTokenTtl;
+    private final Clock clock;
+
     public TokenValidationServiceImpl() {
+        this(DEFAULT_VERIFIER_CACHE_SIZE, Duration.ZERO, DEFAULT_VERIFIED_TOKEN_CACHE_SIZE, Clock.systemUTC());
+    }
+
+    /**
+     * Creates the validation service.
+     *
+     * @param verifierCacheSize      the maximum number of cached {@link JWSVerifier}s.
+     * @param verifiedTokenTtl       how long the claims of a verified token are cached, {@link Duration#ZERO} disables the cache.
+     * @param verifiedTokenCacheSize the maximum number of cached verified tokens.
+     * @param clock                  the clock.
+     */
+    public TokenValidationServiceImpl(int verifierCacheSize, Duration verifiedTokenTtl, int verifiedTokenCacheSize, Clock clock) {
+        this.verifiers = new ConcurrentLruCache<>(verifierCacheSize);
+        this.verifiedTokens = new ConcurrentLruCache<>(verifiedTokenCacheSize);
+        this.verifiedTokenTtl = verifiedTokenTtl;
+        this.clock = clock;
     }
 
     @Override
     public Result<ClaimToken> validate(TokenRepresentation tokenRepresentation, PublicKeyResolver publicKeyResolver, List<TokenValidationRule> rules) {
         var token = tokenRepresentation.getToken();
         var additional = tokenRepresentation.getAdditional();
+
+        var claimsResult = verifiedClaims(token, publicKeyResolver);
+        if (claimsResult.failed()) {
+            return claimsResult.mapTo();
+        }
+
+        var tokenBuilder = ClaimToken.Builder.newInstance();
+        claimsResult.getContent().entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .forEach(entry -> tokenBuilder.claim(entry.getKey(), entry.getValue()));
+
+        var claimToken = tokenBuilder.build();
+
+
+        var errors = rules.stream()
+                .map(r -> r.checkRule(claimToken, additional))
+                .reduce(Result::merge)
+                .stream()
+                .filter(AbstractResult::failed)
+                .flatMap(r -> r.getFailureMessages().stream())
+                .toList();
+
+
+        if (!errors.isEmpty()) {
+            return Result.failure(errors);
+        }
+
+        return Result.success(claimToken);
+    }
+
+    /**
+     * Returns the claims of the token after verifying its signature, or the cached claims of a previous verification.
+     */
+    private Result<Map<String, Object>> verifiedClaims(String token, PublicKeyResolver publicKeyResolver) {
+        var cacheKey = verifiedTokenTtl.isPositive() ? new VerifiedTokenKey(hash(token), publicKeyResolver) : null;
+        if (cacheKey != null) {
+            var cached = verifiedTokens.get(cacheKey);
+            if (cached != null && clock.instant().isBefore(cached.expiresAt())) {
+                return Result.success(cached.claims());
+            }
+        }
+
         try {
             var signedJwt = SignedJWT.parse(token);
             var publicKeyId = signedJwt.getHeader().getKeyID();
@@ -47,34 +132,20 @@ public class TokenValidationServiceImpl implements TokenValidationService {
                 return publicKeyResolutionResult.mapTo();
             }
 
-            var verifierCreationResult = CryptoConverter.createVerifierFor(publicKeyResolutionResult.getContent());
+            var verifier = verifierFor(publicKeyResolutionResult.getContent());
 
-            if (!signedJwt.verify(verifierCreationResult)) {
+            if (!signedJwt.verify(verifier)) {
                 return Result.failure("Token verification failed");
             }
 
-            var tokenBuilder = ClaimToken.Builder.newInstance();
-            signedJwt.getJWTClaimsSet().getClaims().entrySet().stream()
-                    .filter(entry -> entry.getValue() != null)
-                    .forEach(entry -> tokenBuilder.claim(entry.getKey(), entry.getValue()));
-
-            var claimToken = tokenBuilder.build();
-
-
-            var errors = rules.stream()
-                    .map(r -> r.checkRule(claimToken, additional))
-                    .reduce(Result::merge)
-                    .stream()
-                    .filter(AbstractResult::failed)
-                    .flatMap(r -> r.getFailureMessages().stream())
-                    .toList();
-
-
-            if (!errors.isEmpty()) {
-                return Result.failure(errors);
+            var claimsSet = signedJwt.getJWTClaimsSet();
+            var claims = claimsSet.getClaims();
+            if (cacheKey != null && claimsSet.getExpirationTime() != null) {
+                var expiresAt = clock.instant().plus(verifiedTokenTtl);
+                var expiration = claimsSet.getExpirationTime().toInstant();
+                verifiedTokens.put(cacheKey, new VerifiedToken(claims, expiresAt.isBefore(expiration) ? expiresAt : expiration));
             }
-
-            return Result.success(claimToken);
+            return Result.success(claims);
 
         } catch (JOSEException e) {
             return Result.failure(e.getMessage());
@@ -83,4 +154,27 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         }
     }
 
+    private JWSVerifier verifierFor(PublicKey publicKey) {
+        var verifier = verifiers.get(publicKey);
+        if (verifier == null) {
+            verifier = CryptoConverter.createVerifierFor(publicKey);
+            verifiers.put(publicKey, verifier);
+        }
+        return verifier;
+    }
+
+    private String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedTokenKey(String tokenHash, PublicKeyResolver publicKeyResolver) {
+    }
+
+    private record VerifiedToken(Map<String, Object> claims, Instant expiresAt) {
+    }
 }
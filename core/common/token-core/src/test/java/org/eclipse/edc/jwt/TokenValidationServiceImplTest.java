@@ -34,6 +34,8 @@ import org.junit.jupiter.api.Test;
 
 import java.security.PrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
@@ -43,6 +45,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -121,6 +125,32 @@ class TokenValidationServiceImplTest {
         assertThat(result.getFailureMessages()).containsExactlyInAnyOrder("test-failure1", "test-failure2");
     }
 
+    @Test
+    void validationSuccess_shouldReuseVerifiedToken_whenCacheEnabled() throws JOSEException {
+        var service = new TokenValidationServiceImpl(10, Duration.ofMinutes(1), 10, Clock.systemUTC());
+        var token = createJwt(publicKeyId, createClaims(now.plusSeconds(60)), key.toPrivateKey());
+        var ruleMock = mock(TokenValidationRule.class);
+        when(ruleMock.checkRule(any(), any())).thenReturn(Result.success(), Result.failure("expired"));
+
+        var first = service.validate(token, publicKeyResolver, ruleMock);
+        var second = service.validate(token, publicKeyResolver, ruleMock);
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.failed()).isTrue();
+        verify(publicKeyResolver).resolveKey(publicKeyId);
+        verify(ruleMock, times(2)).checkRule(any(), any());
+    }
+
+    @Test
+    void validationSuccess_shouldVerifyAgain_whenCacheDisabled() throws JOSEException {
+        var token = createJwt(publicKeyId, createClaims(now.plusSeconds(60)), key.toPrivateKey());
+
+        tokenValidationService.validate(token, publicKeyResolver);
+        tokenValidationService.validate(token, publicKeyResolver);
+
+        verify(publicKeyResolver, times(2)).resolveKey(publicKeyId);
+    }
+
     private String createJwt(String publicKeyId, JWTClaimsSet claimsSet, PrivateKey pk) {
         var header = new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(publicKeyId).build();
         try {
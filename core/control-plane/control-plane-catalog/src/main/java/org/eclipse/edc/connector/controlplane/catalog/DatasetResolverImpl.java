@@ -22,22 +22,28 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.ContractOfferId;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.model.PolicyType;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import static java.lang.Integer.MAX_VALUE;
-
 public class DatasetResolverImpl implements DatasetResolver {
 
+    private static final int ASSETS_PAGE_SIZE = 500;
+
     private final ContractDefinitionResolver contractDefinitionResolver;
     private final AssetIndex assetIndex;
     private final PolicyDefinitionStore policyDefinitionStore;
@@ -54,13 +60,27 @@ public class DatasetResolverImpl implements DatasetResolver {
         this.criterionOperatorRegistry = criterionOperatorRegistry;
     }
 
+    /**
+     * Resolves the datasets for the agent. The assets selectors of the contract definitions are compiled once per
+     * request, the criteria shared by all of them are pushed down to the {@link AssetIndex} together with the query
+     * filter and the assets are fetched page by page until the requested range of datasets is filled.
+     */
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
         var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
-        return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
+        if (contractDefinitions.isEmpty()) {
+            return Stream.empty();
+        }
+
+        var catalogDefinitions = compile(contractDefinitions);
+        var filter = new ArrayList<>(querySpec.getFilterExpression());
+        commonSelectorCriteria(contractDefinitions).stream()
+                .filter(criterion -> !filter.contains(criterion))
+                .forEach(filter::add);
+
+        return assetPages(filter)
+                .map(asset -> toDataset(catalogDefinitions, asset))
                 .filter(Dataset::hasOffers)
                 .skip(querySpec.getOffset())
                 .limit(querySpec.getLimit());
@@ -68,14 +88,49 @@ public class DatasetResolverImpl implements DatasetResolver {
 
     @Override
     public Dataset getById(ParticipantAgent agent, String id) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var contractDefinitions = compile(contractDefinitionResolver.definitionsFor(agent).toList());
         return Optional.of(id)
                 .map(assetIndex::findById)
                 .map(asset -> toDataset(contractDefinitions, asset))
                 .orElse(null);
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    private Stream<Asset> assetPages(List<Criterion> filter) {
+        return Stream.iterate(fetchAssetPage(filter, 0), Objects::nonNull,
+                        page -> page.isLast() ? null : fetchAssetPage(filter, page.offset() + ASSETS_PAGE_SIZE))
+                .flatMap(page -> page.assets().stream());
+    }
+
+    private AssetPage fetchAssetPage(List<Criterion> filter, int offset) {
+        var query = QuerySpec.Builder.newInstance()
+                .offset(offset)
+                .limit(ASSETS_PAGE_SIZE)
+                .sortField("id")
+                .filter(filter)
+                .build();
+        return new AssetPage(offset, assetIndex.queryAssets(query).toList());
+    }
+
+    private CatalogDefinitions compile(List<ContractDefinition> contractDefinitions) {
+        var compiled = contractDefinitions.stream()
+                .map(definition -> new CompiledDefinition(definition, definition.getAssetsSelector().stream()
+                        .map(criterionOperatorRegistry::<Asset>toPredicate)
+                        .reduce(x -> true, Predicate::and)))
+                .toList();
+        return new CatalogDefinitions(compiled, new HashMap<>());
+    }
+
+    /**
+     * Returns the criteria contained in the assets selectors of all the definitions: every asset that is selected by at
+     * least one definition satisfies them.
+     */
+    private List<Criterion> commonSelectorCriteria(List<ContractDefinition> contractDefinitions) {
+        return contractDefinitions.get(0).getAssetsSelector().stream()
+                .filter(criterion -> contractDefinitions.stream().allMatch(definition -> definition.getAssetsSelector().contains(criterion)))
+                .toList();
+    }
+
+    private Dataset toDataset(CatalogDefinitions catalogDefinitions, Asset asset) {
 
         var distributions = distributionResolver.getDistributions(asset);
         var datasetBuilder = Dataset.Builder.newInstance()
@@ -83,14 +138,11 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionOperatorRegistry::toPredicate)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
+        catalogDefinitions.definitions().stream()
+                .filter(definition -> definition.assetsSelector().test(asset))
+                .map(CompiledDefinition::definition)
                 .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
+                    var policyDefinition = catalogDefinitions.policy(contractDefinition.getContractPolicyId(), policyDefinitionStore);
                     if (policyDefinition != null) {
                         var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
                         var offerPolicy = policyDefinition.getPolicy().toBuilder().type(PolicyType.OFFER).build();
@@ -101,4 +153,24 @@ public class DatasetResolverImpl implements DatasetResolver {
         return datasetBuilder.build();
     }
 
+    private record AssetPage(int offset, List<Asset> assets) {
+
+        boolean isLast() {
+            return assets.size() < ASSETS_PAGE_SIZE;
+        }
+    }
+
+    private record CompiledDefinition(ContractDefinition definition, Predicate<Asset> assetsSelector) {
+    }
+
+    /**
+     * The compiled contract definitions of a single request, with the contract policies looked up at most once each.
+     */
+    private record CatalogDefinitions(List<CompiledDefinition> definitions, Map<String, Optional<PolicyDefinition>> policies) {
+
+        PolicyDefinition policy(String policyId, PolicyDefinitionStore store) {
+            return policies.computeIfAbsent(policyId, id -> Optional.ofNullable(store.findById(id))).orElse(null);
+        }
+    }
+
 }
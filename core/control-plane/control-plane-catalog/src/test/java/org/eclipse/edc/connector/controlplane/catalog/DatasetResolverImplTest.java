@@ -53,7 +53,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class DatasetResolverImplTest {
@@ -219,6 +221,50 @@ class DatasetResolverImplTest {
                 .map(getId()).containsExactly("6", "7");
     }
 
+    @Test
+    void query_shouldPushDownCriteriaCommonToAllDefinitions() {
+        var commonCriterion = new Criterion(EDC_NAMESPACE + "key", "=", "value");
+        var otherCriterion = new Criterion(EDC_NAMESPACE + "id", "=", "id");
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(
+                contractDefinitionBuilder("definition1").assetsSelector(List.of(commonCriterion)).build(),
+                contractDefinitionBuilder("definition2").assetsSelector(List.of(commonCriterion, otherCriterion)).build()
+        ));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> Stream.empty());
+
+        datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().equals(List.of(commonCriterion))));
+    }
+
+    @Test
+    void query_shouldFetchAssetsInPages_andLookupPolicyOnce() {
+        var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
+        var assets = range(0, 1200).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> {
+            var query = i.getArgument(0, QuerySpec.class);
+            return assets.stream().skip(query.getOffset()).limit(query.getLimit());
+        });
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(1150, 1160)).build();
+
+        var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
+
+        assertThat(datasets).hasSize(10).map(getId()).startsWith("1150");
+        verify(assetIndex, times(3)).queryAssets(any());
+        verify(policyStore, times(1)).findById("contractPolicyId");
+    }
+
+    @Test
+    void query_shouldNotQueryAssets_whenNoDefinitions() {
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.empty());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).isEmpty();
+        verifyNoInteractions(assetIndex);
+    }
+
     @Test
     void getById_shouldReturnDataset() {
         var policy1 = Policy.Builder.newInstance().inheritsFrom("inherits1").build();
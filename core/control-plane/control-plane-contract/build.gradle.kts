@@ -35,6 +35,7 @@ dependencies {
     testImplementation(project(":core:common:lib:store-lib"))
     testImplementation(project(":core:common:lib:policy-engine-lib"))
     testImplementation(libs.awaitility)
+    testImplementation(testFixtures(project(":spi:common:verifiable-credentials-spi")))
 }
 
 
@@ -17,21 +17,30 @@ package org.eclipse.edc.connector.controlplane.contract;
 import org.eclipse.edc.connector.controlplane.contract.observe.ContractNegotiationObservableImpl;
 import org.eclipse.edc.connector.controlplane.contract.offer.ConsumerOfferResolverImpl;
 import org.eclipse.edc.connector.controlplane.contract.offer.ContractDefinitionResolverImpl;
+import org.eclipse.edc.connector.controlplane.contract.policy.CachingPolicyArchive;
 import org.eclipse.edc.connector.controlplane.contract.policy.PolicyArchiveImpl;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.observe.ContractNegotiationObservable;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ConsumerOfferResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.time.Duration;
 
 /**
  * Contract Negotiation Default Services Extension
@@ -41,6 +50,18 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
 
     public static final String NAME = "Contract Negotiation Default Services";
 
+    private static final long DEFAULT_DEFINITION_CACHE_TTL_MILLIS = 0;
+
+    @Setting(value = "the time in milliseconds contract definitions and their access policy decisions are cached by the contract definition resolver, 0 disables caching",
+            type = "long", defaultValue = DEFAULT_DEFINITION_CACHE_TTL_MILLIS + "")
+    private static final String DEFINITION_CACHE_TTL_MILLIS = "edc.contract.definition.cache.ttl-millis";
+
+    private static final int DEFAULT_POLICY_ARCHIVE_CACHE_SIZE = 10_000;
+
+    @Setting(value = "the maximum number of contract agreement policies cached by the policy archive, 0 disables caching",
+            type = "int", defaultValue = DEFAULT_POLICY_ARCHIVE_CACHE_SIZE + "")
+    private static final String POLICY_ARCHIVE_CACHE_SIZE = "edc.policy.archive.cache.size";
+
     @Inject
     private ContractDefinitionStore contractDefinitionStore;
 
@@ -53,9 +74,24 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     @Inject
     private ContractNegotiationStore store;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private TypeManager typeManager;
+
     @Provider
     public ContractDefinitionResolver contractDefinitionResolver(ServiceExtensionContext context) {
-        return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore);
+        var cacheTtl = Duration.ofMillis(context.getSetting(DEFINITION_CACHE_TTL_MILLIS, DEFAULT_DEFINITION_CACHE_TTL_MILLIS));
+        var resolver = new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore, typeManager, clock, cacheTtl);
+        if (cacheTtl.isPositive()) {
+            eventRouter.registerSync(ContractDefinitionEvent.class, resolver);
+            eventRouter.registerSync(PolicyDefinitionEvent.class, resolver);
+        }
+        return resolver;
     }
 
     @Provider
@@ -69,8 +105,10 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     }
 
     @Provider
-    public PolicyArchive policyArchive() {
-        return new PolicyArchiveImpl(store);
+    public PolicyArchive policyArchive(ServiceExtensionContext context) {
+        var archive = new PolicyArchiveImpl(store);
+        var cacheSize = context.getSetting(POLICY_ARCHIVE_CACHE_SIZE, DEFAULT_POLICY_ARCHIVE_CACHE_SIZE);
+        return cacheSize > 0 ? new CachingPolicyArchive(archive, cacheSize) : archive;
     }
 
     @Provider(isDefault = true)
@@ -16,21 +16,41 @@
 
 package org.eclipse.edc.connector.controlplane.contract.offer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -39,36 +59,176 @@ import static java.lang.String.format;
  * Determines the contract definitions applicable to a {@link ParticipantAgent} by evaluating the access control and
  * usage policies associated with a set of assets as defined by {@link ContractDefinition}s. On the distinction between
  * access control and usage policy, see {@link ContractDefinition}.
+ * <p>
+ * When constructed with a positive cache TTL, the resolver keeps an in-memory snapshot of the contract definitions and
+ * caches access policy decisions per participant identity, claims hash and attributes. Both are kept up to date through
+ * {@link ContractDefinitionEvent}s and {@link PolicyDefinitionEvent}s, for which the resolver has to be registered as a
+ * synchronous {@link EventSubscriber}, and are bounded by the TTL to pick up changes made by other runtimes.
  */
-public class ContractDefinitionResolverImpl implements ContractDefinitionResolver {
+public class ContractDefinitionResolverImpl implements ContractDefinitionResolver, EventSubscriber {
+
+    static final int MAX_CACHED_DECISIONS = 10_000;
+
     private final PolicyEngine policyEngine;
     private final PolicyDefinitionStore policyStore;
     private final Monitor monitor;
     private final ContractDefinitionStore definitionStore;
+    private final Clock clock;
+    private final Duration cacheTtl;
+    private final ObjectWriter claimsWriter;
+    private final Map<DecisionKey, Decision> decisions = new ConcurrentHashMap<>();
+    private final AtomicLong policyGeneration = new AtomicLong();
+    private final Object snapshotLock = new Object();
+    private volatile DefinitionSnapshot snapshot;
 
     public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore) {
+        this(monitor, contractDefinitionStore, policyEngine, policyStore, null, Clock.systemUTC(), Duration.ZERO);
+    }
+
+    /**
+     * Constructs a resolver that caches for the given TTL. The type manager serializes the agent claims into cache
+     * keys, it is only used, and may only be null, if the TTL is not positive.
+     */
+    public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore,
+                                          @Nullable TypeManager typeManager, Clock clock, Duration cacheTtl) {
         this.monitor = monitor;
         definitionStore = contractDefinitionStore;
         this.policyEngine = policyEngine;
         this.policyStore = policyStore;
+        this.clock = clock;
+        this.cacheTtl = cacheTtl;
+        claimsWriter = cacheTtl.isPositive() ? typeManager.getMapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS) : null;
     }
 
     @NotNull
     @Override
     public Stream<ContractDefinition> definitionsFor(ParticipantAgent agent) {
-        return definitionStore.findAll(QuerySpec.max())
-                .filter(definition -> evaluateAccessPolicy(definition, agent));
+        if (!isCacheEnabled()) {
+            return definitionStore.findAll(QuerySpec.max())
+                    .filter(definition -> evaluateAccessPolicy(definition, agent));
+        }
+
+        var agentKey = agentKey(agent);
+        return currentSnapshot().definitions().values().stream()
+                .filter(definition -> isAccessGranted(definition, agent, agentKey));
     }
 
     @Nullable
     @Override
     public ContractDefinition definitionFor(ParticipantAgent agent, String definitionId) {
-        return Optional.of(definitionId)
-                .map(definitionStore::findById)
-                .filter(definition -> evaluateAccessPolicy(definition, agent))
+        if (!isCacheEnabled()) {
+            return Optional.of(definitionId)
+                    .map(definitionStore::findById)
+                    .filter(definition -> evaluateAccessPolicy(definition, agent))
+                    .orElse(null);
+        }
+
+        var agentKey = agentKey(agent);
+        return Optional.ofNullable(currentSnapshot().definitions().get(definitionId))
+                .filter(definition -> isAccessGranted(definition, agent, agentKey))
                 .orElse(null);
     }
 
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        if (!isCacheEnabled()) {
+            return;
+        }
+
+        if (event.getPayload() instanceof ContractDefinitionEvent definitionEvent) {
+            refreshDefinition(definitionEvent.getContractDefinitionId());
+        } else if (event.getPayload() instanceof PolicyDefinitionEvent policyEvent) {
+            policyGeneration.incrementAndGet();
+            decisions.keySet().removeIf(key -> key.policyId().equals(policyEvent.getPolicyDefinitionId()));
+        }
+    }
+
+    private boolean isCacheEnabled() {
+        return cacheTtl.isPositive();
+    }
+
+    /**
+     * Returns the cached access decision for the definition's access policy, evaluating it when missing or expired.
+     * Decisions computed while a policy definition changed, or for agents whose claims cannot be serialized, are not cached.
+     */
+    private boolean isAccessGranted(ContractDefinition definition, ParticipantAgent agent, @Nullable AgentKey agentKey) {
+        if (agentKey == null) {
+            return evaluateAccessPolicy(definition, agent);
+        }
+
+        var key = new DecisionKey(definition.getAccessPolicyId(), agentKey);
+        var now = clock.instant();
+        var cached = decisions.get(key);
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            return cached.granted();
+        }
+
+        var generation = policyGeneration.get();
+        var granted = evaluateAccessPolicy(definition, agent);
+        if (generation == policyGeneration.get()) {
+            if (decisions.size() >= MAX_CACHED_DECISIONS) {
+                decisions.clear();
+            }
+            decisions.put(key, new Decision(granted, now.plus(cacheTtl)));
+        }
+        return granted;
+    }
+
+    /**
+     * Identifies an agent for caching purposes by its identity, a hash of its claims serialized through the
+     * {@link TypeManager} with map entries ordered by key, and its attributes.
+     *
+     * @return the key, or null if the claims cannot be serialized.
+     */
+    @Nullable
+    private AgentKey agentKey(ParticipantAgent agent) {
+        try {
+            var claims = claimsWriter.writeValueAsBytes(agent.getClaims());
+            var claimsHash = Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(claims));
+            return new AgentKey(agent.getIdentity(), claimsHash, agent.getAttributes());
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            monitor.debug(() -> "Access decisions are not cached for participant %s, its claims cannot be serialized: %s".formatted(agent.getIdentity(), e.getMessage()));
+            return null;
+        }
+    }
+
+    private DefinitionSnapshot currentSnapshot() {
+        var current = snapshot;
+        if (current != null && clock.instant().isBefore(current.expiresAt())) {
+            return current;
+        }
+
+        synchronized (snapshotLock) {
+            if (snapshot == current) {
+                var definitions = definitionStore.findAll(QuerySpec.max())
+                        .collect(Collectors.toMap(ContractDefinition::getId, d -> d, (a, b) -> b, LinkedHashMap::new));
+                snapshot = new DefinitionSnapshot(definitions, clock.instant().plus(cacheTtl));
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Applies a single definition change to the snapshot, if one was loaded already.
+     */
+    private void refreshDefinition(String definitionId) {
+        synchronized (snapshotLock) {
+            var current = snapshot;
+            if (current == null) {
+                return;
+            }
+
+            var definitions = new LinkedHashMap<>(current.definitions());
+            var definition = definitionStore.findById(definitionId);
+            if (definition == null) {
+                definitions.remove(definitionId);
+            } else {
+                definitions.put(definitionId, definition);
+            }
+            snapshot = new DefinitionSnapshot(definitions, current.expiresAt());
+        }
+    }
+
     /**
      * Determines the applicability of a definition to an agent by evaluating its access policy.
      */
@@ -87,4 +247,16 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
 
         return true;
     }
+
+    private record DefinitionSnapshot(Map<String, ContractDefinition> definitions, Instant expiresAt) {
+    }
+
+    private record AgentKey(String identity, String claimsDigest, Map<String, String> attributes) {
+    }
+
+    private record DecisionKey(String policyId, AgentKey agent) {
+    }
+
+    private record Decision(boolean granted, Instant expiresAt) {
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.contract.policy;
+
+import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchive;
+import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchiveCacheMetrics;
+import org.eclipse.edc.policy.model.Policy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the policies resolved by a {@link PolicyArchive}. Contract agreements cannot be changed once they are
+ * created, so the cached policies never become stale and the cache is only bounded in size, evicting the least
+ * recently used policy. Contracts that do not exist are not cached, as their agreement can still be created.
+ */
+public class CachingPolicyArchive implements PolicyArchive, PolicyArchiveCacheMetrics {
+
+    private final PolicyArchive delegate;
+    private final Map<String, Policy> policies;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingPolicyArchive(PolicyArchive delegate, int maxSize) {
+        this.delegate = delegate;
+        this.policies = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Policy> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public Policy findPolicyForContract(String contractId) {
+        if (contractId == null) {
+            return null;
+        }
+
+        Policy cached;
+        synchronized (policies) {
+            cached = policies.get(contractId);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        var policy = delegate.findPolicyForContract(contractId);
+        if (policy != null) {
+            synchronized (policies) {
+                policies.put(contractId, policy);
+            }
+        }
+        return policy;
+    }
+
+    @Override
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long missCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public int cachedPolicies() {
+        synchronized (policies) {
+            return policies.size();
+        }
+    }
+}
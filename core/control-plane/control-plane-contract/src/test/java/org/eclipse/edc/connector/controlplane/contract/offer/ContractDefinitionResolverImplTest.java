@@ -15,25 +15,38 @@
 
 package org.eclipse.edc.connector.controlplane.contract.offer;
 
+import org.eclipse.edc.connector.controlplane.contract.spi.event.contractdefinition.ContractDefinitionDeleted;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.controlplane.policy.spi.event.PolicyDefinitionUpdated;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.policy.engine.spi.PolicyContext;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinitionResolver.CATALOGING_SCOPE;
+import static org.eclipse.edc.iam.verifiablecredentials.spi.TestFunctions.createCredentialBuilder;
 import static org.mockito.AdditionalMatchers.and;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -41,6 +54,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -135,6 +149,120 @@ class ContractDefinitionResolverImplTest {
         verifyNoInteractions(policyEngine);
     }
 
+    @Nested
+    class Cached {
+
+        private final Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+        private ContractDefinitionResolverImpl cachedService;
+
+        @BeforeEach
+        void setUp() {
+            cachedService = new ContractDefinitionResolverImpl(mock(Monitor.class), definitionStore, policyEngine, policyStore, new JacksonTypeManager(), clock, Duration.ofMinutes(1));
+            var policyDefinition = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).id("access").build();
+            when(policyStore.findById(any())).thenReturn(policyDefinition);
+            when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+            when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(createContractDefinition()));
+        }
+
+        @Test
+        void definitionsFor_shouldReuseSnapshotAndDecisions() {
+            var agent = new ParticipantAgent(Map.of("claim", "value"), Map.of());
+
+            assertThat(cachedService.definitionsFor(agent)).hasSize(1);
+            assertThat(cachedService.definitionsFor(agent)).hasSize(1);
+            assertThat(cachedService.definitionFor(agent, "1")).isNotNull();
+
+            verify(definitionStore).findAll(any());
+            verify(policyEngine).evaluate(any(), any(), isA(PolicyContext.class));
+        }
+
+        @Test
+        void definitionsFor_shouldEvaluateAgainForDifferentClaims() {
+            cachedService.definitionsFor(new ParticipantAgent(Map.of("claim", "value"), Map.of())).toList();
+            cachedService.definitionsFor(new ParticipantAgent(Map.of("claim", "other"), Map.of())).toList();
+
+            verify(policyEngine, times(2)).evaluate(any(), any(), isA(PolicyContext.class));
+        }
+
+        @Test
+        void definitionsFor_shouldReuseDecisions_whenClaimsContainEqualCredentials() {
+            var issuanceDate = Instant.parse("2024-01-01T00:00:00Z");
+            var firstRequest = new ParticipantAgent(Map.of("vc", List.of(createCredentialBuilder().id("credential-id").issuanceDate(issuanceDate).build())), Map.of());
+            var secondRequest = new ParticipantAgent(Map.of("vc", List.of(createCredentialBuilder().id("credential-id").issuanceDate(issuanceDate).build())), Map.of());
+
+            cachedService.definitionsFor(firstRequest).toList();
+            cachedService.definitionsFor(secondRequest).toList();
+
+            verify(policyEngine).evaluate(any(), any(), isA(PolicyContext.class));
+        }
+
+        @Test
+        void definitionsFor_shouldEvaluateAgain_whenCredentialIsReissued() {
+            var credential = createCredentialBuilder().id("credential-id").issuanceDate(Instant.parse("2024-01-01T00:00:00Z")).build();
+            var reissued = createCredentialBuilder().id("credential-id").issuanceDate(Instant.parse("2024-02-01T00:00:00Z")).build();
+
+            cachedService.definitionsFor(new ParticipantAgent(Map.of("vc", List.of(credential)), Map.of())).toList();
+            cachedService.definitionsFor(new ParticipantAgent(Map.of("vc", List.of(reissued)), Map.of())).toList();
+
+            verify(policyEngine, times(2)).evaluate(any(), any(), isA(PolicyContext.class));
+        }
+
+        @Test
+        void definitionsFor_shouldNotCache_whenClaimsCannotBeSerialized() {
+            var agent = new ParticipantAgent(Map.of("claim", new Object()), Map.of());
+
+            cachedService.definitionsFor(agent).toList();
+            cachedService.definitionsFor(agent).toList();
+
+            verify(policyEngine, times(2)).evaluate(any(), any(), isA(PolicyContext.class));
+        }
+
+        @Test
+        void definitionsFor_shouldReuseDecisions_whenClaimsAreEqualInDifferentOrder() {
+            var first = new LinkedHashMap<String, Object>();
+            first.put("a", "1");
+            first.put("b", Map.of("c", "2"));
+            var second = new LinkedHashMap<String, Object>();
+            second.put("b", Map.of("c", "2"));
+            second.put("a", "1");
+
+            cachedService.definitionsFor(new ParticipantAgent(first, Map.of())).toList();
+            cachedService.definitionsFor(new ParticipantAgent(second, Map.of())).toList();
+
+            verify(policyEngine).evaluate(any(), any(), isA(PolicyContext.class));
+        }
+
+        @Test
+        void on_policyDefinitionEvent_shouldInvalidateDecisions() {
+            var agent = new ParticipantAgent(Map.of(), Map.of());
+            cachedService.definitionsFor(agent).toList();
+
+            cachedService.on(envelope(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("access").build()));
+            cachedService.definitionsFor(agent).toList();
+
+            verify(policyEngine, times(2)).evaluate(any(), any(), isA(PolicyContext.class));
+        }
+
+        @Test
+        void on_contractDefinitionEvent_shouldUpdateSnapshot() {
+            var agent = new ParticipantAgent(Map.of(), Map.of());
+            assertThat(cachedService.definitionsFor(agent)).hasSize(1);
+            when(definitionStore.findById("1")).thenReturn(null);
+
+            cachedService.on(envelope(ContractDefinitionDeleted.Builder.newInstance().contractDefinitionId("1").build()));
+
+            assertThat(cachedService.definitionsFor(agent)).isEmpty();
+            verify(definitionStore).findAll(any());
+        }
+
+        private <E extends Event> EventEnvelope<E> envelope(E event) {
+            return EventEnvelope.Builder.newInstance()
+                    .at(clock.millis())
+                    .payload(event)
+                    .build();
+        }
+    }
+
     private ContractDefinition createContractDefinition() {
         return ContractDefinition.Builder.newInstance()
                 .id("1")
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.contract.policy;
+
+import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchive;
+import org.eclipse.edc.policy.model.Policy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingPolicyArchiveTest {
+
+    private final PolicyArchive delegate = mock();
+
+    @Test
+    void shouldLoadPolicyOnce() {
+        var policy = Policy.Builder.newInstance().build();
+        when(delegate.findPolicyForContract("contractId")).thenReturn(policy);
+        var archive = new CachingPolicyArchive(delegate, 10);
+
+        assertThat(archive.findPolicyForContract("contractId")).isSameAs(policy);
+        assertThat(archive.findPolicyForContract("contractId")).isSameAs(policy);
+
+        verify(delegate, times(1)).findPolicyForContract("contractId");
+        assertThat(archive.hitCount()).isEqualTo(1);
+        assertThat(archive.missCount()).isEqualTo(1);
+        assertThat(archive.cachedPolicies()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCache_whenContractDoesNotExist() {
+        var policy = Policy.Builder.newInstance().build();
+        when(delegate.findPolicyForContract("contractId")).thenReturn(null, policy);
+        var archive = new CachingPolicyArchive(delegate, 10);
+
+        assertThat(archive.findPolicyForContract("contractId")).isNull();
+        assertThat(archive.findPolicyForContract("contractId")).isSameAs(policy);
+
+        assertThat(archive.missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedPolicy_whenMaxSizeIsReached() {
+        when(delegate.findPolicyForContract("1")).thenReturn(Policy.Builder.newInstance().build());
+        when(delegate.findPolicyForContract("2")).thenReturn(Policy.Builder.newInstance().build());
+        when(delegate.findPolicyForContract("3")).thenReturn(Policy.Builder.newInstance().build());
+        var archive = new CachingPolicyArchive(delegate, 2);
+
+        archive.findPolicyForContract("1");
+        archive.findPolicyForContract("2");
+        archive.findPolicyForContract("1");
+        archive.findPolicyForContract("3");
+        archive.findPolicyForContract("1");
+        archive.findPolicyForContract("2");
+
+        assertThat(archive.cachedPolicies()).isEqualTo(2);
+        verify(delegate, times(1)).findPolicyForContract("1");
+        verify(delegate, times(2)).findPolicyForContract("2");
+    }
+
+    @Test
+    void shouldReturnNull_whenContractIdIsNull() {
+        var archive = new CachingPolicyArchive(delegate, 10);
+
+        assertThat(archive.findPolicyForContract(null)).isNull();
+    }
+}
@@ -16,12 +16,14 @@ package org.eclipse.edc.connector.controlplane.defaults.storage.assetindex;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.store.ContinuationTokens;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Comparator;
@@ -55,11 +57,25 @@ public class InMemoryAssetIndex implements AssetIndex {
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
         lock.readLock().lock();
         try {
-            var comparator = querySpec.getSortField() == null
+            var sortField = querySpec.getSortField();
+            var sortOrder = querySpec.getSortOrder();
+            var continuationToken = querySpec.getContinuationToken();
+            var comparator = sortField == null
                     ? (Comparator<Asset>) (o1, o2) -> 0
-                    : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
+                    : new AssetComparator(sortField, sortOrder);
 
-            return filterBy(querySpec.getFilterExpression())
+            var assets = filterBy(querySpec.getFilterExpression());
+            if (continuationToken != null) {
+                var token = ContinuationToken.decode(continuationToken);
+                assets = assets.filter(asset -> isAfter(asset, token, sortField, sortOrder));
+            }
+            if (sortField != null || continuationToken != null) {
+                // ties are broken by id, so that the order is stable and a page can be continued after its last asset
+                var idComparator = Comparator.comparing(Asset::getId);
+                comparator = comparator.thenComparing(sortOrder == SortOrder.ASC ? idComparator : idComparator.reversed());
+            }
+
+            return assets
                     .sorted(comparator)
                     .skip(querySpec.getOffset()).limit(querySpec.getLimit());
 
@@ -150,6 +166,14 @@ public class InMemoryAssetIndex implements AssetIndex {
                 .filter(predicate);
     }
 
+    private boolean isAfter(Asset asset, ContinuationToken token, @Nullable String sortField, SortOrder sortOrder) {
+        var comparison = sortField == null ? 0 : ContinuationTokens.compareToTokenValue(asset.getPropertyOrPrivate(sortField), token.sortValue());
+        if (comparison == 0) {
+            comparison = asset.getId().compareTo(token.id());
+        }
+        return sortOrder == SortOrder.ASC ? comparison > 0 : comparison < 0;
+    }
+
     private Asset delete(String assetId) {
         dataAddresses.remove(assetId);
         return cache.remove(assetId);
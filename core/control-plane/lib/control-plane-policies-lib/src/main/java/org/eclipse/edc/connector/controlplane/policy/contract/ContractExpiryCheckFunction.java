@@ -20,6 +20,7 @@ import org.eclipse.edc.policy.engine.spi.PolicyContext;
 import org.eclipse.edc.policy.model.Operator;
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -102,6 +103,32 @@ public class ContractExpiryCheckFunction implements AtomicConstraintFunction<Per
         return false;
     }
 
+    /**
+     * Resolves the point in time a right-value refers to, that is the instant at which the evaluation of the constraint
+     * can change.
+     *
+     * @param rightValue the right-value of the constraint, either an ISO-8061 String or a duration expression.
+     * @param agreement  the contract agreement, whose signing date is the offset of the duration expressions.
+     * @return the instant, or null if the right-value is not supported.
+     */
+    public @Nullable Instant resolveBound(Object rightValue, ContractAgreement agreement) {
+        if (!(rightValue instanceof String rightValueStr)) {
+            return null;
+        }
+
+        var bound = asInstant(rightValueStr);
+        if (bound != null) {
+            return bound;
+        }
+
+        var duration = asDuration(rightValueStr);
+        if (duration != null) {
+            return Instant.ofEpochSecond(agreement.getContractSigningDate()).plus(duration);
+        }
+
+        return null;
+    }
+
     /**
      * Checks whether an input string fits the regex {@link ContractExpiryCheckFunction#EXPRESSION_REGEX}, e.g. "contractAgreement+50m"
      * and parses that string into a {@link Duration} if successful.
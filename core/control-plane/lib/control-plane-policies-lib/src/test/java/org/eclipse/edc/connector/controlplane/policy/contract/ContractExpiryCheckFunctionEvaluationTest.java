@@ -31,6 +31,7 @@ import org.eclipse.edc.policy.model.Operator;
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.policy.model.Policy;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -45,6 +46,7 @@ import java.util.stream.Stream;
 import static java.time.Duration.ofDays;
 import static java.time.Duration.ofSeconds;
 import static java.time.Instant.now;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.policy.model.Operator.EQ;
 import static org.eclipse.edc.policy.model.Operator.GEQ;
@@ -138,6 +140,24 @@ class ContractExpiryCheckFunctionEvaluationTest {
         AbstractResultAssert.assertThat(result).isFailed();
     }
 
+    @Test
+    void resolveBound_shouldResolveFixedAndDurationBounds() {
+        var signingTime = Instant.ofEpochSecond(NOW.getEpochSecond());
+        var agreement = createAgreement("test-agreement", signingTime);
+
+        assertThat(function.resolveBound("2024-01-01T00:00:01Z", agreement)).isEqualTo(Instant.parse("2024-01-01T00:00:01Z"));
+        assertThat(function.resolveBound("contractAgreement+1h", agreement)).isEqualTo(signingTime.plusSeconds(3600));
+        assertThat(function.resolveBound("contractAgreement+-5m", agreement)).isEqualTo(signingTime.minusSeconds(300));
+    }
+
+    @Test
+    void resolveBound_shouldReturnNull_whenRightValueIsNotSupported() {
+        var agreement = createAgreement("test-agreement");
+
+        assertThat(function.resolveBound("invalid", agreement)).isNull();
+        assertThat(function.resolveBound(42, agreement)).isNull();
+    }
+
     private Policy createInForcePolicy(Operator operatorStart, Object startDate, Operator operatorEnd, Object endDate) {
         var fixedInForceTimeConstraint = AndConstraint.Builder.newInstance()
                 .constraint(AtomicConstraint.Builder.newInstance()
@@ -21,12 +21,21 @@ import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrate
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+
+import static org.eclipse.edc.connector.dataplane.selector.service.EmbeddedDataPlaneSelectorService.DEFAULT_SNAPSHOT_REFRESH_INTERVAL_MILLIS;
+
 @Extension(value = "DataPlane core selector")
 public class DataPlaneSelectorExtension implements ServiceExtension {
 
+    @Setting(value = "Maximum age in milliseconds of the in-memory data plane instance snapshot used for selection", type = "long", defaultValue = DEFAULT_SNAPSHOT_REFRESH_INTERVAL_MILLIS + "")
+    public static final String SNAPSHOT_REFRESH_INTERVAL_SETTING = "edc.dataplane.selector.snapshot.refresh-interval-millis";
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
 
@@ -36,9 +45,13 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     @Inject
     private SelectionStrategyRegistry selectionStrategyRegistry;
 
+    @Inject
+    private Clock clock;
+
     @Provider
-    public DataPlaneSelectorService dataPlaneSelectorService() {
-        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext);
+    public DataPlaneSelectorService dataPlaneSelectorService(ServiceExtensionContext context) {
+        var snapshotRefreshInterval = context.getSetting(SNAPSHOT_REFRESH_INTERVAL_SETTING, DEFAULT_SNAPSHOT_REFRESH_INTERVAL_MILLIS);
+        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext, clock, snapshotRefreshInterval);
     }
 
 }
@@ -23,18 +23,44 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static java.util.stream.Collectors.toConcurrentMap;
+
+/**
+ * Selects data planes from an in-memory snapshot of the {@link DataPlaneInstanceStore}, so that a selection does not
+ * need a store scan. Instances registered through this service are visible immediately; the snapshot is re-read from
+ * the store at most every {@code snapshotRefreshInterval} milliseconds to pick up instances registered elsewhere.
+ * Each selection counts one more active flow on the selected instance in the snapshot, so that selections between two
+ * load reports do not all pick the same instance.
+ */
 public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorService {
 
+    public static final long DEFAULT_SNAPSHOT_REFRESH_INTERVAL_MILLIS = 10_000;
+
     private final DataPlaneInstanceStore store;
     private final SelectionStrategyRegistry selectionStrategyRegistry;
     private final TransactionContext transactionContext;
+    private final Clock clock;
+    private final long snapshotRefreshInterval;
+    private final Object snapshotLock = new Object();
+    private volatile Map<String, DataPlaneInstance> snapshot = new ConcurrentHashMap<>();
+    private volatile long snapshotExpiresAt = Long.MIN_VALUE;
 
     public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext) {
+        this(store, selectionStrategyRegistry, transactionContext, Clock.systemUTC(), DEFAULT_SNAPSHOT_REFRESH_INTERVAL_MILLIS);
+    }
+
+    public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext,
+                                            Clock clock, long snapshotRefreshInterval) {
         this.store = store;
         this.selectionStrategyRegistry = selectionStrategyRegistry;
         this.transactionContext = transactionContext;
+        this.clock = clock;
+        this.snapshotRefreshInterval = snapshotRefreshInterval;
     }
 
     @Override
@@ -53,25 +79,50 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
             throw new IllegalArgumentException("Strategy " + selectionStrategy + " was not found");
         }
 
-        return transactionContext.execute(() -> {
-            try (var stream = store.getAll()) {
-                var dataPlanes = stream.filter(dataPlane -> dataPlane.canHandle(source, destination, transferType)).toList();
-                return strategy.apply(dataPlanes);
-            }
-        });
+        var dataPlanes = currentSnapshot().values().stream()
+                .filter(dataPlane -> dataPlane.canHandle(source, destination, transferType))
+                .toList();
+        var selected = strategy.apply(dataPlanes);
+        if (selected != null) {
+            snapshot.computeIfPresent(selected.getId(), (id, instance) -> instance.toBuilder().activeFlows(instance.getActiveFlows() + 1).build());
+        }
+        return selected;
     }
 
 
     @Override
     public ServiceResult<Void> addInstance(DataPlaneInstance instance) {
-        return transactionContext.execute(() -> {
-            StoreResult<Void> result;
+        var result = transactionContext.execute(() -> {
+            StoreResult<Void> storeResult;
             if (store.findById(instance.getId()) == null) {
-                result = store.create(instance);
+                storeResult = store.create(instance);
             } else {
-                result = store.update(instance);
+                storeResult = store.update(instance);
             }
-            return ServiceResult.from(result);
+            return ServiceResult.from(storeResult);
         });
+
+        if (result.succeeded()) {
+            snapshot.put(instance.getId(), instance);
+        }
+        return result;
+    }
+
+    private Map<String, DataPlaneInstance> currentSnapshot() {
+        if (clock.millis() < snapshotExpiresAt) {
+            return snapshot;
+        }
+        synchronized (snapshotLock) {
+            var now = clock.millis();
+            if (now >= snapshotExpiresAt) {
+                snapshot = transactionContext.execute(() -> {
+                    try (var stream = store.getAll()) {
+                        return stream.collect(toConcurrentMap(DataPlaneInstance::getId, instance -> instance, (first, second) -> second));
+                    }
+                });
+                snapshotExpiresAt = now + snapshotRefreshInterval;
+            }
+            return snapshot;
+        }
     }
 }
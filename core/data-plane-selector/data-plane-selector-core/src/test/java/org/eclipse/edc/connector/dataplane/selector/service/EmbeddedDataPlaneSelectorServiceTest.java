@@ -17,18 +17,28 @@ package org.eclipse.edc.connector.dataplane.selector.service;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.LeastLoadedSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.selector.spi.testfixtures.TestFunctions.createAddress;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +47,7 @@ public class EmbeddedDataPlaneSelectorServiceTest {
     private final DataPlaneInstanceStore store = mock();
     private final SelectionStrategyRegistry selectionStrategyRegistry = mock();
     private final DataPlaneSelectorService selector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, new NoopTransactionContext());
+    private final Instant now = Instant.now();
 
     @Test
     void select_shouldUseChosenSelector() {
@@ -62,6 +73,77 @@ public class EmbeddedDataPlaneSelectorServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void select_shouldUseSnapshot_whenNotExpired() {
+        var instances = List.of(createInstanceMock("instance", "srcTestType", "destTestType"));
+        when(store.getAll()).thenAnswer(i -> instances.stream());
+        when(selectionStrategyRegistry.find(any())).thenReturn(mock(SelectionStrategy.class));
+        var selector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, new NoopTransactionContext(), Clock.fixed(now, ZoneOffset.UTC), 1000);
+
+        selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+
+        verify(store, times(1)).getAll();
+    }
+
+    @Test
+    void select_shouldReloadSnapshot_whenExpired() {
+        var clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(now.toEpochMilli(), now.toEpochMilli(), now.plus(Duration.ofSeconds(2)).toEpochMilli());
+        var registered = createInstanceMock("instance", "srcTestType", "destTestType");
+        when(store.getAll()).thenReturn(Stream.empty(), Stream.of(registered));
+        SelectionStrategy selectionStrategy = mock();
+        when(selectionStrategy.apply(any())).thenAnswer(i -> i.<List<DataPlaneInstance>>getArgument(0).stream().findFirst().orElse(null));
+        when(selectionStrategyRegistry.find(any())).thenReturn(selectionStrategy);
+        var selector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, new NoopTransactionContext(), clock, 1000);
+
+        var first = selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        var second = selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+
+        assertThat(first).isNull();
+        assertThat(second).isSameAs(registered);
+        verify(store, times(2)).getAll();
+    }
+
+    @Test
+    void select_shouldCountSelectionInSnapshot_untilNextLoadReport() {
+        var instances = List.of(createInstanceMock("instance1", "srcTestType", "destTestType"), createInstanceMock("instance2", "srcTestType", "destTestType"));
+        when(store.getAll()).thenAnswer(i -> instances.stream());
+        when(store.findById(any())).thenReturn(instances.get(0));
+        when(store.update(any())).thenReturn(StoreResult.success());
+        when(selectionStrategyRegistry.find(any())).thenReturn(new LeastLoadedSelectionStrategy());
+        var selector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, new NoopTransactionContext(), Clock.fixed(now, ZoneOffset.UTC), 1000);
+
+        var first = selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        var second = selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        selector.addInstance(first.toBuilder().activeFlows(0).build());
+        var third = selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+        assertThat(second.getActiveFlows()).isZero();
+        assertThat(third.getId()).isEqualTo(first.getId());
+    }
+
+    @Test
+    void addInstance_shouldMakeInstanceSelectableWithoutStoreScan() {
+        when(store.getAll()).thenAnswer(i -> Stream.empty());
+        when(store.create(any())).thenReturn(StoreResult.success());
+        SelectionStrategy selectionStrategy = mock();
+        when(selectionStrategy.apply(any())).thenAnswer(i -> i.<List<DataPlaneInstance>>getArgument(0).stream().findFirst().orElse(null));
+        when(selectionStrategyRegistry.find(any())).thenReturn(selectionStrategy);
+        var selector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, new NoopTransactionContext(), Clock.fixed(now, ZoneOffset.UTC), 1000);
+        selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+
+        var instance = createInstanceMock("instance", "srcTestType", "destTestType");
+        var result = selector.addInstance(instance);
+        var selected = selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(selected).isSameAs(instance);
+        verify(store, times(1)).getAll();
+        verify(selectionStrategy).apply(argThat(list -> list.contains(instance)));
+    }
+
     private DataPlaneInstance createInstanceMock(String id, String srcType, String destType) {
         return DataPlaneInstance.Builder.newInstance()
                 .url("http://any")
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.framework;
 
 import org.eclipse.edc.connector.dataplane.framework.iam.DefaultDataPlaneAccessTokenServiceImpl;
+import org.eclipse.edc.connector.dataplane.framework.store.CachingAccessTokenDataStore;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessControlService;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessTokenService;
 import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
@@ -32,6 +33,8 @@ import org.eclipse.edc.token.spi.TokenValidationService;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.PrivateKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.function.Supplier;
 
 
@@ -45,6 +48,15 @@ public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
     @Setting(value = "Alias of public key used for verifying the tokens, retrieved from the vault")
     public static final String TOKEN_VERIFIER_PUBLIC_KEY_ALIAS = "edc.transfer.proxy.token.verifier.publickey.alias";
 
+    private static final long DEFAULT_ACCESS_TOKEN_DATA_CACHE_TTL_MILLIS = 0;
+    private static final int DEFAULT_ACCESS_TOKEN_DATA_CACHE_SIZE = 10_000;
+
+    @Setting(value = "the time in milliseconds resolved access token data is cached, never beyond the token expiration. Bounds how long a token revoked through another data plane replica is still accepted. 0 disables the cache",
+            type = "long", defaultValue = DEFAULT_ACCESS_TOKEN_DATA_CACHE_TTL_MILLIS + "")
+    public static final String ACCESS_TOKEN_DATA_CACHE_TTL_MILLIS = "edc.dataplane.accesstokendata.cache.ttl-millis";
+    @Setting(value = "the maximum number of access token data entries held in the cache", type = "int", defaultValue = DEFAULT_ACCESS_TOKEN_DATA_CACHE_SIZE + "")
+    public static final String ACCESS_TOKEN_DATA_CACHE_SIZE = "edc.dataplane.accesstokendata.cache.size";
+
     @Inject
     private AccessTokenDataStore accessTokenDataStore;
     @Inject
@@ -53,6 +65,8 @@ public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
     private PrivateKeyResolver privateKeyResolver;
     @Inject
     private LocalPublicKeyService localPublicKeyService;
+    @Inject
+    private Clock clock;
 
     @Override
     public String name() {
@@ -69,10 +83,19 @@ public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
     @Provider(isDefault = true)
     public DataPlaneAccessTokenService defaultAccessTokenService(ServiceExtensionContext context) {
         return new DefaultDataPlaneAccessTokenServiceImpl(new JwtGenerationService(),
-                accessTokenDataStore, context.getMonitor().withPrefix("DataPlane IAM"),
+                cachedAccessTokenDataStore(context), context.getMonitor().withPrefix("DataPlane IAM"),
                 getPrivateKeySupplier(context), publicKeyIdSupplier(context), tokenValidationService, localPublicKeyService);
     }
 
+    private AccessTokenDataStore cachedAccessTokenDataStore(ServiceExtensionContext context) {
+        var timeToLive = context.getSetting(ACCESS_TOKEN_DATA_CACHE_TTL_MILLIS, DEFAULT_ACCESS_TOKEN_DATA_CACHE_TTL_MILLIS);
+        if (timeToLive <= 0) {
+            return accessTokenDataStore;
+        }
+        var maxSize = context.getSetting(ACCESS_TOKEN_DATA_CACHE_SIZE, DEFAULT_ACCESS_TOKEN_DATA_CACHE_SIZE);
+        return new CachingAccessTokenDataStore(accessTokenDataStore, Duration.ofMillis(timeToLive), maxSize, clock);
+    }
+
     private Supplier<String> publicKeyIdSupplier(ServiceExtensionContext context) {
         return () -> context.getConfig().getString(TOKEN_VERIFIER_PUBLIC_KEY_ALIAS);
     }
@@ -16,30 +16,59 @@ package org.eclipse.edc.connector.dataplane.framework;
 
 import org.eclipse.edc.connector.dataplane.framework.pipeline.PipelineServiceImpl;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceSelectionStrategy;
+import org.eclipse.edc.connector.dataplane.framework.scheduler.DataFlowSchedulerImpl;
 import org.eclipse.edc.connector.dataplane.framework.store.InMemoryAccessTokenDataStore;
 import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataPlaneStore;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.time.Duration;
 
 @Extension(value = DataPlaneDefaultServicesExtension.NAME)
 public class DataPlaneDefaultServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Framework Default Services";
+
+    @Setting(value = "the maximum number of data flows running concurrently, 0 means unlimited", type = "int", defaultValue = "0")
+    private static final String SCHEDULER_MAX_FLOWS = "edc.dataplane.scheduler.max-flows";
+
+    @Setting(value = "the maximum number of data flows running concurrently for a single participant, 0 means unlimited", type = "int", defaultValue = "0")
+    private static final String SCHEDULER_MAX_FLOWS_PER_PARTICIPANT = "edc.dataplane.scheduler.max-flows.participant";
+
+    @Setting(value = "the maximum number of data flows running concurrently for a single transfer type, 0 means unlimited", type = "int", defaultValue = "0")
+    private static final String SCHEDULER_MAX_FLOWS_PER_TRANSFER_TYPE = "edc.dataplane.scheduler.max-flows.transfer-type";
+
+    @Setting(value = "the maximum bytes per second transferred by all the data flows, 0 means unlimited", type = "long", defaultValue = "0")
+    private static final String SCHEDULER_MAX_BANDWIDTH = "edc.dataplane.scheduler.bandwidth";
+
+    @Setting(value = "the maximum bytes per second transferred by the data flows of a single participant, 0 means unlimited", type = "long", defaultValue = "0")
+    private static final String SCHEDULER_MAX_BANDWIDTH_PER_PARTICIPANT = "edc.dataplane.scheduler.bandwidth.participant";
+
+    @Setting(value = "the maximum bytes per second transferred by the data flows of a single transfer type, 0 means unlimited", type = "long", defaultValue = "0")
+    private static final String SCHEDULER_MAX_BANDWIDTH_PER_TRANSFER_TYPE = "edc.dataplane.scheduler.bandwidth.transfer-type";
+
+    @Setting(value = "the time in milliseconds after which a queued data flow that was not offered again leaves the queue", type = "long", defaultValue = DEFAULT_SCHEDULER_QUEUE_TIMEOUT_MS + "")
+    private static final String SCHEDULER_QUEUE_TIMEOUT_MS = "edc.dataplane.scheduler.queue-timeout.ms";
+    private static final long DEFAULT_SCHEDULER_QUEUE_TIMEOUT_MS = 30000;
+
     @Inject
     private Clock clock;
     @Inject
     private CriterionOperatorRegistry criterionOperatorRegistry;
 
+    private DataFlowScheduler dataFlowScheduler;
+
     @Override
     public String name() {
         return NAME;
@@ -62,7 +91,24 @@ public class DataPlaneDefaultServicesExtension implements ServiceExtension {
 
     @Provider(isDefault = true)
     public PipelineService pipelineService(ServiceExtensionContext context) {
-        return new PipelineServiceImpl(context.getMonitor());
+        return new PipelineServiceImpl(context.getMonitor(), dataFlowScheduler(context));
+    }
+
+    @Provider(isDefault = true)
+    public DataFlowScheduler dataFlowScheduler(ServiceExtensionContext context) {
+        if (dataFlowScheduler == null) {
+            dataFlowScheduler = DataFlowSchedulerImpl.Builder.newInstance()
+                    .maxFlows(context.getSetting(SCHEDULER_MAX_FLOWS, 0))
+                    .maxFlowsPerParticipant(context.getSetting(SCHEDULER_MAX_FLOWS_PER_PARTICIPANT, 0))
+                    .maxFlowsPerTransferType(context.getSetting(SCHEDULER_MAX_FLOWS_PER_TRANSFER_TYPE, 0))
+                    .maxBandwidth(context.getSetting(SCHEDULER_MAX_BANDWIDTH, 0L))
+                    .maxBandwidthPerParticipant(context.getSetting(SCHEDULER_MAX_BANDWIDTH_PER_PARTICIPANT, 0L))
+                    .maxBandwidthPerTransferType(context.getSetting(SCHEDULER_MAX_BANDWIDTH_PER_TRANSFER_TYPE, 0L))
+                    .queueTimeout(Duration.ofMillis(context.getSetting(SCHEDULER_QUEUE_TIMEOUT_MS, DEFAULT_SCHEDULER_QUEUE_TIMEOUT_MS)))
+                    .clock(clock)
+                    .build();
+        }
+        return dataFlowScheduler;
     }
 
     // todo: should this be a default service?
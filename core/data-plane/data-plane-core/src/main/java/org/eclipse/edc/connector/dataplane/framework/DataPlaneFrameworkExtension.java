@@ -23,6 +23,7 @@ import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessControlService
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessTokenService;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
@@ -42,12 +43,14 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 /**
  * Provides core services for the Data Plane Framework.
@@ -63,12 +66,19 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting(value = "the batch size in the data plane state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String DATAPLANE_MACHINE_BATCH_SIZE = "edc.dataplane.state-machine.batch-size";
 
+    @Setting(value = "the number of workers processing entities in parallel in the data plane state machine, 0 means sequential processing. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String DATAPLANE_MACHINE_WORKERS = "edc.dataplane.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the dataplane with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String DATAPLANE_SEND_RETRY_LIMIT = "edc.dataplane.send.retry.limit";
 
     @Setting(value = "The base delay for the dataplane retry mechanism in millisecond", type = "long", defaultValue = DEFAULT_SEND_RETRY_BASE_DELAY + "")
     private static final String DATAPLANE_SEND_RETRY_BASE_DELAY_MS = "edc.dataplane.send.retry.base-delay.ms";
 
+    @Setting(value = "the minimum time in milliseconds between two persisted progress checkpoints of a running data flow", type = "long", defaultValue = DEFAULT_CHECKPOINT_INTERVAL_MS + "")
+    private static final String DATAPLANE_CHECKPOINT_INTERVAL_MS = "edc.dataplane.progress.checkpoint-interval.ms";
+    private static final long DEFAULT_CHECKPOINT_INTERVAL_MS = 5000;
+
     @Setting
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
@@ -95,6 +105,8 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Inject
     private PipelineService pipelineService;
     @Inject
+    private DataFlowScheduler dataFlowScheduler;
+    @Inject
     private DataPlaneAccessTokenService accessTokenService;
     @Inject
     private DataPlaneAccessControlService accessControlService;
@@ -128,6 +140,7 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
                 .waitStrategy(waitStrategy)
                 .batchSize(context.getSetting(DATAPLANE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(DATAPLANE_MACHINE_WORKERS, DEFAULT_WORKERS))
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration(context))
                 .executorInstrumentation(executorInstrumentation)
@@ -135,6 +148,8 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
                 .store(store)
                 .transferProcessClient(transferProcessApiClient)
                 .authorizationService(authorizationService(context))
+                .scheduler(dataFlowScheduler)
+                .checkpointInterval(Duration.ofMillis(context.getSetting(DATAPLANE_CHECKPOINT_INTERVAL_MS, DEFAULT_CHECKPOINT_INTERVAL_MS)))
                 .monitor(monitor)
                 .telemetry(telemetry)
                 .build();
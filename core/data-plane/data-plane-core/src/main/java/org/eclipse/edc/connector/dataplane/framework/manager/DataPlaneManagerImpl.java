@@ -15,11 +15,17 @@
 package org.eclipse.edc.connector.dataplane.framework.manager;
 
 import org.eclipse.edc.connector.controlplane.api.client.spi.transferprocess.TransferProcessApiClient;
+import org.eclipse.edc.connector.dataplane.framework.scheduler.DataFlowSchedulerImpl;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ResumableTransferService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.entity.StatefulEntity;
@@ -36,8 +42,12 @@ import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static java.lang.String.format;
@@ -56,6 +66,8 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
     private DataPlaneAuthorizationService authorizationService;
     private TransferServiceRegistry transferServiceRegistry;
     private TransferProcessApiClient transferProcessClient;
+    private DataFlowScheduler scheduler;
+    private Duration checkpointInterval = Duration.ofSeconds(5);
 
     private DataPlaneManagerImpl() {
 
@@ -104,6 +116,11 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
                 .map(DataFlowStates::from).orElse(null);
     }
 
+    @Override
+    public @Nullable DataFlowProgress getTransferProgress(String processId) {
+        return Optional.ofNullable(store.findById(processId)).map(DataFlow::getProgress).orElse(null);
+    }
+
     @Override
     public StatusResult<Void> suspend(String dataFlowId) {
         return stop(dataFlowId)
@@ -166,6 +183,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
             }
         }
 
+        scheduler.release(dataFlowId);
         return StatusResult.success(dataFlow);
     }
 
@@ -191,6 +209,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
                 .source(startMessage.getSourceDataAddress())
                 .destination(startMessage.getDestinationDataAddress())
                 .callbackAddress(startMessage.getCallbackAddress())
+                .participantId(startMessage.getParticipantId())
                 .traceContext(telemetry.getCurrentTraceContext())
                 .properties(startMessage.getProperties())
                 .flowType(startMessage.getFlowType());
@@ -206,16 +225,26 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
             return true;
         }
 
+        if (!scheduler.tryAcquire(request)) {
+            // the flow stays queued in RECEIVED until the scheduler admits it. Refreshing the state timestamp, persisted
+            // when the lease is broken, moves it behind the other received flows, so that the next batch does not start
+            // over with the same flows that could not be admitted
+            dataFlow.updateStateTimestamp();
+            return false;
+        }
+
         dataFlow.transitionToStarted();
         store.save(dataFlow);
 
-        return entityRetryProcessFactory.doAsyncProcess(dataFlow, () -> transferService.transfer(request))
+        var checkpoint = new ProgressCheckpoint(dataFlow);
+        return entityRetryProcessFactory.doAsyncProcess(dataFlow, () -> transfer(transferService, request, checkpoint))
                 .entityRetrieve(id -> store.findById(id))
                 .onSuccess((f, r) -> {
                     if (f.getState() != STARTED.code()) {
                         return;
                     }
 
+                    f.updateProgress(checkpoint.latest());
                     if (r.succeeded()) {
                         f.transitToCompleted();
                     } else {
@@ -224,16 +253,26 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
                     update(f);
                 })
                 .onFailure((f, t) -> {
+                    f.updateProgress(checkpoint.latest());
                     f.transitToReceived();
                     update(f);
                 })
                 .onRetryExhausted((f, t) -> {
+                    f.updateProgress(checkpoint.latest());
                     f.transitToFailed(t.getMessage());
                     update(f);
                 })
+                .onDelay(f -> scheduler.release(f.getId()))
                 .execute("start data flow");
     }
 
+    private CompletableFuture<StreamResult<Object>> transfer(TransferService transferService, DataFlowStartMessage request, ProgressCheckpoint checkpoint) {
+        var transfer = transferService instanceof ResumableTransferService resumableTransferService ?
+                resumableTransferService.transfer(request, checkpoint.latest(), checkpoint) :
+                transferService.transfer(request);
+        return transfer.whenComplete((result, throwable) -> scheduler.release(request.getProcessId()));
+    }
+
     private boolean processCompleted(DataFlow dataFlow) {
         var response = transferProcessClient.completed(dataFlow.toRequest());
         if (response.succeeded()) {
@@ -266,6 +305,45 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
                 .build();
     }
 
+    /**
+     * Keeps the latest progress reported for a data flow and persists it at most once per {@code checkpointInterval},
+     * so that a restarted transfer can resume from there.
+     */
+    private class ProgressCheckpoint implements Consumer<DataFlowProgress> {
+        private final String dataFlowId;
+        private DataFlowProgress latest;
+        private Instant lastPersisted;
+
+        ProgressCheckpoint(DataFlow dataFlow) {
+            this.dataFlowId = dataFlow.getId();
+            this.latest = dataFlow.getProgress();
+            this.lastPersisted = clock.instant();
+        }
+
+        @Override
+        public synchronized void accept(DataFlowProgress progress) {
+            // parts may be acknowledged concurrently, so progress updates can arrive out of order
+            if (progress.getPartsTransferred() <= latest.getPartsTransferred()) {
+                return;
+            }
+            latest = progress;
+            var now = clock.instant();
+            if (now.isBefore(lastPersisted.plus(checkpointInterval))) {
+                return;
+            }
+            lastPersisted = now;
+            try {
+                store.updateProgress(dataFlowId, progress);
+            } catch (Exception e) {
+                monitor.warning("Cannot persist the progress of DataFlow %s: %s".formatted(dataFlowId, e.getMessage()));
+            }
+        }
+
+        synchronized DataFlowProgress latest() {
+            return latest;
+        }
+    }
+
     public static class Builder extends AbstractStateEntityManager.Builder<DataFlow, DataPlaneStore, DataPlaneManagerImpl, Builder> {
 
         private Builder() {
@@ -283,6 +361,9 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
 
         public DataPlaneManagerImpl build() {
             Objects.requireNonNull(manager.transferProcessClient);
+            if (manager.scheduler == null) {
+                manager.scheduler = DataFlowSchedulerImpl.Builder.newInstance().build();
+            }
             return manager;
         }
 
@@ -300,6 +381,22 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
             manager.authorizationService = authorizationService;
             return this;
         }
+
+        /**
+         * Admits the received data flows within the concurrency limits, all of them are started right away if not set.
+         */
+        public Builder scheduler(DataFlowScheduler scheduler) {
+            manager.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * The minimum time between two persisted progress checkpoints of a running data flow.
+         */
+        public Builder checkpointInterval(Duration checkpointInterval) {
+            manager.checkpointInterval = checkpointInterval;
+            return this;
+        }
     }
 
 }
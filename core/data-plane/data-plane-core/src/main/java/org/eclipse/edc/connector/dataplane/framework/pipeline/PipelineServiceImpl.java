@@ -16,11 +16,14 @@ package org.eclipse.edc.connector.dataplane.framework.pipeline;
 
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ResumableTransferService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
@@ -29,10 +32,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -40,14 +44,23 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 /**
  * Default pipeline service implementation.
  */
-public class PipelineServiceImpl implements PipelineService {
+public class PipelineServiceImpl implements PipelineService, ResumableTransferService {
     private final List<DataSourceFactory> sourceFactories = new ArrayList<>();
     private final List<DataSinkFactory> sinkFactories = new ArrayList<>();
-    private final Map<String, DataSource> sources = new HashMap<>();
+    private final Map<String, DataSource> sources = new ConcurrentHashMap<>();
     private final Monitor monitor;
+    private final DataFlowScheduler scheduler;
 
     public PipelineServiceImpl(Monitor monitor) {
+        this(monitor, null);
+    }
+
+    /**
+     * Creates a pipeline service that reads the sources within the bandwidth granted by the scheduler.
+     */
+    public PipelineServiceImpl(Monitor monitor, @Nullable DataFlowScheduler scheduler) {
         this.monitor = monitor;
+        this.scheduler = scheduler;
     }
 
     @Override
@@ -93,12 +106,31 @@ public class PipelineServiceImpl implements PipelineService {
         if (sinkFactory == null) {
             return noSinkFactory(request);
         }
-        var source = sourceFactory.createSource(request);
-        sources.put(request.getProcessId(), source);
-
+        var source = createSource(sourceFactory, request);
         var sink = sinkFactory.createSink(request);
         monitor.debug(() -> format("Transferring from %s to %s.", request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType()));
-        return sink.transfer(source);
+        return trackedTransfer(request, source, sink);
+    }
+
+    @WithSpan
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, DataFlowProgress progress, Consumer<DataFlowProgress> progressListener) {
+        var sourceFactory = getSourceFactory(request);
+        if (sourceFactory == null) {
+            return noSourceFactory(request);
+        }
+        var sinkFactory = getSinkFactory(request);
+        if (sinkFactory == null) {
+            return noSinkFactory(request);
+        }
+        var delegate = createSource(sourceFactory, request);
+        // a source that is not resumable starts over, so the progress of the previous attempt does not apply to it
+        var initialProgress = delegate.isResumable() ? progress : DataFlowProgress.empty();
+        var source = new ProgressReportingDataSource(delegate, initialProgress, progressListener);
+        var sink = sinkFactory.createSink(request);
+        monitor.debug(() -> format("Transferring from %s to %s, %d parts already transferred.", request.getSourceDataAddress().getType(),
+                request.getDestinationDataAddress().getType(), initialProgress.getCompletedParts().size()));
+        return trackedTransfer(request, source, sink);
     }
 
     @Override
@@ -107,10 +139,9 @@ public class PipelineServiceImpl implements PipelineService {
         if (sourceFactory == null) {
             return noSourceFactory(request);
         }
-        var source = sourceFactory.createSource(request);
-        sources.put(request.getProcessId(), source);
+        var source = createSource(sourceFactory, request);
         monitor.debug(() -> format("Transferring from %s to %s.", request.getSourceDataAddress().getType(), request.getDestinationDataAddress().getType()));
-        return sink.transfer(source);
+        return trackedTransfer(request, source, sink);
     }
 
     @Override
@@ -121,7 +152,7 @@ public class PipelineServiceImpl implements PipelineService {
         } else {
             try {
                 source.close();
-                sources.remove(dataFlow.getId());
+                sources.remove(dataFlow.getId(), source);
                 return StreamResult.success();
             } catch (Exception e) {
                 return StreamResult.error("Cannot terminate DataFlow %s: %s".formatted(dataFlow.getId(), e.getMessage()));
@@ -139,6 +170,34 @@ public class PipelineServiceImpl implements PipelineService {
         sinkFactories.add(factory);
     }
 
+    /**
+     * Keeps the source available for {@link #terminate(DataFlow)} only while the transfer is running, so that the
+     * number of tracked sources is bounded by the number of running transfers. The source is closed once the transfer
+     * completes, unless it was terminated in the meantime, to release resources like connections or consumers.
+     */
+    private CompletableFuture<StreamResult<Object>> trackedTransfer(DataFlowStartMessage request, DataSource source, DataSink sink) {
+        var processId = request.getProcessId();
+        sources.put(processId, source);
+        return sink.transfer(source).whenComplete((result, throwable) -> {
+            if (sources.remove(processId, source)) {
+                closeQuietly(processId, source);
+            }
+        });
+    }
+
+    private void closeQuietly(String processId, DataSource source) {
+        try {
+            source.close();
+        } catch (Exception e) {
+            monitor.warning("Error closing the data source of DataFlow %s".formatted(processId), e);
+        }
+    }
+
+    private DataSource createSource(DataSourceFactory sourceFactory, DataFlowStartMessage request) {
+        var source = sourceFactory.createSource(request);
+        return scheduler == null ? source : new ThrottledDataSource(source, request, scheduler);
+    }
+
     @Nullable
     private DataSourceFactory getSourceFactory(DataFlowStartMessage request) {
         return sourceFactories.stream().filter(s -> s.canHandle(request)).findFirst().orElse(null);
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Decorates a {@link DataSource} to skip the parts already delivered according to a {@link DataFlowProgress}, if the
+ * source {@link DataSource#isResumable() is resumable} and still provides the content with the same
+ * {@link DataSource#validator() validator}, and to report the updated progress every time the sink acknowledges a part.
+ * A resumable source whose content changed, or cannot be validated, starts over.
+ */
+class ProgressReportingDataSource implements DataSource {
+
+    private final DataSource delegate;
+    private final AtomicReference<DataFlowProgress> progress;
+    private final Consumer<DataFlowProgress> listener;
+
+    ProgressReportingDataSource(DataSource delegate, DataFlowProgress progress, Consumer<DataFlowProgress> listener) {
+        this.delegate = delegate;
+        this.progress = new AtomicReference<>(progress);
+        this.listener = listener;
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        var result = delegate.openPartStream();
+        if (result.failed()) {
+            return result;
+        }
+
+        var parts = result.getContent();
+        if (delegate.isResumable()) {
+            var validator = delegate.validator();
+            var completed = progress.updateAndGet(current -> validator != null && validator.equals(current.getValidator()) ?
+                    current : DataFlowProgress.empty().withValidator(validator));
+            parts = parts.filter(part -> !completed.isCompleted(part.name()));
+        }
+        return StreamResult.success(parts.map(ProgressReportingPart::new));
+    }
+
+    @Override
+    public boolean isResumable() {
+        return delegate.isResumable();
+    }
+
+    @Override
+    public String validator() {
+        return delegate.validator();
+    }
+
+    @Override
+    public void close() throws Exception {
+        delegate.close();
+    }
+
+    private class ProgressReportingPart implements Part {
+        private final Part part;
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final AtomicBoolean acknowledged = new AtomicBoolean();
+
+        ProgressReportingPart(Part part) {
+            this.part = part;
+        }
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public long size() {
+            return part.size();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new CountingInputStream(part.openStream(), bytesRead);
+        }
+
+        @Override
+        public String mediaType() {
+            return part.mediaType();
+        }
+
+        @Override
+        public void acknowledge() {
+            part.acknowledge();
+            if (acknowledged.compareAndSet(false, true)) {
+                var bytes = part.size() == SIZE_UNKNOWN ? bytesRead.get() : part.size();
+                var partName = isResumable() ? part.name() : null;
+                listener.accept(progress.updateAndGet(current -> current.withTransferredPart(partName, bytes)));
+            }
+        }
+
+        @Override
+        public void close() throws Exception {
+            part.close();
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var read = super.read();
+            if (read != -1) {
+                count.incrementAndGet();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            var read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count.addAndGet(read);
+            }
+            return read;
+        }
+    }
+}
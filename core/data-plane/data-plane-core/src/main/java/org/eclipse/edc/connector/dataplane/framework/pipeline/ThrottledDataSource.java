@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+
+import java.io.InputStream;
+import java.util.stream.Stream;
+
+/**
+ * Decorates a {@link DataSource} so that the content of its parts is read within the bandwidth granted by the
+ * {@link DataFlowScheduler} to the data flow.
+ */
+class ThrottledDataSource implements DataSource {
+
+    private final DataSource delegate;
+    private final DataFlowStartMessage request;
+    private final DataFlowScheduler scheduler;
+
+    ThrottledDataSource(DataSource delegate, DataFlowStartMessage request, DataFlowScheduler scheduler) {
+        this.delegate = delegate;
+        this.request = request;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        var result = delegate.openPartStream();
+        if (result.failed()) {
+            return result;
+        }
+        return StreamResult.success(result.getContent().map(ThrottledPart::new));
+    }
+
+    @Override
+    public boolean isResumable() {
+        return delegate.isResumable();
+    }
+
+    @Override
+    public String validator() {
+        return delegate.validator();
+    }
+
+    @Override
+    public void close() throws Exception {
+        delegate.close();
+    }
+
+    private class ThrottledPart implements Part {
+        private final Part part;
+
+        ThrottledPart(Part part) {
+            this.part = part;
+        }
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public long size() {
+            return part.size();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return scheduler.throttle(request, part.openStream());
+        }
+
+        @Override
+        public String mediaType() {
+            return part.mediaType();
+        }
+
+        @Override
+        public void acknowledge() {
+            part.acknowledge();
+        }
+
+        @Override
+        public void close() throws Exception {
+            part.close();
+        }
+    }
+}
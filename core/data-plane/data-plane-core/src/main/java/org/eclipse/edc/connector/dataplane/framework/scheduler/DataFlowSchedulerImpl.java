@@ -0,0 +1,231 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.scheduler;
+
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default {@link DataFlowScheduler}: enforces a maximum number of concurrent flows and a maximum bandwidth globally, per
+ * participant and per transfer type. A limit of 0 means unlimited.
+ * <p>
+ * When a shared limit is reached, a waiting flow yields to the waiting flows of participants that have fewer running
+ * flows, so a participant with many requests cannot starve the others. Queued flows that are not offered again within
+ * the queue timeout, e.g. because they were terminated or picked up by another runtime, are forgotten.
+ */
+public class DataFlowSchedulerImpl implements DataFlowScheduler {
+
+    private static final String UNKNOWN_PARTICIPANT = "";
+
+    private final Map<String, Slot> active = new HashMap<>();
+    private final Map<String, QueuedFlow> queued = new HashMap<>();
+    private final Map<String, RateLimiter> participantLimiters = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiter> transferTypeLimiters = new ConcurrentHashMap<>();
+    private RateLimiter globalLimiter;
+
+    private int maxFlows;
+    private int maxFlowsPerParticipant;
+    private int maxFlowsPerTransferType;
+    private long maxBandwidth;
+    private long maxBandwidthPerParticipant;
+    private long maxBandwidthPerTransferType;
+    private Duration queueTimeout = Duration.ofSeconds(30);
+    private Clock clock = Clock.systemUTC();
+
+    private DataFlowSchedulerImpl() {
+    }
+
+    @Override
+    public synchronized boolean tryAcquire(DataFlowStartMessage request) {
+        var id = request.getProcessId();
+        if (active.containsKey(id)) {
+            return true;
+        }
+
+        var now = clock.instant();
+        queued.values().removeIf(flow -> flow.lastOffered().plus(queueTimeout).isBefore(now));
+
+        var slot = new Slot(participantOf(request), transferTypeOf(request));
+        queued.put(id, new QueuedFlow(slot, now));
+
+        if (!isAvailable(slot) || (hasSharedLimit() && yieldsToOtherParticipant(slot))) {
+            return false;
+        }
+
+        queued.remove(id);
+        active.put(id, slot);
+        return true;
+    }
+
+    @Override
+    public synchronized void release(String dataFlowId) {
+        active.remove(dataFlowId);
+        queued.remove(dataFlowId);
+    }
+
+    @Override
+    public InputStream throttle(DataFlowStartMessage request, InputStream stream) {
+        var limiters = new ArrayList<RateLimiter>();
+        if (globalLimiter != null) {
+            limiters.add(globalLimiter);
+        }
+        if (maxBandwidthPerParticipant > 0) {
+            limiters.add(participantLimiters.computeIfAbsent(participantOf(request), k -> new RateLimiter(maxBandwidthPerParticipant)));
+        }
+        if (maxBandwidthPerTransferType > 0) {
+            limiters.add(transferTypeLimiters.computeIfAbsent(transferTypeOf(request), k -> new RateLimiter(maxBandwidthPerTransferType)));
+        }
+        return limiters.isEmpty() ? stream : new ThrottledInputStream(stream, limiters);
+    }
+
+    @Override
+    public synchronized int queuedFlows() {
+        return queued.size();
+    }
+
+    @Override
+    public synchronized int activeFlows() {
+        return active.size();
+    }
+
+    private boolean isAvailable(Slot slot) {
+        return isBelow(maxFlows, active.size()) &&
+                isBelow(maxFlowsPerParticipant, activeFlowsOf(slot.participant())) &&
+                isBelow(maxFlowsPerTransferType, active.values().stream().filter(s -> s.transferType().equals(slot.transferType())).count());
+    }
+
+    private boolean yieldsToOtherParticipant(Slot slot) {
+        var running = activeFlowsOf(slot.participant());
+        return queued.values().stream()
+                .map(QueuedFlow::slot)
+                .filter(other -> !other.participant().equals(slot.participant()))
+                .filter(other -> !hasTransferTypeLimitOnly() || other.transferType().equals(slot.transferType()))
+                .anyMatch(other -> activeFlowsOf(other.participant()) < running && isAvailable(other));
+    }
+
+    private boolean hasSharedLimit() {
+        return maxFlows > 0 || maxFlowsPerTransferType > 0;
+    }
+
+    private boolean hasTransferTypeLimitOnly() {
+        return maxFlows <= 0 && maxFlowsPerTransferType > 0;
+    }
+
+    private long activeFlowsOf(String participant) {
+        return active.values().stream().filter(s -> s.participant().equals(participant)).count();
+    }
+
+    private boolean isBelow(long limit, long count) {
+        return limit <= 0 || count < limit;
+    }
+
+    private String participantOf(DataFlowStartMessage request) {
+        return Objects.requireNonNullElse(request.getParticipantId(), UNKNOWN_PARTICIPANT);
+    }
+
+    private String transferTypeOf(DataFlowStartMessage request) {
+        var destination = request.getDestinationDataAddress();
+        var destinationType = destination == null ? null : destination.getType();
+        return "%s-%s".formatted(destinationType, request.getFlowType());
+    }
+
+    private record Slot(String participant, String transferType) {
+    }
+
+    private record QueuedFlow(Slot slot, Instant lastOffered) {
+    }
+
+    public static class Builder {
+
+        private final DataFlowSchedulerImpl scheduler;
+
+        private Builder() {
+            scheduler = new DataFlowSchedulerImpl();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder maxFlows(int maxFlows) {
+            scheduler.maxFlows = maxFlows;
+            return this;
+        }
+
+        public Builder maxFlowsPerParticipant(int maxFlowsPerParticipant) {
+            scheduler.maxFlowsPerParticipant = maxFlowsPerParticipant;
+            return this;
+        }
+
+        public Builder maxFlowsPerTransferType(int maxFlowsPerTransferType) {
+            scheduler.maxFlowsPerTransferType = maxFlowsPerTransferType;
+            return this;
+        }
+
+        /**
+         * Maximum bytes per second transferred by all the data flows together.
+         */
+        public Builder maxBandwidth(long bytesPerSecond) {
+            scheduler.maxBandwidth = bytesPerSecond;
+            return this;
+        }
+
+        /**
+         * Maximum bytes per second transferred by the data flows of a single participant.
+         */
+        public Builder maxBandwidthPerParticipant(long bytesPerSecond) {
+            scheduler.maxBandwidthPerParticipant = bytesPerSecond;
+            return this;
+        }
+
+        /**
+         * Maximum bytes per second transferred by the data flows of a single transfer type.
+         */
+        public Builder maxBandwidthPerTransferType(long bytesPerSecond) {
+            scheduler.maxBandwidthPerTransferType = bytesPerSecond;
+            return this;
+        }
+
+        /**
+         * How long a queued flow is kept in the queue after it was last offered.
+         */
+        public Builder queueTimeout(Duration queueTimeout) {
+            scheduler.queueTimeout = queueTimeout;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            scheduler.clock = clock;
+            return this;
+        }
+
+        public DataFlowSchedulerImpl build() {
+            if (scheduler.maxBandwidth > 0) {
+                scheduler.globalLimiter = new RateLimiter(scheduler.maxBandwidth);
+            }
+            return scheduler;
+        }
+    }
+}
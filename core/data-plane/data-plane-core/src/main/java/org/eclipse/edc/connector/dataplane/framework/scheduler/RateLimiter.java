@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the rate of bytes transferred by all the streams sharing it. Every transferred chunk pushes forward the time
+ * at which the next bytes are allowed, callers have to wait until then.
+ */
+class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long bytesPerSecond;
+    private long nextFree = System.nanoTime();
+
+    RateLimiter(long bytesPerSecond) {
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    long bytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Accounts for transferred bytes.
+     *
+     * @param bytes the number of bytes transferred.
+     * @return the time in nanoseconds the caller has to wait to stay within the rate.
+     */
+    synchronized long reserve(long bytes) {
+        var now = System.nanoTime();
+        nextFree = Math.max(nextFree, now) + bytes * NANOS_PER_SECOND / bytesPerSecond;
+        return nextFree - now;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.scheduler;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocks the reader as long as needed to keep the bytes read within all the {@link RateLimiter}s.
+ */
+class ThrottledInputStream extends FilterInputStream {
+
+    // reads are split so that a single read does not block for more than this fraction of a second
+    private static final int CHUNKS_PER_SECOND = 10;
+
+    private final List<RateLimiter> limiters;
+    private final int maxChunk;
+
+    ThrottledInputStream(InputStream in, List<RateLimiter> limiters) {
+        super(in);
+        this.limiters = limiters;
+        var slowest = limiters.stream().mapToLong(RateLimiter::bytesPerSecond).min().orElse(Integer.MAX_VALUE);
+        this.maxChunk = (int) Math.max(1, Math.min(Integer.MAX_VALUE, slowest / CHUNKS_PER_SECOND));
+    }
+
+    @Override
+    public int read() throws IOException {
+        var read = super.read();
+        if (read != -1) {
+            throttle(1);
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        var read = super.read(buffer, offset, Math.min(length, maxChunk));
+        if (read > 0) {
+            throttle(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        var skipped = super.skip(Math.min(n, maxChunk));
+        if (skipped > 0) {
+            throttle(skipped);
+        }
+        return skipped;
+    }
+
+    private void throttle(long bytes) throws InterruptedIOException {
+        var wait = limiters.stream().mapToLong(limiter -> limiter.reserve(bytes)).max().orElse(0);
+        if (wait <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while throttling the transfer");
+        }
+    }
+}
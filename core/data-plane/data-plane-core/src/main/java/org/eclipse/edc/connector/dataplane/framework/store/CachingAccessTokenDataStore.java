@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.store;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache in front of an {@link AccessTokenDataStore}, keyed by token ID.
+ * <p>
+ * An entry expires after the configured time-to-live, or earlier when the token carries an {@code exp} claim that
+ * expires sooner. Updates and deletions, e.g. through the revocation of an endpoint data reference, evict the entry
+ * once they were written to the backing store. Entries read from the backing store while any update or deletion was in
+ * progress are not cached, so that they cannot bring back the replaced data. Changes done by other runtimes sharing the
+ * same backing store are visible at most after the time-to-live, so it should be kept short.
+ */
+public class CachingAccessTokenDataStore implements AccessTokenDataStore {
+
+    private static final String EXPIRATION_CLAIM = "exp";
+
+    private final AccessTokenDataStore delegate;
+    private final Duration timeToLive;
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CachingAccessTokenDataStore(AccessTokenDataStore delegate, Duration timeToLive, int maxSize, Clock clock) {
+        this.delegate = delegate;
+        this.timeToLive = timeToLive;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public @Nullable AccessTokenData getById(String id) {
+        var now = clock.instant();
+        var entry = cache.get(id);
+        if (entry != null) {
+            if (now.isBefore(entry.expiresAt())) {
+                return entry.data();
+            }
+            cache.remove(id, entry);
+        }
+
+        var invalidationsBefore = invalidations.get();
+        var data = delegate.getById(id);
+        if (data != null) {
+            put(data, now, invalidationsBefore);
+        }
+        return data;
+    }
+
+    @Override
+    public StoreResult<Void> store(AccessTokenData accessTokenData) {
+        return delegate.store(accessTokenData);
+    }
+
+    @Override
+    public StoreResult<Void> update(AccessTokenData accessTokenData) {
+        var result = delegate.update(accessTokenData);
+        invalidate(accessTokenData.id());
+        return result;
+    }
+
+    @Override
+    public StoreResult<Void> deleteById(String id) {
+        var result = delegate.deleteById(id);
+        invalidate(id);
+        return result;
+    }
+
+    @Override
+    public Collection<AccessTokenData> query(QuerySpec querySpec) {
+        return delegate.query(querySpec);
+    }
+
+    /**
+     * Evicts the entry and counts the invalidation in the same atomic operation on the key, so that a concurrent
+     * {@link #put} either happens before and gets evicted, or happens after and sees the new count.
+     */
+    private void invalidate(String id) {
+        cache.compute(id, (key, entry) -> {
+            invalidations.incrementAndGet();
+            return null;
+        });
+    }
+
+    private void put(AccessTokenData data, Instant now, long invalidationsBefore) {
+        var expiresAt = now.plus(timeToLive);
+        var tokenExpiration = expirationOf(data);
+        if (tokenExpiration != null && tokenExpiration.isBefore(expiresAt)) {
+            expiresAt = tokenExpiration;
+        }
+        if (!now.isBefore(expiresAt)) {
+            return;
+        }
+
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+            if (cache.size() >= maxSize) {
+                return;
+            }
+        }
+        var entry = new CacheEntry(data, expiresAt);
+        cache.compute(data.id(), (key, existing) -> invalidations.get() == invalidationsBefore ? entry : existing);
+    }
+
+    private @Nullable Instant expirationOf(AccessTokenData data) {
+        var claimToken = data.claimToken();
+        var expiration = claimToken == null ? null : claimToken.getClaim(EXPIRATION_CLAIM);
+        if (expiration instanceof Instant instant) {
+            return instant;
+        }
+        if (expiration instanceof Date date) {
+            return date.toInstant();
+        }
+        if (expiration instanceof Number seconds) {
+            return Instant.ofEpochSecond(seconds.longValue());
+        }
+        return null;
+    }
+
+    private record CacheEntry(AccessTokenData data, Instant expiresAt) {
+    }
+}
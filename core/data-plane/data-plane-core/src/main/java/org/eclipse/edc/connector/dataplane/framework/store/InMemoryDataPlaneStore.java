@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.framework.store;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.store.InMemoryStatefulEntityStore;
@@ -34,4 +35,9 @@ public class InMemoryDataPlaneStore extends InMemoryStatefulEntityStore<DataFlow
     public InMemoryDataPlaneStore(String connectorName, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
         super(DataFlow.class, connectorName, clock, criterionOperatorRegistry);
     }
+
+    @Override
+    public void updateProgress(String dataFlowId, DataFlowProgress progress) {
+        modify(dataFlowId, dataFlow -> dataFlow.updateProgress(progress));
+    }
 }
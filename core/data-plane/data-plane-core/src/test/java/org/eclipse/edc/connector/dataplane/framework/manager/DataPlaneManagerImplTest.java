@@ -16,7 +16,10 @@ package org.eclipse.edc.connector.dataplane.framework.manager;
 
 import org.eclipse.edc.connector.controlplane.api.client.spi.transferprocess.TransferProcessApiClient;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.ResumableTransferService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
@@ -39,6 +42,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -79,17 +83,20 @@ class DataPlaneManagerImplTest {
     private final DataFlowStartMessage request = createRequest();
     private final TransferServiceRegistry registry = mock();
     private final DataPlaneAuthorizationService authorizationService = mock();
+    private final DataFlowScheduler scheduler = mock();
     private DataPlaneManagerImpl manager;
 
     @BeforeEach
     public void setUp() {
         when(registry.resolveTransferService(request)).thenReturn(transferService);
+        when(scheduler.tryAcquire(any())).thenReturn(true);
         manager = DataPlaneManagerImpl.Builder.newInstance()
                 .executorInstrumentation(ExecutorInstrumentation.noop())
                 .transferServiceRegistry(registry)
                 .store(store)
                 .transferProcessClient(transferProcessApiClient)
                 .authorizationService(authorizationService)
+                .scheduler(scheduler)
                 .monitor(mock())
                 .build();
     }
@@ -324,6 +331,61 @@ class DataPlaneManagerImplTest {
             });
         }
 
+        @Test
+        void shouldReleaseSchedulerSlot_whenTransferEnds() {
+            var dataFlow = dataFlowBuilder().id("dataFlowId").state(RECEIVED.code()).build();
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(store.findById(any())).thenReturn(dataFlow);
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            when(transferService.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(scheduler).tryAcquire(argThat(it -> it.getProcessId().equals("dataFlowId")));
+                verify(scheduler, atLeastOnce()).release("dataFlowId");
+                verify(store, atLeastOnce()).save(argThat(it -> it.getState() == COMPLETED.code()));
+            });
+        }
+
+        @Test
+        void shouldNotStartTransfer_andMoveFlowBehindQueue_whenSchedulerDoesNotAdmitTheFlow() {
+            var dataFlow = dataFlowBuilder().state(RECEIVED.code()).stateTimestamp(1L).build();
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(registry.resolveTransferService(any())).thenReturn(transferService);
+            when(scheduler.tryAcquire(any())).thenReturn(false);
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(scheduler).tryAcquire(any());
+                verify(store).save(argThat(it -> it.getState() == RECEIVED.code() && it.getStateTimestamp() > 1L));
+                verify(transferService, never()).transfer(any());
+            });
+        }
+
+        @Test
+        void shouldResumeFromProgress_andStoreReportedProgress_whenTransferServiceIsResumable() {
+            var resumableTransferService = mock(ResumableTransferService.class);
+            var progress = DataFlowProgress.empty().withTransferredPart("part1", 10);
+            var reportedProgress = progress.withTransferredPart("part2", 20);
+            var dataFlow = dataFlowBuilder().state(RECEIVED.code()).progress(progress).build();
+            when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+            when(store.findById(any())).thenReturn(dataFlow);
+            when(registry.resolveTransferService(any())).thenReturn(resumableTransferService);
+            when(resumableTransferService.transfer(any(), any(), any())).thenAnswer(invocation -> {
+                invocation.<Consumer<DataFlowProgress>>getArgument(2).accept(reportedProgress);
+                return completedFuture(StreamResult.success());
+            });
+
+            manager.start();
+
+            await().untilAsserted(() -> {
+                verify(resumableTransferService).transfer(isA(DataFlowStartMessage.class), eq(progress), any());
+                verify(store, atLeastOnce()).save(argThat(it -> it.getState() == COMPLETED.code() && reportedProgress.equals(it.getProgress())));
+            });
+        }
+
         @Test
         void shouldStartTransferAndNotTransitionToCompleted_whenTransferSucceedsBecauseItsTermination() {
             var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
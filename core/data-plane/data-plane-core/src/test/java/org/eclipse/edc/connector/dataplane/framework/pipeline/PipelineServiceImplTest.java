@@ -15,10 +15,12 @@
 package org.eclipse.edc.connector.dataplane.framework.pipeline;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -32,8 +34,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
@@ -45,9 +50,11 @@ import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Rea
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -112,6 +119,150 @@ class PipelineServiceImplTest {
         verifyNoInteractions(sinkFactory);
     }
 
+    @Test
+    void transfer_withProgress_shouldSkipCompletedParts_andReportAcknowledgedParts() {
+        var part1 = new InputStreamDataSource("part1", new ByteArrayInputStream("1".getBytes()));
+        var part2 = new InputStreamDataSource("part2", new ByteArrayInputStream("22".getBytes()));
+        when(source.isResumable()).thenReturn(true);
+        when(source.validator()).thenReturn("v1");
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part1, part2)));
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(source);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        var transferred = new ArrayList<String>();
+        when(sinkFactory.createSink(request)).thenReturn(new DataSink() {
+            @Override
+            public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+                source.openPartStream().getContent().forEach(part -> {
+                    try (var stream = part.openStream()) {
+                        stream.readAllBytes();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    transferred.add(part.name());
+                    part.acknowledge();
+                });
+                return completedFuture(StreamResult.success());
+            }
+        });
+        var reported = new ArrayList<DataFlowProgress>();
+        var progress = DataFlowProgress.empty().withValidator("v1").withTransferredPart("part1", 1);
+
+        var future = service.transfer(request, progress, reported::add);
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(transferred).containsExactly("part2");
+        assertThat(reported).hasSize(1).first().satisfies(p -> {
+            assertThat(p.getPartsTransferred()).isEqualTo(2);
+            assertThat(p.getBytesTransferred()).isEqualTo(3);
+            assertThat(p.isCompleted("part2")).isTrue();
+            assertThat(p.getValidator()).isEqualTo("v1");
+        });
+    }
+
+    @Test
+    void transfer_withProgress_shouldStartOver_whenSourceContentChanged() {
+        var part1 = new InputStreamDataSource("part1", new ByteArrayInputStream("1".getBytes()));
+        var part2 = new InputStreamDataSource("part2", new ByteArrayInputStream("22".getBytes()));
+        when(source.isResumable()).thenReturn(true);
+        when(source.validator()).thenReturn("v2");
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part1, part2)));
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(source);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        var transferred = new ArrayList<String>();
+        when(sinkFactory.createSink(request)).thenReturn(new DataSink() {
+            @Override
+            public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+                source.openPartStream().getContent().forEach(part -> {
+                    try (var stream = part.openStream()) {
+                        stream.readAllBytes();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    transferred.add(part.name());
+                    part.acknowledge();
+                });
+                return completedFuture(StreamResult.success());
+            }
+        });
+        var reported = new ArrayList<DataFlowProgress>();
+        var progress = DataFlowProgress.empty().withValidator("v1").withTransferredPart("part1", 1);
+
+        var future = service.transfer(request, progress, reported::add);
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(transferred).containsExactly("part1", "part2");
+        assertThat(reported).last().satisfies(p -> {
+            assertThat(p.getPartsTransferred()).isEqualTo(2);
+            assertThat(p.getBytesTransferred()).isEqualTo(3);
+            assertThat(p.getValidator()).isEqualTo("v2");
+        });
+    }
+
+    @Test
+    void transfer_withProgress_shouldStartOver_whenSourceNotResumable() {
+        var part = new InputStreamDataSource("part", new ByteArrayInputStream("22".getBytes()));
+        when(source.isResumable()).thenReturn(false);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(source);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(new DataSink() {
+            @Override
+            public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+                source.openPartStream().getContent().forEach(part -> {
+                    try (var stream = part.openStream()) {
+                        stream.readAllBytes();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    part.acknowledge();
+                });
+                return completedFuture(StreamResult.success());
+            }
+        });
+        var reported = new ArrayList<DataFlowProgress>();
+        var progress = DataFlowProgress.empty().withTransferredPart(null, 5);
+
+        var future = service.transfer(request, progress, reported::add);
+
+        assertThat(future).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(reported).hasSize(1).first().satisfies(p -> {
+            assertThat(p.getPartsTransferred()).isEqualTo(1);
+            assertThat(p.getBytesTransferred()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void transfer_shouldCloseDataSource_whenTransferCompleted() throws Exception {
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(source);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(sink);
+        when(sink.transfer(source)).thenReturn(completedFuture(StreamResult.success()));
+
+        var future = service.transfer(request);
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS);
+        verify(source).close();
+    }
+
+    @Test
+    void transfer_shouldSucceed_whenClosingDataSourceFails() throws Exception {
+        when(sourceFactory.canHandle(request)).thenReturn(true);
+        when(sourceFactory.createSource(request)).thenReturn(source);
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(sink);
+        when(sink.transfer(source)).thenReturn(completedFuture(StreamResult.success()));
+        doThrow(IOException.class).when(source).close();
+
+        var future = service.transfer(request);
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result).isSucceeded());
+        verify(monitor).warning(anyString(), any(IOException.class));
+    }
+
     @Test
     void terminate_shouldCloseDataSource() throws Exception {
         var dataFlow = DataFlow.Builder.newInstance().id("dPIataFlowId")
@@ -122,13 +273,12 @@ class PipelineServiceImplTest {
         when(sourceFactory.createSource(any())).thenReturn(source);
         when(sinkFactory.canHandle(any())).thenReturn(true);
         when(sinkFactory.createSink(any())).thenReturn(sink);
-        when(sink.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+        when(sink.transfer(any())).thenReturn(new CompletableFuture<>());
 
-        var future = service.transfer(dataFlow.toRequest()).thenApply(result -> service.terminate(dataFlow));
+        service.transfer(dataFlow.toRequest());
+        var result = service.terminate(dataFlow);
 
-        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> {
-            assertThat(result).isSucceeded();
-        });
+        assertThat(result).isSucceeded();
         verify(source).close();
     }
 
@@ -142,14 +292,33 @@ class PipelineServiceImplTest {
         when(sourceFactory.createSource(any())).thenReturn(source);
         when(sinkFactory.canHandle(any())).thenReturn(true);
         when(sinkFactory.createSink(any())).thenReturn(sink);
-        when(sink.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+        when(sink.transfer(any())).thenReturn(new CompletableFuture<>());
         doThrow(IOException.class).when(source).close();
 
+        service.transfer(dataFlow.toRequest());
+        var result = service.terminate(dataFlow);
+
+        assertThat(result).isFailed().extracting(StreamFailure::getReason).isEqualTo(GENERAL_ERROR);
+    }
+
+    @Test
+    void terminate_shouldFail_whenTransferAlreadyCompleted() {
+        var dataFlow = DataFlow.Builder.newInstance().id("dataFlowId")
+                .source(DataAddress.Builder.newInstance().type("source").build())
+                .destination(DataAddress.Builder.newInstance().type("destination").build())
+                .build();
+        when(sourceFactory.canHandle(any())).thenReturn(true);
+        when(sourceFactory.createSource(any())).thenReturn(source);
+        when(sinkFactory.canHandle(any())).thenReturn(true);
+        when(sinkFactory.createSink(any())).thenReturn(sink);
+        when(sink.transfer(any())).thenReturn(completedFuture(StreamResult.success()));
+
         var future = service.transfer(dataFlow.toRequest()).thenApply(result -> service.terminate(dataFlow));
 
         assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> {
-            assertThat(result).isFailed().extracting(StreamFailure::getReason).isEqualTo(GENERAL_ERROR);
+            assertThat(result).isFailed().extracting(StreamFailure::getReason).isEqualTo(NOT_FOUND);
         });
+        verify(source, times(1)).close();
     }
 
     @Test
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.scheduler;
+
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.spi.types.domain.transfer.FlowType;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DataFlowSchedulerImplTest {
+
+    @Nested
+    class TryAcquire {
+
+        @Test
+        void shouldAdmitAllFlows_whenNoLimitIsConfigured() {
+            var scheduler = DataFlowSchedulerImpl.Builder.newInstance().build();
+
+            assertThat(scheduler.tryAcquire(request("1", "participant", "type"))).isTrue();
+            assertThat(scheduler.tryAcquire(request("2", "participant", "type"))).isTrue();
+            assertThat(scheduler.activeFlows()).isEqualTo(2);
+            assertThat(scheduler.queuedFlows()).isZero();
+        }
+
+        @Test
+        void shouldQueueFlow_whenGlobalLimitIsReached() {
+            var scheduler = DataFlowSchedulerImpl.Builder.newInstance().maxFlows(1).build();
+
+            assertThat(scheduler.tryAcquire(request("1", "participant", "type"))).isTrue();
+            assertThat(scheduler.tryAcquire(request("2", "participant", "type"))).isFalse();
+            assertThat(scheduler.queuedFlows()).isEqualTo(1);
+
+            scheduler.release("1");
+
+            assertThat(scheduler.tryAcquire(request("2", "participant", "type"))).isTrue();
+            assertThat(scheduler.activeFlows()).isEqualTo(1);
+            assertThat(scheduler.queuedFlows()).isZero();
+        }
+
+        @Test
+        void shouldAdmitAlreadyActiveFlow() {
+            var scheduler = DataFlowSchedulerImpl.Builder.newInstance().maxFlows(1).build();
+
+            assertThat(scheduler.tryAcquire(request("1", "participant", "type"))).isTrue();
+            assertThat(scheduler.tryAcquire(request("1", "participant", "type"))).isTrue();
+        }
+
+        @Test
+        void shouldQueueFlow_whenParticipantLimitIsReached() {
+            var scheduler = DataFlowSchedulerImpl.Builder.newInstance().maxFlowsPerParticipant(1).build();
+
+            assertThat(scheduler.tryAcquire(request("1", "participant1", "type"))).isTrue();
+            assertThat(scheduler.tryAcquire(request("2", "participant1", "type"))).isFalse();
+            assertThat(scheduler.tryAcquire(request("3", "participant2", "type"))).isTrue();
+        }
+
+        @Test
+        void shouldQueueFlow_whenTransferTypeLimitIsReached() {
+            var scheduler = DataFlowSchedulerImpl.Builder.newInstance().maxFlowsPerTransferType(1).build();
+
+            assertThat(scheduler.tryAcquire(request("1", "participant1", "type1"))).isTrue();
+            assertThat(scheduler.tryAcquire(request("2", "participant2", "type1"))).isFalse();
+            assertThat(scheduler.tryAcquire(request("3", "participant2", "type2"))).isTrue();
+        }
+
+        @Test
+        void shouldYieldToParticipantWithFewerActiveFlows() {
+            var scheduler = DataFlowSchedulerImpl.Builder.newInstance().maxFlows(2).build();
+            scheduler.tryAcquire(request("1", "greedy", "type"));
+            scheduler.tryAcquire(request("2", "greedy", "type"));
+            scheduler.tryAcquire(request("3", "greedy", "type"));
+            scheduler.tryAcquire(request("4", "other", "type"));
+
+            scheduler.release("1");
+
+            assertThat(scheduler.tryAcquire(request("3", "greedy", "type"))).isFalse();
+            assertThat(scheduler.tryAcquire(request("4", "other", "type"))).isTrue();
+        }
+
+        @Test
+        void shouldForgetQueuedFlows_whenNotOfferedWithinQueueTimeout() {
+            var clock = mock(Clock.class);
+            when(clock.instant()).thenReturn(Instant.EPOCH);
+            var scheduler = DataFlowSchedulerImpl.Builder.newInstance()
+                    .maxFlows(2)
+                    .queueTimeout(Duration.ofSeconds(30))
+                    .clock(clock)
+                    .build();
+            scheduler.tryAcquire(request("1", "greedy", "type"));
+            scheduler.tryAcquire(request("2", "greedy", "type"));
+            scheduler.tryAcquire(request("3", "other", "type"));
+            scheduler.release("1");
+
+            when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(31));
+
+            assertThat(scheduler.tryAcquire(request("4", "greedy", "type"))).isTrue();
+        }
+    }
+
+    @Nested
+    class Throttle {
+
+        @Test
+        void shouldReturnSameStream_whenNoBandwidthLimitIsConfigured() {
+            var scheduler = DataFlowSchedulerImpl.Builder.newInstance().build();
+            var stream = new ByteArrayInputStream(new byte[10]);
+
+            assertThat(scheduler.throttle(request("1", "participant", "type"), stream)).isSameAs(stream);
+        }
+
+        @Test
+        void shouldLimitThroughput_whenParticipantBandwidthIsConfigured() throws IOException {
+            var scheduler = DataFlowSchedulerImpl.Builder.newInstance()
+                    .maxBandwidthPerParticipant(1000)
+                    .build();
+
+            var start = System.nanoTime();
+            try (var stream = scheduler.throttle(request("1", "participant", "type"), new ByteArrayInputStream(new byte[500]))) {
+                assertThat(stream.readAllBytes()).hasSize(500);
+            }
+
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(400));
+        }
+    }
+
+    private DataFlowStartMessage request(String id, String participantId, String destinationType) {
+        return DataFlowStartMessage.Builder.newInstance()
+                .processId(id)
+                .participantId(participantId)
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("source").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type(destinationType).build())
+                .flowType(FlowType.PUSH)
+                .build();
+    }
+}
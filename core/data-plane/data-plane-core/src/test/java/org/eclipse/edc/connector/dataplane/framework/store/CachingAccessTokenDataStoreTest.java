@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.store;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingAccessTokenDataStoreTest {
+
+    private final AccessTokenDataStore delegate = mock();
+    private final Clock clock = mock();
+    private final CachingAccessTokenDataStore store = new CachingAccessTokenDataStore(delegate, Duration.ofSeconds(60), 2, clock);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(delegate.deleteById(any())).thenReturn(StoreResult.success());
+        when(delegate.update(any())).thenReturn(StoreResult.success());
+    }
+
+    @Test
+    void getById_shouldReadFromDelegateOnlyOnce() {
+        var data = accessTokenData("id", ClaimToken.Builder.newInstance().build());
+        when(delegate.getById("id")).thenReturn(data);
+
+        assertThat(store.getById("id")).isSameAs(data);
+        assertThat(store.getById("id")).isSameAs(data);
+
+        verify(delegate, times(1)).getById("id");
+    }
+
+    @Test
+    void getById_shouldNotCacheMissingEntry() {
+        var data = accessTokenData("id", ClaimToken.Builder.newInstance().build());
+        when(delegate.getById("id")).thenReturn(null, data);
+
+        assertThat(store.getById("id")).isNull();
+        assertThat(store.getById("id")).isSameAs(data);
+    }
+
+    @Test
+    void getById_shouldReload_whenTimeToLiveExpired() {
+        var data = accessTokenData("id", ClaimToken.Builder.newInstance().build());
+        when(delegate.getById("id")).thenReturn(data);
+        store.getById("id");
+
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(61));
+        store.getById("id");
+
+        verify(delegate, times(2)).getById("id");
+    }
+
+    @Test
+    void getById_shouldReload_whenTokenExpiredBeforeTimeToLive() {
+        var data = accessTokenData("id", ClaimToken.Builder.newInstance().claim("exp", 10L).build());
+        when(delegate.getById("id")).thenReturn(data);
+        store.getById("id");
+
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(10));
+        store.getById("id");
+
+        verify(delegate, times(2)).getById("id");
+    }
+
+    @Test
+    void deleteById_shouldEvictEntry() {
+        var data = accessTokenData("id", ClaimToken.Builder.newInstance().build());
+        when(delegate.getById("id")).thenReturn(data, (AccessTokenData) null);
+        store.getById("id");
+
+        var result = store.deleteById("id");
+
+        assertThat(result).isSucceeded();
+        assertThat(store.getById("id")).isNull();
+    }
+
+    @Test
+    void update_shouldEvictEntry() {
+        var data = accessTokenData("id", ClaimToken.Builder.newInstance().build());
+        var updated = accessTokenData("id", ClaimToken.Builder.newInstance().claim("foo", "bar").build());
+        when(delegate.getById("id")).thenReturn(data, updated);
+        store.getById("id");
+
+        store.update(updated);
+
+        assertThat(store.getById("id")).isSameAs(updated);
+    }
+
+    @Test
+    void update_shouldNotBeUndone_byConcurrentRead() {
+        var data = accessTokenData("id", ClaimToken.Builder.newInstance().build());
+        var updated = accessTokenData("id", ClaimToken.Builder.newInstance().claim("foo", "bar").build());
+        when(delegate.getById("id")).thenAnswer(i -> {
+            // the update completes while the stale data is on its way back from the backing store
+            store.update(updated);
+            return data;
+        }).thenReturn(updated);
+
+        assertThat(store.getById("id")).isSameAs(data);
+        assertThat(store.getById("id")).isSameAs(updated);
+    }
+
+    @Test
+    void deleteById_shouldNotBeUndone_byConcurrentRead() {
+        var data = accessTokenData("id", ClaimToken.Builder.newInstance().build());
+        when(delegate.getById("id")).thenAnswer(i -> {
+            store.deleteById("id");
+            return data;
+        }).thenReturn(null);
+
+        store.getById("id");
+
+        assertThat(store.getById("id")).isNull();
+    }
+
+    @Test
+    void getById_shouldNotCache_whenCacheIsFull() {
+        when(delegate.getById(any())).thenAnswer(i -> accessTokenData(i.getArgument(0), ClaimToken.Builder.newInstance().build()));
+        store.getById("id1");
+        store.getById("id2");
+
+        store.getById("id3");
+        store.getById("id3");
+
+        verify(delegate, times(2)).getById("id3");
+    }
+
+    private AccessTokenData accessTokenData(String id, ClaimToken claimToken) {
+        return new AccessTokenData(id, claimToken, DataAddress.Builder.newInstance().type("test").build(), Map.of());
+    }
+}
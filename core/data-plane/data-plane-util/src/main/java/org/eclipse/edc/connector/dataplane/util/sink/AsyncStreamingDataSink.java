@@ -79,8 +79,9 @@ public class AsyncStreamingDataSink implements DataSink {
     @NotNull
     private StatusResult<?> transferPart(DataSource.Part part) {
         var result = asyncContext.register(new AsyncResponseCallback((outputStream) -> {
-            try {
-                part.openStream().transferTo(outputStream);
+            // closing the part stream releases the upstream connection, e.g. back to the http client pool
+            try (var inputStream = part.openStream()) {
+                inputStream.transferTo(outputStream);
             } catch (IOException e) {
                 throw new EdcException(e);
             }
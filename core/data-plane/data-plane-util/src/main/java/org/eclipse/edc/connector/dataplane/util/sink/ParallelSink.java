@@ -15,19 +15,22 @@
 package org.eclipse.edc.connector.dataplane.util.sink;
 
 import io.opentelemetry.instrumentation.annotations.WithSpan;
-import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.FlowDataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferMeter;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.telemetry.Telemetry;
-import org.eclipse.edc.util.stream.PartitionIterator;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
 import java.util.function.Supplier;
 
 import static java.lang.String.format;
@@ -38,10 +41,22 @@ import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
  * Writes data in parallel.
+ * <p>
+ * Parts are grouped in partitions of {@code partitionSize} that are transferred on the executor service. At most
+ * {@code maxInFlightPartitions} partitions are transferred or waiting for the executor at the same time, further parts
+ * are only pulled from the source once a partition has been transferred. The parts of a successfully transferred
+ * partition are {@link DataSource.Part#acknowledge() acknowledged}. When a partition fails, no further parts are pulled
+ * and the transfer completes with the failure once the partitions already submitted have settled, so that the source
+ * is not closed while they are still reading from it.
+ * <p>
+ * Parts are handed to {@link #transferParts(List)} as published by the source, unless {@code meterParts} is set: then
+ * they are wrapped with a {@link TransferMeter} to log the bytes actually read, and are no longer the source instances.
  */
-public abstract class ParallelSink implements DataSink {
+public abstract class ParallelSink implements FlowDataSink {
     protected String requestId;
     protected int partitionSize = 5;
+    protected int maxInFlightPartitions = 10;
+    protected boolean meterParts;
     protected ExecutorService executorService;
     protected Monitor monitor;
     protected Telemetry telemetry;
@@ -50,22 +65,11 @@ public abstract class ParallelSink implements DataSink {
     @Override
     public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
         try {
-            var streamResult = source.openPartStream();
-            if (streamResult.failed()) {
-                return completedFuture(failure(streamResult.getFailure()));
-            }
-
-            try (var partStream = streamResult.getContent()) {
-                return PartitionIterator.streamOf(partStream, partitionSize)
-                        .map(this::processPartsAsync)
-                        .collect(asyncAllOf())
-                        .thenApply(results -> results.stream()
-                                .filter(AbstractResult::failed)
-                                .findFirst()
-                                .map(r -> StreamResult.<Object>error(String.join(",", r.getFailureMessages())))
-                                .orElseGet(this::complete))
-                        .exceptionally(throwable -> StreamResult.error("Unhandled exception raised when transferring data: " + throwable.getMessage()));
+            var publisherResult = source.openPartPublisher();
+            if (publisherResult.failed()) {
+                return completedFuture(failure(publisherResult.getFailure()));
             }
+            return transfer(publisherResult.getContent());
         } catch (Exception e) {
             var errorMessage = format("Error processing data transfer request - Request ID: %s", requestId);
             monitor.severe(errorMessage, e);
@@ -73,9 +77,17 @@ public abstract class ParallelSink implements DataSink {
         }
     }
 
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(Flow.Publisher<DataSource.Part> parts) {
+        var subscriber = new PartitionSubscriber();
+        parts.subscribe(subscriber);
+        return subscriber.result;
+    }
+
     @NotNull
     private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts) {
-        return supplyAsync(transfer(parts), executorService);
+        return supplyAsync(transfer(parts), executorService)
+                .exceptionally(throwable -> StreamResult.error("Unhandled exception raised when transferring data: " + throwable.getMessage()));
     }
 
     private Supplier<StreamResult<Object>> transfer(List<DataSource.Part> parts) {
@@ -95,6 +107,118 @@ public abstract class ParallelSink implements DataSink {
         return StreamResult.success();
     }
 
+    /**
+     * Groups the published parts into partitions and transfers them, requesting more parts from the publisher as
+     * partitions get transferred. Signals from the publisher are serialized, so the current partition is only accessed
+     * by one thread at a time; the list of transfers and the first failure are shared with the transfer callbacks and
+     * guarded by the subscriber.
+     */
+    private class PartitionSubscriber implements Flow.Subscriber<DataSource.Part> {
+        private final CompletableFuture<StreamResult<Object>> result = new CompletableFuture<>();
+        private final List<CompletableFuture<StreamResult<Object>>> transfers = new ArrayList<>();
+        private final TransferMeter meter = new TransferMeter();
+        private List<DataSource.Part> partition = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private StreamResult<Object> failure;
+        private long parts;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request((long) partitionSize * maxInFlightPartitions);
+        }
+
+        @Override
+        public void onNext(DataSource.Part part) {
+            parts++;
+            partition.add(meterParts ? meter.meter(part) : part);
+            if (partition.size() >= partitionSize) {
+                submitPartition();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            var errorMessage = format("Error processing data transfer request - Request ID: %s", requestId);
+            monitor.severe(errorMessage, throwable);
+            fail(StreamResult.error(errorMessage));
+        }
+
+        @Override
+        public void onComplete() {
+            if (!partition.isEmpty()) {
+                submitPartition();
+            }
+            settle();
+        }
+
+        private void submitPartition() {
+            var partitionParts = partition;
+            partition = new ArrayList<>();
+            CompletableFuture<StreamResult<Object>> transfer;
+            synchronized (this) {
+                if (failure != null) {
+                    return;
+                }
+                transfer = processPartsAsync(partitionParts);
+                transfers.add(transfer);
+            }
+            transfer.thenAccept(transferResult -> {
+                if (transferResult.succeeded()) {
+                    partitionParts.forEach(DataSource.Part::acknowledge);
+                    if (recordedFailure().isEmpty()) {
+                        subscription.request(partitionSize);
+                    }
+                } else {
+                    fail(StreamResult.error(String.join(",", transferResult.getFailureMessages())));
+                }
+            });
+        }
+
+        /**
+         * Records the first failure, stops pulling parts and completes once the submitted partitions have settled.
+         */
+        private void fail(StreamResult<Object> transferFailure) {
+            synchronized (this) {
+                if (failure != null) {
+                    return;
+                }
+                failure = transferFailure;
+            }
+            subscription.cancel();
+            settle();
+        }
+
+        private void settle() {
+            List<CompletableFuture<StreamResult<Object>>> submitted;
+            synchronized (this) {
+                submitted = List.copyOf(transfers);
+            }
+            submitted.stream()
+                    .collect(asyncAllOf())
+                    .thenApply(results -> recordedFailure()
+                            .or(() -> results.stream()
+                                    .filter(AbstractResult::failed)
+                                    .findFirst()
+                                    .map(r -> StreamResult.<Object>error(String.join(",", r.getFailureMessages()))))
+                            .orElseGet(ParallelSink.this::complete))
+                    .exceptionally(throwable -> StreamResult.error("Unhandled exception raised when transferring data: " + throwable.getMessage()))
+                    .whenComplete((transferResult, throwable) -> {
+                        if (meterParts) {
+                            monitor.debug(() -> format("Transferred %d parts of %d bytes at %.0f bytes/s - Request ID: %s",
+                                    meter.parts(), meter.bytes(), meter.bytesPerSecond(), requestId));
+                        } else {
+                            monitor.debug(() -> format("Transferred %d parts - Request ID: %s", parts, requestId));
+                        }
+                        result.complete(transferResult);
+                    });
+        }
+
+        private synchronized Optional<StreamResult<Object>> recordedFailure() {
+            return Optional.ofNullable(failure);
+        }
+    }
+
     protected abstract static class Builder<B extends Builder<B, T>, T extends ParallelSink> {
         protected T sink;
 
@@ -113,6 +237,23 @@ public abstract class ParallelSink implements DataSink {
             return self();
         }
 
+        /**
+         * The maximum number of partitions transferred or queued on the executor service at the same time.
+         */
+        public B maxInFlightPartitions(int maxInFlightPartitions) {
+            sink.maxInFlightPartitions = maxInFlightPartitions;
+            return self();
+        }
+
+        /**
+         * Whether the parts are wrapped with a {@link TransferMeter} to log the bytes actually read. Implementations
+         * then receive the wrapped parts in {@link ParallelSink#transferParts(List)}, not the source instances.
+         */
+        public B meterParts(boolean meterParts) {
+            sink.meterParts = meterParts;
+            return self();
+        }
+
         public B executorService(ExecutorService executorService) {
             sink.executorService = executorService;
             return self();
@@ -36,6 +36,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AsyncStreamingDataSinkTest {
@@ -72,6 +74,28 @@ class AsyncStreamingDataSinkTest {
         });
     }
 
+    @Test
+    void verify_closesPartStream() throws Exception {
+        var content = spy(new ByteArrayInputStream(TEST_CONTENT));
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(content);
+
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(part)));
+
+        //noinspection unchecked
+        when(asyncContext.register(isA(AsyncStreamingDataSink.AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            @SuppressWarnings("rawtypes") var callback = (AsyncStreamingDataSink.AsyncResponseCallback) invocation.getArgument(0);
+            callback.outputStreamConsumer().accept(new ByteArrayOutputStream());
+            return true;
+        });
+
+        var future = dataSink.transfer(dataSource);
+
+        assertThat(future).succeedsWithin(2, SECONDS);
+        verify(content).close();
+    }
+
     @Test
     void verify_exceptionThrown() throws Exception {
         var part = mock(DataSource.Part.class);
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.dataplane.util.sink;
 
-import org.assertj.core.api.Assertions;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
@@ -26,15 +25,23 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ParallelSinkTest {
@@ -64,7 +71,7 @@ class ParallelSinkTest {
         assertThat(fakeSink.transfer(dataSource)).succeedsWithin(500, TimeUnit.MILLISECONDS)
                 .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
 
-        Assertions.assertThat(fakeSink.parts).containsExactly(dataSource);
+        assertThat(fakeSink.parts).containsExactly(dataSource);
         assertThat(fakeSink.complete).isEqualTo(1);
     }
 
@@ -79,6 +86,7 @@ class ParallelSinkTest {
     void transfer_whenExceptionOpeningPartStream_fails() {
         var dataSourceMock = mock(DataSource.class);
 
+        when(dataSourceMock.openPartPublisher()).thenCallRealMethod();
         when(dataSourceMock.openPartStream()).thenThrow(new RuntimeException(errorMessage));
 
         assertThat(fakeSink.transfer(dataSourceMock)).succeedsWithin(500, TimeUnit.MILLISECONDS)
@@ -116,6 +124,111 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(0);
     }
 
+    @Test
+    void transfer_shouldPullPartsOnlyAsPartitionsGetTransferred() {
+        fakeSink.partitionSize = 1;
+        fakeSink.maxInFlightPartitions = 2;
+        var pulled = new AtomicInteger();
+        var maxAhead = new AtomicInteger();
+        var transferred = new AtomicInteger();
+        fakeSink.transferResultSupplier = () -> {
+            transferred.incrementAndGet();
+            return StreamResult.success();
+        };
+        var source = mock(DataSource.class);
+        when(source.openPartPublisher()).thenCallRealMethod();
+        when(source.openPartStream()).thenReturn(StreamResult.success(IntStream.range(0, 20).mapToObj(i -> {
+            var ahead = pulled.incrementAndGet() - transferred.get();
+            maxAhead.accumulateAndGet(ahead, Math::max);
+            return new InputStreamDataSource("part" + i, new ByteArrayInputStream(new byte[0]));
+        })));
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(transferred).hasValue(20);
+        assertThat(maxAhead.get()).isLessThanOrEqualTo(2);
+        assertThat(fakeSink.complete).isEqualTo(1);
+    }
+
+    @Test
+    void transfer_shouldAcknowledgeParts_whenPartitionTransferred() {
+        var part = mock(DataSource.Part.class);
+        var source = mock(DataSource.class);
+        when(source.openPartPublisher()).thenCallRealMethod();
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        verify(part, timeout(500)).acknowledge();
+    }
+
+    @Test
+    void transfer_shouldNotAcknowledgeParts_whenPartitionFailed() {
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+        var part = mock(DataSource.Part.class);
+        var source = mock(DataSource.class);
+        when(source.openPartPublisher()).thenCallRealMethod();
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+
+        assertThat(fakeSink.transfer(source)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+
+        verify(part, never()).acknowledge();
+    }
+
+    @Test
+    void transfer_whenPartitionFails_shouldCompleteOnlyAfterInFlightPartitionsSettled() {
+        fakeSink.partitionSize = 1;
+        var slowPartitionStarted = new CountDownLatch(1);
+        var releaseSlowPartition = new CountDownLatch(1);
+        var transferred = new AtomicInteger();
+        fakeSink.transferResultSupplier = () -> {
+            if (transferred.getAndIncrement() == 0) {
+                slowPartitionStarted.countDown();
+                await(releaseSlowPartition);
+                return StreamResult.success();
+            }
+            await(slowPartitionStarted);
+            return StreamResult.error(errorMessage);
+        };
+        var source = mock(DataSource.class);
+        when(source.openPartPublisher()).thenCallRealMethod();
+        when(source.openPartStream()).thenReturn(StreamResult.success(IntStream.range(0, 2)
+                .mapToObj(i -> new InputStreamDataSource("part" + i, new ByteArrayInputStream(new byte[0])))));
+
+        var result = fakeSink.transfer(source);
+
+        assertThat(result).failsWithin(200, TimeUnit.MILLISECONDS).withThrowableOfType(TimeoutException.class);
+        releaseSlowPartition.countDown();
+        assertThat(result).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.getFailureMessages()).containsExactly(errorMessage));
+        assertThat(transferred).hasValue(2);
+        assertThat(fakeSink.complete).isEqualTo(0);
+    }
+
+    @Test
+    void transfer_whenMeterParts_shouldTransferWrappedParts() {
+        fakeSink.meterParts = true;
+
+        assertThat(fakeSink.transfer(dataSource)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(fakeSink.parts).hasSize(1).first().satisfies(part -> {
+            assertThat(part).isNotSameAs(dataSource);
+            assertThat(part.name()).isEqualTo(dataSourceName);
+        });
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static class FakeParallelSink extends ParallelSink {
 
         List<DataSource.Part> parts;
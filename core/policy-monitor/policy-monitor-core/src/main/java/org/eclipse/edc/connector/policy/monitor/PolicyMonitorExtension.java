@@ -38,6 +38,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 
 import java.time.Clock;
+import java.time.Duration;
 
 import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.NAME;
@@ -57,6 +58,12 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Setting(value = "the batch size in the policy monitor state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String POLICY_MONITOR_BATCH_SIZE = "edc.policy.monitor.state-machine.batch-size";
 
+    @Setting(value = "the maximum time in milliseconds between two evaluations of the policy of a monitored transfer, when none of its constraints changes earlier",
+            type = "long", defaultValue = DEFAULT_MAX_EVALUATION_INTERVAL_MILLIS + "")
+    private static final String POLICY_MONITOR_MAX_EVALUATION_INTERVAL_MILLIS = "edc.policy.monitor.evaluation.max-interval-millis";
+
+    private static final long DEFAULT_MAX_EVALUATION_INTERVAL_MILLIS = 60_000;
+
     @PolicyScope
     public static final String POLICY_MONITOR_SCOPE = "policy.monitor";
 
@@ -108,6 +115,7 @@ public class PolicyMonitorExtension implements ServiceExtension {
                 .contractAgreementService(contractAgreementService)
                 .policyEngine(policyEngine)
                 .transferProcessService(transferProcessService)
+                .maxEvaluationInterval(Duration.ofMillis(context.getSetting(POLICY_MONITOR_MAX_EVALUATION_INTERVAL_MILLIS, DEFAULT_MAX_EVALUATION_INTERVAL_MILLIS)))
                 .store(policyMonitorStore)
                 .build();
 
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.policy.monitor.manager;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.MultiplicityConstraint;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
+
+/**
+ * Derives when the evaluation of a contract agreement policy can change next. The time-dependent constraints are the
+ * {@code inForceDate} ones, whose result changes at their bound. Other constraints can depend on state outside the
+ * policy, so the evaluation is never postponed by more than the maximum interval.
+ */
+class NextEvaluationResolver {
+
+    private final ContractExpiryCheckFunction expiryFunction;
+    private final Duration maxInterval;
+
+    NextEvaluationResolver(ContractExpiryCheckFunction expiryFunction, Duration maxInterval) {
+        this.expiryFunction = expiryFunction;
+        this.maxInterval = maxInterval;
+    }
+
+    /**
+     * Returns the epoch millis of the next evaluation: the first {@code inForceDate} bound after now, or now plus the
+     * maximum interval if it comes earlier. A bound equal to now is moved to the next millisecond, because the strict
+     * operators change their result right after the bound.
+     */
+    long nextEvaluationAt(ContractAgreement agreement, Instant now) {
+        var latest = now.plus(maxInterval);
+        return agreement.getPolicy().getPermissions().stream()
+                .flatMap(permission -> permission.getConstraints().stream())
+                .flatMap(this::atomicConstraints)
+                .filter(constraint -> constraint.getLeftExpression() instanceof LiteralExpression left && CONTRACT_EXPIRY_EVALUATION_KEY.equals(left.getValue()))
+                .map(constraint -> constraint.getRightExpression() instanceof LiteralExpression right ? expiryFunction.resolveBound(right.getValue(), agreement) : null)
+                .filter(Objects::nonNull)
+                .map(bound -> bound.equals(now) ? bound.plusMillis(1) : bound)
+                .filter(bound -> bound.isAfter(now))
+                .filter(bound -> bound.isBefore(latest))
+                .min(Instant::compareTo)
+                .orElse(latest)
+                .toEpochMilli();
+    }
+
+    private Stream<AtomicConstraint> atomicConstraints(Constraint constraint) {
+        if (constraint instanceof AtomicConstraint atomic) {
+            return Stream.of(atomic);
+        }
+        if (constraint instanceof MultiplicityConstraint multiplicity) {
+            return multiplicity.getConstraints().stream().flatMap(this::atomicConstraints);
+        }
+        return Stream.empty();
+    }
+}
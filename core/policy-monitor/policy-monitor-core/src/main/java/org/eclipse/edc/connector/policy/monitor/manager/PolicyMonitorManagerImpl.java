@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.policy.monitor.manager;
 
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction;
 import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.ContractAgreementService;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates;
@@ -31,15 +32,20 @@ import org.eclipse.edc.statemachine.Processor;
 import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.function.Function;
 
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.POLICY_MONITOR_SCOPE;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.LESS_THAN_OR_EQUAL;
 
 /**
- * Implementation of the {@link PolicyMonitorManager}
+ * Implementation of the {@link PolicyMonitorManager}. After a successful evaluation, an entry is not processed again
+ * until the next instant at which the evaluation can change, derived from the {@code inForceDate} constraints of the
+ * policy and capped by the maximum evaluation interval.
  */
 public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyMonitorEntry, PolicyMonitorStore>
         implements PolicyMonitorManager {
@@ -47,6 +53,7 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
     private PolicyEngine policyEngine;
     private TransferProcessService transferProcessService;
     private ContractAgreementService contractAgreementService;
+    private NextEvaluationResolver nextEvaluationResolver = new NextEvaluationResolver(new ContractExpiryCheckFunction(), Duration.ofMinutes(1));
 
     private PolicyMonitorManagerImpl() {
 
@@ -92,9 +99,10 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
             return true;
         }
 
+        var now = Instant.now(clock);
         var policy = contractAgreement.getPolicy();
         var policyContext = PolicyContextImpl.Builder.newInstance()
-                .additional(Instant.class, Instant.now(clock))
+                .additional(Instant.class, now)
                 .additional(ContractAgreement.class, contractAgreement)
                 .build();
 
@@ -108,6 +116,8 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
                 update(entry);
                 return true;
             }
+        } else {
+            entry.setNextEvaluationAt(nextEvaluationResolver.nextEvaluationAt(contractAgreement, now));
         }
 
         breakLease(entry);
@@ -115,13 +125,16 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
     }
 
     private Processor processEntriesInState(PolicyMonitorEntryStates state, Function<PolicyMonitorEntry, Boolean> function) {
-        var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, hasState(state.code()), isDue()))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
                 .build();
     }
 
+    private Criterion isDue() {
+        return criterion("nextEvaluationAt", LESS_THAN_OR_EQUAL, clock.millis());
+    }
+
     public static class Builder
             extends AbstractStateEntityManager.Builder<PolicyMonitorEntry, PolicyMonitorStore, PolicyMonitorManagerImpl, Builder> {
 
@@ -148,6 +161,14 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
             return this;
         }
 
+        /**
+         * Maximum time between two evaluations of the policy of a monitored transfer.
+         */
+        public Builder maxEvaluationInterval(Duration maxEvaluationInterval) {
+            manager.nextEvaluationResolver = new NextEvaluationResolver(new ContractExpiryCheckFunction(), maxEvaluationInterval);
+            return this;
+        }
+
         @Override
         public Builder self() {
             return this;
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.policy.monitor.manager;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction;
+import org.eclipse.edc.policy.model.AndConstraint;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
+
+class NextEvaluationResolverTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Duration MAX_INTERVAL = Duration.ofHours(1);
+
+    private final NextEvaluationResolver resolver = new NextEvaluationResolver(new ContractExpiryCheckFunction(), MAX_INTERVAL);
+
+    @Test
+    void shouldReturnMaxInterval_whenPolicyHasNoTimeConstraint() {
+        var agreement = createAgreement(Policy.Builder.newInstance().build());
+
+        assertThat(resolver.nextEvaluationAt(agreement, NOW)).isEqualTo(NOW.plus(MAX_INTERVAL).toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnFirstBoundAfterNow() {
+        var constraint = AndConstraint.Builder.newInstance()
+                .constraint(inForce(Operator.GEQ, NOW.minusSeconds(60).toString()))
+                .constraint(inForce(Operator.LEQ, NOW.plusSeconds(120).toString()))
+                .constraint(inForce(Operator.LEQ, NOW.plusSeconds(60).toString()))
+                .build();
+        var agreement = createAgreement(policy(constraint));
+
+        assertThat(resolver.nextEvaluationAt(agreement, NOW)).isEqualTo(NOW.plusSeconds(60).toEpochMilli());
+    }
+
+    @Test
+    void shouldResolveDurationRelativeToSigningDate() {
+        var agreement = createAgreement(policy(inForce(Operator.LT, "contractAgreement+10m")));
+
+        assertThat(resolver.nextEvaluationAt(agreement, NOW)).isEqualTo(NOW.plusSeconds(600).toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnNextMillisecond_whenBoundIsNow() {
+        var agreement = createAgreement(policy(inForce(Operator.LEQ, NOW.toString())));
+
+        assertThat(resolver.nextEvaluationAt(agreement, NOW)).isEqualTo(NOW.toEpochMilli() + 1);
+    }
+
+    @Test
+    void shouldReturnMaxInterval_whenBoundIsLater() {
+        var agreement = createAgreement(policy(inForce(Operator.LEQ, NOW.plus(Duration.ofDays(1)).toString())));
+
+        assertThat(resolver.nextEvaluationAt(agreement, NOW)).isEqualTo(NOW.plus(MAX_INTERVAL).toEpochMilli());
+    }
+
+    private AtomicConstraint inForce(Operator operator, String rightValue) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(CONTRACT_EXPIRY_EVALUATION_KEY))
+                .operator(operator)
+                .rightExpression(new LiteralExpression(rightValue))
+                .build();
+    }
+
+    private Policy policy(Constraint constraint) {
+        return Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance().constraint(constraint).build())
+                .build();
+    }
+
+    private ContractAgreement createAgreement(Policy policy) {
+        return ContractAgreement.Builder.newInstance()
+                .providerId("providerId")
+                .consumerId("consumerId")
+                .assetId("assetId")
+                .contractSigningDate(NOW.getEpochSecond())
+                .policy(policy)
+                .build();
+    }
+}
@@ -25,6 +25,10 @@ import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
 import org.eclipse.edc.policy.engine.spi.PolicyContext;
 import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.result.Result;
@@ -34,16 +38,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.POLICY_MONITOR_SCOPE;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.COMPLETED;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.FAILED;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -59,6 +69,8 @@ import static org.mockito.Mockito.when;
 
 class PolicyMonitorManagerImplTest {
 
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
     private final PolicyMonitorStore store = mock();
     private final ContractAgreementService contractAgreementService = mock();
     private final TransferProcessService transferProcessService = mock();
@@ -70,7 +82,8 @@ class PolicyMonitorManagerImplTest {
         manager = PolicyMonitorManagerImpl.Builder.newInstance()
                 .executorInstrumentation(ExecutorInstrumentation.noop())
                 .monitor(mock())
-                .clock(mock())
+                .clock(Clock.fixed(NOW, ZoneOffset.UTC))
+                .maxEvaluationInterval(Duration.ofHours(1))
                 .contractAgreementService(contractAgreementService)
                 .policyEngine(policyEngine)
                 .transferProcessService(transferProcessService)
@@ -159,7 +172,38 @@ class PolicyMonitorManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(transferProcessService, never()).terminate(any());
-            verify(store).save(argThat(it -> it.getState() == STARTED.code()));
+            verify(store).save(argThat(it -> it.getState() == STARTED.code() &&
+                    it.getNextEvaluationAt() == NOW.plus(Duration.ofHours(1)).toEpochMilli()));
+        });
+    }
+
+    @Test
+    void started_shouldScheduleNextEvaluationAtInForceBound_whenPolicyIsValid() {
+        var entry = PolicyMonitorEntry.Builder.newInstance()
+                .id("transferProcessId")
+                .contractId("contractId")
+                .state(STARTED.code())
+                .build();
+        var expiry = NOW.plusSeconds(60);
+        var policy = Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance()
+                        .constraint(AtomicConstraint.Builder.newInstance()
+                                .leftExpression(new LiteralExpression(CONTRACT_EXPIRY_EVALUATION_KEY))
+                                .operator(Operator.LEQ)
+                                .rightExpression(new LiteralExpression(expiry.toString()))
+                                .build())
+                        .build())
+                .build();
+        when(store.nextNotLeased(anyInt(), stateIs(STARTED.code()))).thenReturn(List.of(entry)).thenReturn(emptyList());
+        when(transferProcessService.findById(entry.getId()))
+                .thenReturn(TransferProcess.Builder.newInstance().state(TransferProcessStates.STARTED.code()).build());
+        when(contractAgreementService.findById(any())).thenReturn(createContractAgreement(policy));
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(store).save(argThat(it -> it.getState() == STARTED.code() && it.getNextEvaluationAt() == expiry.toEpochMilli()));
         });
     }
 
@@ -228,6 +272,6 @@ class PolicyMonitorManagerImplTest {
     }
 
     private Criterion[] stateIs(int state) {
-        return aryEq(new Criterion[]{ hasState(state) });
+        return aryEq(new Criterion[]{ hasState(state), criterion("nextEvaluationAt", "<=", NOW.toEpochMilli()) });
     }
 }
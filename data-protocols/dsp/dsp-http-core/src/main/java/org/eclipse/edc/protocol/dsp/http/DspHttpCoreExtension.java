@@ -32,6 +32,7 @@ import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
+import org.eclipse.edc.protocol.dsp.http.dispatcher.ClientCredentialsTokenCache;
 import org.eclipse.edc.protocol.dsp.http.dispatcher.DspHttpRemoteMessageDispatcherImpl;
 import org.eclipse.edc.protocol.dsp.http.message.DspRequestHandlerImpl;
 import org.eclipse.edc.protocol.dsp.http.serialization.JsonLdRemoteMessageSerializerImpl;
@@ -41,6 +42,7 @@ import org.eclipse.edc.protocol.dsp.http.spi.serialization.JsonLdRemoteMessageSe
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
@@ -52,6 +54,9 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static org.eclipse.edc.protocol.dsp.spi.type.DspConstants.DSP_SCOPE;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 
@@ -83,6 +88,17 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @PolicyScope
     private static final String CATALOGING_REQUEST_SCOPE = "request.catalog";
 
+    private static final boolean DEFAULT_TOKEN_CACHE_ENABLED = false;
+    private static final long DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN_SECONDS = 30;
+
+    @Setting(value = "whether tokens obtained for outgoing protocol messages are reused until shortly before they expire. " +
+            "Only enable it with identity services whose tokens may be presented more than once: a reused token carries the same 'jti', " +
+            "which a counter-party enforcing one-time tokens rejects as a replay, e.g. DCP self-issued tokens", type = "boolean", defaultValue = DEFAULT_TOKEN_CACHE_ENABLED + "")
+    private static final String TOKEN_CACHE_ENABLED = "edc.dsp.token.cache.enabled";
+
+    @Setting(value = "the time in seconds before its expiry a cached token for outgoing protocol messages gets renewed", type = "long", defaultValue = DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN_SECONDS + "")
+    private static final String TOKEN_CACHE_EXPIRY_MARGIN_SECONDS = "edc.dsp.token.cache.expiry-margin-seconds";
+
     @Inject
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
     @Inject
@@ -108,6 +124,9 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -123,7 +142,13 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver);
+        ClientCredentialsTokenCache tokenCache = null;
+        if (context.getSetting(TOKEN_CACHE_ENABLED, DEFAULT_TOKEN_CACHE_ENABLED)) {
+            var expiryMargin = Duration.ofSeconds(context.getSetting(TOKEN_CACHE_EXPIRY_MARGIN_SECONDS, DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN_SECONDS));
+            tokenCache = new ClientCredentialsTokenCache(identityService, clock, expiryMargin);
+        }
+
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver, tokenCache);
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         registerCatalogPolicyScopes(dispatcher);
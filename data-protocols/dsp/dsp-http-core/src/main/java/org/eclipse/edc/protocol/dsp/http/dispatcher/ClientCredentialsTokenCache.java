@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.dispatcher;
+
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the tokens obtained through {@link IdentityService#obtainClientCredentials(TokenParameters)} by their claims and
+ * headers, which contain audience, scopes and decorator claims. A token is reused until the expiry margin before it
+ * expires, tokens without a lifetime are never cached. Concurrent requests for the same parameters wait for a single
+ * in-flight request instead of obtaining a token each.
+ * <p>
+ * Reusing a token means presenting the same token id ({@code jti}) more than once, so requests that ask for a token id
+ * are never cached, and the cache must not be used with identity services that add one on their own.
+ */
+public class ClientCredentialsTokenCache {
+
+    private static final int CLEANUP_THRESHOLD = 1_000;
+    private static final String JWT_ID = "jti";
+
+    private final IdentityService identityService;
+    private final Clock clock;
+    private final Duration expiryMargin;
+    private final Map<TokenKey, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<TokenKey, CompletableFuture<Result<TokenRepresentation>>> inFlight = new ConcurrentHashMap<>();
+
+    public ClientCredentialsTokenCache(IdentityService identityService, Clock clock, Duration expiryMargin) {
+        this.identityService = identityService;
+        this.clock = clock;
+        this.expiryMargin = expiryMargin;
+    }
+
+    /**
+     * Returns a still valid cached token for the parameters or obtains a new one.
+     *
+     * @param parameters the token parameters
+     * @return the token, or a failure if it could not be obtained
+     */
+    public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
+        if (parameters.getClaims().containsKey(JWT_ID)) {
+            return identityService.obtainClientCredentials(parameters);
+        }
+
+        var key = new TokenKey(new HashMap<>(parameters.getClaims()), new HashMap<>(parameters.getHeaders()));
+
+        var cached = tokens.get(key);
+        if (cached != null && clock.instant().isBefore(cached.refreshAt())) {
+            return Result.success(cached.token());
+        }
+
+        var future = new CompletableFuture<Result<TokenRepresentation>>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing.join();
+        }
+
+        try {
+            var result = identityService.obtainClientCredentials(parameters);
+            if (result.succeeded()) {
+                cache(key, result.getContent());
+            }
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    private void cache(TokenKey key, TokenRepresentation token) {
+        if (token.getExpiresIn() == null) {
+            return;
+        }
+
+        var now = clock.instant();
+        var refreshAt = now.plusSeconds(token.getExpiresIn()).minus(expiryMargin);
+        if (!refreshAt.isAfter(now)) {
+            return;
+        }
+
+        if (tokens.size() >= CLEANUP_THRESHOLD) {
+            tokens.values().removeIf(it -> !now.isBefore(it.refreshAt()));
+        }
+        tokens.put(key, new CachedToken(token, refreshAt));
+    }
+
+    private record TokenKey(Map<String, Object> claims, Map<String, Object> headers) {
+    }
+
+    private record CachedToken(TokenRepresentation token, Instant refreshAt) {
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.http.dispatcher;
+
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClientCredentialsTokenCacheTest {
+
+    private final IdentityService identityService = mock();
+    private final Instant now = Instant.now();
+
+    @Test
+    void obtainClientCredentials_shouldReuseValidToken() {
+        var cache = new ClientCredentialsTokenCache(identityService, Clock.fixed(now, ZoneOffset.UTC), Duration.ofSeconds(30));
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 300L)));
+
+        var first = cache.obtainClientCredentials(parameters("aud"));
+        var second = cache.obtainClientCredentials(parameters("aud"));
+
+        assertThat(first).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token");
+        assertThat(second).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token");
+        verify(identityService).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldObtainNewToken_whenWithinExpiryMargin() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(now, now.plusSeconds(271));
+        var cache = new ClientCredentialsTokenCache(identityService, clock, Duration.ofSeconds(30));
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 300L)));
+
+        cache.obtainClientCredentials(parameters("aud"));
+        cache.obtainClientCredentials(parameters("aud"));
+
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotCache_whenDifferentParametersOrNoExpiryOrFailure() {
+        var cache = new ClientCredentialsTokenCache(identityService, Clock.fixed(now, ZoneOffset.UTC), Duration.ofSeconds(30));
+        when(identityService.obtainClientCredentials(any()))
+                .thenReturn(Result.success(token("token", 300L)), Result.success(token("other", null)), Result.failure("error"));
+
+        cache.obtainClientCredentials(parameters("aud"));
+        cache.obtainClientCredentials(parameters("other"));
+        cache.obtainClientCredentials(parameters("other"));
+        var result = cache.obtainClientCredentials(parameters("another"));
+
+        assertThat(result).isFailed();
+        verify(identityService, times(3)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotCache_whenTokenIdRequested() {
+        var cache = new ClientCredentialsTokenCache(identityService, Clock.fixed(now, ZoneOffset.UTC), Duration.ofSeconds(30));
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 300L)));
+        var parameters = TokenParameters.Builder.newInstance().claims("aud", "aud").claims("jti", "token-id").build();
+
+        cache.obtainClientCredentials(parameters);
+        cache.obtainClientCredentials(parameters);
+
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldObtainTokenOnce_whenRequestedConcurrently() throws Exception {
+        var cache = new ClientCredentialsTokenCache(identityService, Clock.fixed(now, ZoneOffset.UTC), Duration.ofSeconds(30));
+        var latch = new CountDownLatch(1);
+        when(identityService.obtainClientCredentials(any())).thenAnswer(i -> {
+            latch.await(5, TimeUnit.SECONDS);
+            return Result.success(token("token", 300L));
+        });
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var futures = IntStream.range(0, 4)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.obtainClientCredentials(parameters("aud")), executor))
+                    .toList();
+            Thread.sleep(200);
+            latch.countDown();
+
+            assertThat(futures).allSatisfy(future -> assertThat(future.get(5, TimeUnit.SECONDS)).isSucceeded());
+            verify(identityService).obtainClientCredentials(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TokenParameters parameters(String audience) {
+        return TokenParameters.Builder.newInstance().claims("aud", audience).claims("scope", "scope").build();
+    }
+
+    private TokenRepresentation token(String token, Long expiresIn) {
+        return TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build();
+    }
+}
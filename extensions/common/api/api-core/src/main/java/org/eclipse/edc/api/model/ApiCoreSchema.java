@@ -27,6 +27,11 @@ import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 
 public interface ApiCoreSchema {
 
+    /**
+     * Response header of the query endpoints, that contains the continuation token of the next page.
+     */
+    String CONTINUATION_TOKEN_HEADER = "Edc-Continuation-Token";
+
     @Schema(name = "Criterion", example = CriterionSchema.CRITERION_EXAMPLE)
     record CriterionSchema(
             @Schema(name = TYPE, example = CRITERION_TYPE)
@@ -57,6 +62,9 @@ public interface ApiCoreSchema {
             int limit,
             SortOrder sortOrder,
             String sortField,
+            @Schema(description = "Opaque token returned in the " + CONTINUATION_TOKEN_HEADER + " header of the previous page. " +
+                    "It replaces the offset and must be used with the same query, sort field and sort order")
+            String continuationToken,
             List<CriterionSchema> filterExpression
     ) {
         public static final String QUERY_SPEC_EXAMPLE = """
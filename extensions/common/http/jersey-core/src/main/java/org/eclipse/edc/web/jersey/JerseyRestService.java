@@ -28,10 +28,10 @@ import org.glassfish.jersey.media.multipart.MultiPartFeature;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.servlet.ServletContainer;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.toSet;
@@ -44,9 +44,9 @@ public class JerseyRestService implements WebService {
     private final TypeManager typeManager;
     private final Monitor monitor;
 
-    private final Map<String, List<Object>> controllers = new HashMap<>();
+    private final Map<String, List<Object>> controllers = new ConcurrentHashMap<>();
     private final JerseyConfiguration configuration;
-    private final List<Supplier<Object>> additionalInstances = new ArrayList<>();
+    private final List<Supplier<Object>> additionalInstances = new CopyOnWriteArrayList<>();
 
     public JerseyRestService(WebServer webServer, TypeManager typeManager, JerseyConfiguration configuration, Monitor monitor) {
         this.webServer = webServer;
@@ -57,13 +57,12 @@ public class JerseyRestService implements WebService {
 
     @Override
     public void registerResource(Object resource) {
-        controllers.computeIfAbsent(DEFAULT_CONTEXT_ALIAS, s -> new ArrayList<>())
-                .add(resource);
+        registerResource(DEFAULT_CONTEXT_ALIAS, resource);
     }
 
     @Override
     public void registerResource(String contextAlias, Object resource) {
-        controllers.computeIfAbsent(contextAlias, s -> new ArrayList<>())
+        controllers.computeIfAbsent(contextAlias, s -> new CopyOnWriteArrayList<>())
                 .add(resource);
     }
 
@@ -22,18 +22,48 @@ import org.eclipse.edc.keys.spi.KeyParserRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl.DEFAULT_CACHE_SIZE;
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+
+    private static final long DEFAULT_CACHE_TTL_SECONDS = 3600;
+    private static final long DEFAULT_CACHE_STALE_WHILE_REVALIDATE_SECONDS = 300;
+
+    @Setting(value = "the maximum number of DID documents held in the resolution cache", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    private static final String CACHE_SIZE = "edc.iam.did.cache.size";
+
+    @Setting(value = "the time in seconds a resolved DID document is considered fresh", type = "long", defaultValue = DEFAULT_CACHE_TTL_SECONDS + "")
+    private static final String CACHE_TTL_SECONDS = "edc.iam.did.cache.ttl-seconds";
+
+    @Setting(value = "the time in seconds an expired DID document is still served while it gets refreshed in the background", type = "long",
+            defaultValue = DEFAULT_CACHE_STALE_WHILE_REVALIDATE_SECONDS + "")
+    private static final String CACHE_STALE_WHILE_REVALIDATE_SECONDS = "edc.iam.did.cache.stale-while-revalidate-seconds";
+
     @Inject
     private KeyParserRegistry keyParserRegistry;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private ExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -41,11 +71,23 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        refreshExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(2), "did-resolution-refresh");
+        var didResolverRegistry = new DidResolverRegistryImpl(
+                context.getSetting(CACHE_SIZE, DEFAULT_CACHE_SIZE),
+                Duration.ofSeconds(context.getSetting(CACHE_TTL_SECONDS, DEFAULT_CACHE_TTL_SECONDS)),
+                Duration.ofSeconds(context.getSetting(CACHE_STALE_WHILE_REVALIDATE_SECONDS, DEFAULT_CACHE_STALE_WHILE_REVALIDATE_SECONDS)),
+                clock, refreshExecutor);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(keyParserRegistry, didResolverRegistry);
         context.registerService(DidPublicKeyResolver.class, publicKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
 }
@@ -22,32 +22,69 @@ import org.eclipse.edc.util.collection.ConcurrentLruCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}
+ * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}.
+ * <p>
+ * Cached documents are fresh for the configured time-to-live. Afterwards, they are served for the stale-while-revalidate period while being
+ * refreshed in the background, and resolved again synchronously once that period has passed as well. Concurrent resolutions of the same DID
+ * share a single call to the resolver.
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     public static final String DID_SEPARATOR = ":";
+    public static final int DEFAULT_CACHE_SIZE = 50;
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
-    private final ConcurrentLruCache<String, DidDocument> didCache;
-    private final Map<String, DidResolver> resolvers = new HashMap<>();
+    private final ConcurrentLruCache<String, CachedDocument> didCache;
+    private final Map<String, CompletableFuture<Result<DidDocument>>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, DidResolver> resolvers = new ConcurrentHashMap<>();
+    private final Duration timeToLive;
+    private final Duration staleWhileRevalidate;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder resolutions = new LongAdder();
+    private final LongAdder resolutionNanos = new LongAdder();
 
     public DidResolverRegistryImpl() {
-        didCache = new ConcurrentLruCache<>(50);
+        this(DEFAULT_CACHE_SIZE);
     }
 
     /**
-     * Constructs a DidResolverRegistryImpl object with the specified cache size.
+     * Constructs a DidResolverRegistryImpl object with the specified cache size, whose entries never expire.
      *
      * @param cacheSize the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
      */
     public DidResolverRegistryImpl(int cacheSize) {
+        this(cacheSize, null, Duration.ZERO, Clock.systemUTC(), Runnable::run);
+    }
+
+    /**
+     * Constructs a DidResolverRegistryImpl object with the specified cache size and expiry.
+     *
+     * @param cacheSize            the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
+     * @param timeToLive           how long a cached document is considered fresh, null if documents never expire.
+     * @param staleWhileRevalidate how long an expired document is still served while it gets refreshed in the background.
+     * @param clock                the clock.
+     * @param refreshExecutor      the executor running background refreshes.
+     */
+    public DidResolverRegistryImpl(int cacheSize, @Nullable Duration timeToLive, Duration staleWhileRevalidate, Clock clock, Executor refreshExecutor) {
         didCache = new ConcurrentLruCache<>(cacheSize);
+        this.timeToLive = timeToLive;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
     }
 
     @Override
@@ -73,6 +110,15 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         return res != null;
     }
 
+    /**
+     * Returns the cache statistics collected since the registry was created.
+     */
+    public Statistics getStatistics() {
+        var count = resolutions.sum();
+        var averageLatency = count == 0 ? Duration.ZERO : Duration.ofNanos(resolutionNanos.sum() / count);
+        return new Statistics(hits.sum(), misses.sum(), count, averageLatency);
+    }
+
     @Nullable
     private DidResolver getResolverFor(String didKey) {
         var tokens = didKey.split(DID_SEPARATOR);
@@ -88,17 +134,84 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
 
     @NotNull
     private Result<DidDocument> resolveCachedDocument(String didKey, DidResolver resolver) {
-        var didDocument = didCache.get(didKey);
-        if (didDocument == null) {
+        var now = clock.instant();
+        var cached = didCache.get(didKey);
+        if (cached != null) {
+            if (cached.isFresh(now)) {
+                hits.increment();
+                return Result.success(cached.document());
+            }
+            if (cached.isUsable(now)) {
+                hits.increment();
+                if (!inFlight.containsKey(didKey)) {
+                    refreshExecutor.execute(() -> resolveCoalesced(didKey, resolver));
+                }
+                return Result.success(cached.document());
+            }
+        }
+
+        misses.increment();
+        return resolveCoalesced(didKey, resolver);
+    }
+
+    /**
+     * Resolves the DID with the resolver, unless a resolution of the same DID is already running, in which case its result is awaited.
+     */
+    private Result<DidDocument> resolveCoalesced(String didKey, DidResolver resolver) {
+        var future = new CompletableFuture<Result<DidDocument>>();
+        var existing = inFlight.putIfAbsent(didKey, future);
+        if (existing != null) {
+            return existing.join();
+        }
 
-            var resolveResult = resolver.resolve(didKey);
-            if (resolveResult.failed()) {
-                return resolveResult;
+        try {
+            var start = System.nanoTime();
+            var result = resolver.resolve(didKey);
+            resolutions.increment();
+            resolutionNanos.add(System.nanoTime() - start);
+
+            if (result.succeeded()) {
+                didCache.put(didKey, new CachedDocument(result.getContent(), freshUntil(), usableUntil()));
             }
-            didDocument = resolveResult.getContent();
-            didCache.put(didKey, didDocument);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(didKey);
         }
+    }
+
+    @Nullable
+    private Instant freshUntil() {
+        return timeToLive == null ? null : clock.instant().plus(timeToLive);
+    }
 
-        return Result.success(didDocument);
+    @Nullable
+    private Instant usableUntil() {
+        return timeToLive == null ? null : clock.instant().plus(timeToLive).plus(staleWhileRevalidate);
+    }
+
+    /**
+     * Cache statistics.
+     *
+     * @param hits           the number of resolutions served from the cache, including stale documents.
+     * @param misses         the number of resolutions that had to wait for the resolver.
+     * @param resolutions    the number of calls to the resolvers.
+     * @param averageLatency the average duration of a call to the resolvers.
+     */
+    public record Statistics(long hits, long misses, long resolutions, Duration averageLatency) {
+    }
+
+    private record CachedDocument(DidDocument document, @Nullable Instant freshUntil, @Nullable Instant usableUntil) {
+
+        boolean isFresh(Instant now) {
+            return freshUntil == null || now.isBefore(freshUntil);
+        }
+
+        boolean isUsable(Instant now) {
+            return usableUntil == null || now.isBefore(usableUntil);
+        }
     }
 }
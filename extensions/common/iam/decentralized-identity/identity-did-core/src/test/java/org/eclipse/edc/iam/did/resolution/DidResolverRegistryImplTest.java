@@ -21,9 +21,22 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Verifies {@link DidResolverRegistryImpl}.
@@ -67,6 +80,76 @@ class DidResolverRegistryImplTest {
         assertThat(registry.isSupported("did:unsupported:whatever")).isFalse();
     }
 
+    @Test
+    void resolve_shouldCacheDocument() {
+        var resolver = countingResolver();
+        registry.register(resolver);
+
+        registry.resolve("did:foo:id");
+        registry.resolve("did:foo:id");
+
+        verify(resolver).resolve("did:foo:id");
+        assertThat(registry.getStatistics()).satisfies(statistics -> {
+            assertThat(statistics.hits()).isEqualTo(1);
+            assertThat(statistics.misses()).isEqualTo(1);
+            assertThat(statistics.resolutions()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void resolve_shouldServeStaleDocumentAndRefresh_whenExpired() {
+        var clock = mock(Clock.class);
+        var now = Instant.now();
+        when(clock.instant()).thenReturn(now, now, now, now.plusSeconds(90));
+        var executor = mock(Executor.class);
+        registry = new DidResolverRegistryImpl(10, Duration.ofMinutes(1), Duration.ofMinutes(1), clock, executor);
+        var resolver = countingResolver();
+        registry.register(resolver);
+
+        registry.resolve("did:foo:id");
+        var result = registry.resolve("did:foo:id");
+
+        assertThat(result.succeeded()).isTrue();
+        verify(resolver).resolve("did:foo:id");
+        verify(executor).execute(any());
+    }
+
+    @Test
+    void resolve_shouldResolveAgain_whenStalePeriodPassed() {
+        var clock = mock(Clock.class);
+        var now = Instant.now();
+        when(clock.instant()).thenReturn(now, now, now, now.plusSeconds(150));
+        registry = new DidResolverRegistryImpl(10, Duration.ofMinutes(1), Duration.ofMinutes(1), clock, mock(Executor.class));
+        var resolver = countingResolver();
+        registry.register(resolver);
+
+        registry.resolve("did:foo:id");
+        registry.resolve("did:foo:id");
+
+        verify(resolver, times(2)).resolve("did:foo:id");
+    }
+
+    @Test
+    void register_shouldKeepAllResolvers_whenRegisteredConcurrently() throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(8);
+        range(0, 200).forEach(i -> {
+            var resolver = mock(DidResolver.class);
+            when(resolver.getMethod()).thenReturn("method" + i);
+            executor.execute(() -> registry.register(resolver));
+        });
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(range(0, 200)).allMatch(i -> registry.isSupported("did:method" + i + ":id"));
+    }
+
+    private DidResolver countingResolver() {
+        var resolver = mock(DidResolver.class);
+        when(resolver.getMethod()).thenReturn(FOO_METHOD);
+        when(resolver.resolve(any())).thenReturn(Result.success(DidDocument.Builder.newInstance().build()));
+        return resolver;
+    }
+
     /**
      * Mock resolver class.
      */
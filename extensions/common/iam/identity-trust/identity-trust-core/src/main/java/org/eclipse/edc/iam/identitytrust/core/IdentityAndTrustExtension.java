@@ -198,7 +198,7 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     public RevocationListService createRevocationListService(ServiceExtensionContext context) {
         if (revocationListService == null) {
             var validity = context.getConfig().getLong(REVOCATION_CACHE_VALIDITY, DEFAULT_REVOCATION_CACHE_VALIDITY_MILLIS);
-            revocationListService = new StatusList2021RevocationService(typeManager.getMapper(), validity);
+            revocationListService = new StatusList2021RevocationService(typeManager.getMapper(), validity, httpClient);
         }
         return revocationListService;
     }
@@ -72,7 +72,16 @@ public class EmbeddedSecureTokenService implements SecureTokenService {
                 .compose(v -> {
                     var keyIdDecorator = new KeyIdDecorator(publicKeyId.get());
                     return tokenGenerationService.generate(privateKeySupplier, keyIdDecorator, new SelfIssuedTokenDecorator(selfIssuedClaims, clock, validity));
-                });
+                })
+                .map(this::withExpiry);
+    }
+
+    private TokenRepresentation withExpiry(TokenRepresentation token) {
+        return TokenRepresentation.Builder.newInstance()
+                .token(token.getToken())
+                .expiresIn(validity)
+                .additional(token.getAdditional())
+                .build();
     }
 
     private Result<Void> createAndAcceptAccessToken(Map<String, String> claims, String scope, BiConsumer<String, String> consumer) {
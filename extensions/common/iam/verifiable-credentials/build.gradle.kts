@@ -26,6 +26,8 @@ dependencies {
     testImplementation(libs.mockserver.netty)
     testImplementation(project(":tests:junit-base"))
     testImplementation(project(":core:common:lib:util-lib"))
+    testImplementation(testFixtures(project(":core:common:lib:http-lib")))
+    testImplementation(libs.awaitility)
     testImplementation(testFixtures(project(":spi:common:identity-trust-spi"))) //test functions
 }
 
@@ -14,19 +14,26 @@
 
 package org.eclipse.edc.iam.verifiablecredentials;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.iam.verifiablecredentials.spi.RevocationListService;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.VerifiableCredential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.statuslist.BitString;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.statuslist.StatusList2021Credential;
 import org.eclipse.edc.iam.verifiablecredentials.spi.model.statuslist.StatusListStatus;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.Cache;
 
 import java.io.IOException;
-import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service to check if a particular {@link VerifiableCredential} is "valid", where "validity" is defined as not revoked and not suspended.
@@ -34,17 +41,35 @@ import java.util.Map;
  * <p>
  * To achieve that, the {@link VerifiableCredential#getCredentialStatus()} object is inspected and checked against the status list credential referenced therein.
  * <p>
- * To limit traffic on the actual StatusList2021 credential, it is cached in a thread-safe {@link Map}, and only re-downloaded if the cache is expired.
+ * To limit traffic on the actual StatusList2021 credential and the cost of decoding it, the decoded {@link BitString} is cached per status list URL.
+ * Entries that are close to expiry are refreshed in the background, while expired entries are loaded synchronously. Concurrent loads of the
+ * same status list share a single download.
  */
 public class StatusList2021RevocationService implements RevocationListService {
+
+    /**
+     * Fraction of the cache validity after which an entry is refreshed in the background.
+     */
+    private static final double REFRESH_AHEAD_RATIO = 0.8;
+
     private final ObjectMapper objectMapper;
-    private final Cache<String, VerifiableCredential> cache;
+    private final EdcHttpClient httpClient;
+    private final Clock clock;
+    private final long cacheValidity;
+    private final Map<String, StatusList> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Result<StatusList>>> loading = new ConcurrentHashMap<>();
 
-    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity) {
+    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity, EdcHttpClient httpClient) {
+        this(objectMapper, cacheValidity, httpClient, Clock.systemUTC());
+    }
+
+    public StatusList2021RevocationService(ObjectMapper objectMapper, long cacheValidity, EdcHttpClient httpClient, Clock clock) {
         this.objectMapper = objectMapper.copy()
                 .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY) // technically, credential subjects and credential status can be objects AND Arrays
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // let's make sure this is disabled, because the "@context" would cause problems
-        cache = new Cache<>(this::updateCredential, cacheValidity);
+        this.httpClient = httpClient;
+        this.clock = clock;
+        this.cacheValidity = cacheValidity;
     }
 
     @Override
@@ -56,37 +81,83 @@ public class StatusList2021RevocationService implements RevocationListService {
     }
 
     private Result<Void> checkStatus(StatusListStatus status) {
-        var slCredUrl = status.getStatusListCredential();
-        var credential = cache.get(slCredUrl);
-        var slCred = StatusList2021Credential.parse(credential);
+        var statusListResult = getStatusList(status.getStatusListCredential());
+        if (statusListResult.failed()) {
+            return statusListResult.mapTo();
+        }
+        var statusList = statusListResult.getContent();
 
         // check that the "statusPurpose" values match
         var purpose = status.getStatusListPurpose();
-        var slCredPurpose = slCred.statusPurpose();
+        var slCredPurpose = statusList.purpose();
         if (!purpose.equalsIgnoreCase(slCredPurpose)) {
             return Result.failure("Credential's statusPurpose value must match the status list's purpose: '%s' != '%s'".formatted(purpose, slCredPurpose));
         }
 
-        var bitStringResult = BitString.Parser.newInstance().parse(slCred.encodedList());
-
-        if (bitStringResult.failed()) {
-            return bitStringResult.mapTo();
-        }
-        var bitString = bitStringResult.getContent();
-
         var index = status.getStatusListIndex();
         // check that the value at index in the bitset is "1"
-        if (bitString.get(index)) {
+        if (statusList.bitString().get(index)) {
             return Result.failure("Credential status is '%s', status at index %d is '1'".formatted(purpose, index));
         }
         return Result.success();
     }
 
-    private VerifiableCredential updateCredential(String credentialUrl) {
-        try {
-            return objectMapper.readValue(URI.create(credentialUrl).toURL(), VerifiableCredential.class);
+    /**
+     * Returns the cached status list, loading it if absent or expired. Entries past their refresh time are returned as-is
+     * while a background refresh is triggered.
+     */
+    private Result<StatusList> getStatusList(String credentialUrl) {
+        var now = clock.instant();
+        var cached = cache.get(credentialUrl);
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            if (!now.isBefore(cached.refreshAt())) {
+                load(credentialUrl);
+            }
+            return Result.success(cached);
+        }
+        return load(credentialUrl).join();
+    }
+
+    private CompletableFuture<Result<StatusList>> load(String credentialUrl) {
+        var future = new CompletableFuture<Result<StatusList>>();
+        var existing = loading.putIfAbsent(credentialUrl, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture.completedFuture(credentialUrl)
+                .thenCompose(url -> httpClient.executeAsync(new Request.Builder().url(url).get().build(), List.of()))
+                .thenApply(this::toStatusList)
+                .exceptionally(throwable -> Result.failure("Error downloading status list credential '%s': %s".formatted(credentialUrl, throwable.getMessage())))
+                .whenComplete((result, throwable) -> {
+                    if (result != null && result.succeeded()) {
+                        cache.put(credentialUrl, result.getContent());
+                    }
+                    loading.remove(credentialUrl);
+                    future.complete(result);
+                });
+        return future;
+    }
+
+    private Result<StatusList> toStatusList(Response response) {
+        try (var body = response.body()) {
+            if (!response.isSuccessful() || body == null) {
+                return Result.failure("Error downloading status list credential '%s': status %d".formatted(response.request().url(), response.code()));
+            }
+
+            var credential = StatusList2021Credential.parse(objectMapper.readValue(body.string(), VerifiableCredential.class));
+            var loadedAt = clock.instant();
+            return BitString.Parser.newInstance().parse(credential.encodedList())
+                    .map(bitString -> new StatusList(credential.statusPurpose(), bitString,
+                            loadedAt.plusMillis((long) (cacheValidity * REFRESH_AHEAD_RATIO)),
+                            loadedAt.plusMillis(cacheValidity)));
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return Result.failure("Invalid status list credential '%s': %s".formatted(response.request().url(), e.getMessage()));
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            return Result.failure("Error reading status list credential '%s': %s".formatted(response.request().url(), e.getMessage()));
         }
     }
+
+    private record StatusList(String purpose, BitString bitString, Instant refreshAt, Instant expiresAt) {
+    }
 }
@@ -25,20 +25,27 @@ import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.verify.VerificationTimes;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
 import static org.eclipse.edc.iam.verifiablecredentials.spi.model.statuslist.StatusList2021Credential.STATUS_LIST_CREDENTIAL;
 import static org.eclipse.edc.iam.verifiablecredentials.spi.model.statuslist.StatusList2021Credential.STATUS_LIST_INDEX;
 import static org.eclipse.edc.iam.verifiablecredentials.spi.model.statuslist.StatusList2021Credential.STATUS_LIST_PURPOSE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.mockserver.model.HttpRequest.request;
 
 class StatusList2021RevocationServiceTest {
     private static final int NOT_REVOKED_INDEX = 1;
     private static final int REVOKED_INDEX = 2;
     private final StatusList2021RevocationService revocationService = new StatusList2021RevocationService(new ObjectMapper().registerModule(new JavaTimeModule()),
-            5 * 60 * 1000);
+            5 * 60 * 1000, testHttpClient());
     private ClientAndServer clientAndServer;
 
     @BeforeEach
@@ -110,4 +117,35 @@ class StatusList2021RevocationServiceTest {
         assertThat(revocationService.checkValidity(credential)).isSucceeded();
         clientAndServer.verify(request(), VerificationTimes.exactly(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void checkRevocation_whenCachedAndNearExpiry_shouldRefreshInBackground() {
+        var clock = mock(Clock.class);
+        var now = new AtomicReference<>(Instant.now());
+        when(clock.instant()).thenAnswer(i -> now.get());
+        var service = new StatusList2021RevocationService(new ObjectMapper().registerModule(new JavaTimeModule()), 5 * 60 * 1000, testHttpClient(), clock);
+        var credential = TestFunctions.createCredentialBuilder().credentialStatus(new CredentialStatus("test-id", "StatusList2021Entry",
+                        Map.of(STATUS_LIST_PURPOSE, "revocation",
+                                STATUS_LIST_INDEX, NOT_REVOKED_INDEX,
+                                STATUS_LIST_CREDENTIAL, "http://localhost:%d/credentials/status/3".formatted(clientAndServer.getPort()))))
+                .build();
+
+        assertThat(service.checkValidity(credential)).isSucceeded();
+        now.set(now.get().plusSeconds(250));
+        assertThat(service.checkValidity(credential)).isSucceeded();
+
+        await().untilAsserted(() -> clientAndServer.verify(request(), VerificationTimes.exactly(2)));
+    }
+
+    @Test
+    void checkRevocation_whenStatusListNotAvailable_shouldFail() {
+        var credential = TestFunctions.createCredentialBuilder().credentialStatus(new CredentialStatus("test-id", "StatusList2021Entry",
+                        Map.of(STATUS_LIST_PURPOSE, "revocation",
+                                STATUS_LIST_INDEX, NOT_REVOKED_INDEX,
+                                STATUS_LIST_CREDENTIAL, "http://localhost:%d/credentials/status/unknown".formatted(clientAndServer.getPort()))))
+                .build();
+
+        assertThat(revocationService.checkValidity(credential)).isFailed()
+                .detail().startsWith("Error downloading status list credential");
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the most recently used {@link PreparedStatement}s of every physical connection open, so they can be reused
+ * by later executions of the same sql on the same connection. Connection wrappers, e.g. the ones handed out by a
+ * pool or a transaction context, are unwrapped so that the statements outlive them.
+ * <p>
+ * A connection is expected to be used by a single thread at a time, and a statement obtained from the cache must not
+ * be used anymore once another statement has been obtained for the same sql on the same connection.
+ */
+class PreparedStatementCache {
+
+    private final int maxSize;
+    private final Map<Connection, Map<String, PreparedStatement>> statements = new HashMap<>();
+
+    PreparedStatementCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached statement for the sql on the connection, or prepares and caches a new one.
+     */
+    PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+        var cached = statementsOf(connection);
+        var statement = cached.get(sql);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+            cached.put(sql, statement);
+        }
+        return statement;
+    }
+
+    private Map<String, PreparedStatement> statementsOf(Connection connection) throws SQLException {
+        var physicalConnection = physicalConnectionOf(connection);
+        synchronized (statements) {
+            var cached = statements.get(physicalConnection);
+            if (cached == null) {
+                statements.keySet().removeIf(this::isClosed);
+                cached = new LruStatements();
+                statements.put(physicalConnection, cached);
+            }
+            return cached;
+        }
+    }
+
+    private Connection physicalConnectionOf(Connection connection) throws SQLException {
+        var unwrapped = connection.unwrap(Connection.class);
+        return unwrapped != null ? unwrapped : connection;
+    }
+
+    private boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private class LruStatements extends LinkedHashMap<String, PreparedStatement> {
+
+        LruStatements() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() <= maxSize) {
+                return false;
+            }
+            try {
+                eldest.getValue().close();
+            } catch (SQLException ignored) {
+                // the statement is discarded anyway
+            }
+            return true;
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,19 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for mutating queries that are executed once for every set of arguments, e.g. bulk inserts.
+     * Implementations may send the executions to the database in batches.
+     *
+     * @param connection the connection to be used to execute the query.
+     * @param sql the parametrized sql query
+     * @param argumentSets the parameters to interpolate with the parametrized sql query, one array per execution
+     * @return the total number of rows changed, as far as the database reports it
+     */
+    default int executeBatch(Connection connection, String sql, Collection<Object[]> argumentSets) {
+        return argumentSets.stream().mapToInt(arguments -> execute(connection, sql, arguments)).sum();
+    }
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
@@ -31,6 +31,14 @@ public class SqlCoreExtension implements ServiceExtension {
     @Setting(value = "Fetch size value used in SQL queries", defaultValue = DEFAULT_EDC_SQL_FETCH_SIZE)
     public static final String EDC_SQL_FETCH_SIZE = "edc.sql.fetch.size";
 
+    public static final String DEFAULT_EDC_SQL_BATCH_SIZE = "500";
+    @Setting(value = "Maximum number of rows sent to the database in a single JDBC batch", defaultValue = DEFAULT_EDC_SQL_BATCH_SIZE)
+    public static final String EDC_SQL_BATCH_SIZE = "edc.sql.batch.size";
+
+    public static final String DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE = "0";
+    @Setting(value = "Maximum number of prepared statements of mutating queries kept open per connection for reuse. 0 disables the reuse", defaultValue = DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE)
+    public static final String EDC_SQL_STATEMENT_CACHE_SIZE = "edc.sql.statement.cache.size";
+
     @Override
     public String name() {
         return NAME;
@@ -39,7 +47,9 @@ public class SqlCoreExtension implements ServiceExtension {
     @Provider
     public QueryExecutor sqlQueryExecutor(ServiceExtensionContext context) {
         var fetchSize = context.getSetting(EDC_SQL_FETCH_SIZE, parseInt(DEFAULT_EDC_SQL_FETCH_SIZE));
-        var configuration = new SqlQueryExecutorConfiguration(fetchSize);
+        var batchSize = context.getSetting(EDC_SQL_BATCH_SIZE, parseInt(DEFAULT_EDC_SQL_BATCH_SIZE));
+        var statementCacheSize = context.getSetting(EDC_SQL_STATEMENT_CACHE_SIZE, parseInt(DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE));
+        var configuration = new SqlQueryExecutorConfiguration(fetchSize, batchSize, statementCacheSize);
         return new SqlQueryExecutor(configuration);
     }
 
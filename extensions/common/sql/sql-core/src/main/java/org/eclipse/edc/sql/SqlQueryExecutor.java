@@ -22,7 +22,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -37,6 +37,7 @@ import static java.util.stream.StreamSupport.stream;
 public class SqlQueryExecutor implements QueryExecutor {
 
     private final SqlQueryExecutorConfiguration configuration;
+    private final PreparedStatementCache statementCache;
 
     public SqlQueryExecutor() {
         this(SqlQueryExecutorConfiguration.ofDefaults());
@@ -44,6 +45,7 @@ public class SqlQueryExecutor implements QueryExecutor {
 
     public SqlQueryExecutor(SqlQueryExecutorConfiguration configuration) {
         this.configuration = configuration;
+        this.statementCache = configuration.statementCacheSize() > 0 ? new PreparedStatementCache(configuration.statementCacheSize()) : null;
     }
 
     @Override
@@ -52,9 +54,43 @@ public class SqlQueryExecutor implements QueryExecutor {
         Objects.requireNonNull(sql, "sql");
         Objects.requireNonNull(arguments, "arguments");
 
-        try (var statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
-            setArguments(statement, arguments);
-            return statement.execute() ? 0 : statement.getUpdateCount();
+        try {
+            return withStatement(connection, sql, statement -> {
+                setArguments(statement, arguments);
+                return statement.execute() ? 0 : statement.getUpdateCount();
+            });
+        } catch (Exception exception) {
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
+    @Override
+    public int executeBatch(Connection connection, String sql, Collection<Object[]> argumentSets) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(argumentSets, "argumentSets");
+
+        if (argumentSets.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return withStatement(connection, sql, statement -> {
+                var rowsChanged = 0;
+                var pending = 0;
+                for (var arguments : argumentSets) {
+                    setArguments(statement, arguments);
+                    statement.addBatch();
+                    if (++pending == configuration.batchSize()) {
+                        rowsChanged += rowsChanged(statement.executeBatch());
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    rowsChanged += rowsChanged(statement.executeBatch());
+                }
+                return rowsChanged;
+            });
         } catch (Exception exception) {
             throw new EdcPersistenceException(exception.getMessage(), exception);
         }
@@ -98,6 +134,32 @@ public class SqlQueryExecutor implements QueryExecutor {
         }
     }
 
+    private int withStatement(Connection connection, String sql, StatementExecution execution) throws SQLException {
+        if (statementCache == null) {
+            try (var statement = connection.prepareStatement(sql)) {
+                return execution.execute(statement);
+            }
+        }
+
+        var statement = statementCache.prepare(connection, sql);
+        try {
+            return execution.execute(statement);
+        } finally {
+            statement.clearBatch();
+            statement.clearParameters();
+        }
+    }
+
+    private int rowsChanged(int[] updateCounts) {
+        var rowsChanged = 0;
+        for (var updateCount : updateCounts) {
+            if (updateCount > 0) {
+                rowsChanged += updateCount;
+            }
+        }
+        return rowsChanged;
+    }
+
     private void setArguments(PreparedStatement statement, Object[] arguments) throws SQLException {
         for (var index = 0; index < arguments.length; index++) {
             var position = index + 1;
@@ -106,8 +168,7 @@ public class SqlQueryExecutor implements QueryExecutor {
     }
 
     private void setArgument(PreparedStatement statement, int position, Object argument) throws SQLException {
-        var argumentHandler = Arrays.stream(ArgumentHandlers.values()).filter(it -> it.accepts(argument))
-                .findFirst().orElse(null);
+        var argumentHandler = ArgumentHandlers.forArgument(argument);
 
         if (argumentHandler != null) {
             argumentHandler.handle(statement, position, argument);
@@ -135,4 +196,9 @@ public class SqlQueryExecutor implements QueryExecutor {
         };
     }
 
+    @FunctionalInterface
+    private interface StatementExecution {
+        int execute(PreparedStatement statement) throws SQLException;
+    }
+
 }
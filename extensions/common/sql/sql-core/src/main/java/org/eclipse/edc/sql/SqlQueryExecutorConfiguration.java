@@ -14,12 +14,22 @@
 
 package org.eclipse.edc.sql;
 
+import static org.eclipse.edc.sql.SqlCoreExtension.DEFAULT_EDC_SQL_BATCH_SIZE;
 import static org.eclipse.edc.sql.SqlCoreExtension.DEFAULT_EDC_SQL_FETCH_SIZE;
+import static org.eclipse.edc.sql.SqlCoreExtension.DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE;
 
 /**
  * Configuration class for {@link SqlQueryExecutor}
+ *
+ * @param fetchSize          the fetch size used in reading queries
+ * @param batchSize          the maximum number of rows sent to the database in a single JDBC batch
+ * @param statementCacheSize the maximum number of prepared statements kept open per connection for reuse, 0 disables the reuse
  */
-public record SqlQueryExecutorConfiguration(int fetchSize) {
+public record SqlQueryExecutorConfiguration(int fetchSize, int batchSize, int statementCacheSize) {
+
+    public SqlQueryExecutorConfiguration(int fetchSize) {
+        this(fetchSize, Integer.parseInt(DEFAULT_EDC_SQL_BATCH_SIZE), Integer.parseInt(DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE));
+    }
 
     public static SqlQueryExecutorConfiguration ofDefaults() {
         return new SqlQueryExecutorConfiguration(Integer.parseInt(DEFAULT_EDC_SQL_FETCH_SIZE));
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.util.reflection.PathItem;
+
+import java.util.List;
+
+/**
+ * {@link JsonFieldTranslator} that translates the equality of a nested field with a string into a JSONB containment
+ * check, e.g. {@code column::jsonb @> '{"nested":{"field":"value"}}'}. Unlike the {@code ->>} extraction, the
+ * containment operator can be served by a GIN index on the column, either a {@code JSONB} column or a {@code JSON}
+ * column indexed on the {@code column::jsonb} expression.
+ * <p>
+ * The containment only matches values stored as JSON strings, while the {@code ->>} extraction also matches numbers
+ * and booleans by their text representation. All the other operators and operand types are translated as in
+ * {@link JsonFieldTranslator}.
+ */
+public class JsonbFieldTranslator extends JsonFieldTranslator {
+
+    private static final String EQUAL = "=";
+
+    public JsonbFieldTranslator(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    public WhereClause toWhereClause(List<PathItem> path, Criterion criterion, SqlOperator operator) {
+        if (!path.isEmpty() && EQUAL.equals(operator.representation()) && criterion.getOperandRight() instanceof String value) {
+            return new WhereClause("%s::jsonb @> ?::jsonb".formatted(columnName), List.of(toJsonDocument(path, value)));
+        }
+        return super.toWhereClause(path, criterion, operator);
+    }
+
+    private String toJsonDocument(List<PathItem> path, String value) {
+        var root = JsonNodeFactory.instance.objectNode();
+        var node = root;
+        for (var i = 0; i < path.size() - 1; i++) {
+            node = node.putObject(path.get(i).toString());
+        }
+        node.put(path.get(path.size() - 1).toString(), value);
+        return root.toString();
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 
@@ -28,6 +29,10 @@ import static java.util.stream.Collectors.joining;
  * Maps a {@link QuerySpec} to a single SQL {@code SELECT ... FROM ... WHERE ...} statement. The {@code SELECT ...} part
  * is passed in through the constructor, and the rest of the query is assembled dynamically, based on the
  * {@link QuerySpec} and the {@link TranslationMapping}.
+ * <p>
+ * Sorted queries are ordered by the id as well, when the mapping has one, so that the order is stable. A continuation
+ * token in the {@link QuerySpec} is translated into a keyset condition on the sort field and the id, that selects the
+ * rows following the last row of the previous page.
  */
 public class SqlQueryStatement {
 
@@ -35,6 +40,7 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
 
     private static final String ORDER_BY_TOKEN = "ORDER BY %s %s";
+    private static final String ID_FIELD = "id";
 
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
@@ -158,20 +164,66 @@ public class SqlQueryStatement {
                     parameters.addAll(whereClause.parameters());
                 });
 
-        orderByClause = parseSortField(query);
+        var sortField = parseSortField(query);
+        var idField = sortFieldConverter.convert(ID_FIELD);
+        var order = query.getSortOrder() == SortOrder.ASC ? "ASC" : "DESC";
+
+        if (query.getContinuationToken() != null) {
+            if (idField == null) {
+                throw new IllegalArgumentException("Cannot continue the query because there is no id field");
+            }
+            addContinuationClause(ContinuationToken.decode(query.getContinuationToken()), sortField, idField, query.getSortOrder());
+        }
+
+        if (sortField != null && idField != null && !sortField.equals(idField)) {
+            orderByClause = String.format(ORDER_BY_TOKEN + ", %s %s ", sortField, order, idField, order);
+        } else if (sortField != null) {
+            orderByClause = String.format(ORDER_BY_TOKEN + " ", sortField, order);
+        } else if (query.getContinuationToken() != null) {
+            orderByClause = String.format(ORDER_BY_TOKEN + " ", idField, order);
+        }
     }
 
     private String parseSortField(QuerySpec query) {
         if (query.getSortField() == null) {
-            return orderByClause;
+            return null;
+        }
+        var sortField = sortFieldConverter.convert(query.getSortField());
+        if (sortField == null) {
+            throw new IllegalArgumentException(format("Cannot sort by %s because the field does not exist", query.getSortField()));
+        }
+        return sortField;
+    }
+
+    /**
+     * Selects the rows after the token position in the sort order. Postgres sorts nulls last in ascending order and
+     * first in descending order, so the rows with a null sort value are selected accordingly.
+     */
+    private void addContinuationClause(ContinuationToken token, String sortField, String idField, SortOrder sortOrder) {
+        var comparison = sortOrder == SortOrder.ASC ? ">" : "<";
+        var sortValue = toSortParameter(sortField, token.sortValue());
+        if (sortField == null || sortField.equals(idField)) {
+            addWhereClause(format("%s %s ?", idField, comparison), token.id());
+        } else if (token.sortValue() == null && sortOrder == SortOrder.ASC) {
+            addWhereClause(format("(%s IS NULL AND %s > ?)", sortField, idField), token.id());
+        } else if (token.sortValue() == null) {
+            addWhereClause(format("((%s IS NULL AND %s < ?) OR %s IS NOT NULL)", sortField, idField, sortField), token.id());
+        } else if (sortOrder == SortOrder.ASC) {
+            addWhereClause(format("((%s, %s) > (?, ?) OR %s IS NULL)", sortField, idField, sortField), sortValue, token.id());
         } else {
-            var order = query.getSortOrder() == SortOrder.ASC ? "ASC" : "DESC";
-            var sortField = sortFieldConverter.convert(query.getSortField());
-            if (sortField == null) {
-                throw new IllegalArgumentException(format("Cannot sort by %s because the field does not exist", query.getSortField()));
-            }
-            return String.format(ORDER_BY_TOKEN + " ", sortField, order);
+            addWhereClause(format("(%s, %s) < (?, ?)", sortField, idField), sortValue, token.id());
+        }
+    }
+
+    /**
+     * JSON fields are sorted by the text extracted with the {@code ->>} operator, so the token value, that may be a
+     * number or a boolean after decoding, is bound as text too. Plain columns are compared with the value as decoded.
+     */
+    private Object toSortParameter(String sortField, Object sortValue) {
+        if (sortField != null && sortValue != null && sortField.contains("->>")) {
+            return sortValue.toString();
         }
+        return sortValue;
     }
 
 }
@@ -26,10 +26,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
 import static java.lang.String.format;
+import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -100,6 +102,18 @@ public class SqlQueryExecutorIntegrationTest {
         assertThat(kvs).hasSize(1).first().isEqualTo(keyValue);
     }
 
+    @Test
+    void executeBatch_shouldInsertAllRows(Connection connection) {
+        var batchingExecutor = new SqlQueryExecutor(new SqlQueryExecutorConfiguration(100, 10, 5));
+        List<Object[]> rows = range(0, 25).mapToObj(i -> new Object[]{ "key" + i, "value" + i }).toList();
+
+        var rowsChanged = batchingExecutor.executeBatch(connection, format("INSERT INTO %s (k, v) values (?, ?)", table), rows);
+
+        assertThat(rowsChanged).isEqualTo(25);
+        var count = executor.single(connection, false, (rs) -> rs.getInt(1), format("SELECT COUNT(*) FROM %s", table));
+        assertThat(count).isEqualTo(25);
+    }
+
     @Test
     void testInvalidSql(Connection connection) {
         assertThatThrownBy(() -> executor.execute(connection, "Lorem ipsum dolor sit amet")).isInstanceOf(EdcPersistenceException.class);
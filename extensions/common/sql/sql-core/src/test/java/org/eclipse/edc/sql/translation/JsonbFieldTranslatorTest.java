@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.util.reflection.PathItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class JsonbFieldTranslatorTest {
+
+    private final JsonbFieldTranslator translator = new JsonbFieldTranslator("column_name");
+
+    @Test
+    void shouldReturnContainmentClause_whenOperatorIsEqualAndRightOperandIsString() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.field", "=", "value");
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name::jsonb @> ?::jsonb");
+        assertThat(result.parameters()).containsExactly("{\"field\":\"value\"}");
+    }
+
+    @Test
+    void shouldNestContainmentDocument_whenPathHasMultipleEntries() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.nested.'https://w3id.org/edc/v0.0.1/ns/id'", "=", "value \"quoted\"");
+
+        var result = translator.toWhereClause(PathItem.parse("nested.'https://w3id.org/edc/v0.0.1/ns/id'"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name::jsonb @> ?::jsonb");
+        assertThat(result.parameters()).containsExactly("{\"nested\":{\"https://w3id.org/edc/v0.0.1/ns/id\":\"value \\\"quoted\\\"\"}}");
+    }
+
+    @Test
+    void shouldFallbackToJsonExtraction_whenRightOperandIsNotString() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.field", "=", true);
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name ->> 'field')::boolean = ?");
+    }
+
+    @Test
+    void shouldFallbackToJsonExtraction_whenOperatorIsNotEqual() {
+        var operator = new SqlOperator("in", Object.class);
+        var criterion = criterion("json.field", "in", List.of("value1", "value2"));
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name ->> 'field' in (?,?)");
+        assertThat(result.parameters()).containsExactly("value1", "value2");
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -114,6 +115,77 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void orderBy_shouldAddIdAsTieBreaker_whenMappingHasId() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void continuationToken_shouldSelectRowsAfterTokenPosition() {
+        var token = new ContinuationToken("description-5", "id-5").encode();
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.ASC).continuationToken(token).limit(10).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE ((edc_description, edc_id) > (?, ?) OR edc_description IS NULL) ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("description-5", "id-5", 10, 0);
+    }
+
+    @Test
+    void continuationToken_shouldSelectRowsBeforeTokenPosition_whenDescending() {
+        var token = new ContinuationToken(5, "id-5").encode();
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).continuationToken(token).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description, edc_id) < (?, ?) ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly(5, "id-5", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldBindSortValueAsText_whenSortingByJsonField() {
+        var token = new ContinuationToken(5, "id-5").encode();
+        var query = queryBuilder().sortField("properties.rank").sortOrder(SortOrder.DESC).continuationToken(token).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new JsonIdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_properties ->> 'rank', edc_id) < (?, ?) ORDER BY edc_properties ->> 'rank' DESC, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("5", "id-5", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldSelectRowsWithNullSortValue_whenTokenSortValueIsNull() {
+        var token = new ContinuationToken(null, "id-5").encode();
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.ASC).continuationToken(token).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE (edc_description IS NULL AND edc_id > ?) ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id-5", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldOrderById_whenNoSortField() {
+        var token = new ContinuationToken(null, "id-5").encode();
+        var query = queryBuilder().continuationToken(token).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping(), criterionToWhereClauseConverter);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_id > ? ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id-5", 50, 0);
+    }
+
+    @Test
+    void continuationToken_shouldThrow_whenMappingHasNoId() {
+        var token = new ContinuationToken(null, "id-5").encode();
+        var query = queryBuilder().sortField("description").continuationToken(token).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), criterionToWhereClauseConverter))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
@@ -121,4 +193,16 @@ class SqlQueryStatementTest {
     private QuerySpec query(Criterion... criterion) {
         return queryBuilder(criterion).build();
     }
+
+    private static class IdTestMapping extends TestMapping {
+        IdTestMapping() {
+            add("id", "edc_id");
+        }
+    }
+
+    private static class JsonIdTestMapping extends IdTestMapping {
+        JsonIdTestMapping() {
+            add("properties", new JsonFieldTranslator("edc_properties"));
+        }
+    }
 }
@@ -17,6 +17,7 @@ package org.eclipse.edc.sql.lease;
 import org.eclipse.edc.sql.statement.SqlStatements;
 
 import static java.lang.String.format;
+import static java.util.Collections.nCopies;
 
 /**
  * Encapsulates statements and table/column names to manipulate lease entities.
@@ -30,6 +31,56 @@ public interface LeaseStatements extends SqlStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * The name of the table that contains the leased entities.
+     *
+     * @return the table name.
+     */
+    String getEntityTableName();
+
+    /**
+     * The id column of the table that contains the leased entities.
+     *
+     * @return the column name.
+     */
+    String getIdColumn();
+
+    /**
+     * Multi-row insert of {@code count} leases, every row takes lease id, leased by, leased at and lease duration parameters.
+     *
+     * @param count the number of leases.
+     * @return the statement.
+     */
+    default String getInsertLeasesTemplate(int count) {
+        return format("INSERT INTO %s (%s, %s, %s, %s) VALUES %s",
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(),
+                String.join(", ", nCopies(count, "(?, ?, ?, ?)")));
+    }
+
+    /**
+     * Deletes the expired leases of {@code count} entities, takes the entity ids and the current timestamp as parameters.
+     *
+     * @param count the number of entities.
+     * @return the statement.
+     */
+    default String getDeleteExpiredLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (%s)) AND (? > (%s + %s))",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getEntityTableName(), getIdColumn(),
+                placeholders(count), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    /**
+     * Sets the lease on {@code count} not leased entities, takes the (entity id, lease id) pairs followed by the entity ids as parameters.
+     *
+     * @param count the number of entities.
+     * @return the statement.
+     */
+    default String getUpdateLeasesTemplate(int count) {
+        return format("UPDATE %s SET %s = CASE %s %s END WHERE %s IN (%s) AND %s IS NULL",
+                getEntityTableName(), getLeaseIdColumn(), getIdColumn(), String.join(" ", nCopies(count, "WHEN ? THEN ?")),
+                getIdColumn(), placeholders(count), getLeaseIdColumn());
+    }
+
     default String getNotLeasedFilter() {
         return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
                 getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
@@ -56,4 +107,8 @@ public interface LeaseStatements extends SqlStatements {
         return "lease_id";
     }
 
+    private String placeholders(int count) {
+        return String.join(", ", nCopies(count, "?"));
+    }
+
 }
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.postgresql.PGConnection;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Listens on a Postgres notification channel with {@code LISTEN} on a dedicated connection and dispatches every
+ * received notification to the local listeners of a {@link SqlEntitySaveNotifier}.
+ * The Postgres JDBC driver must be available on the classpath. As {@code LISTEN} does not accept a bind parameter, the
+ * channel must be a plain SQL identifier.
+ */
+public class PostgresNotificationListener {
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long RECONNECT_DELAY_MILLIS = 5000;
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]{0,62}");
+
+    private final Supplier<DataSource> dataSourceSupplier;
+    private final SqlEntitySaveNotifier notifier;
+    private final Monitor monitor;
+    private final AtomicBoolean active = new AtomicBoolean();
+    private ScheduledExecutorService executor;
+
+    public PostgresNotificationListener(Supplier<DataSource> dataSourceSupplier, SqlEntitySaveNotifier notifier, Monitor monitor) {
+        var channel = notifier.getChannel();
+        if (channel != null && !CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException(format("Invalid notification channel '%s', it must be an SQL identifier of at most 63 letters, digits or underscores", channel));
+        }
+        this.dataSourceSupplier = dataSourceSupplier;
+        this.notifier = notifier;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Start listening on the channel of the notifier.
+     */
+    public void start() {
+        if (notifier.getChannel() == null) {
+            throw new IllegalStateException("Cannot listen for notifications, no channel configured");
+        }
+        active.set(true);
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("PostgresNotificationListener-" + notifier.getChannel());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::listen);
+    }
+
+    /**
+     * Stop listening.
+     */
+    public void stop() {
+        active.set(false);
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(POLL_TIMEOUT_MILLIS * 2L, MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void listen() {
+        try (var connection = dataSourceSupplier.get().getConnection()) {
+            connection.setAutoCommit(true);
+            try (var statement = connection.createStatement()) {
+                statement.execute(format("LISTEN \"%s\"", notifier.getChannel()));
+            }
+
+            var pgConnection = connection.unwrap(PGConnection.class);
+            while (active.get()) {
+                var notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                if (notifications != null && notifications.length > 0) {
+                    notifier.dispatch();
+                }
+            }
+        } catch (Exception e) {
+            if (active.get()) {
+                monitor.warning(format("Listening on channel %s failed, retrying in %s ms", notifier.getChannel(), RECONNECT_DELAY_MILLIS), e);
+                try {
+                    executor.schedule(this::listen, RECONNECT_DELAY_MILLIS, MILLISECONDS);
+                } catch (RejectedExecutionException rejected) {
+                    monitor.debug(() -> format("Not retrying to listen on channel %s, the listener has been stopped", notifier.getChannel()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Notifies the registered listeners when an entity gets saved by an SQL store.
+ * If a notification channel is configured, a Postgres {@code NOTIFY} is sent on the channel within the current
+ * transaction, so that the other replicas listening on it through a {@link PostgresNotificationListener} get woken up
+ * as well once the transaction is committed.
+ */
+public class SqlEntitySaveNotifier {
+
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private final QueryExecutor queryExecutor;
+    private final String channel;
+
+    public SqlEntitySaveNotifier(QueryExecutor queryExecutor, @Nullable String channel) {
+        this.queryExecutor = queryExecutor;
+        this.channel = channel;
+    }
+
+    /**
+     * Creates a notifier that notifies only the listeners registered in the current runtime.
+     *
+     * @param queryExecutor the query executor.
+     * @return the notifier.
+     */
+    public static SqlEntitySaveNotifier local(QueryExecutor queryExecutor) {
+        return new SqlEntitySaveNotifier(queryExecutor, null);
+    }
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener the listener.
+     */
+    public void register(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Sends the notification on the channel, if configured, then notifies the local listeners once the current
+     * transaction has been committed, so that they can see the saved entity.
+     *
+     * @param transactionContext the transaction context in which the entity has been saved.
+     * @param connection         the connection on which the entity has been saved.
+     */
+    public void notifySaved(TransactionContext transactionContext, Connection connection) {
+        if (channel != null) {
+            queryExecutor.execute(connection, "SELECT pg_notify(?, '')", channel);
+        }
+        transactionContext.registerSynchronization(new TransactionContext.TransactionSynchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(boolean committed) {
+                if (committed) {
+                    dispatch();
+                }
+            }
+        });
+    }
+
+    /**
+     * Notifies the local listeners.
+     */
+    public void dispatch() {
+        listeners.forEach(Runnable::run);
+    }
+
+    @Nullable
+    public String getChannel() {
+        return channel;
+    }
+}
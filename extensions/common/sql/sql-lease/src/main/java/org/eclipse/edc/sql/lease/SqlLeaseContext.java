@@ -26,6 +26,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -101,6 +103,50 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires the leases for all the passed entities with a constant number of statements: expired leases get deleted,
+     * then the new leases are inserted with a single multi-row insert and assigned to the entities with a single update.
+     *
+     * @param entityIds The database IDs of the entities
+     * @throws IllegalStateException if any of the entities is currently leased.
+     */
+    @Override
+    public void acquireLeases(Collection<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+
+        trxContext.execute(() -> {
+            var now = clock.millis();
+            var count = entityIds.size();
+
+            var deleteParams = new ArrayList<>(entityIds);
+            deleteParams.add(now);
+            queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(count), deleteParams.toArray());
+
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var insertParams = new ArrayList<>();
+            var updateParams = new ArrayList<>();
+            for (var entityId : entityIds) {
+                var id = UUID.randomUUID().toString();
+                insertParams.add(id);
+                insertParams.add(leaseHolder);
+                insertParams.add(now);
+                insertParams.add(duration);
+                updateParams.add(entityId);
+                updateParams.add(id);
+            }
+            updateParams.addAll(entityIds);
+
+            queryExecutor.execute(connection, statements.getInsertLeasesTemplate(count), insertParams.toArray());
+
+            var updated = queryExecutor.execute(connection, statements.getUpdateLeasesTemplate(count), updateParams.toArray());
+            if (updated != count) {
+                throw new IllegalStateException("Some of the entities are currently leased!");
+            }
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgresNotificationListenerTest {
+
+    private final DataSource dataSource = mock();
+    private final Monitor monitor = mock();
+    private PostgresNotificationListener listener;
+
+    @AfterEach
+    void tearDown() {
+        if (listener != null) {
+            listener.stop();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "channel\"; DROP TABLE edc_lease; --", "1channel", "channel-name", "" })
+    void shouldRejectChannel_whenNotAnIdentifier(String channel) {
+        var notifier = new SqlEntitySaveNotifier(mock(QueryExecutor.class), channel);
+
+        assertThatThrownBy(() -> new PostgresNotificationListener(() -> dataSource, notifier, monitor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void start_shouldListenOnChannelAndDispatchNotifications() throws Exception {
+        var notifier = new SqlEntitySaveNotifier(mock(QueryExecutor.class), "edc_channel");
+        var dispatched = new CountDownLatch(1);
+        notifier.register(dispatched::countDown);
+        var statement = mock(Statement.class);
+        var connection = mock(Connection.class);
+        var pgConnection = mock(PGConnection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getNotifications(anyInt())).thenReturn(new PGNotification[]{ mock() }).thenAnswer(i -> {
+            Thread.sleep(10);
+            return new PGNotification[0];
+        });
+        listener = new PostgresNotificationListener(() -> dataSource, notifier, monitor);
+
+        listener.start();
+
+        assertThat(dispatched.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(statement).execute("LISTEN \"edc_channel\"");
+    }
+
+    @Test
+    void stop_shouldNotRetry_whenListeningFailsAfterStop() throws Exception {
+        var notifier = new SqlEntitySaveNotifier(mock(QueryExecutor.class), "edc_channel");
+        var connecting = new CountDownLatch(1);
+        var stopped = new CountDownLatch(1);
+        when(dataSource.getConnection()).thenAnswer(i -> {
+            connecting.countDown();
+            stopped.await(5, TimeUnit.SECONDS);
+            throw new SQLException("connection closed");
+        });
+        listener = new PostgresNotificationListener(() -> dataSource, notifier, monitor);
+        listener.start();
+        assertThat(connecting.await(5, TimeUnit.SECONDS)).isTrue();
+
+        listener.stop();
+        stopped.countDown();
+
+        verify(dataSource, timeout(1000).times(1)).getConnection();
+    }
+}
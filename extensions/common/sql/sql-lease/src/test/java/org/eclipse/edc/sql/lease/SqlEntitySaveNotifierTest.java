@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.local.LocalTransactionContext;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class SqlEntitySaveNotifierTest {
+
+    private final LocalTransactionContext transactionContext = new LocalTransactionContext(mock(Monitor.class));
+    private final SqlEntitySaveNotifier notifier = SqlEntitySaveNotifier.local(mock(QueryExecutor.class));
+
+    @Test
+    void notifySaved_shouldDispatchAfterCommit() {
+        var dispatched = new AtomicBoolean();
+        notifier.register(() -> dispatched.set(true));
+
+        transactionContext.execute(() -> {
+            notifier.notifySaved(transactionContext, mock(Connection.class));
+            assertThat(dispatched).isFalse();
+        });
+
+        assertThat(dispatched).isTrue();
+    }
+
+    @Test
+    void notifySaved_shouldNotDispatch_whenRolledBack() {
+        var dispatched = new AtomicBoolean();
+        notifier.register(() -> dispatched.set(true));
+
+        assertThatThrownBy(() -> transactionContext.execute(() -> {
+            notifier.notifySaved(transactionContext, mock(Connection.class));
+            throw new EdcException("rollback");
+        })).isInstanceOf(EdcException.class);
+
+        assertThat(dispatched).isFalse();
+    }
+}
@@ -83,6 +83,7 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
             if (startedTransaction) {
                 // notify syncs before resources are called
                 transaction.getSynchronizations().forEach(TransactionSynchronization::beforeCompletion);
+                var committed = !transaction.isRollbackOnly();
                 if (transaction.isRollbackOnly()) {
                     resources.forEach(localTransactionResource -> {
                         try {
@@ -92,19 +93,31 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                         }
                     });
                 } else {
-                    resources.forEach(localTransactionResource -> {
+                    for (var localTransactionResource : resources) {
                         try {
                             localTransactionResource.commit();
                         } catch (Exception e) {
+                            committed = false;
                             monitor.severe("Error committing resource", e);
                         }
-                    });
+                    }
                 }
                 transactions.remove();
+                notifyAfterCompletion(transaction, committed);
             }
         }
     }
 
+    private void notifyAfterCompletion(Transaction transaction, boolean committed) {
+        transaction.getSynchronizations().forEach(sync -> {
+            try {
+                sync.afterCompletion(committed);
+            } catch (Exception e) {
+                monitor.severe("Error notifying transaction synchronization", e);
+            }
+        });
+    }
+
     @Override
     public void registerResource(LocalTransactionResource resource) {
         resources.add(resource);
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -154,6 +155,30 @@ class LocalTransactionContextTest {
         verify(sync, times(1)).beforeCompletion();
     }
 
+    @Test
+    void verifySynchronization_afterCompletion() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+
+        transactionContext.execute(() -> transactionContext.registerSynchronization(sync));
+
+        var inOrder = inOrder(sync, dsResource);
+        inOrder.verify(sync).beforeCompletion();
+        inOrder.verify(dsResource).commit();
+        inOrder.verify(sync).afterCompletion(true);
+    }
+
+    @Test
+    void verifySynchronization_afterCompletion_whenRolledBack() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+
+        assertThrows(EdcException.class, () -> transactionContext.execute(() -> {
+            transactionContext.registerSynchronization(sync);
+            throw new RuntimeException();
+        }));
+
+        verify(sync).afterCompletion(false);
+    }
+
     @BeforeEach
     void setUp() {
         transactionContext = new LocalTransactionContext(mock(Monitor.class));
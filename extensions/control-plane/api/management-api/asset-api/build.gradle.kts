@@ -24,6 +24,7 @@ dependencies {
     implementation(project(":extensions:common:api:api-core"))
     implementation(project(":extensions:common:api:management-api-configuration"))
     implementation(project(":core:common:lib:validator-lib"))
+    implementation(project(":core:common:lib:store-lib"))
 
     implementation(libs.jakarta.rsApi)
 
@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.controlplane.api.management.asset.v3;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -24,6 +23,7 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
@@ -31,6 +31,7 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.store.ContinuationTokens;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
@@ -40,6 +41,7 @@ import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.util.Optional.of;
+import static org.eclipse.edc.api.model.ApiCoreSchema.CONTINUATION_TOKEN_HEADER;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
@@ -83,7 +85,7 @@ public class AssetApiController implements AssetApi {
     @POST
     @Path("/request")
     @Override
-    public JsonArray requestAssets(JsonObject querySpecJson) {
+    public Response requestAssets(JsonObject querySpecJson) {
         QuerySpec querySpec;
         if (querySpecJson == null) {
             querySpec = QuerySpec.Builder.newInstance().build();
@@ -94,12 +96,17 @@ public class AssetApiController implements AssetApi {
                     .orElseThrow(InvalidRequestException::new);
         }
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null)).stream()
+        var assets = service.search(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null));
+        var body = assets.stream()
                 .map(it -> transformerRegistry.transform(it, JsonObject.class))
                 .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(toJsonArray());
+
+        return Response.ok(body)
+                .header(CONTINUATION_TOKEN_HEADER, ContinuationTokens.next(querySpec, assets, asset -> sortValue(asset, querySpec.getSortField())))
+                .build();
     }
 
     @GET
@@ -134,4 +141,20 @@ public class AssetApiController implements AssetApi {
                 .orElseThrow(exceptionMapper(Asset.class, assetResult.getId()));
     }
 
+    /**
+     * Resolves the sort value the way the asset index does: by the asset property, falling back to the id and
+     * creation timestamp, that are not properties.
+     */
+    private Object sortValue(Asset asset, String sortField) {
+        var property = asset.getPropertyOrPrivate(sortField);
+        if (property != null) {
+            return property;
+        }
+        return switch (sortField) {
+            case "id" -> asset.getId();
+            case "createdAt" -> asset.getCreatedAt();
+            default -> null;
+        };
+    }
+
 }
@@ -21,6 +21,7 @@ import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
 import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -38,6 +39,7 @@ import java.util.Map;
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static jakarta.json.Json.createObjectBuilder;
+import static org.eclipse.edc.api.model.ApiCoreSchema.CONTINUATION_TOKEN_HEADER;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_CREATED_AT;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_TYPE;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
@@ -111,6 +113,26 @@ class AssetApiControllerTest extends RestControllerTestBase {
         verify(transformerRegistry).transform(isA(JsonObject.class), eq(QuerySpec.class));
     }
 
+    @Test
+    void requestAsset_shouldReturnContinuationToken_whenPageIsFull() {
+        when(service.search(any()))
+                .thenReturn(ServiceResult.success(List.of(Asset.Builder.newInstance().id("asset-id").createdAt(5).build())));
+        when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(createAssetJson().build()));
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().sortField("createdAt").limit(1).build()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        baseRequest()
+                .contentType(JSON)
+                .body("{}")
+                .post("/assets/request")
+                .then()
+                .statusCode(200)
+                .header(CONTINUATION_TOKEN_HEADER, new ContinuationToken(5L, "asset-id").encode())
+                .body("size()", is(1));
+    }
+
     @Test
     void requestAsset_filtersOutFailedTransforms() {
         when(service.search(any()))
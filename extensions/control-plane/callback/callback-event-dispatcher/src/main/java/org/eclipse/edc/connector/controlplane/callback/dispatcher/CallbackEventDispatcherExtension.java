@@ -15,24 +15,76 @@
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
 import org.eclipse.edc.connector.controlplane.callback.CallbackProtocolResolverRegistryImpl;
+import org.eclipse.edc.connector.controlplane.callback.outbox.CallbackOutboxWorker;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
 public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    private static final int DEFAULT_OUTBOX_WORKERS = 4;
+    private static final int DEFAULT_OUTBOX_ENDPOINT_CONCURRENCY = 1;
+    private static final int DEFAULT_OUTBOX_BATCH_SIZE = 50;
+    private static final int DEFAULT_OUTBOX_ENDPOINT_QUEUE_SIZE = 50;
+    private static final long DEFAULT_OUTBOX_POLL_INTERVAL_MILLIS = 1000;
+    private static final long DEFAULT_OUTBOX_LEASE_MILLIS = 60_000;
+    private static final int DEFAULT_OUTBOX_MAX_ATTEMPTS = 10;
+    private static final long DEFAULT_OUTBOX_RETRY_BASE_DELAY_MILLIS = 1000;
+    private static final long DEFAULT_OUTBOX_RETRY_MAX_DELAY_MILLIS = 300_000;
+
+    @Setting(value = "if true, callbacks are stored in the callback outbox and delivered asynchronously with retries, instead of being invoked when the event is raised",
+            type = "boolean", defaultValue = "false")
+    private static final String OUTBOX_ENABLED = "edc.callback.outbox.enabled";
+
+    @Setting(value = "the number of threads delivering the callbacks of the outbox", type = "int", defaultValue = DEFAULT_OUTBOX_WORKERS + "")
+    private static final String OUTBOX_WORKERS = "edc.callback.outbox.workers";
+
+    @Setting(value = "the maximum number of concurrent deliveries to the same callback URI", type = "int", defaultValue = DEFAULT_OUTBOX_ENDPOINT_CONCURRENCY + "")
+    private static final String OUTBOX_ENDPOINT_CONCURRENCY = "edc.callback.outbox.endpoint.concurrency";
+
+    @Setting(value = "the maximum number of callbacks waiting for delivery to the same callback URI, further callbacks are left in the outbox until there is room",
+            type = "int", defaultValue = DEFAULT_OUTBOX_ENDPOINT_QUEUE_SIZE + "")
+    private static final String OUTBOX_ENDPOINT_QUEUE_SIZE = "edc.callback.outbox.endpoint.queue-size";
+
+    @Setting(value = "if true, the callbacks in the outbox dead letters are retried from scratch at startup, otherwise they are only reported", type = "boolean", defaultValue = "false")
+    private static final String OUTBOX_REPLAY_DEAD_LETTERS = "edc.callback.outbox.dead-letters.replay";
+
+    @Setting(value = "the maximum number of callbacks fetched from the outbox at each poll", type = "int", defaultValue = DEFAULT_OUTBOX_BATCH_SIZE + "")
+    private static final String OUTBOX_BATCH_SIZE = "edc.callback.outbox.batch.size";
+
+    @Setting(value = "the time in milliseconds between two polls of the outbox", type = "long", defaultValue = DEFAULT_OUTBOX_POLL_INTERVAL_MILLIS + "")
+    private static final String OUTBOX_POLL_INTERVAL_MILLIS = "edc.callback.outbox.poll-interval-millis";
+
+    @Setting(value = "the time in milliseconds a fetched callback is reserved for delivery, also the timeout of a single delivery", type = "long", defaultValue = DEFAULT_OUTBOX_LEASE_MILLIS + "")
+    private static final String OUTBOX_LEASE_MILLIS = "edc.callback.outbox.lease-millis";
+
+    @Setting(value = "the number of failed deliveries after which a callback is moved to the dead letters", type = "int", defaultValue = DEFAULT_OUTBOX_MAX_ATTEMPTS + "")
+    private static final String OUTBOX_MAX_ATTEMPTS = "edc.callback.outbox.retry.max-attempts";
+
+    @Setting(value = "the time in milliseconds before the first retry of a failed delivery, doubled at each further retry", type = "long", defaultValue = DEFAULT_OUTBOX_RETRY_BASE_DELAY_MILLIS + "")
+    private static final String OUTBOX_RETRY_BASE_DELAY_MILLIS = "edc.callback.outbox.retry.base-delay-millis";
+
+    @Setting(value = "the maximum time in milliseconds between two retries of a failed delivery", type = "long", defaultValue = DEFAULT_OUTBOX_RETRY_MAX_DELAY_MILLIS + "")
+    private static final String OUTBOX_RETRY_MAX_DELAY_MILLIS = "edc.callback.outbox.retry.max-delay-millis";
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +97,17 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    CallbackOutboxStore outboxStore;
+
+    @Inject
+    ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    Clock clock;
+
+    private CallbackOutboxWorker outboxWorker;
+
     @Override
     public String name() {
         return NAME;
@@ -56,9 +119,45 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
         var resolverRegistry = new CallbackProtocolResolverRegistryImpl();
         context.registerService(CallbackProtocolResolverRegistry.class, resolverRegistry);
 
+        var outbox = context.getSetting(OUTBOX_ENABLED, false) ? outboxStore : null;
+        if (outbox != null) {
+            outboxWorker = CallbackOutboxWorker.Builder.newInstance()
+                    .store(outbox)
+                    .dispatcherRegistry(dispatcherRegistry)
+                    .resolverRegistry(resolverRegistry)
+                    .executorInstrumentation(executorInstrumentation)
+                    .monitor(monitor)
+                    .clock(clock)
+                    .workers(context.getSetting(OUTBOX_WORKERS, DEFAULT_OUTBOX_WORKERS))
+                    .endpointConcurrency(context.getSetting(OUTBOX_ENDPOINT_CONCURRENCY, DEFAULT_OUTBOX_ENDPOINT_CONCURRENCY))
+                    .endpointQueueSize(context.getSetting(OUTBOX_ENDPOINT_QUEUE_SIZE, DEFAULT_OUTBOX_ENDPOINT_QUEUE_SIZE))
+                    .replayDeadLetters(context.getSetting(OUTBOX_REPLAY_DEAD_LETTERS, false))
+                    .batchSize(context.getSetting(OUTBOX_BATCH_SIZE, DEFAULT_OUTBOX_BATCH_SIZE))
+                    .pollInterval(Duration.ofMillis(context.getSetting(OUTBOX_POLL_INTERVAL_MILLIS, DEFAULT_OUTBOX_POLL_INTERVAL_MILLIS)))
+                    .leaseDuration(Duration.ofMillis(context.getSetting(OUTBOX_LEASE_MILLIS, DEFAULT_OUTBOX_LEASE_MILLIS)))
+                    .maxAttempts(context.getSetting(OUTBOX_MAX_ATTEMPTS, DEFAULT_OUTBOX_MAX_ATTEMPTS))
+                    .baseDelay(Duration.ofMillis(context.getSetting(OUTBOX_RETRY_BASE_DELAY_MILLIS, DEFAULT_OUTBOX_RETRY_BASE_DELAY_MILLIS)))
+                    .maxDelay(Duration.ofMillis(context.getSetting(OUTBOX_RETRY_MAX_DELAY_MILLIS, DEFAULT_OUTBOX_RETRY_MAX_DELAY_MILLIS)))
+                    .build();
+        }
+
         // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
-        router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor, outbox));
+        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor, outbox));
 
     }
+
+    @Override
+    public void start() {
+        if (outboxWorker != null) {
+            outboxWorker.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (outboxWorker != null) {
+            outboxWorker.stop();
+        }
+    }
 }
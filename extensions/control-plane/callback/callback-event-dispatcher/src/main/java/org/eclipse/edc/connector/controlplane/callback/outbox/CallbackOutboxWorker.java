@@ -0,0 +1,428 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.outbox;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Delivers the entries of the {@link CallbackOutboxStore} to their callbacks.
+ * <p>
+ * Due entries are leased from the store in batches and queued per endpoint. Each endpoint is drained by at most
+ * {@code endpointConcurrency} workers of a shared pool, so a slow endpoint cannot hold more than its share of the
+ * workers, and events to the same endpoint are sent one after the other by the same worker. An endpoint queue holds at
+ * most {@code endpointQueueSize} entries, further entries are handed back to the store, so that a slow endpoint does
+ * not fill the room left for the others. The lease of an entry is renewed when it is taken from the queue, and an
+ * entry whose lease was taken over in the meantime is dropped, as its new holder delivers it. Failed deliveries are
+ * retried with an exponential backoff and moved to the dead letters after the maximum number of attempts. Delivery is
+ * at-least-once: an entry whose delivery outlasts its lease can be delivered again.
+ */
+public class CallbackOutboxWorker {
+
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private CallbackOutboxStore store;
+    private RemoteMessageDispatcherRegistry dispatcherRegistry;
+    private CallbackProtocolResolverRegistry resolverRegistry;
+    private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private Monitor monitor;
+    private Clock clock = Clock.systemUTC();
+    private int workers = 4;
+    private int endpointConcurrency = 1;
+    private int batchSize = 50;
+    private int endpointQueueSize = 50;
+    private boolean replayDeadLetters;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Duration leaseDuration = Duration.ofMinutes(1);
+    private int maxAttempts = 10;
+    private Duration baseDelay = Duration.ofSeconds(1);
+    private Duration maxDelay = Duration.ofMinutes(5);
+    private ExecutorService deliveryExecutor;
+    private ScheduledExecutorService pollExecutor;
+
+    private CallbackOutboxWorker() {
+    }
+
+    public void start() {
+        if (replayDeadLetters) {
+            replayDeadLetters();
+        } else {
+            reportDeadLetters();
+        }
+        deliveryExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(workers), "callback-outbox-delivery");
+        pollExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "callback-outbox-poll");
+        pollExecutor.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), MILLISECONDS);
+    }
+
+    public void stop() {
+        if (pollExecutor != null) {
+            pollExecutor.shutdownNow();
+        }
+        if (deliveryExecutor != null) {
+            deliveryExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Leases the due entries, as many as there is room for in the endpoint queues, and queues them for delivery.
+     */
+    void poll() {
+        try {
+            var room = Math.min(batchSize, workers * batchSize - pending.get());
+            if (room <= 0) {
+                return;
+            }
+            store.leaseDue(room, leaseDuration).forEach(this::enqueue);
+        } catch (Exception e) {
+            monitor.severe("Failed to poll the callback outbox", e);
+        }
+    }
+
+    /**
+     * Moves the dead letters back to the due entries, with their attempts reset.
+     */
+    void replayDeadLetters() {
+        try {
+            var replayed = 0;
+            for (var deadLetters = store.findDeadLetters(batchSize); !deadLetters.isEmpty(); deadLetters = store.findDeadLetters(batchSize)) {
+                var updated = deadLetters.stream()
+                        .filter(entry -> store.update(entry.toBuilder()
+                                .deadLetter(false)
+                                .attempts(0)
+                                .nextAttemptAt(clock.millis())
+                                .errorDetail(null)
+                                .build(), entry.getNextAttemptAt()))
+                        .count();
+                if (updated == 0) {
+                    break;
+                }
+                replayed += (int) updated;
+            }
+            monitor.info(format("Replayed %d callbacks from the outbox dead letters", replayed));
+        } catch (Exception e) {
+            monitor.severe("Failed to replay the callback outbox dead letters", e);
+        }
+    }
+
+    private void reportDeadLetters() {
+        try {
+            var deadLetters = store.findDeadLetters(batchSize);
+            if (!deadLetters.isEmpty()) {
+                var ids = deadLetters.stream().map(CallbackOutboxEntry::getId).collect(joining(", "));
+                monitor.warning(format("Callbacks that could not be delivered are in the outbox dead letters: %s", ids));
+            }
+        } catch (Exception e) {
+            monitor.severe("Failed to read the callback outbox dead letters", e);
+        }
+    }
+
+    private void enqueue(CallbackOutboxEntry entry) {
+        var endpoint = entry.getCallbackAddress().getUri();
+        var startWorker = new AtomicBoolean();
+        var queued = new AtomicBoolean();
+        lanes.compute(endpoint, (key, lane) -> {
+            var current = lane == null ? new Lane() : lane;
+            if (current.queue.size() >= endpointQueueSize) {
+                return current;
+            }
+            current.queue.add(entry);
+            queued.set(true);
+            if (current.running < endpointConcurrency) {
+                current.running++;
+                startWorker.set(true);
+            }
+            return current;
+        });
+
+        if (!queued.get()) {
+            release(entry);
+            return;
+        }
+        pending.incrementAndGet();
+        if (startWorker.get()) {
+            deliveryExecutor.execute(() -> drain(endpoint));
+        }
+    }
+
+    /**
+     * Hands an entry that cannot be queued back to the store, after the entries that are due now.
+     */
+    private void release(CallbackOutboxEntry entry) {
+        try {
+            store.update(entry.toBuilder().nextAttemptAt(clock.millis() + pollInterval.toMillis()).build(), entry.getNextAttemptAt());
+        } catch (Exception e) {
+            monitor.warning(format("Failed to release callback outbox entry %s, it will be delivered when its lease expires", entry.getId()), e);
+        }
+    }
+
+    private void drain(String endpoint) {
+        for (var entry = next(endpoint); entry != null; entry = next(endpoint)) {
+            try {
+                var renewed = renew(entry);
+                if (renewed != null) {
+                    deliver(renewed);
+                }
+            } finally {
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Renews the lease of an entry taken from the queue, returns null if the entry is no longer held by this worker.
+     */
+    private CallbackOutboxEntry renew(CallbackOutboxEntry entry) {
+        try {
+            var renewed = entry.toBuilder().nextAttemptAt(clock.millis() + leaseDuration.toMillis()).build();
+            if (store.update(renewed, entry.getNextAttemptAt())) {
+                return renewed;
+            }
+            monitor.debug(() -> format("Callback outbox entry %s was deleted or leased again, skipping it", entry.getId()));
+        } catch (Exception e) {
+            monitor.warning(format("Failed to renew the lease of callback outbox entry %s, skipping it", entry.getId()), e);
+        }
+        return null;
+    }
+
+    /**
+     * Takes the next entry of the endpoint queue, releasing the worker slot when the queue is empty.
+     */
+    private CallbackOutboxEntry next(String endpoint) {
+        var next = new AtomicReference<CallbackOutboxEntry>();
+        lanes.computeIfPresent(endpoint, (key, lane) -> {
+            next.set(lane.queue.poll());
+            if (next.get() != null) {
+                return lane;
+            }
+            lane.running--;
+            return lane.running == 0 ? null : lane;
+        });
+        return next.get();
+    }
+
+    private void deliver(CallbackOutboxEntry entry) {
+        var callback = entry.getCallbackAddress();
+        try {
+            var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
+            if (protocol == null) {
+                deadLetter(entry, entry.getAttempts(), format("Failed to resolve protocol for URI %s", callback.getUri()));
+                return;
+            }
+
+            var result = dispatcherRegistry.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, entry.getEvent(), protocol))
+                    .get(leaseDuration.toMillis(), MILLISECONDS);
+            if (result.succeeded()) {
+                store.delete(entry.getId());
+            } else {
+                retry(entry, result.getFailureDetail());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            retry(entry, Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName()));
+        }
+    }
+
+    private void retry(CallbackOutboxEntry entry, String errorDetail) {
+        var attempts = entry.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            deadLetter(entry, attempts, errorDetail);
+            return;
+        }
+
+        var delay = backoff(attempts);
+        monitor.debug(() -> format("Failed to invoke callback at URI %s, retrying in %d ms: %s", entry.getCallbackAddress().getUri(), delay, errorDetail));
+        updateLeased(entry, entry.toBuilder()
+                .attempts(attempts)
+                .nextAttemptAt(clock.millis() + delay)
+                .errorDetail(errorDetail)
+                .build());
+    }
+
+    private void deadLetter(CallbackOutboxEntry entry, int attempts, String errorDetail) {
+        monitor.severe(format("Failed to invoke callback at URI %s after %d attempts, giving up: %s", entry.getCallbackAddress().getUri(), attempts, errorDetail));
+        updateLeased(entry, entry.toBuilder()
+                .attempts(attempts)
+                .deadLetter(true)
+                .errorDetail(errorDetail)
+                .build());
+    }
+
+    private void updateLeased(CallbackOutboxEntry leased, CallbackOutboxEntry updated) {
+        if (!store.update(updated, leased.getNextAttemptAt())) {
+            monitor.debug(() -> format("Callback outbox entry %s was deleted or leased again, discarding its update", leased.getId()));
+        }
+    }
+
+    private long backoff(int attempts) {
+        var delay = baseDelay.toMillis() * Math.pow(2, attempts - 1);
+        return (long) Math.min(delay, maxDelay.toMillis());
+    }
+
+    private static class Lane {
+        private final Queue<CallbackOutboxEntry> queue = new ArrayDeque<>();
+        private int running;
+    }
+
+    public static class Builder {
+
+        private final CallbackOutboxWorker worker;
+
+        private Builder() {
+            worker = new CallbackOutboxWorker();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder store(CallbackOutboxStore store) {
+            worker.store = store;
+            return this;
+        }
+
+        public Builder dispatcherRegistry(RemoteMessageDispatcherRegistry dispatcherRegistry) {
+            worker.dispatcherRegistry = dispatcherRegistry;
+            return this;
+        }
+
+        public Builder resolverRegistry(CallbackProtocolResolverRegistry resolverRegistry) {
+            worker.resolverRegistry = resolverRegistry;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
+            worker.executorInstrumentation = executorInstrumentation;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            worker.monitor = monitor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            worker.clock = clock;
+            return this;
+        }
+
+        /**
+         * Number of threads delivering the entries.
+         */
+        public Builder workers(int workers) {
+            worker.workers = workers;
+            return this;
+        }
+
+        /**
+         * Maximum number of concurrent deliveries to the same callback URI.
+         */
+        public Builder endpointConcurrency(int endpointConcurrency) {
+            worker.endpointConcurrency = endpointConcurrency;
+            return this;
+        }
+
+        /**
+         * Maximum number of entries waiting for delivery to the same callback URI.
+         */
+        public Builder endpointQueueSize(int endpointQueueSize) {
+            worker.endpointQueueSize = endpointQueueSize;
+            return this;
+        }
+
+        /**
+         * Whether the dead letters are moved back to the due entries at start.
+         */
+        public Builder replayDeadLetters(boolean replayDeadLetters) {
+            worker.replayDeadLetters = replayDeadLetters;
+            return this;
+        }
+
+        /**
+         * Maximum number of entries leased from the store at each poll.
+         */
+        public Builder batchSize(int batchSize) {
+            worker.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder pollInterval(Duration pollInterval) {
+            worker.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * How long a leased entry is reserved for delivery, renewed when the entry is taken from its endpoint queue. This is
+         * also the timeout of a single delivery.
+         */
+        public Builder leaseDuration(Duration leaseDuration) {
+            worker.leaseDuration = leaseDuration;
+            return this;
+        }
+
+        /**
+         * Number of failed attempts after which an entry is moved to the dead letters.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            worker.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Delay before the first retry, doubled at each further retry up to the max delay.
+         */
+        public Builder baseDelay(Duration baseDelay) {
+            worker.baseDelay = baseDelay;
+            return this;
+        }
+
+        public Builder maxDelay(Duration maxDelay) {
+            worker.maxDelay = maxDelay;
+            return this;
+        }
+
+        public CallbackOutboxWorker build() {
+            Objects.requireNonNull(worker.store, "store");
+            Objects.requireNonNull(worker.dispatcherRegistry, "dispatcherRegistry");
+            Objects.requireNonNull(worker.resolverRegistry, "resolverRegistry");
+            Objects.requireNonNull(worker.monitor, "monitor");
+            return worker;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.outbox;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory {@link CallbackOutboxStore}. Entries are lost on restart.
+ */
+public class InMemoryCallbackOutboxStore implements CallbackOutboxStore {
+
+    private final Map<String, CallbackOutboxEntry> entries = new HashMap<>();
+    private final Clock clock;
+
+    public InMemoryCallbackOutboxStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized void save(CallbackOutboxEntry entry) {
+        entries.putIfAbsent(entry.getId(), entry);
+    }
+
+    @Override
+    public synchronized List<CallbackOutboxEntry> leaseDue(int max, Duration leaseDuration) {
+        var now = clock.millis();
+        var due = entries.values().stream()
+                .filter(entry -> !entry.isDeadLetter() && entry.getNextAttemptAt() <= now)
+                .sorted(Comparator.comparingLong(CallbackOutboxEntry::getNextAttemptAt))
+                .limit(max)
+                .toList();
+
+        var leased = due.stream().map(entry -> entry.toBuilder().nextAttemptAt(now + leaseDuration.toMillis()).build()).toList();
+        leased.forEach(entry -> entries.put(entry.getId(), entry));
+        return leased;
+    }
+
+    @Override
+    public synchronized boolean update(CallbackOutboxEntry entry, long leasedUntil) {
+        var current = entries.get(entry.getId());
+        if (current == null || current.getNextAttemptAt() != leasedUntil) {
+            return false;
+        }
+        entries.put(entry.getId(), entry);
+        return true;
+    }
+
+    @Override
+    public synchronized void delete(String id) {
+        entries.remove(id);
+    }
+
+    @Override
+    public synchronized List<CallbackOutboxEntry> findDeadLetters(int max) {
+        return entries.values().stream()
+                .filter(CallbackOutboxEntry::isDeadLetter)
+                .limit(max)
+                .toList();
+    }
+}
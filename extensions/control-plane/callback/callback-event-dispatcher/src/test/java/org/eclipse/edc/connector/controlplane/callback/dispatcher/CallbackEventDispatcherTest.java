@@ -15,6 +15,8 @@
 package org.eclipse.edc.connector.controlplane.callback.dispatcher;
 
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
 import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
@@ -176,6 +178,33 @@ public class CallbackEventDispatcherTest {
 
     }
 
+    @Test
+    void verifyShouldSaveInOutbox_whenOutboxIsConfigured() {
+        var outbox = mock(CallbackOutboxStore.class);
+        dispatcher = new CallbackEventDispatcher(registry, callbackRegistry, resolverRegistry, true, monitor, outbox);
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+
+        var callback = CallbackAddress.Builder.newInstance()
+                .uri("local://test")
+                .events(Set.of("transfer.process.completed"))
+                .transactional(true)
+                .build();
+
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback))
+                .build();
+
+        dispatcher.on(envelope(event));
+
+        var captor = ArgumentCaptor.forClass(CallbackOutboxEntry.class);
+        verify(outbox).save(captor.capture());
+        assertThat(captor.getValue().getCallbackAddress()).isSameAs(callback);
+        assertThat(captor.getValue().getEvent().getPayload()).isSameAs(event);
+        assertThat(captor.getValue().getNextAttemptAt()).isEqualTo(10);
+        verifyNoInteractions(registry);
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends Event> EventEnvelope<T> envelope(T event) {
         return EventEnvelope.Builder.newInstance().id("test").at(10).payload(event).build();
@@ -0,0 +1,215 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.outbox;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallbackOutboxWorkerTest {
+
+    private final CallbackOutboxStore store = mock();
+    private final RemoteMessageDispatcherRegistry dispatcherRegistry = mock();
+    private final CallbackProtocolResolverRegistry resolverRegistry = mock();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC);
+    private CallbackOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        when(resolverRegistry.resolve("http")).thenReturn("callback-http");
+        when(store.update(any(), anyLong())).thenReturn(true);
+        worker = CallbackOutboxWorker.Builder.newInstance()
+                .store(store)
+                .dispatcherRegistry(dispatcherRegistry)
+                .resolverRegistry(resolverRegistry)
+                .monitor(mock(Monitor.class))
+                .clock(clock)
+                .pollInterval(Duration.ofHours(1))
+                .maxAttempts(3)
+                .baseDelay(Duration.ofSeconds(1))
+                .build();
+        worker.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.stop();
+    }
+
+    @Test
+    void poll_shouldDeliverAndDelete_whenDispatchSucceeds() {
+        var entry = createEntry("http://localhost/callback", 0);
+        when(store.leaseDue(anyInt(), any())).thenReturn(List.of(entry));
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("ok")));
+
+        worker.poll();
+
+        await().untilAsserted(() -> verify(store).delete(entry.getId()));
+        verify(store, never()).update(argThat(saved -> saved.getAttempts() > 0), anyLong());
+    }
+
+    @Test
+    void poll_shouldReschedule_whenDispatchFails() {
+        var entry = createEntry("http://localhost/callback", 1);
+        when(store.leaseDue(anyInt(), any())).thenReturn(List.of(entry));
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.failure(ERROR_RETRY, "error")));
+
+        worker.poll();
+
+        await().untilAsserted(() -> verify(store).update(argThat(saved -> saved.getId().equals(entry.getId()) &&
+                saved.getAttempts() == 2 && saved.getNextAttemptAt() == 1000 + 2000 && !saved.isDeadLetter()), eq(1000L + 60_000)));
+        verify(store, never()).delete(any());
+    }
+
+    @Test
+    void poll_shouldMoveToDeadLetters_whenMaxAttemptsReached() {
+        var entry = createEntry("http://localhost/callback", 2);
+        when(store.leaseDue(anyInt(), any())).thenReturn(List.of(entry));
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+
+        worker.poll();
+
+        await().untilAsserted(() -> verify(store).update(argThat(saved -> saved.isDeadLetter() && saved.getAttempts() == 3 &&
+                "error".equals(saved.getErrorDetail())), anyLong()));
+    }
+
+    @Test
+    void poll_shouldMoveToDeadLetters_whenProtocolCannotBeResolved() {
+        var entry = createEntry("unknown://localhost/callback", 0);
+        when(store.leaseDue(anyInt(), any())).thenReturn(List.of(entry));
+
+        worker.poll();
+
+        await().untilAsserted(() -> verify(store).update(argThat(CallbackOutboxEntry::isDeadLetter), anyLong()));
+        verify(dispatcherRegistry, never()).dispatch(any(), any());
+    }
+
+    @Test
+    void poll_shouldDeliverAllEntriesOfTheSameEndpoint() {
+        var entries = List.of(createEntry("http://localhost/callback", 0), createEntry("http://localhost/callback", 0));
+        when(store.leaseDue(anyInt(), any())).thenReturn(entries);
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("ok")));
+
+        worker.poll();
+
+        await().untilAsserted(() -> entries.forEach(entry -> verify(store).delete(entry.getId())));
+    }
+
+    @Test
+    void poll_shouldRenewLeaseBeforeDelivery() {
+        var entry = createEntry("http://localhost/callback", 0).toBuilder().nextAttemptAt(500).build();
+        when(store.leaseDue(anyInt(), any())).thenReturn(List.of(entry));
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("ok")));
+
+        worker.poll();
+
+        await().untilAsserted(() -> verify(store).delete(entry.getId()));
+        verify(store).update(argThat(renewed -> renewed.getNextAttemptAt() == 1000 + 60_000), eq(500L));
+    }
+
+    @Test
+    void poll_shouldSkipEntry_whenLeaseWasLost() {
+        var entry = createEntry("http://localhost/callback", 0);
+        when(store.leaseDue(anyInt(), any())).thenReturn(List.of(entry));
+        when(store.update(any(), anyLong())).thenReturn(false);
+
+        worker.poll();
+
+        await().untilAsserted(() -> verify(store).update(any(), anyLong()));
+        verify(dispatcherRegistry, never()).dispatch(any(), any());
+        verify(store, never()).delete(any());
+    }
+
+    @Test
+    void poll_shouldReleaseEntries_whenEndpointQueueIsFull() {
+        var slowEntries = List.of(createEntry("http://slow/callback", 0), createEntry("http://slow/callback", 0), createEntry("http://slow/callback", 0));
+        var fastEntry = createEntry("http://fast/callback", 0);
+        when(store.leaseDue(anyInt(), any())).thenReturn(slowEntries, List.of(fastEntry));
+        when(dispatcherRegistry.dispatch(any(), any())).thenAnswer(invocation -> invocation.<RemoteMessage>getArgument(1).getCounterPartyAddress().startsWith("http://slow") ?
+                new CompletableFuture<>() : CompletableFuture.completedFuture(StatusResult.success("ok")));
+        var queueingWorker = CallbackOutboxWorker.Builder.newInstance()
+                .store(store)
+                .dispatcherRegistry(dispatcherRegistry)
+                .resolverRegistry(resolverRegistry)
+                .monitor(mock(Monitor.class))
+                .clock(clock)
+                .pollInterval(Duration.ofHours(1))
+                .endpointQueueSize(1)
+                .build();
+        queueingWorker.start();
+
+        try {
+            queueingWorker.poll();
+            queueingWorker.poll();
+
+            await().untilAsserted(() -> verify(store).delete(fastEntry.getId()));
+            verify(store, atLeastOnce()).update(argThat(released -> released.getNextAttemptAt() == 1000 + Duration.ofHours(1).toMillis()), anyLong());
+        } finally {
+            queueingWorker.stop();
+        }
+    }
+
+    @Test
+    void replayDeadLetters_shouldResetDeadLetters() {
+        var deadLetter = createEntry("http://localhost/callback", 3).toBuilder().deadLetter(true).errorDetail("error").nextAttemptAt(500).build();
+        when(store.findDeadLetters(anyInt())).thenReturn(List.of(deadLetter), List.of());
+
+        worker.replayDeadLetters();
+
+        verify(store).update(argThat(replayed -> !replayed.isDeadLetter() && replayed.getAttempts() == 0 &&
+                replayed.getNextAttemptAt() == 1000 && replayed.getErrorDetail() == null), eq(500L));
+    }
+
+    private CallbackOutboxEntry createEntry(String uri, int attempts) {
+        var callback = CallbackAddress.Builder.newInstance().uri(uri).events(Set.of("transfer.process.completed")).build();
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId("id").build();
+        return CallbackOutboxEntry.Builder.newInstance()
+                .callbackAddress(callback)
+                .event(EventEnvelope.Builder.newInstance().id("event-id").at(10).payload(event).build())
+                .attempts(attempts)
+                .build();
+    }
+}
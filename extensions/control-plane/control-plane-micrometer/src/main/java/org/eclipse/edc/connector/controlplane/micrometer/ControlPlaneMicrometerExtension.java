@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchive;
+import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchiveCacheMetrics;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * An extension that exposes the statistics of the {@link PolicyArchive} cache as Micrometer meters, if the archive is
+ * cached.
+ */
+@Extension(value = ControlPlaneMicrometerExtension.NAME)
+public class ControlPlaneMicrometerExtension implements ServiceExtension {
+
+    public static final String NAME = "Control Plane Micrometer Metrics";
+
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting
+    public static final String ENABLE_CONTROLPLANE_METRICS = "edc.metrics.controlplane.enabled";
+
+    static final String POLICY_ARCHIVE_CACHE_REQUESTS_METRIC_NAME = "edc.policy.archive.cache.requests";
+    static final String POLICY_ARCHIVE_CACHE_SIZE_METRIC_NAME = "edc.policy.archive.cache.size";
+
+    @Inject
+    private PolicyArchive policyArchive;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var enableMetrics = context.getSetting(ENABLE_METRICS, true);
+        var enableControlPlaneMetrics = context.getSetting(ENABLE_CONTROLPLANE_METRICS, true);
+
+        if (enableMetrics && enableControlPlaneMetrics && policyArchive instanceof PolicyArchiveCacheMetrics metrics) {
+            enablePolicyArchiveMetrics(metrics);
+        }
+    }
+
+    private void enablePolicyArchiveMetrics(PolicyArchiveCacheMetrics metrics) {
+        FunctionCounter.builder(POLICY_ARCHIVE_CACHE_REQUESTS_METRIC_NAME, metrics, PolicyArchiveCacheMetrics::hitCount)
+                .description("Contract agreement policies served from the policy archive cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(POLICY_ARCHIVE_CACHE_REQUESTS_METRIC_NAME, metrics, PolicyArchiveCacheMetrics::missCount)
+                .description("Contract agreement policies loaded from the contract negotiation store")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(POLICY_ARCHIVE_CACHE_SIZE_METRIC_NAME, metrics, PolicyArchiveCacheMetrics::cachedPolicies)
+                .description("Contract agreement policies held by the policy archive cache")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchive;
+import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchiveCacheMetrics;
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.micrometer.ControlPlaneMicrometerExtension.POLICY_ARCHIVE_CACHE_REQUESTS_METRIC_NAME;
+import static org.eclipse.edc.connector.controlplane.micrometer.ControlPlaneMicrometerExtension.POLICY_ARCHIVE_CACHE_SIZE_METRIC_NAME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(DependencyInjectionExtension.class)
+class ControlPlaneMicrometerExtensionTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PolicyArchive policyArchive = mock(PolicyArchive.class, withSettings().extraInterfaces(PolicyArchiveCacheMetrics.class));
+
+    @BeforeEach
+    void setUp(ServiceExtensionContext context) {
+        context.registerService(MeterRegistry.class, meterRegistry);
+        context.registerService(PolicyArchive.class, policyArchive);
+    }
+
+    @Test
+    void initialize_shouldRegisterPolicyArchiveCacheMeters(ServiceExtensionContext context, ControlPlaneMicrometerExtension extension) {
+        var metrics = (PolicyArchiveCacheMetrics) policyArchive;
+        when(metrics.hitCount()).thenReturn(7L);
+        when(metrics.missCount()).thenReturn(2L);
+        when(metrics.cachedPolicies()).thenReturn(2);
+
+        extension.initialize(context);
+
+        assertThat(meterRegistry.get(POLICY_ARCHIVE_CACHE_REQUESTS_METRIC_NAME).tag("result", "hit").functionCounter().count()).isEqualTo(7);
+        assertThat(meterRegistry.get(POLICY_ARCHIVE_CACHE_REQUESTS_METRIC_NAME).tag("result", "miss").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(POLICY_ARCHIVE_CACHE_SIZE_METRIC_NAME).gauge().value()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+-- Statements are designed for and tested with Postgres only!
+
+CREATE TABLE IF NOT EXISTS edc_callback_outbox
+(
+    id               VARCHAR NOT NULL PRIMARY KEY,
+    callback_address JSON    NOT NULL,
+    event_id         VARCHAR NOT NULL,
+    event_at         BIGINT  NOT NULL,
+    event_type       VARCHAR NOT NULL,
+    event_payload    JSON    NOT NULL,
+    attempts         INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at  BIGINT  NOT NULL,
+    dead_letter      BOOLEAN NOT NULL DEFAULT FALSE,
+    error_detail     VARCHAR
+);
+
+CREATE INDEX IF NOT EXISTS callback_outbox_due_index ON edc_callback_outbox (dead_letter, next_attempt_at);
+
+COMMENT ON COLUMN edc_callback_outbox.callback_address IS 'CallbackAddress serialized as JSON';
+COMMENT ON COLUMN edc_callback_outbox.event_type IS 'Fully qualified class name of the event payload';
+COMMENT ON COLUMN edc_callback_outbox.event_payload IS 'Event payload serialized as JSON';
+COMMENT ON COLUMN edc_callback_outbox.next_attempt_at IS 'Epoch millis of the next delivery attempt, postponed while the entry is leased';
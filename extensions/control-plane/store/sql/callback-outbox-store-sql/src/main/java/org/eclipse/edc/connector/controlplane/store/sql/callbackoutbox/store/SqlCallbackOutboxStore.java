@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema.CallbackOutboxStatements;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * SQL implementation of {@link CallbackOutboxStore}. The event payload is stored together with its class name, so that
+ * the {@link EventEnvelope} can be rebuilt with the concrete event type. Due entries are leased with
+ * {@code SELECT ... FOR UPDATE SKIP LOCKED}, so that concurrent runtimes never lease the same entry, and updates only
+ * apply while the next attempt column still holds the lease of the caller.
+ */
+public class SqlCallbackOutboxStore extends AbstractSqlStore implements CallbackOutboxStore {
+
+    private final CallbackOutboxStatements statements;
+    private final Clock clock;
+
+    public SqlCallbackOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                  ObjectMapper objectMapper, CallbackOutboxStatements statements, QueryExecutor queryExecutor, Clock clock) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(CallbackOutboxEntry entry) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                insert(connection, entry);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<CallbackOutboxEntry> leaseDue(int max, Duration leaseDuration) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                var nextAttemptAt = now + leaseDuration.toMillis();
+                var leased = queryExecutor.query(connection, false, this::mapEntry, statements.getLeaseDueTemplate(), now, max)
+                        .map(entry -> entry.toBuilder().nextAttemptAt(nextAttemptAt).build())
+                        .toList();
+                if (!leased.isEmpty()) {
+                    queryExecutor.executeBatch(connection, statements.getPostponeTemplate(),
+                            leased.stream().map(entry -> new Object[]{ nextAttemptAt, entry.getId() }).toList());
+                }
+                return leased;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public boolean update(CallbackOutboxEntry entry, long leasedUntil) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return update(connection, entry, leasedUntil) > 0;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeleteTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<CallbackOutboxEntry> findDeadLetters(int max) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.query(connection, true, this::mapEntry, statements.getFindDeadLettersTemplate(), max).toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private void insert(Connection connection, CallbackOutboxEntry entry) {
+        var event = entry.getEvent();
+        queryExecutor.execute(connection, statements.getInsertTemplate(),
+                entry.getId(),
+                toJson(entry.getCallbackAddress()),
+                event.getId(),
+                event.getAt(),
+                event.getPayload().getClass().getName(),
+                toJson(event.getPayload()),
+                entry.getAttempts(),
+                entry.getNextAttemptAt(),
+                entry.isDeadLetter(),
+                entry.getErrorDetail());
+    }
+
+    private int update(Connection connection, CallbackOutboxEntry entry, long leasedUntil) {
+        var event = entry.getEvent();
+        return queryExecutor.execute(connection, statements.getUpdateTemplate(),
+                toJson(entry.getCallbackAddress()),
+                event.getId(),
+                event.getAt(),
+                event.getPayload().getClass().getName(),
+                toJson(event.getPayload()),
+                entry.getAttempts(),
+                entry.getNextAttemptAt(),
+                entry.isDeadLetter(),
+                entry.getErrorDetail(),
+                entry.getId(),
+                leasedUntil);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CallbackOutboxEntry mapEntry(ResultSet resultSet) throws SQLException {
+        var envelope = EventEnvelope.Builder.newInstance()
+                .id(resultSet.getString(statements.getEventIdColumn()))
+                .at(resultSet.getLong(statements.getEventAtColumn()))
+                .payload(fromJson(resultSet.getString(statements.getEventPayloadColumn()), eventType(resultSet.getString(statements.getEventTypeColumn()))))
+                .build();
+
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .callbackAddress(fromJson(resultSet.getString(statements.getCallbackAddressColumn()), CallbackAddress.class))
+                .event(envelope)
+                .attempts(resultSet.getInt(statements.getAttemptsColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
+                .deadLetter(resultSet.getBoolean(statements.getDeadLetterColumn()))
+                .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
+                .build();
+    }
+
+    private Class<? extends Event> eventType(String className) {
+        try {
+            return Class.forName(className).asSubclass(Event.class);
+        } catch (ClassNotFoundException e) {
+            throw new EdcException("Cannot deserialize callback event of unknown type " + className, e);
+        }
+    }
+}
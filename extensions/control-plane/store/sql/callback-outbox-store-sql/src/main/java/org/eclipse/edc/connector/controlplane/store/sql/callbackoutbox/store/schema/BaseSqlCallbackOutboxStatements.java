@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema;
+
+import static java.lang.String.format;
+
+public class BaseSqlCallbackOutboxStatements implements CallbackOutboxStatements {
+
+    @Override
+    public String getInsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .jsonColumn(getCallbackAddressColumn())
+                .column(getEventIdColumn())
+                .column(getEventAtColumn())
+                .column(getEventTypeColumn())
+                .jsonColumn(getEventPayloadColumn())
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .column(getDeadLetterColumn())
+                .column(getErrorDetailColumn())
+                .insertInto(getTableName());
+    }
+
+    @Override
+    public String getUpdateTemplate() {
+        return format("UPDATE %s SET %s = ?%s, %s = ?, %s = ?, %s = ?, %s = ?%s, %s = ?, %s = ?, %s = ?, %s = ? WHERE %s = ? AND %s = ?;",
+                getTableName(), getCallbackAddressColumn(), getFormatAsJsonOperator(), getEventIdColumn(), getEventAtColumn(),
+                getEventTypeColumn(), getEventPayloadColumn(), getFormatAsJsonOperator(), getAttemptsColumn(), getNextAttemptAtColumn(),
+                getDeadLetterColumn(), getErrorDetailColumn(), getIdColumn(), getNextAttemptAtColumn());
+    }
+
+    @Override
+    public String getDeleteTemplate() {
+        return executeStatement().delete(getTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getLeaseDueTemplate() {
+        return format("SELECT * FROM %s WHERE %s = false AND %s <= ? ORDER BY %s LIMIT ? FOR UPDATE SKIP LOCKED",
+                getTableName(), getDeadLetterColumn(), getNextAttemptAtColumn(), getNextAttemptAtColumn());
+    }
+
+    @Override
+    public String getPostponeTemplate() {
+        return executeStatement()
+                .column(getNextAttemptAtColumn())
+                .update(getTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getFindDeadLettersTemplate() {
+        return format("SELECT * FROM %s WHERE %s = true ORDER BY %s LIMIT ?", getTableName(), getDeadLetterColumn(), getNextAttemptAtColumn());
+    }
+}
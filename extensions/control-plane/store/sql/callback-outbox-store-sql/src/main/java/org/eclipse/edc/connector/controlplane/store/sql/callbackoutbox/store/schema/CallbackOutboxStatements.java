@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.store.sql.callbackoutbox.store.schema;
+
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Sql Statements for the Callback Outbox Store
+ */
+public interface CallbackOutboxStatements extends SqlStatements {
+
+    default String getTableName() {
+        return "edc_callback_outbox";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getCallbackAddressColumn() {
+        return "callback_address";
+    }
+
+    default String getEventIdColumn() {
+        return "event_id";
+    }
+
+    default String getEventAtColumn() {
+        return "event_at";
+    }
+
+    default String getEventTypeColumn() {
+        return "event_type";
+    }
+
+    default String getEventPayloadColumn() {
+        return "event_payload";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    default String getDeadLetterColumn() {
+        return "dead_letter";
+    }
+
+    default String getErrorDetailColumn() {
+        return "error_detail";
+    }
+
+    String getInsertTemplate();
+
+    /**
+     * Updates an entry if its next attempt is still the given one. Parameters: the entry columns but the id, then the
+     * id and the expected next attempt in epoch millis.
+     */
+    String getUpdateTemplate();
+
+    String getDeleteTemplate();
+
+    /**
+     * Selects the due entries that are not dead letters, oldest first, and locks them for the current transaction.
+     * Parameters: the current time in epoch millis and the maximum number of entries.
+     */
+    String getLeaseDueTemplate();
+
+    /**
+     * Sets the next attempt of an entry. Parameters: the next attempt in epoch millis and the id.
+     */
+    String getPostponeTemplate();
+
+    /**
+     * Selects the dead letters. Parameter: the maximum number of entries.
+     */
+    String getFindDeadLettersTemplate();
+}
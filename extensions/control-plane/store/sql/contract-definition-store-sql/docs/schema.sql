@@ -22,6 +22,9 @@ CREATE TABLE IF NOT EXISTS edc_contract_definitions
     access_policy_id       VARCHAR NOT NULL,
     contract_policy_id     VARCHAR NOT NULL,
     assets_selector        JSON    NOT NULL,
-    private_properties     JSON,
+    private_properties     JSONB,
     PRIMARY KEY (contract_definition_id)
 );
+
+CREATE INDEX IF NOT EXISTS edc_contract_definitions_private_properties_idx
+    ON edc_contract_definitions USING GIN (private_properties jsonb_path_ops);
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.controlplane.store.sql.contractdefinition.sche
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.store.sql.contractdefinition.schema.ContractDefinitionStatements;
 import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 import org.eclipse.edc.sql.translation.TranslationMapping;
 
 /**
@@ -31,6 +32,6 @@ public class ContractDefinitionMapping extends TranslationMapping {
         add("contractPolicyId", statements.getContractPolicyIdColumn());
         add("contractPolicy", statements.getContractPolicyIdColumn());
         add("assetsSelector", new JsonFieldTranslator(statements.getAssetsSelectorAlias()));
-        add("privateProperties", new JsonFieldTranslator(statements.getPrivatePropertiesColumn()));
+        add("privateProperties", new JsonbFieldTranslator(statements.getPrivatePropertiesColumn()));
     }
 }
@@ -29,6 +29,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.ResultSetMapper;
+import org.eclipse.edc.sql.lease.SqlEntitySaveNotifier;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -56,14 +57,24 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     private final ContractNegotiationStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final SqlEntitySaveNotifier saveNotifier;
 
     public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
                                        TransactionContext transactionContext, ObjectMapper objectMapper,
                                        ContractNegotiationStatements statements, String connectorId, Clock clock,
                                        QueryExecutor queryExecutor) {
+        this(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, statements, connectorId, clock,
+                queryExecutor, SqlEntitySaveNotifier.local(queryExecutor));
+    }
+
+    public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
+                                       TransactionContext transactionContext, ObjectMapper objectMapper,
+                                       ContractNegotiationStatements statements, String connectorId, Clock clock,
+                                       QueryExecutor queryExecutor, SqlEntitySaveNotifier saveNotifier) {
         super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
         this.statements = statements;
         this.clock = clock;
+        this.saveNotifier = saveNotifier;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, connectorId, statements, clock, queryExecutor);
     }
 
@@ -112,6 +123,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     leaseContext.withConnection(connection).breakLease(id);
                     update(connection, id, negotiation);
                 }
+                saveNotifier.notifySaved(transactionContext, connection);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -119,6 +131,11 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
     }
 
+    @Override
+    public void registerSaveListener(Runnable listener) {
+        saveNotifier.register(listener);
+    }
+
     @Override
     public void delete(String negotiationId) {
         transactionContext.execute(() -> {
@@ -184,7 +201,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
+                leaseContext.withConnection(connection).acquireLeases(negotiations.stream().map(ContractNegotiation::getId).toList());
                 return negotiations;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
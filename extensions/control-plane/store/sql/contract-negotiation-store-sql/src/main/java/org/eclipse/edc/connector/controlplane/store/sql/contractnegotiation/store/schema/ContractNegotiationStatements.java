@@ -46,6 +46,11 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
         return "edc_contract_negotiation";
     }
 
+    @Override
+    default String getEntityTableName() {
+        return getContractNegotiationTable();
+    }
+
     default String getContractAgreementTable() {
         return "edc_contract_agreement";
     }
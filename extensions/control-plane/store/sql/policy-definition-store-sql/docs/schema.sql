@@ -27,7 +27,7 @@ CREATE TABLE IF NOT EXISTS edc_policydefinitions
     assignee              VARCHAR,
     target                VARCHAR,
     policy_type           VARCHAR NOT NULL,
-    private_properties    JSON,
+    private_properties    JSONB,
     PRIMARY KEY (policy_id)
 );
 
@@ -39,3 +39,6 @@ COMMENT ON COLUMN edc_policydefinitions.policy_type IS 'Java PolicyType serializ
 
 CREATE UNIQUE INDEX IF NOT EXISTS edc_policydefinitions_id_uindex
     ON edc_policydefinitions (policy_id);
+
+CREATE INDEX IF NOT EXISTS edc_policydefinitions_private_properties_idx
+    ON edc_policydefinitions USING GIN (private_properties jsonb_path_ops);
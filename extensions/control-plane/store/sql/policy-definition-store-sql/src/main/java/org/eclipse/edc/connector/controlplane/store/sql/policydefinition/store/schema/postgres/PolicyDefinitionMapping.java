@@ -16,7 +16,7 @@ package org.eclipse.edc.connector.controlplane.store.sql.policydefinition.store.
 
 import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.controlplane.store.sql.policydefinition.store.schema.SqlPolicyStoreStatements;
-import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 import org.eclipse.edc.sql.translation.TranslationMapping;
 
 /**
@@ -29,6 +29,6 @@ public class PolicyDefinitionMapping extends TranslationMapping {
         add("id", statements.getPolicyIdColumn());
         add("createdAt", statements.getCreatedAtColumn());
         add("policy", new PolicyMapping(statements));
-        add("privateProperties", new JsonFieldTranslator(statements.getPrivatePropertiesColumn()));
+        add("privateProperties", new JsonbFieldTranslator(statements.getPrivatePropertiesColumn()));
     }
 }
@@ -26,6 +26,8 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.PostgresNotificationListener;
+import org.eclipse.edc.sql.lease.SqlEntitySaveNotifier;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
@@ -38,6 +40,9 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     @Setting
     public static final String DATASOURCE_NAME_SETTING = "edc.datasource.transferprocess.name";
 
+    @Setting(value = "Postgres channel on which the saved transfer processes are notified with NOTIFY/LISTEN, to wake up the state machines of all the replicas. Not set by default")
+    public static final String NOTIFICATION_CHANNEL_SETTING = "edc.sql.store.transferprocess.notification.channel";
+
     @Inject
     private DataSourceRegistry dataSourceRegistry;
     @Inject
@@ -54,13 +59,34 @@ public class SqlTransferProcessStoreExtension implements ServiceExtension {
     @Inject
     private QueryExecutor queryExecutor;
 
+    private PostgresNotificationListener notificationListener;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
+        var channel = context.getConfig().getString(NOTIFICATION_CHANNEL_SETTING, null);
+        var saveNotifier = new SqlEntitySaveNotifier(queryExecutor, channel);
         var store = new SqlTransferProcessStore(dataSourceRegistry, getDataSourceName(context), trxContext,
-                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor);
+                typeManager.getMapper(), getStatementImpl(), context.getConnectorId(), clock, queryExecutor, saveNotifier);
+        if (channel != null) {
+            notificationListener = new PostgresNotificationListener(() -> dataSourceRegistry.resolve(getDataSourceName(context)), saveNotifier, context.getMonitor());
+        }
         context.registerService(TransferProcessStore.class, store);
     }
 
+    @Override
+    public void start() {
+        if (notificationListener != null) {
+            notificationListener.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (notificationListener != null) {
+            notificationListener.stop();
+        }
+    }
+
     /**
      * returns an externally-provided sql statement dialect, or postgres as a default
      */
@@ -39,6 +39,11 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
         return "edc_transfer_process";
     }
 
+    @Override
+    default String getEntityTableName() {
+        return getTransferProcessTableName();
+    }
+
     default String getIdColumn() {
         return "transferprocess_id";
     }
@@ -123,7 +123,24 @@ public class RemoteDataPlaneSelectorService implements DataPlaneSelectorService
 
     @Override
     public ServiceResult<Void> addInstance(DataPlaneInstance instance) {
-        throw new UnsupportedOperationException("not implemented");
+        var jsonObject = typeTransformerRegistry.transform(instance, JsonObject.class)
+                .orElseThrow(f -> new EdcException(f.getFailureDetail()));
+        var body = RequestBody.create(jsonObject.toString(), TYPE_JSON);
+        var request = new Request.Builder().post(body).url(url).build();
+
+        try (var response = httpClient.execute(request)) {
+            if (response.isSuccessful()) {
+                return ServiceResult.success();
+            }
+            return switch (response.code()) {
+                case 400 -> ServiceResult.badRequest("Remote API rejected data plane instance " + instance.getId());
+                case 409 -> ServiceResult.conflict("Remote API reported a conflict for data plane instance " + instance.getId());
+                default ->
+                        throw new EdcException(format("Failed to register data plane instance %s, HTTP Status = %d", instance.getId(), response.code()));
+            };
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
     }
 
 
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.selector;
 
 import jakarta.json.Json;
+import org.eclipse.edc.api.transformer.JsonObjectFromIdResponseTransformer;
 import org.eclipse.edc.connector.dataplane.selector.api.v2.DataplaneSelectorApiController;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
@@ -25,6 +26,7 @@ import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.jsonld.TitaniumJsonLd;
 import org.eclipse.edc.jsonld.util.JacksonJsonLd;
 import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
@@ -33,6 +35,7 @@ import org.eclipse.edc.transform.transformer.edc.from.JsonObjectFromDataAddressT
 import org.eclipse.edc.transform.transformer.edc.to.JsonObjectToDataAddressTransformer;
 import org.eclipse.edc.transform.transformer.edc.to.JsonValueToGenericTypeTransformer;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.web.jersey.providers.jsonld.JerseyJsonLdInterceptor;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
 import org.junit.jupiter.api.BeforeAll;
@@ -48,8 +51,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
 import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ComponentTest
@@ -77,6 +82,7 @@ class RemoteDataPlaneSelectorServiceTest extends RestControllerTestBase {
         typeTransformerRegistry.register(new JsonObjectFromDataPlaneInstanceTransformer(factory, JacksonJsonLd.createObjectMapper()));
         typeTransformerRegistry.register(new JsonObjectToDataPlaneInstanceTransformer());
         typeTransformerRegistry.register(new JsonValueToGenericTypeTransformer(objectMapper));
+        typeTransformerRegistry.register(new JsonObjectFromIdResponseTransformer(factory));
         var url = format(BASE_URL, port);
         service = new RemoteDataPlaneSelectorService(testHttpClient(), url, JacksonJsonLd.createObjectMapper(), typeTransformerRegistry, "selectionStrategy");
     }
@@ -112,6 +118,27 @@ class RemoteDataPlaneSelectorServiceTest extends RestControllerTestBase {
 
     }
 
+    @Test
+    void addInstance_shouldReportLoad() {
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(SELECTOR_SERVICE_MOCK.addInstance(any())).thenReturn(ServiceResult.success());
+        var instance = DataPlaneInstance.Builder.newInstance()
+                .id("loaded-instance")
+                .url("http://somewhere.com:1234/api/v1")
+                .allowedSourceType("test1")
+                .allowedDestType("test2")
+                .activeFlows(3)
+                .queuedFlows(1)
+                .throughput(2048)
+                .build();
+
+        var result = service.addInstance(instance);
+
+        assertThat(result.succeeded()).isTrue();
+        verify(SELECTOR_SERVICE_MOCK).addInstance(argThat(i -> i.getId().equals("loaded-instance") &&
+                i.getActiveFlows() == 3 && i.getQueuedFlows() == 1 && i.getThroughput() == 2048));
+    }
+
     @Override
     protected Object controller() {
         return new DataplaneSelectorApiController(SELECTOR_SERVICE_MOCK, typeTransformerRegistry, validator, Clock.systemUTC());
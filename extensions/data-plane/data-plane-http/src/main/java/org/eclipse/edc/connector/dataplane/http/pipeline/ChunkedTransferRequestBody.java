@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import okio.BufferedSink;
+import okio.Okio;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
@@ -39,8 +40,8 @@ public class ChunkedTransferRequestBody extends AbstractTransferRequestBody {
 
     @Override
     public void writeTo(@NotNull BufferedSink sink) throws IOException {
-        try (var os = sink.outputStream(); var is = bodySupplier.get()) {
-            is.transferTo(os);
+        try (var source = Okio.source(bodySupplier.get())) {
+            sink.writeAll(source);
         }
     }
 }
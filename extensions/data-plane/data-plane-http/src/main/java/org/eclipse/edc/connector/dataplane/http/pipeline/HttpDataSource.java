@@ -16,6 +16,8 @@ package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 
 import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
@@ -29,7 +31,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -37,10 +42,23 @@ import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.OCTET
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
+/**
+ * Fetches data from an HTTP endpoint.
+ * <p>
+ * When ranged parts are requested and the endpoint advertises byte range support and the content length on a HEAD
+ * request, the content is split into byte ranges that are fetched by separate requests, so that sinks can transfer them
+ * concurrently. Otherwise, or for methods other than GET, the content is fetched as a single part.
+ * <p>
+ * The strong entity tag, or else the last modification date, advertised on the HEAD request is the {@link #validator()}
+ * of the content. It is sent as {@code If-Range} condition with every range request, so that a range of content that
+ * changed in the meantime is rejected instead of being combined with ranges of the previous content.
+ */
 public class HttpDataSource implements DataSource {
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
+    private static final int PARTIAL_CONTENT = 206;
+    private static final long MIN_RANGE_SIZE = 1024 * 1024;
 
     private String name;
     private HttpRequestParams params;
@@ -48,7 +66,10 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private int rangedParts;
+    private volatile String validator;
     private final AtomicReference<ResponseBodyStream> responseBodyStream = new AtomicReference<>();
+    private final Queue<ResponseBody> rangeResponseBodies = new ConcurrentLinkedQueue<>();
 
     private HttpDataSource() {
     }
@@ -56,6 +77,13 @@ public class HttpDataSource implements DataSource {
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
         var request = requestFactory.toRequest(params);
+        if (rangedParts > 1 && "GET".equals(request.method())) {
+            var rangedPartStream = openRangedPartStream(request);
+            if (rangedPartStream != null) {
+                return success(rangedPartStream);
+            }
+        }
+
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
             // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
@@ -68,7 +96,7 @@ public class HttpDataSource implements DataSource {
                 var stream = body.byteStream();
                 responseBodyStream.set(new ResponseBodyStream(body, stream));
                 var mediaType = Optional.ofNullable(body.contentType()).map(MediaType::toString).orElse(OCTET_STREAM);
-                return success(Stream.of(new HttpPart(name, stream, mediaType)));
+                return success(Stream.of(new HttpPart(name, stream, mediaType, body.contentLength())));
             } else {
                 try {
                     if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
@@ -79,11 +107,7 @@ public class HttpDataSource implements DataSource {
                         return error(format("Received code transferring HTTP data: %s - %s.", response.code(), response.message()));
                     }
                 } finally {
-                    try {
-                        response.close();
-                    } catch (Exception e) {
-                        monitor.info("Error closing failed response", e);
-                    }
+                    closeQuietly(response);
                 }
             }
         } catch (IOException e) {
@@ -92,6 +116,21 @@ public class HttpDataSource implements DataSource {
 
     }
 
+    /**
+     * In ranged mode the parts are named after their range index and only requested when read, so the ranges already
+     * delivered are neither named differently nor downloaded again when the transfer is resumed, provided that the
+     * endpoint advertises a {@link #validator()}.
+     */
+    @Override
+    public boolean isResumable() {
+        return rangedParts > 1;
+    }
+
+    @Override
+    public String validator() {
+        return validator;
+    }
+
     @Override
     public void close() {
         var bodyStream = responseBodyStream.get();
@@ -103,6 +142,73 @@ public class HttpDataSource implements DataSource {
                 // do nothing
             }
         }
+        ResponseBody body;
+        while ((body = rangeResponseBodies.poll()) != null) {
+            body.close();
+        }
+    }
+
+    /**
+     * Probes the endpoint with a HEAD request and splits the content into byte ranges if supported.
+     *
+     * @return the ranged parts, or null if the content cannot or should not be split.
+     */
+    private Stream<Part> openRangedPartStream(Request request) {
+        var headRequest = request.newBuilder().head().build();
+        try (var response = httpClient.execute(headRequest)) {
+            var contentLength = Optional.ofNullable(response.header("Content-Length")).map(Long::parseLong).orElse(-1L);
+            if (!response.isSuccessful() || !"bytes".equalsIgnoreCase(response.header("Accept-Ranges")) || contentLength <= 0) {
+                return null;
+            }
+
+            var partCount = Math.min(rangedParts, (contentLength + MIN_RANGE_SIZE - 1) / MIN_RANGE_SIZE);
+            if (partCount <= 1) {
+                return null;
+            }
+
+            validator = Optional.ofNullable(response.header("ETag"))
+                    .filter(etag -> !etag.startsWith("W/")) // weak entity tags cannot be used as If-Range condition
+                    .orElseGet(() -> response.header("Last-Modified"));
+            var mediaType = Optional.ofNullable(response.header("Content-Type")).orElse(OCTET_STREAM);
+            var rangeSize = (contentLength + partCount - 1) / partCount;
+            var partName = Optional.ofNullable(name).orElse(requestId);
+            monitor.debug(() -> "Fetching %s in %d ranges of %d bytes".formatted(request.url(), partCount, rangeSize));
+            return LongStream.range(0, partCount).mapToObj(index -> {
+                var start = index * rangeSize;
+                var end = Math.min(start + rangeSize, contentLength) - 1;
+                return new HttpRangePart(format("%s.part%d", partName, index), mediaType, end - start + 1, () -> openRange(request, start, end));
+            });
+        } catch (IOException | NumberFormatException e) {
+            monitor.debug(() -> "Cannot probe %s for byte range support, fetching it as a single part: %s".formatted(request.url(), e.getMessage()));
+            return null;
+        }
+    }
+
+    private InputStream openRange(Request request, long start, long end) {
+        var rangeRequestBuilder = request.newBuilder().header("Range", format("bytes=%d-%d", start, end));
+        Optional.ofNullable(validator).ifPresent(it -> rangeRequestBuilder.header("If-Range", it));
+        var rangeRequest = rangeRequestBuilder.build();
+        try {
+            // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
+            var response = httpClient.execute(rangeRequest);
+            if (response.code() != PARTIAL_CONTENT || response.body() == null) {
+                closeQuietly(response);
+                throw new EdcException(format("Received code transferring HTTP data range %d-%d for request %s: %s - %s", start, end, requestId, response.code(), response.message()));
+            }
+            var body = response.body();
+            rangeResponseBodies.add(body);
+            return body.byteStream();
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private void closeQuietly(Response response) {
+        try {
+            response.close();
+        } catch (Exception e) {
+            monitor.info("Error closing failed response", e);
+        }
     }
 
     private record ResponseBodyStream(ResponseBody responseBody, InputStream stream) {
@@ -150,6 +256,14 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Number of byte ranges the content is split into if the endpoint supports ranged requests, 0 or 1 to fetch it as a single part.
+         */
+        public Builder rangedParts(int rangedParts) {
+            dataSource.rangedParts = rangedParts;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
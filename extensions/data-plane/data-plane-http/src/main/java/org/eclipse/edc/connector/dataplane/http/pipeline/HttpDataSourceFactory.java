@@ -25,8 +25,11 @@ import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.spi.types.domain.transfer.FlowType;
 import org.jetbrains.annotations.NotNull;
 
+import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress.RANGED_PARTS;
 import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.HTTP_DATA_TYPE;
 
 /**
@@ -53,6 +56,16 @@ public class HttpDataSourceFactory implements DataSourceFactory {
 
     @Override
     public @NotNull Result<Void> validateRequest(DataFlowStartMessage request) {
+        var rangedParts = request.getSourceDataAddress().getStringProperty(RANGED_PARTS);
+        if (rangedParts != null) {
+            try {
+                if (Integer.parseInt(rangedParts) < 0) {
+                    return Result.failure(format("%s must not be negative, but was %s", RANGED_PARTS, rangedParts));
+                }
+            } catch (NumberFormatException e) {
+                return Result.failure(format("%s must be an integer, but was %s", RANGED_PARTS, rangedParts));
+            }
+        }
         try {
             createSource(request);
         } catch (Exception e) {
@@ -73,6 +86,17 @@ public class HttpDataSourceFactory implements DataSourceFactory {
                 .name(dataAddress.getName())
                 .params(requestParamsProvider.provideSourceParams(request))
                 .requestFactory(requestFactory)
+                .rangedParts(writesPartsSeparately(request) ? dataAddress.getRangedParts() : 0)
                 .build();
     }
+
+    /**
+     * Byte ranges are only fetched as separate parts if the sink writes every part on its own. An HTTP sink sends all
+     * parts to the same endpoint and a pull transfer streams them into a single response, so both would receive the
+     * ranges as separate, possibly reordered, bodies instead of the original content.
+     */
+    private boolean writesPartsSeparately(DataFlowStartMessage request) {
+        var destination = request.getDestinationDataAddress();
+        return request.getFlowType() != FlowType.PULL && destination != null && !HTTP_DATA_TYPE.equals(destination.getType());
+    }
 }
@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+/**
+ * A byte range of an HTTP resource, fetched with its own ranged request when the stream is opened, so that the ranges
+ * of a single resource can be transferred concurrently.
+ */
+public record HttpRangePart(String name, String mediaType, long size, Supplier<InputStream> content) implements DataSource.Part {
+
+    @Override
+    public InputStream openStream() {
+        return content.get();
+    }
+}
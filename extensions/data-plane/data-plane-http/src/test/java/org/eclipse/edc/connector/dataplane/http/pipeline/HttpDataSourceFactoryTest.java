@@ -28,8 +28,11 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.eclipse.edc.spi.types.domain.transfer.FlowType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -100,6 +103,47 @@ class HttpDataSourceFactoryTest {
         assertThat(source).usingRecursiveComparison().isEqualTo(expected);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "-1", "two" })
+    void verifyValidationFailsIfRangedPartsInvalid(String rangedParts) {
+        var address = HttpDataAddress.Builder.newInstance().property(HttpDataAddress.RANGED_PARTS, rangedParts).build();
+        var request = createRequest(address);
+        when(provider.provideSourceParams(request)).thenReturn(mock());
+
+        var result = factory.validateRequest(request);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains(HttpDataAddress.RANGED_PARTS).contains(rangedParts);
+    }
+
+    @Test
+    void verifyRangedParts_whenSinkWritesPartsSeparately() {
+        var request = createRequest(HttpDataAddress.Builder.newInstance().rangedParts(4).build());
+        when(provider.provideSourceParams(request)).thenReturn(mock());
+
+        assertThat(factory.createSource(request).isResumable()).isTrue();
+    }
+
+    @Test
+    void verifyNoRangedParts_whenSinkIsHttp() {
+        var source = HttpDataAddress.Builder.newInstance().rangedParts(4).build();
+        var request = TestFunctions.createRequest(emptyMap(), source, DataAddress.Builder.newInstance().type(HTTP_DATA_TYPE).build()).build();
+        when(provider.provideSourceParams(request)).thenReturn(mock());
+
+        assertThat(factory.createSource(request).isResumable()).isFalse();
+    }
+
+    @Test
+    void verifyNoRangedParts_whenPullTransfer() {
+        var source = HttpDataAddress.Builder.newInstance().rangedParts(4).build();
+        var request = TestFunctions.createRequest(emptyMap(), source, DataAddress.Builder.newInstance().type("Test type").build())
+                .flowType(FlowType.PULL)
+                .build();
+        when(provider.provideSourceParams(request)).thenReturn(mock());
+
+        assertThat(factory.createSource(request).isResumable()).isFalse();
+    }
+
     private DataFlowStartMessage createRequest(DataAddress source) {
         return TestFunctions.createRequest(emptyMap(), source, DataAddress.Builder.newInstance().type("Test type").build()).build();
     }
@@ -21,7 +21,9 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
@@ -31,15 +33,19 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.GENERAL_ERROR;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.NOT_AUTHORIZED;
 import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
@@ -107,6 +113,116 @@ class HttpDataSourceTest {
         verify(stream).close();
     }
 
+    @Test
+    void openPartStream_shouldSplitIntoRanges_whenRangesSupported() throws IOException {
+        var content = new byte[3 * 1024 * 1024 + 10];
+        new Random().nextBytes(content);
+        Interceptor interceptor = chain -> rangeResponse(chain.request(), content, true);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory).rangedParts(4).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(4).allSatisfy(part -> assertThat(part.name()).startsWith("test-name.part"));
+        assertThat(parts.stream().mapToLong(DataSource.Part::size).sum()).isEqualTo(content.length);
+        var transferred = new ByteArrayOutputStream();
+        for (var part : parts) {
+            try (var stream = part.openStream()) {
+                stream.transferTo(transferred);
+            }
+        }
+        assertThat(transferred.toByteArray()).isEqualTo(content);
+        source.close();
+    }
+
+    @Test
+    void openPartStream_shouldReturnSinglePart_whenRangesNotSupported() {
+        var content = new byte[3 * 1024 * 1024];
+        Interceptor interceptor = chain -> rangeResponse(chain.request(), content, false);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory).rangedParts(4).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(1).first().satisfies(part -> assertThat(part.size()).isEqualTo(content.length));
+    }
+
+    @Test
+    void openPartStream_shouldSendValidatorAsIfRange_whenRangesSupported() throws IOException {
+        var content = new byte[3 * 1024 * 1024];
+        var ifRanges = new ArrayList<String>();
+        Interceptor interceptor = chain -> {
+            if ("HEAD".equals(chain.request().method())) {
+                return rangeResponse(chain.request(), content, true).newBuilder().header("ETag", "\"v1\"").build();
+            }
+            ifRanges.add(chain.request().header("If-Range"));
+            return rangeResponse(chain.request(), content, true);
+        };
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory).rangedParts(4).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+        for (var part : parts) {
+            try (var stream = part.openStream()) {
+                stream.readAllBytes();
+            }
+        }
+
+        assertThat(source.validator()).isEqualTo("\"v1\"");
+        assertThat(ifRanges).hasSize(3).containsOnly("\"v1\"");
+        source.close();
+    }
+
+    @Test
+    void openPartStream_shouldUseLastModifiedAsValidator_whenEntityTagIsWeak() {
+        var content = new byte[3 * 1024 * 1024];
+        Interceptor interceptor = chain -> rangeResponse(chain.request(), content, true).newBuilder()
+                .header("ETag", "W/\"v1\"").header("Last-Modified", "Wed, 21 Oct 2015 07:28:00 GMT").build();
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory).rangedParts(4).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        source.openPartStream().getContent().toList();
+
+        assertThat(source.validator()).isEqualTo("Wed, 21 Oct 2015 07:28:00 GMT");
+    }
+
+    @Test
+    void openPartStream_shouldFailRange_whenContentChanged() {
+        var content = new byte[3 * 1024 * 1024];
+        Interceptor interceptor = chain -> {
+            if ("HEAD".equals(chain.request().method())) {
+                return rangeResponse(chain.request(), content, true).newBuilder().header("ETag", "\"v1\"").build();
+            }
+            // the endpoint ignores the Range header when the If-Range condition does not match the current content
+            var changed = chain.request().newBuilder().removeHeader("Range").build();
+            return rangeResponse(changed, content, true).newBuilder().header("ETag", "\"v2\"").build();
+        };
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory).rangedParts(4).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var part = source.openPartStream().getContent().findFirst().orElseThrow();
+
+        assertThatThrownBy(part::openStream).isInstanceOf(EdcException.class);
+    }
+
+    private Response rangeResponse(Request request, byte[] content, boolean acceptRanges) {
+        var builder = new Response.Builder().request(request).protocol(HTTP_1_1).message("any");
+        if (acceptRanges) {
+            builder.header("Accept-Ranges", "bytes");
+        }
+        if ("HEAD".equals(request.method())) {
+            return builder.code(200).header("Content-Length", String.valueOf(content.length))
+                    .body(ResponseBody.create(new byte[0], MediaType.parse("application/octet-stream"))).build();
+        }
+        var range = request.header("Range");
+        if (range == null) {
+            return builder.code(200).body(ResponseBody.create(content, MediaType.parse("application/octet-stream"))).build();
+        }
+        var bounds = range.replace("bytes=", "").split("-");
+        var slice = Arrays.copyOfRange(content, Integer.parseInt(bounds[0]), Integer.parseInt(bounds[1]) + 1);
+        return builder.code(206).body(ResponseBody.create(slice, MediaType.parse("application/octet-stream"))).build();
+    }
+
     @NotNull
     private Request dummyRequest() {
         return new Request.Builder().url("http://some.test.url/").get().build();
@@ -18,19 +18,27 @@ import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
@@ -41,13 +49,28 @@ import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.succ
 
 class KafkaDataSource implements DataSource {
 
+    private static final Duration STATISTICS_INTERVAL = Duration.ofSeconds(30);
+    private static final byte[] EMPTY_VALUE = new byte[0];
+
     private String name;
     private Monitor monitor;
     private Duration pollDuration;
     private Duration maxDuration;
     private Consumer<String, byte[]> consumer;
     private Clock clock;
+    private int batchMaxRecords;
+    private long batchMaxBytes;
+    private Duration batchMaxWait = Duration.ofSeconds(1);
+    private RecordBatchFormat batchFormat = RecordBatchFormat.NDJSON;
     private final AtomicBoolean active = new AtomicBoolean(true);
+    private final OffsetTracker offsetTracker = new OffsetTracker();
+    private final Object consumerLock = new Object();
+    private volatile boolean streamClosed;
+    // guarded by consumerLock
+    private boolean consumerClosed;
+    private long consumedRecords;
+    private Instant consumingSince;
+    private Instant lastStatistics;
 
     private KafkaDataSource() {
     }
@@ -55,10 +78,24 @@ class KafkaDataSource implements DataSource {
     @Override
     public void close() {
         active.set(false);
+        if (isBatching()) {
+            synchronized (consumerLock) {
+                if (streamClosed) {
+                    closeConsumer();
+                }
+            }
+        }
     }
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
+        if (isBatching()) {
+            var stream = stream(spliteratorUnknownSize(new RecordBatchIterator(), 0), /* not parallel */ false)
+                    .map(Part.class::cast)
+                    .onClose(this::onStreamClosed);
+            return success(stream);
+        }
+
         var stream = openRecordsStream()
                 .flatMap(consumerRecords -> consumerRecords.partitions().stream()
                         .flatMap(p -> consumerRecords.records(p).stream())
@@ -74,6 +111,88 @@ class KafkaDataSource implements DataSource {
         return stream(spliteratorUnknownSize(new ConsumerRecordsIterator(), 0), /* not parallel */ false);
     }
 
+    private boolean isBatching() {
+        return batchMaxRecords > 0 || batchMaxBytes > 0;
+    }
+
+    /**
+     * Once the stream is closed no more records are polled, but the consumer is kept open until the batches handed
+     * out to the sink are acknowledged, so that their offsets can still be committed.
+     */
+    private void onStreamClosed() {
+        synchronized (consumerLock) {
+            streamClosed = true;
+            if (consumerClosed) {
+                return;
+            }
+            commitAcknowledged();
+            if (!offsetTracker.hasPending() || !active.get()) {
+                closeConsumer();
+            }
+        }
+    }
+
+    private void onBatchAcknowledged(long sequence) {
+        offsetTracker.acknowledge(sequence);
+        if (!streamClosed) {
+            // committed by the polling thread, avoids waiting for the lock while it polls
+            return;
+        }
+        synchronized (consumerLock) {
+            if (!consumerClosed) {
+                commitAcknowledged();
+                if (!offsetTracker.hasPending()) {
+                    closeConsumer();
+                }
+            }
+        }
+    }
+
+    // must be called holding consumerLock
+    private void closeConsumer() {
+        if (consumerClosed) {
+            return;
+        }
+        consumerClosed = true;
+        try {
+            commitAcknowledged();
+            logStatistics();
+        } finally {
+            consumer.close();
+        }
+    }
+
+    // must be called holding consumerLock
+    private void commitAcknowledged() {
+        var offsets = offsetTracker.drainCommittable();
+        if (!offsets.isEmpty()) {
+            try {
+                consumer.commitSync(offsets);
+            } catch (KafkaException e) {
+                // the records will be delivered again, as is the case when the data plane stops before committing
+                monitor.warning(String.format("KafkaDataSource %s failed to commit offsets %s", name, offsets), e);
+            }
+        }
+        var now = clock.instant();
+        if (lastStatistics == null || !now.isBefore(lastStatistics.plus(STATISTICS_INTERVAL))) {
+            lastStatistics = now;
+            logStatistics();
+        }
+    }
+
+    // must be called holding consumerLock
+    private void logStatistics() {
+        var lag = consumer.assignment().stream()
+                .map(consumer::currentLag)
+                .filter(OptionalLong::isPresent)
+                .mapToLong(OptionalLong::getAsLong)
+                .sum();
+        var elapsed = consumingSince == null ? 0 : Duration.between(consumingSince, clock.instant()).toMillis();
+        var recordsPerSecond = elapsed == 0 ? 0 : consumedRecords * 1000.0 / elapsed;
+        monitor.debug(() -> String.format("KafkaDataSource %s consumed %d records (%.0f records/s), committed %d, lag %d",
+                name, consumedRecords, recordsPerSecond, offsetTracker.committedRecords(), lag));
+    }
+
     public static class Builder {
 
         private Properties consumerProperties;
@@ -119,15 +238,55 @@ class KafkaDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Maximum number of records aggregated into a single part. Batching is disabled if neither this nor
+         * {@link #batchMaxBytes(long)} is set.
+         */
+        public Builder batchMaxRecords(int batchMaxRecords) {
+            dataSource.batchMaxRecords = batchMaxRecords;
+            return this;
+        }
+
+        /**
+         * Maximum number of bytes aggregated into a single part. Batching is disabled if neither this nor
+         * {@link #batchMaxRecords(int)} is set.
+         */
+        public Builder batchMaxBytes(long batchMaxBytes) {
+            dataSource.batchMaxBytes = batchMaxBytes;
+            return this;
+        }
+
+        public Builder batchMaxWait(Duration batchMaxWait) {
+            dataSource.batchMaxWait = batchMaxWait;
+            return this;
+        }
+
+        public Builder batchFormat(RecordBatchFormat batchFormat) {
+            dataSource.batchFormat = batchFormat;
+            return this;
+        }
+
+        /**
+         * Uses an already subscribed consumer instead of creating one from the {@link #consumerProperties(Properties)}.
+         */
+        Builder consumer(Consumer<String, byte[]> consumer) {
+            dataSource.consumer = consumer;
+            return this;
+        }
+
         public KafkaDataSource build() {
             Objects.requireNonNull(dataSource.monitor, "monitor");
             Objects.requireNonNull(dataSource.pollDuration, "pollDuration");
-            Objects.requireNonNull(topic, "topic");
-            Objects.requireNonNull(consumerProperties, "consumerProperties");
             Objects.requireNonNull(dataSource.clock, "clock");
-
-            dataSource.consumer = new KafkaConsumer<>(consumerProperties);
-            dataSource.consumer.subscribe(List.of(topic));
+            Objects.requireNonNull(dataSource.batchMaxWait, "batchMaxWait");
+            Objects.requireNonNull(dataSource.batchFormat, "batchFormat");
+
+            if (dataSource.consumer == null) {
+                Objects.requireNonNull(topic, "topic");
+                Objects.requireNonNull(consumerProperties, "consumerProperties");
+                dataSource.consumer = new KafkaConsumer<>(consumerProperties);
+                dataSource.consumer.subscribe(List.of(topic));
+            }
 
             return dataSource;
         }
@@ -156,6 +315,143 @@ class KafkaDataSource implements DataSource {
         }
     }
 
+    private class KafkaBatchPart implements Part {
+
+        private final byte[] content;
+        private final long sequence;
+        private final AtomicBoolean acknowledged = new AtomicBoolean();
+
+        private KafkaBatchPart(byte[] content, long sequence) {
+            this.content = content;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public long size() {
+            return content.length;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public String mediaType() {
+            return batchFormat.mediaType();
+        }
+
+        @Override
+        public void acknowledge() {
+            if (acknowledged.compareAndSet(false, true)) {
+                onBatchAcknowledged(sequence);
+            }
+        }
+    }
+
+    /**
+     * Aggregates the polled records into batches bounded by {@code batchMaxRecords}, {@code batchMaxBytes} and
+     * {@code batchMaxWait}. Offsets acknowledged by the sink in the meantime are committed before every poll.
+     */
+    private class RecordBatchIterator implements Iterator<KafkaBatchPart> {
+
+        private final Instant streamEnd;
+        private final Deque<ConsumerRecord<String, byte[]>> buffered = new ArrayDeque<>();
+        private KafkaBatchPart nextBatch;
+
+        RecordBatchIterator() {
+            this.streamEnd = maxDuration == null ? Instant.MAX : clock.instant().plus(maxDuration);
+            monitor.debug(String.format("KafkaDataSource %s starts consuming batches until: %s", name, streamEnd));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (nextBatch == null && active.get() && !clock.instant().isAfter(streamEnd)) {
+                nextBatch = collectBatch();
+            }
+            return nextBatch != null;
+        }
+
+        @Override
+        public KafkaBatchPart next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var batch = nextBatch;
+            nextBatch = null;
+            return batch;
+        }
+
+        private KafkaBatchPart collectBatch() {
+            var output = new ByteArrayOutputStream();
+            var offsets = new HashMap<TopicPartition, Long>();
+            var records = 0;
+            Instant deadline = null;
+
+            var full = false;
+            while (active.get()) {
+                while (!buffered.isEmpty() && !full) {
+                    var value = valueOf(buffered.peek());
+                    if (records > 0 && batchMaxBytes > 0 && output.size() + batchFormat.framedSize(value) > batchMaxBytes) {
+                        // the record goes into the next batch
+                        full = true;
+                        break;
+                    }
+                    var consumerRecord = buffered.poll();
+                    batchFormat.write(output, value);
+                    offsets.merge(new TopicPartition(consumerRecord.topic(), consumerRecord.partition()), consumerRecord.offset() + 1, Math::max);
+                    records++;
+                    full = (batchMaxRecords > 0 && records >= batchMaxRecords) || (batchMaxBytes > 0 && output.size() >= batchMaxBytes);
+                }
+
+                var now = clock.instant();
+                if (records > 0 && deadline == null) {
+                    deadline = now.plus(batchMaxWait);
+                }
+                if (full || (deadline != null && !now.isBefore(deadline)) || now.isAfter(streamEnd)) {
+                    break;
+                }
+
+                var timeout = deadline == null ? pollDuration : min(pollDuration, Duration.between(now, deadline));
+                poll(timeout);
+            }
+
+            if (records == 0) {
+                return null;
+            }
+            return new KafkaBatchPart(output.toByteArray(), offsetTracker.register(offsets, records));
+        }
+
+        private void poll(Duration timeout) {
+            synchronized (consumerLock) {
+                if (consumerClosed) {
+                    active.set(false);
+                    return;
+                }
+                commitAcknowledged();
+                var records = consumer.poll(timeout);
+                if (consumingSince == null) {
+                    consumingSince = clock.instant();
+                }
+                consumedRecords += records.count();
+                records.forEach(buffered::add);
+            }
+        }
+
+        private byte[] valueOf(ConsumerRecord<String, byte[]> consumerRecord) {
+            return consumerRecord.value() == null ? EMPTY_VALUE : consumerRecord.value();
+        }
+
+        private Duration min(Duration first, Duration second) {
+            return first.compareTo(second) <= 0 ? first : second;
+        }
+    }
+
     private class ConsumerRecordsIterator implements Iterator<ConsumerRecords<String, byte[]>> {
 
         private final Instant streamEnd;
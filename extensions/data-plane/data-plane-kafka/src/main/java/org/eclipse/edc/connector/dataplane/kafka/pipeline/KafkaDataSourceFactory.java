@@ -26,21 +26,32 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.validator.dataaddress.kafka.KafkaDataAddressValidator;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
+import org.eclipse.edc.validator.spi.Violation;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_FORMAT;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_MAX_BYTES;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_MAX_RECORDS;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_MAX_WAIT;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.MAX_DURATION;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.NAME;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.POLL_DURATION;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
+import static org.eclipse.edc.validator.spi.Violation.violation;
 
 public class KafkaDataSourceFactory implements DataSourceFactory {
 
     private static final Duration DEFAULT_POLL_DURATION = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_BATCH_MAX_WAIT = Duration.ofSeconds(1);
 
     private final Monitor monitor;
     private final Validator<DataAddress> validation;
@@ -62,7 +73,9 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
     @Override
     public @NotNull Result<Void> validateRequest(DataFlowStartMessage request) {
         var source = request.getSourceDataAddress();
-        return validation.validate(source).flatMap(ValidationResult::toResult);
+        return validation.validate(source)
+                .compose(v -> validateBatchSettings(source))
+                .flatMap(ValidationResult::toResult);
     }
 
     @Override
@@ -79,6 +92,27 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .orElseThrow(failure -> new IllegalArgumentException(failure.getFailureDetail()));
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
 
+        var batchMaxRecords = Optional.ofNullable(source.getStringProperty(BATCH_MAX_RECORDS))
+                .map(Integer::parseInt)
+                .orElse(0);
+
+        var batchMaxBytes = Optional.ofNullable(source.getStringProperty(BATCH_MAX_BYTES))
+                .map(Long::parseLong)
+                .orElse(0L);
+
+        if (batchMaxRecords > 0 || batchMaxBytes > 0) {
+            // offsets are committed by the source once the sink acknowledged the batches
+            consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
+
+        var batchMaxWait = Optional.ofNullable(source.getStringProperty(BATCH_MAX_WAIT))
+                .map(Duration::parse)
+                .orElse(DEFAULT_BATCH_MAX_WAIT);
+
+        var batchFormat = Optional.ofNullable(source.getStringProperty(BATCH_FORMAT))
+                .map(RecordBatchFormat::fromValue)
+                .orElse(RecordBatchFormat.NDJSON);
+
         var topic = source.getStringProperty(TOPIC);
         var name = source.getStringProperty(NAME);
 
@@ -98,6 +132,41 @@ public class KafkaDataSourceFactory implements DataSourceFactory {
                 .pollDuration(pollDuration)
                 .maxDuration(maxDuration)
                 .consumerProperties(consumerProps)
+                .batchMaxRecords(batchMaxRecords)
+                .batchMaxBytes(batchMaxBytes)
+                .batchMaxWait(batchMaxWait)
+                .batchFormat(batchFormat)
                 .build();
     }
+
+    private ValidationResult validateBatchSettings(DataAddress source) {
+        var violations = Stream.of(
+                        validateProperty(source, BATCH_MAX_RECORDS, value -> Integer.parseInt(value) >= 0, "a non-negative integer"),
+                        validateProperty(source, BATCH_MAX_BYTES, value -> Long.parseLong(value) >= 0, "a non-negative integer"),
+                        validateProperty(source, BATCH_MAX_WAIT, value -> !Duration.parse(value).isNegative(), "a non-negative ISO-8601 duration"),
+                        validateProperty(source, BATCH_FORMAT, value -> RecordBatchFormat.fromValue(value) != null, "a supported batch format"))
+                .filter(Objects::nonNull)
+                .toList();
+
+        if (violations.isEmpty()) {
+            return ValidationResult.success();
+        }
+
+        return ValidationResult.failure(violations);
+    }
+
+    private Violation validateProperty(DataAddress source, String key, Predicate<String> isValid, String expected) {
+        var value = source.getStringProperty(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (isValid.test(value)) {
+                return null;
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // not parseable, reported as violation below
+        }
+        return violation("'%s' must be %s, but was '%s'".formatted(key, expected, value), key, value);
+    }
 }
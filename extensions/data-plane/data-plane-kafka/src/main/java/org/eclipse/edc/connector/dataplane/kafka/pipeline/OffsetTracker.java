@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps track of the record batches handed out to the sink and determines which offsets can be committed.
+ * <p>
+ * Batches may be acknowledged out of order when a sink transfers them in parallel. Offsets are only committed for the
+ * longest sequence of acknowledged batches starting at the oldest pending one, so that no record is committed before
+ * every preceding record was delivered. This class is thread-safe.
+ */
+class OffsetTracker {
+
+    private final TreeMap<Long, Batch> pending = new TreeMap<>();
+    private long nextSequence;
+    private long committedRecords;
+
+    /**
+     * Registers a batch containing {@code records} records whose next offsets per partition are {@code offsets}.
+     *
+     * @return the sequence number of the batch, to be passed to {@link #acknowledge(long)}.
+     */
+    synchronized long register(Map<TopicPartition, Long> offsets, int records) {
+        var sequence = nextSequence++;
+        pending.put(sequence, new Batch(offsets, records));
+        return sequence;
+    }
+
+    synchronized void acknowledge(long sequence) {
+        var batch = pending.get(sequence);
+        if (batch != null) {
+            batch.acknowledged = true;
+        }
+    }
+
+    /**
+     * Removes the acknowledged batches that can be committed and returns their offsets, or an empty map if there are
+     * none.
+     */
+    synchronized Map<TopicPartition, OffsetAndMetadata> drainCommittable() {
+        var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+        while (!pending.isEmpty() && pending.firstEntry().getValue().acknowledged) {
+            var batch = pending.pollFirstEntry().getValue();
+            batch.offsets.forEach((partition, offset) -> offsets.merge(partition, new OffsetAndMetadata(offset),
+                    (current, candidate) -> current.offset() >= candidate.offset() ? current : candidate));
+            committedRecords += batch.records;
+        }
+        return offsets;
+    }
+
+    synchronized boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    synchronized long committedRecords() {
+        return committedRecords;
+    }
+
+    private static class Batch {
+        private final Map<TopicPartition, Long> offsets;
+        private final int records;
+        private boolean acknowledged;
+
+        Batch(Map<TopicPartition, Long> offsets, int records) {
+            this.offsets = offsets;
+            this.records = records;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Framing of the record values aggregated into a single part.
+ */
+enum RecordBatchFormat {
+
+    /**
+     * Record values separated by a line feed, meant for records containing single-line JSON documents.
+     */
+    NDJSON("ndjson", "application/x-ndjson") {
+        @Override
+        void write(ByteArrayOutputStream output, byte[] value) {
+            output.writeBytes(value);
+            output.write('\n');
+        }
+
+        @Override
+        int framedSize(byte[] value) {
+            return value.length + 1;
+        }
+    },
+
+    /**
+     * Record values preceded by their length as a 4 byte big-endian integer.
+     */
+    LENGTH_PREFIXED("length-prefixed", "application/octet-stream") {
+        @Override
+        void write(ByteArrayOutputStream output, byte[] value) {
+            var length = value.length;
+            output.write(length >>> 24);
+            output.write(length >>> 16);
+            output.write(length >>> 8);
+            output.write(length);
+            output.writeBytes(value);
+        }
+
+        @Override
+        int framedSize(byte[] value) {
+            return value.length + Integer.BYTES;
+        }
+    };
+
+    private final String value;
+    private final String mediaType;
+
+    RecordBatchFormat(String value, String mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    static RecordBatchFormat fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported batch format: " + value));
+    }
+
+    String mediaType() {
+        return mediaType;
+    }
+
+    abstract void write(ByteArrayOutputStream output, byte[] value);
+
+    abstract int framedSize(byte[] value);
+}
@@ -22,17 +22,26 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import java.time.Clock;
 import java.util.Map;
 import java.util.Properties;
+import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_FORMAT;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_MAX_BYTES;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_MAX_RECORDS;
+import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BATCH_MAX_WAIT;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.BOOTSTRAP_SERVERS;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.TOPIC;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -90,6 +99,25 @@ class KafkaDataSourceFactoryTest {
         assertThat(result.getFailureDetail()).contains("kafka.bootstrap.servers");
     }
 
+    @Test
+    void verifyValidateSuccess_withBatchSettings() {
+        var request = createRequest(KAFKA_TYPE, Map.of(TOPIC, "test", BOOTSTRAP_SERVERS, "any",
+                BATCH_MAX_RECORDS, "100", BATCH_MAX_BYTES, "1048576", BATCH_MAX_WAIT, "PT0.5S", BATCH_FORMAT, "length-prefixed"));
+
+        var result = factory.validateRequest(request);
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidBatchSettings")
+    void verifyValidateReturnsFailedResult_ifBatchSettingInvalid(String key, String value) {
+        var request = createRequest(KAFKA_TYPE, Map.of(TOPIC, "test", BOOTSTRAP_SERVERS, "any", key, value));
+
+        var result = factory.validateRequest(request);
+        assertThat(result.succeeded()).isFalse();
+        assertThat(result.getFailureDetail()).contains(key).contains(value);
+    }
+
     @Test
     void verifyCreateSourceThrows_ifMissingTopicProperty() {
         var request = createRequest(KAFKA_TYPE, emptyMap());
@@ -111,6 +139,18 @@ class KafkaDataSourceFactoryTest {
         assertThatExceptionOfType(EdcException.class).isThrownBy(() -> factory.createSource(request));
     }
 
+    private static Stream<Arguments> invalidBatchSettings() {
+        return Stream.of(
+                arguments(BATCH_MAX_RECORDS, "many"),
+                arguments(BATCH_MAX_RECORDS, "-1"),
+                arguments(BATCH_MAX_BYTES, "1MB"),
+                arguments(BATCH_MAX_BYTES, "-1"),
+                arguments(BATCH_MAX_WAIT, "1s"),
+                arguments(BATCH_MAX_WAIT, "-PT1S"),
+                arguments(BATCH_FORMAT, "csv")
+        );
+    }
+
     private DataFlowStartMessage createRequest(String sourceType, Map<String, Object> sourceProperties) {
         return DataFlowStartMessage.Builder.newInstance()
                 .id("id")
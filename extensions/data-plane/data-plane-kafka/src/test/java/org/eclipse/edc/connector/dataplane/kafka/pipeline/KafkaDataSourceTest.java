@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class KafkaDataSourceTest {
+
+    private static final String TOPIC = "topic";
+
+    private final TopicPartition partition = new TopicPartition(TOPIC, 0);
+    private final MockConsumer<String, byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+
+    @BeforeEach
+    void setUp() {
+        consumer.assign(List.of(partition));
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+        IntStream.range(0, 5).forEach(i -> consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, i, "key", ("record" + i).getBytes())));
+    }
+
+    @Test
+    void openPartStream_shouldBatchRecords_andCommitOnlyAcknowledgedOffsets() throws IOException {
+        var source = dataSourceBuilder().batchMaxRecords(2).build();
+
+        var stream = source.openPartStream().getContent();
+        var iterator = stream.iterator();
+        var first = iterator.next();
+        var second = iterator.next();
+        var third = iterator.next();
+
+        assertThat(read(first)).isEqualTo("record0\nrecord1\n");
+        assertThat(first.mediaType()).isEqualTo("application/x-ndjson");
+        assertThat(read(second)).isEqualTo("record2\nrecord3\n");
+        assertThat(read(third)).isEqualTo("record4\n");
+
+        second.acknowledge();
+        stream.close();
+        assertThat(consumer.committed(Set.of(partition)).get(partition)).isNull();
+
+        first.acknowledge();
+        assertThat(consumer.committed(Set.of(partition)).get(partition).offset()).isEqualTo(4);
+        assertThat(consumer.closed()).isFalse();
+
+        third.acknowledge();
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    @Test
+    void openPartStream_shouldBoundBatchesBySize_withLengthPrefixedFrames() throws IOException {
+        var source = dataSourceBuilder()
+                .batchMaxBytes(25)
+                .batchFormat(RecordBatchFormat.LENGTH_PREFIXED)
+                .build();
+
+        var iterator = source.openPartStream().getContent().iterator();
+        var first = iterator.next();
+
+        assertThat(first.size()).isEqualTo(22);
+        try (var content = first.openStream()) {
+            var bytes = content.readAllBytes();
+            assertThat(bytes).startsWith(0, 0, 0, 7);
+            assertThat(new String(bytes, 4, 7)).isEqualTo("record0");
+        }
+    }
+
+    private KafkaDataSource.Builder dataSourceBuilder() {
+        return KafkaDataSource.Builder.newInstance()
+                .name("test")
+                .monitor(mock(Monitor.class))
+                .clock(Clock.systemUTC())
+                .pollDuration(Duration.ofMillis(10))
+                .batchMaxWait(Duration.ofMillis(100))
+                .consumer(consumer);
+    }
+
+    private String read(DataSource.Part part) throws IOException {
+        try (var content = part.openStream()) {
+            return new String(content.readAllBytes());
+        }
+    }
+}
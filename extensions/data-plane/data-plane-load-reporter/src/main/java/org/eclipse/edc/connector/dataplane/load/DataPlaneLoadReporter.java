@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.load;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Periodically reports the load of the data plane to the data plane selector, by registering again the data plane
+ * instance with the active and queued flows counted by the {@link DataFlowScheduler}. The registered instance is read
+ * from the selector once and kept, so that its other attributes are reported as they were registered; it is read again
+ * only after a report failed.
+ */
+public class DataPlaneLoadReporter {
+
+    private final String instanceId;
+    private final DataFlowScheduler scheduler;
+    private final DataPlaneSelectorService selectorService;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final Monitor monitor;
+    private final Duration interval;
+    private ScheduledExecutorService executor;
+    private volatile DataPlaneInstance instance;
+
+    public DataPlaneLoadReporter(String instanceId, DataFlowScheduler scheduler, DataPlaneSelectorService selectorService,
+                                 ExecutorInstrumentation executorInstrumentation, Monitor monitor, Duration interval) {
+        this.instanceId = instanceId;
+        this.scheduler = scheduler;
+        this.selectorService = selectorService;
+        this.executorInstrumentation = executorInstrumentation;
+        this.monitor = monitor;
+        this.interval = interval;
+    }
+
+    public void start() {
+        executor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "data-plane-load-reporter");
+        executor.scheduleWithFixedDelay(this::report, 0, interval.toMillis(), MILLISECONDS);
+    }
+
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reports the current load, the instance is left untouched if it is not registered yet.
+     */
+    void report() {
+        try {
+            var registered = instance != null ? instance : registeredInstance();
+            if (registered == null) {
+                monitor.debug(() -> format("Data plane instance %s is not registered, its load is not reported", instanceId));
+                return;
+            }
+
+            var reported = registered.toBuilder()
+                    .activeFlows(scheduler.activeFlows())
+                    .queuedFlows(scheduler.queuedFlows())
+                    .build();
+            var result = selectorService.addInstance(reported);
+            if (result.succeeded()) {
+                instance = reported;
+            } else {
+                instance = null;
+                monitor.warning(format("Failed to report the load of data plane instance %s: %s", instanceId, result.getFailureDetail()));
+            }
+        } catch (Exception e) {
+            instance = null;
+            monitor.warning(format("Failed to report the load of data plane instance %s", instanceId), e);
+        }
+    }
+
+    private DataPlaneInstance registeredInstance() {
+        return selectorService.getAll().stream()
+                .filter(it -> instanceId.equals(it.getId()))
+                .findFirst()
+                .orElse(null);
+    }
+}
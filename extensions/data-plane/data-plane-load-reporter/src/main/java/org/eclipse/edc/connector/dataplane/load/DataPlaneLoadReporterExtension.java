@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.load;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Duration;
+
+/**
+ * An extension that reports the number of active and queued data flows of the {@link DataFlowScheduler} to the data
+ * plane selector, where the {@code leastLoaded} selection strategy reads them.
+ */
+@Extension(value = DataPlaneLoadReporterExtension.NAME)
+public class DataPlaneLoadReporterExtension implements ServiceExtension {
+
+    public static final String NAME = "Data Plane Load Reporter";
+
+    private static final long DEFAULT_REPORT_INTERVAL_MILLIS = 5000;
+
+    @Setting(value = "the id under which this data plane is registered in the data plane selector", required = true)
+    public static final String INSTANCE_ID = "edc.dataplane.load.report.instance-id";
+
+    @Setting(value = "the time in milliseconds between two load reports", type = "long", defaultValue = DEFAULT_REPORT_INTERVAL_MILLIS + "")
+    public static final String REPORT_INTERVAL_MILLIS = "edc.dataplane.load.report.interval-millis";
+
+    @Inject
+    private DataFlowScheduler scheduler;
+
+    @Inject
+    private DataPlaneSelectorService selectorService;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Monitor monitor;
+
+    private DataPlaneLoadReporter reporter;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var instanceId = context.getConfig().getString(INSTANCE_ID);
+        var interval = Duration.ofMillis(context.getSetting(REPORT_INTERVAL_MILLIS, DEFAULT_REPORT_INTERVAL_MILLIS));
+        reporter = new DataPlaneLoadReporter(instanceId, scheduler, selectorService, executorInstrumentation, monitor, interval);
+    }
+
+    @Override
+    public void start() {
+        reporter.start();
+    }
+
+    @Override
+    public void shutdown() {
+        reporter.stop();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.load;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataPlaneLoadReporterTest {
+
+    private final DataFlowScheduler scheduler = mock();
+    private final DataPlaneSelectorService selectorService = mock();
+    private final DataPlaneLoadReporter reporter = new DataPlaneLoadReporter("instance", scheduler, selectorService,
+            ExecutorInstrumentation.noop(), mock(Monitor.class), Duration.ofSeconds(5));
+
+    @Test
+    void report_shouldRegisterInstanceWithSchedulerCounts() {
+        var instance = DataPlaneInstance.Builder.newInstance().id("instance").url("http://any").allowedSourceType("HttpData").build();
+        when(selectorService.getAll()).thenReturn(List.of(instance));
+        when(selectorService.addInstance(any())).thenReturn(ServiceResult.success());
+        when(scheduler.activeFlows()).thenReturn(5);
+        when(scheduler.queuedFlows()).thenReturn(2);
+
+        reporter.report();
+
+        verify(selectorService).addInstance(argThat(reported -> reported.getId().equals("instance") &&
+                reported.getActiveFlows() == 5 && reported.getQueuedFlows() == 2 &&
+                reported.getAllowedSourceTypes().contains("HttpData")));
+    }
+
+    @Test
+    void report_shouldReadRegisteredInstanceOnce() {
+        var instance = DataPlaneInstance.Builder.newInstance().id("instance").url("http://any").build();
+        when(selectorService.getAll()).thenReturn(List.of(instance));
+        when(selectorService.addInstance(any())).thenReturn(ServiceResult.success());
+        when(scheduler.activeFlows()).thenReturn(1, 3);
+
+        reporter.report();
+        reporter.report();
+
+        verify(selectorService).getAll();
+        verify(selectorService).addInstance(argThat(reported -> reported.getActiveFlows() == 3));
+    }
+
+    @Test
+    void report_shouldReadRegisteredInstanceAgain_whenReportFailed() {
+        var instance = DataPlaneInstance.Builder.newInstance().id("instance").url("http://any").build();
+        when(selectorService.getAll()).thenReturn(List.of(instance));
+        when(selectorService.addInstance(any())).thenReturn(ServiceResult.badRequest("error"), ServiceResult.success());
+
+        reporter.report();
+        reporter.report();
+
+        verify(selectorService, times(2)).getAll();
+    }
+
+    @Test
+    void report_shouldNotRegister_whenInstanceIsNotRegistered() {
+        var other = DataPlaneInstance.Builder.newInstance().id("other").url("http://any").build();
+        when(selectorService.getAll()).thenReturn(List.of(other));
+
+        reporter.report();
+
+        verify(selectorService, never()).addInstance(any());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * An extension that exposes the number of queued and active data flows of the {@link DataFlowScheduler} as Micrometer
+ * gauges.
+ */
+@Extension(value = DataPlaneMicrometerExtension.NAME)
+public class DataPlaneMicrometerExtension implements ServiceExtension {
+
+    public static final String NAME = "Data Plane Micrometer Metrics";
+
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting
+    public static final String ENABLE_DATAPLANE_METRICS = "edc.metrics.dataplane.enabled";
+
+    static final String DATA_FLOWS_METRIC_NAME = "edc.dataplane.flows";
+
+    @Inject
+    private DataFlowScheduler scheduler;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var enableMetrics = context.getSetting(ENABLE_METRICS, true);
+        var enableDataPlaneMetrics = context.getSetting(ENABLE_DATAPLANE_METRICS, true);
+
+        if (enableMetrics && enableDataPlaneMetrics) {
+            enableSchedulerMetrics();
+        }
+    }
+
+    private void enableSchedulerMetrics() {
+        Gauge.builder(DATA_FLOWS_METRIC_NAME, scheduler, DataFlowScheduler::queuedFlows)
+                .description("Data flows waiting to be admitted by the scheduler")
+                .tag("state", "queued")
+                .register(meterRegistry);
+        Gauge.builder(DATA_FLOWS_METRIC_NAME, scheduler, DataFlowScheduler::activeFlows)
+                .description("Data flows admitted by the scheduler and running")
+                .tag("state", "active")
+                .register(meterRegistry);
+    }
+}
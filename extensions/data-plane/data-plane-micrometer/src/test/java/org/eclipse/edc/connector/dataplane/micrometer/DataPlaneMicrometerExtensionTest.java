@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataFlowScheduler;
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.micrometer.DataPlaneMicrometerExtension.DATA_FLOWS_METRIC_NAME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(DependencyInjectionExtension.class)
+class DataPlaneMicrometerExtensionTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataFlowScheduler scheduler = mock();
+
+    @BeforeEach
+    void setUp(ServiceExtensionContext context) {
+        context.registerService(MeterRegistry.class, meterRegistry);
+        context.registerService(DataFlowScheduler.class, scheduler);
+    }
+
+    @Test
+    void initialize_shouldRegisterQueuedAndActiveFlowGauges(ServiceExtensionContext context, DataPlaneMicrometerExtension extension) {
+        when(scheduler.queuedFlows()).thenReturn(3);
+        when(scheduler.activeFlows()).thenReturn(5);
+
+        extension.initialize(context);
+
+        assertThat(meterRegistry.get(DATA_FLOWS_METRIC_NAME).tag("state", "queued").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get(DATA_FLOWS_METRIC_NAME).tag("state", "active").gauge().value()).isEqualTo(5);
+    }
+}
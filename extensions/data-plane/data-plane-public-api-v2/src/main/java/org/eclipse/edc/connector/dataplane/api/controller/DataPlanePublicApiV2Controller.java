@@ -131,9 +131,7 @@ public class DataPlanePublicApiV2Controller implements DataPlanePublicApiV2 {
     }
 
     private void handle(ContainerRequestContext requestContext, AsyncResponse response) {
-        var contextApi = new ContainerRequestContextApiImpl(requestContext);
-
-        var token = contextApi.headers().get(HttpHeaders.AUTHORIZATION);
+        var token = requestContext.getHeaderString(HttpHeaders.AUTHORIZATION);
         if (token == null) {
             response.resume(error(UNAUTHORIZED, "Missing Authorization Header"));
             return;
@@ -145,7 +143,7 @@ public class DataPlanePublicApiV2Controller implements DataPlanePublicApiV2 {
             return;
         }
 
-        var startMessage = requestSupplier.apply(contextApi, sourceDataAddress.getContent());
+        var startMessage = requestSupplier.apply(new ContainerRequestContextApiImpl(requestContext), sourceDataAddress.getContent());
 
         processRequest(startMessage, response);
     }
@@ -61,6 +61,15 @@ public interface DataPlaneSignalingApi {
     )
     JsonObject getTransferState(String transferProcessId);
 
+    @Operation(description = "Get the number of parts and bytes of a data transfer delivered so far, as of the last persisted checkpoint.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Progress of the data transfer",
+                            content = @Content(schema = @Schema(implementation = DataFlowProgressSchema.class))),
+                    @ApiResponse(responseCode = "404", description = "Data transfer not found in the data plane")
+            }
+    )
+    JsonObject getTransferProgress(String transferProcessId);
+
     @Operation(description = "Terminates a data transfer.",
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = DataFlowTerminateMessageSchema.class))),
             responses = {
@@ -193,6 +202,26 @@ public interface DataPlaneSignalingApi {
                 """;
     }
 
+    @Schema(name = "DataFlowProgress", example = DataFlowProgressSchema.DATA_FLOW_PROGRESS_EXAMPLE)
+    record DataFlowProgressSchema(
+            @Schema(name = CONTEXT)
+            Object context,
+            @Schema(name = TYPE, example = DataFlowProgressSchema.DATA_FLOW_PROGRESS_SIMPLE_TYPE)
+            String ldType,
+            long partsTransferred,
+            long bytesTransferred
+    ) {
+        public static final String DATA_FLOW_PROGRESS_SIMPLE_TYPE = "DataFlowProgress";
+        public static final String DATA_FLOW_PROGRESS_EXAMPLE = """
+                {
+                    "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                    "@type": "DataFlowProgress",
+                    "partsTransferred": 42,
+                    "bytesTransferred": 44040192
+                }
+                """;
+    }
+
     @Schema(name = "DataFlowTerminateMessage", example = DataFlowTerminateMessageSchema.TERMINATE_DATA_FLOW_EXAMPLE)
     record DataFlowTerminateMessageSchema(
             @Schema(name = TYPE, example = DataFlowTerminateMessage.DATA_FLOW_TERMINATE_MESSAGE_SIMPLE_TYPE)
@@ -23,6 +23,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -31,6 +32,7 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowSuspendMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
@@ -83,6 +85,22 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
                 .build();
     }
 
+    @GET
+    @Path("/{id}/progress")
+    @Override
+    public JsonObject getTransferProgress(@PathParam("id") String transferProcessId) {
+        var progress = dataPlaneManager.getTransferProgress(transferProcessId);
+        if (progress == null) {
+            throw new ObjectNotFoundException(DataFlow.class, transferProcessId);
+        }
+
+        return Json.createObjectBuilder()
+                .add(TYPE, DataFlowProgressSchema.DATA_FLOW_PROGRESS_SIMPLE_TYPE)
+                .add(EDC_NAMESPACE + "partsTransferred", progress.getPartsTransferred())
+                .add(EDC_NAMESPACE + "bytesTransferred", progress.getBytesTransferred())
+                .build();
+    }
+
     @POST
     @Path("/{id}/terminate")
     @Override
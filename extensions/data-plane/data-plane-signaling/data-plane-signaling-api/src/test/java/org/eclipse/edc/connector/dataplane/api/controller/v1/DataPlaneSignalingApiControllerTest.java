@@ -19,6 +19,7 @@ import io.restassured.specification.RequestSpecification;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.junit.annotations.ApiTest;
@@ -191,6 +192,33 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
         assertThat(state.getString(EDC_NAMESPACE + "state")).isEqualTo("RECEIVED");
     }
 
+    @DisplayName("Expect HTTP 200 and the correct response when getting the progress")
+    @Test
+    void getTransferProgress() {
+        var flowId = "test-id";
+        var progress = DataFlowProgress.empty().withTransferredPart("part1", 10).withTransferredPart("part2", 20);
+        when(dataplaneManager.getTransferProgress(eq(flowId))).thenReturn(progress);
+
+        var result = baseRequest()
+                .get("/v1/dataflows/%s/progress".formatted(flowId))
+                .then()
+                .statusCode(200)
+                .extract().as(JsonObject.class);
+        assertThat(result.getJsonNumber(EDC_NAMESPACE + "partsTransferred").longValue()).isEqualTo(2);
+        assertThat(result.getJsonNumber(EDC_NAMESPACE + "bytesTransferred").longValue()).isEqualTo(30);
+    }
+
+    @DisplayName("Expect HTTP 404 when getting the progress of an unknown DataFlow")
+    @Test
+    void getTransferProgress_whenNotFound() {
+        when(dataplaneManager.getTransferProgress(any())).thenReturn(null);
+
+        baseRequest()
+                .get("/v1/dataflows/%s/progress".formatted("unknown"))
+                .then()
+                .statusCode(404);
+    }
+
     @DisplayName("Expect HTTP 204 when DataFlow is terminated successfully")
     @Test
     void terminate() {
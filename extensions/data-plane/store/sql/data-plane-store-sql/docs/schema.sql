@@ -24,6 +24,7 @@ CREATE TABLE IF NOT EXISTS edc_data_plane
     trace_context        JSON,
     error_detail         VARCHAR,
     callback_address     VARCHAR,
+    participant_id       VARCHAR,
     lease_id             VARCHAR
         CONSTRAINT data_plane_lease_lease_id_fk
                     REFERENCES edc_lease
@@ -31,10 +32,12 @@ CREATE TABLE IF NOT EXISTS edc_data_plane
     source               JSON,
     destination          JSON,
     properties           JSON,
-    flow_type            VARCHAR
+    flow_type            VARCHAR,
+    progress             JSON
 );
 
 COMMENT ON COLUMN edc_data_plane.trace_context IS 'Java Map serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.source IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.destination IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.properties IS 'Java Map serialized as JSON';
+COMMENT ON COLUMN edc_data_plane.progress IS 'DataFlowProgress serialized as JSON';
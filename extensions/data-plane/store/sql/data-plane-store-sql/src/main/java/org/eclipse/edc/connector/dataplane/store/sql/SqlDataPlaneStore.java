@@ -16,15 +16,18 @@ package org.eclipse.edc.connector.dataplane.store.sql;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.connector.dataplane.store.sql.schema.DataPlaneStatements;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.FlowType;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.SqlEntitySaveNotifier;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -55,6 +58,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
     private final String leaseHolderName;
+    private final SqlEntitySaveNotifier saveNotifier;
 
     public SqlDataPlaneStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
                              DataPlaneStatements statements, ObjectMapper objectMapper, Clock clock, QueryExecutor queryExecutor,
@@ -64,6 +68,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         this.clock = clock;
         this.leaseHolderName = leaseHolderName;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        saveNotifier = SqlEntitySaveNotifier.local(queryExecutor);
     }
 
     @Override
@@ -81,7 +86,9 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
     public @NotNull List<DataFlow> nextNotLeased(int max, Criterion... criteria) {
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
-            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
+            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max)
+                    .sortField("stateTimestamp").sortOrder(SortOrder.ASC)
+                    .build();
             var statement = statements.createQuery(querySpec)
                     .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
 
@@ -90,7 +97,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                     var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
+                leaseContext.withConnection(connection).acquireLeases(entries.stream().map(DataFlow::getId).toList());
                 return entries;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -128,12 +135,29 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 } else {
                     insert(connection, entity);
                 }
+                saveNotifier.notifySaved(transactionContext, connection);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
+    @Override
+    public void updateProgress(String dataFlowId, DataFlowProgress progress) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getUpdateProgressTemplate(), toJson(progress), dataFlowId);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void registerSaveListener(Runnable listener) {
+        saveNotifier.register(listener);
+    }
+
     private void insert(Connection connection, DataFlow dataFlow) {
         var sql = statements.getInsertTemplate();
         queryExecutor.execute(connection, sql,
@@ -146,10 +170,12 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 toJson(dataFlow.getTraceContext()),
                 dataFlow.getErrorDetail(),
                 Optional.ofNullable(dataFlow.getCallbackAddress()).map(URI::toString).orElse(null),
+                dataFlow.getParticipantId(),
                 toJson(dataFlow.getSource()),
                 toJson(dataFlow.getDestination()),
                 toJson(dataFlow.getProperties()),
-                dataFlow.getFlowType().toString()
+                dataFlow.getFlowType().toString(),
+                toJson(dataFlow.getProgress())
         );
     }
 
@@ -163,10 +189,12 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 toJson(dataFlow.getTraceContext()),
                 dataFlow.getErrorDetail(),
                 Optional.ofNullable(dataFlow.getCallbackAddress()).map(URI::toString).orElse(null),
+                dataFlow.getParticipantId(),
                 toJson(dataFlow.getSource()),
                 toJson(dataFlow.getDestination()),
                 toJson(dataFlow.getProperties()),
                 dataFlow.getFlowType().toString(),
+                toJson(dataFlow.getProgress()),
                 dataFlow.getId());
     }
 
@@ -181,10 +209,12 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .callbackAddress(Optional.ofNullable(resultSet.getString(statements.getCallbackAddressColumn())).map(URI::create).orElse(null))
+                .participantId(resultSet.getString(statements.getParticipantIdColumn()))
                 .source(fromJson(resultSet.getString(statements.getSourceColumn()), DataAddress.class))
                 .destination(fromJson(resultSet.getString(statements.getDestinationColumn()), DataAddress.class))
                 .properties(fromJson(resultSet.getString(statements.getPropertiesColumn()), getTypeRef()))
                 .flowType(FlowType.valueOf(resultSet.getString(statements.getFlowTypeColumn())))
+                .progress(fromJson(resultSet.getString(statements.getProgressColumn()), DataFlowProgress.class))
                 .build();
     }
 
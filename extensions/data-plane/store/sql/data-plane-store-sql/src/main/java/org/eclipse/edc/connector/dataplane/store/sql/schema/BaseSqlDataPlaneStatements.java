@@ -41,10 +41,12 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getCallbackAddressColumn())
+                .column(getParticipantIdColumn())
                 .jsonColumn(getSourceColumn())
                 .jsonColumn(getDestinationColumn())
                 .jsonColumn(getPropertiesColumn())
                 .column(getFlowTypeColumn())
+                .jsonColumn(getProgressColumn())
                 .insertInto(getDataPlaneTable());
     }
 
@@ -58,10 +60,19 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getCallbackAddressColumn())
+                .column(getParticipantIdColumn())
                 .jsonColumn(getSourceColumn())
                 .jsonColumn(getDestinationColumn())
                 .jsonColumn(getPropertiesColumn())
                 .column(getFlowTypeColumn())
+                .jsonColumn(getProgressColumn())
+                .update(getDataPlaneTable(), getIdColumn());
+    }
+
+    @Override
+    public String getUpdateProgressTemplate() {
+        return executeStatement()
+                .jsonColumn(getProgressColumn())
                 .update(getDataPlaneTable(), getIdColumn());
     }
 
@@ -32,6 +32,11 @@ public interface DataPlaneStatements extends StatefulEntityStatements, LeaseStat
         return "edc_data_plane";
     }
 
+    @Override
+    default String getEntityTableName() {
+        return getDataPlaneTable();
+    }
+
     default String getCallbackAddressColumn() {
         return "callback_address";
     }
@@ -44,6 +49,10 @@ public interface DataPlaneStatements extends StatefulEntityStatements, LeaseStat
         return "destination";
     }
 
+    default String getParticipantIdColumn() {
+        return "participant_id";
+    }
+
     default String getPropertiesColumn() {
         return "properties";
     }
@@ -52,10 +61,16 @@ public interface DataPlaneStatements extends StatefulEntityStatements, LeaseStat
         return "flow_type";
     }
 
+    default String getProgressColumn() {
+        return "progress";
+    }
+
     String getInsertTemplate();
 
     String getUpdateTemplate();
 
+    String getUpdateProgressTemplate();
+
     String getSelectTemplate();
 
     SqlQueryStatement createQuery(QuerySpec querySpec);
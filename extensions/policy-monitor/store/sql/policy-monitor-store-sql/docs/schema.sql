@@ -28,5 +28,11 @@ CREATE TABLE IF NOT EXISTS edc_policy_monitor
                     REFERENCES edc_lease
                     ON DELETE SET NULL,
     properties           JSON,
-    contract_id          VARCHAR
+    contract_id          VARCHAR,
+    next_evaluation_at   BIGINT  DEFAULT 0 NOT NULL
 );
+
+COMMENT ON COLUMN edc_policy_monitor.next_evaluation_at IS 'posix timestamp in milliseconds of the next policy evaluation';
+
+CREATE INDEX IF NOT EXISTS policy_monitor_next_evaluation_index
+    ON edc_policy_monitor (state, next_evaluation_at);
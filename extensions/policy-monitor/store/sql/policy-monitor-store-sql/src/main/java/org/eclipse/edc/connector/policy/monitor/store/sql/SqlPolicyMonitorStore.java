@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.SqlEntitySaveNotifier;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -48,6 +49,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
     private final String leaseHolderName;
+    private final SqlEntitySaveNotifier saveNotifier;
 
     public SqlPolicyMonitorStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
                                  PolicyMonitorStatements statements, ObjectMapper objectMapper, Clock clock,
@@ -57,6 +59,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
         this.clock = clock;
         this.leaseHolderName = leaseHolderName;
         leaseContext = SqlLeaseContextBuilder.with(transactionContext, leaseHolderName, statements, clock, queryExecutor);
+        saveNotifier = SqlEntitySaveNotifier.local(queryExecutor);
     }
 
     @Override
@@ -83,7 +86,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                     var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
+                leaseContext.withConnection(connection).acquireLeases(entries.stream().map(PolicyMonitorEntry::getId).toList());
                 return entries;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -121,12 +124,18 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 } else {
                     insert(connection, entity);
                 }
+                saveNotifier.notifySaved(transactionContext, connection);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
+    @Override
+    public void registerSaveListener(Runnable listener) {
+        saveNotifier.register(listener);
+    }
+
     private @Nullable PolicyMonitorEntry findByIdInternal(Connection conn, String id) {
         return transactionContext.execute(() -> {
             var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "=", id)).build();
@@ -147,7 +156,8 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 entry.getStateTimestamp(),
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
-                entry.getContractId()
+                entry.getContractId(),
+                entry.getNextEvaluationAt()
         );
     }
 
@@ -161,6 +171,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
                 entry.getContractId(),
+                entry.getNextEvaluationAt(),
                 entry.getId());
     }
 
@@ -175,6 +186,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .contractId(resultSet.getString(statements.getContractIdColumn()))
+                .nextEvaluationAt(resultSet.getLong(statements.getNextEvaluationAtColumn()))
                 .build();
     }
 }
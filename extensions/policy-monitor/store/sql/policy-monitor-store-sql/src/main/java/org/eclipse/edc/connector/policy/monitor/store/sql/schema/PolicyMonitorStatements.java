@@ -25,6 +25,11 @@ public interface PolicyMonitorStatements extends StatefulEntityStatements, Lease
         return "edc_policy_monitor";
     }
 
+    @Override
+    default String getEntityTableName() {
+        return getPolicyMonitorTable();
+    }
+
     default String getIdColumn() {
         return "entry_id";
     }
@@ -33,6 +38,10 @@ public interface PolicyMonitorStatements extends StatefulEntityStatements, Lease
         return "contract_id";
     }
 
+    default String getNextEvaluationAtColumn() {
+        return "next_evaluation_at";
+    }
+
     String getInsertTemplate();
 
     String getUpdateTemplate();
@@ -175,6 +175,7 @@ include(":extensions:control-plane:transfer:transfer-pull-http-dynamic-receiver"
 include(":extensions:control-plane:provision:provision-http")
 
 include(":extensions:control-plane:store:sql:asset-index-sql")
+include(":extensions:control-plane:store:sql:callback-outbox-store-sql")
 include(":extensions:control-plane:store:sql:contract-definition-store-sql")
 include(":extensions:control-plane:store:sql:contract-negotiation-store-sql")
 include(":extensions:control-plane:store:sql:control-plane-sql")
@@ -184,6 +185,7 @@ include(":extensions:control-plane:callback:callback-event-dispatcher")
 include(":extensions:control-plane:callback:callback-http-dispatcher")
 include(":extensions:control-plane:callback:callback-static-endpoint")
 include(":extensions:control-plane:edr:edr-store-receiver")
+include(":extensions:control-plane:control-plane-micrometer")
 
 
 include(":extensions:data-plane:data-plane-client")
@@ -203,6 +205,8 @@ include(":extensions:data-plane:data-plane-integration-tests")
 include(":extensions:data-plane:store:sql:data-plane-store-sql")
 include(":extensions:data-plane:store:sql:accesstokendata-store-sql")
 include(":extensions:data-plane:data-plane-kafka")
+include(":extensions:data-plane:data-plane-load-reporter")
+include(":extensions:data-plane:data-plane-micrometer")
 
 include(":extensions:data-plane-selector:data-plane-selector-api")
 include(":extensions:data-plane-selector:data-plane-selector-client")
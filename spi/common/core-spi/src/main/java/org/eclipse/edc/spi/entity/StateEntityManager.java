@@ -28,4 +28,10 @@ public interface StateEntityManager {
      * stop the manager.
      */
     void stop();
+
+    /**
+     * Wake up the manager, that will process the entities without waiting for the next iteration.
+     */
+    default void wakeUp() {
+    }
 }
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.spi.persistence;
 
+import java.util.Collection;
+
 /**
  * Interface for storage implementations that need to "lease" certain entities, i.e. block them from subsequent
  * read/write access.
@@ -34,4 +36,15 @@ public interface LeaseContext {
      * @throws RuntimeException or subclass if the lease could not be acquired, e.g. because another holder holds it.
      */
     void acquireLease(String entityId);
+
+    /**
+     * Acquires the exclusive Lock on multiple entities at once. Implementors should override it to acquire all the
+     * leases with a constant number of operations, the default implementation acquires them one by one.
+     *
+     * @param entityIds The database IDs of the entities
+     * @throws RuntimeException or subclass if any of the leases could not be acquired, e.g. because another holder holds it.
+     */
+    default void acquireLeases(Collection<String> entityIds) {
+        entityIds.forEach(this::acquireLease);
+    }
 }
@@ -87,4 +87,13 @@ public interface StateEntityStore<T> {
      * @param entity the entity.
      */
     void save(T entity);
+
+    /**
+     * Registers a listener that will be notified every time an entity gets saved. Implementations that support it can
+     * notify the listener also about entities saved by other replicas.
+     *
+     * @param listener the listener.
+     */
+    default void registerSaveListener(Runnable listener) {
+    }
 }
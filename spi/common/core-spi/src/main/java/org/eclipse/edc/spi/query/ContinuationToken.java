@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Base64;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Position of the last entry of a page in a keyset paginated query: the value of the sort field and the id of the
+ * entry, that breaks ties between entries with the same sort value. The next page starts right after this position,
+ * so its cost does not grow with the number of entries already paged through, unlike with an offset.
+ * <p>
+ * It is handed to clients in its {@link #encode() encoded} form, that has to be considered opaque.
+ *
+ * @param sortValue the value of the sort field of the last entry, null if the query is not sorted.
+ * @param id        the id of the last entry.
+ */
+public record ContinuationToken(@Nullable Object sortValue, String id) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Encodes the token into an url-safe string.
+     *
+     * @return the encoded token.
+     */
+    public String encode() {
+        try {
+            var json = MAPPER.writeValueAsBytes(new Object[]{ sortValue, id });
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot encode continuation token: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decodes a token encoded with {@link #encode()}.
+     *
+     * @param token the encoded token.
+     * @return the token.
+     * @throws IllegalArgumentException if the token is not valid.
+     */
+    public static ContinuationToken decode(String token) {
+        List<?> values;
+        try {
+            values = MAPPER.readValue(new String(Base64.getUrlDecoder().decode(token), UTF_8), List.class);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + token, e);
+        }
+        if (values == null || values.size() != 2 || !(values.get(1) instanceof String id)) {
+            throw new IllegalArgumentException("Invalid continuation token: " + token);
+        }
+        return new ContinuationToken(values.get(0), id);
+    }
+}
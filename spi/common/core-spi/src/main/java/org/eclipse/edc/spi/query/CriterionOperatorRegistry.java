@@ -26,6 +26,7 @@ public interface CriterionOperatorRegistry {
     String LIKE = "like";
     String ILIKE = "ilike";
     String CONTAINS = "contains";
+    String LESS_THAN_OR_EQUAL = "<=";
 
     /**
      * Register an operator with the related operator predicate.
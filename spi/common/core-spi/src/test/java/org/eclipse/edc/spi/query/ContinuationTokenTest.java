@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContinuationTokenTest {
+
+    @Test
+    void decode_shouldReturnEncodedToken() {
+        var token = new ContinuationToken("sort value", "id");
+
+        var decoded = ContinuationToken.decode(token.encode());
+
+        assertThat(decoded).isEqualTo(token);
+    }
+
+    @Test
+    void decode_shouldKeepNumericSortValue() {
+        var decoded = ContinuationToken.decode(new ContinuationToken(1234L, "id").encode());
+
+        assertThat(decoded.sortValue()).isInstanceOf(Number.class).extracting(v -> ((Number) v).longValue()).isEqualTo(1234L);
+    }
+
+    @Test
+    void decode_shouldAcceptMissingSortValue() {
+        var decoded = ContinuationToken.decode(new ContinuationToken(null, "id").encode());
+
+        assertThat(decoded.sortValue()).isNull();
+        assertThat(decoded.id()).isEqualTo("id");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "not base 64 !", "bnVsbA", "WzFd", "WzEsMl0" })
+    void decode_shouldFail_whenTokenIsInvalid(String token) {
+        assertThatThrownBy(() -> ContinuationToken.decode(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void encode_shouldBeUrlSafe() {
+        var encoded = new ContinuationToken("???>>>", "id").encode();
+
+        assertThat(encoded).doesNotContain("+", "/", "=");
+        assertThat(Base64.getUrlDecoder().decode(encoded)).isNotEmpty();
+    }
+}
@@ -31,6 +31,15 @@ class QuerySpecTest {
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(-10).build()).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void verifyIllegalContinuationToken() {
+        var token = new ContinuationToken(1L, "id").encode();
+
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().continuationToken(token).offset(10).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().continuationToken("not a token").build()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(QuerySpec.Builder.newInstance().continuationToken(token).build().getContinuationToken()).isEqualTo(token);
+    }
+
     @Test
     void verifyDefaults() {
         var spec = QuerySpec.Builder.newInstance().build();
@@ -66,4 +66,39 @@ public interface KafkaDataAddressSchema {
      * @see java.time.Duration#parse(CharSequence) for ISO-8601 duration format
      */
     String MAX_DURATION = EDC_NAMESPACE + "maxDuration";
+
+    /**
+     * Maximum number of records aggregated into a single part.
+     * <p>
+     * This parameter is optional. If neither this nor {@link #BATCH_MAX_BYTES} is provided, every record is
+     * transferred as its own part. When batching is enabled, consumer offsets are committed only once the sink has
+     * acknowledged the parts containing the records.
+     */
+    String BATCH_MAX_RECORDS = EDC_NAMESPACE + "batchMaxRecords";
+
+    /**
+     * Maximum number of record bytes aggregated into a single part. A batch is closed as soon as this size is reached.
+     * <p>
+     * This parameter is optional. If neither this nor {@link #BATCH_MAX_RECORDS} is provided, every record is
+     * transferred as its own part.
+     */
+    String BATCH_MAX_BYTES = EDC_NAMESPACE + "batchMaxBytes";
+
+    /**
+     * Maximum time to wait for a batch to fill up before it is emitted with the records collected so far.
+     * <p>
+     * The value should be a ISO-8601 duration e.g. "PT10S" for 10 seconds.
+     * This parameter is optional. Default value is 1s.
+     *
+     * @see java.time.Duration#parse(CharSequence) for ISO-8601 duration format
+     */
+    String BATCH_MAX_WAIT = EDC_NAMESPACE + "batchMaxWait";
+
+    /**
+     * How records are framed inside a batch: {@code ndjson} separates record values with a line feed,
+     * {@code length-prefixed} precedes each record value with its length as a 4 byte big-endian integer.
+     * <p>
+     * This parameter is optional. Default value is {@code ndjson}.
+     */
+    String BATCH_FORMAT = EDC_NAMESPACE + "batchFormat";
 }
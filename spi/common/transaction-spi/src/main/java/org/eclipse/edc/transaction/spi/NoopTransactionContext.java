@@ -43,8 +43,10 @@ public class NoopTransactionContext implements TransactionContext {
 
     private void notifyAndClearSyncs() {
         var syncList = synchronizations.get();
-        syncList.forEach(TransactionSynchronization::beforeCompletion);
+        var completed = new ArrayList<>(syncList);
         syncList.clear();
+        completed.forEach(TransactionSynchronization::beforeCompletion);
+        completed.forEach(sync -> sync.afterCompletion(true));
     }
 
 }
@@ -66,10 +66,19 @@ public interface TransactionContext {
     }
 
     /**
-     * Implementations receive callbacks before a transaction commits or is rolled back.
+     * Implementations receive callbacks before a transaction commits or is rolled back, and optionally after it
+     * completed.
      */
     @FunctionalInterface
     interface TransactionSynchronization {
         void beforeCompletion();
+
+        /**
+         * Called once the transaction has been committed or rolled back.
+         *
+         * @param committed true if the transaction has been committed, false if it has been rolled back.
+         */
+        default void afterCompletion(boolean committed) {
+        }
     }
 }
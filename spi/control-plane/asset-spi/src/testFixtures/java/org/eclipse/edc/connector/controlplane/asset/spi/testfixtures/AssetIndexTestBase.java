@@ -19,6 +19,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.assertj.core.api.Assertions;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.index.AssetIndex;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -387,6 +388,22 @@ public abstract class AssetIndexTestBase {
             assertThat(result).usingRecursiveFieldByFieldElementComparator().containsAll(assets);
         }
 
+        @Test
+        void shouldReturnNextPage_whenContinuationTokenPassed() {
+            var rank = EDC_NAMESPACE + "rank";
+            range(0, 5).mapToObj(i -> createAssetBuilder("id" + i).property(rank, 4 - i).build())
+                    .forEach(getAssetIndex()::create);
+            var spec = QuerySpec.Builder.newInstance().sortField(rank).sortOrder(SortOrder.DESC).limit(2).build();
+
+            var firstPage = getAssetIndex().queryAssets(spec).toList();
+            var last = firstPage.get(firstPage.size() - 1);
+            var token = new ContinuationToken(last.getProperty(rank), last.getId()).encode();
+            var secondPage = getAssetIndex().queryAssets(spec.toBuilder().continuationToken(token).build()).toList();
+
+            assertThat(firstPage).extracting(Asset::getId).containsExactly("id0", "id1");
+            assertThat(secondPage).extracting(Asset::getId).containsExactly("id2", "id3");
+        }
+
         @Test
         void withPrivateSorting() {
             var assets = IntStream.range(0, 10)
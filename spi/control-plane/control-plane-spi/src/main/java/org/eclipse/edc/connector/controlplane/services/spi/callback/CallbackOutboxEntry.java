@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * An event waiting in the {@link CallbackOutboxStore} to be delivered to a callback.
+ */
+public class CallbackOutboxEntry {
+
+    private String id;
+    private CallbackAddress callbackAddress;
+    private EventEnvelope<? extends Event> event;
+    private int attempts;
+    private long nextAttemptAt;
+    private boolean deadLetter;
+    private String errorDetail;
+
+    private CallbackOutboxEntry() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public CallbackAddress getCallbackAddress() {
+        return callbackAddress;
+    }
+
+    public EventEnvelope<? extends Event> getEvent() {
+        return event;
+    }
+
+    /**
+     * Number of failed delivery attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Epoch millis after which the entry can be delivered.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    /**
+     * Whether delivery was given up, after too many failed attempts.
+     */
+    public boolean isDeadLetter() {
+        return deadLetter;
+    }
+
+    public String getErrorDetail() {
+        return errorDetail;
+    }
+
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .callbackAddress(callbackAddress)
+                .event(event)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .deadLetter(deadLetter)
+                .errorDetail(errorDetail);
+    }
+
+    public static class Builder {
+
+        private final CallbackOutboxEntry entry;
+
+        private Builder() {
+            entry = new CallbackOutboxEntry();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder id(String id) {
+            entry.id = id;
+            return this;
+        }
+
+        public Builder callbackAddress(CallbackAddress callbackAddress) {
+            entry.callbackAddress = callbackAddress;
+            return this;
+        }
+
+        public Builder event(EventEnvelope<? extends Event> event) {
+            entry.event = event;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            entry.attempts = attempts;
+            return this;
+        }
+
+        public Builder nextAttemptAt(long nextAttemptAt) {
+            entry.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public Builder deadLetter(boolean deadLetter) {
+            entry.deadLetter = deadLetter;
+            return this;
+        }
+
+        public Builder errorDetail(String errorDetail) {
+            entry.errorDetail = errorDetail;
+            return this;
+        }
+
+        public CallbackOutboxEntry build() {
+            if (entry.id == null) {
+                entry.id = UUID.randomUUID().toString();
+            }
+            Objects.requireNonNull(entry.callbackAddress, "callbackAddress");
+            Objects.requireNonNull(entry.event, "event");
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Persists the events to be delivered to callbacks, so that they can be delivered asynchronously and retried.
+ */
+@ExtensionPoint
+public interface CallbackOutboxStore {
+
+    /**
+     * Stores a new entry.
+     *
+     * @param entry the entry.
+     */
+    void save(CallbackOutboxEntry entry);
+
+    /**
+     * Returns the entries that are due for delivery, oldest first, and postpones their next attempt by the lease
+     * duration, so that they are not returned again while they are being delivered. The returned entries carry the
+     * end of their lease as next attempt, to be passed to {@link #update(CallbackOutboxEntry, long)}. Dead letters are
+     * never returned.
+     *
+     * @param max           the maximum number of entries.
+     * @param leaseDuration how long the entries are reserved for the caller.
+     * @return the due entries.
+     */
+    List<CallbackOutboxEntry> leaseDue(int max, Duration leaseDuration);
+
+    /**
+     * Replaces an existing entry, only if it is still held by the lease ending at {@code leasedUntil}, that is if its
+     * next attempt was not changed since. An entry that was deleted, or whose lease expired and was taken by another
+     * worker, is left untouched. Setting the next attempt in the future renews the lease.
+     *
+     * @param entry       the entry.
+     * @param leasedUntil the next attempt of the entry as held by the caller.
+     * @return true if the entry was updated, false if the caller no longer holds it.
+     */
+    boolean update(CallbackOutboxEntry entry, long leasedUntil);
+
+    /**
+     * Deletes the entry, if it exists.
+     *
+     * @param id the entry id.
+     */
+    void delete(String id);
+
+    /**
+     * Returns the entries whose delivery was given up, so that they can be inspected or replayed with
+     * {@link #update(CallbackOutboxEntry, long)}.
+     *
+     * @param max the maximum number of entries.
+     * @return the dead letters.
+     */
+    List<CallbackOutboxEntry> findDeadLetters(int max);
+}
@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.services.spi.callback;
+
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public abstract class CallbackOutboxStoreTestBase {
+
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    @Test
+    void leaseDue_shouldReturnSavedEntry() {
+        var entry = createEntry("1", 0);
+        getStore().save(entry);
+
+        var result = getStore().leaseDue(10, LEASE);
+
+        assertThat(result).hasSize(1).first()
+                .usingRecursiveComparison().ignoringFields("nextAttemptAt").isEqualTo(entry);
+    }
+
+    @Test
+    void leaseDue_shouldNotReturnLeasedEntries() {
+        getStore().save(createEntry("1", 0));
+
+        assertThat(getStore().leaseDue(10, LEASE)).hasSize(1);
+        assertThat(getStore().leaseDue(10, LEASE)).isEmpty();
+    }
+
+    @Test
+    void leaseDue_shouldNotReturnEntriesNotDue() {
+        getStore().save(createEntry("1", Long.MAX_VALUE));
+
+        assertThat(getStore().leaseDue(10, LEASE)).isEmpty();
+    }
+
+    @Test
+    void leaseDue_shouldReturnOldestEntriesUpToMax() {
+        getStore().save(createEntry("3", 3));
+        getStore().save(createEntry("1", 1));
+        getStore().save(createEntry("2", 2));
+
+        var result = getStore().leaseDue(2, LEASE);
+
+        assertThat(result).extracting(CallbackOutboxEntry::getId).containsExactly("1", "2");
+    }
+
+    @Test
+    void leaseDue_shouldNotReturnDeadLetters() {
+        getStore().save(createEntry("1", 0).toBuilder().deadLetter(true).errorDetail("error").build());
+
+        assertThat(getStore().leaseDue(10, LEASE)).isEmpty();
+        assertThat(getStore().findDeadLetters(10)).hasSize(1).first()
+                .satisfies(entry -> assertThat(entry.getErrorDetail()).isEqualTo("error"));
+    }
+
+    @Test
+    void leaseDue_shouldReturnEntriesWithLeaseEndAsNextAttempt() {
+        getStore().save(createEntry("1", 0));
+        var before = System.currentTimeMillis();
+
+        var result = getStore().leaseDue(10, LEASE);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getNextAttemptAt()).isGreaterThanOrEqualTo(before + LEASE.toMillis());
+    }
+
+    @Test
+    void update_shouldReplaceEntry_whenLeaseIsHeld() {
+        getStore().save(createEntry("1", 0));
+        var leased = getStore().leaseDue(10, LEASE).get(0);
+
+        var updated = getStore().update(leased.toBuilder().attempts(3).nextAttemptAt(0).build(), leased.getNextAttemptAt());
+
+        assertThat(updated).isTrue();
+        assertThat(getStore().leaseDue(10, LEASE)).hasSize(1).first()
+                .extracting(CallbackOutboxEntry::getAttempts).isEqualTo(3);
+    }
+
+    @Test
+    void update_shouldNotReplaceEntry_whenLeaseWasTakenOver() {
+        getStore().save(createEntry("1", 0));
+        var leased = getStore().leaseDue(10, LEASE).get(0);
+        getStore().update(leased.toBuilder().nextAttemptAt(0).build(), leased.getNextAttemptAt());
+        var leasedAgain = getStore().leaseDue(10, LEASE.multipliedBy(2)).get(0);
+
+        var updated = getStore().update(leased.toBuilder().attempts(3).build(), leased.getNextAttemptAt());
+
+        assertThat(updated).isFalse();
+        assertThat(getStore().update(leasedAgain.toBuilder().nextAttemptAt(0).build(), leasedAgain.getNextAttemptAt())).isTrue();
+        assertThat(getStore().leaseDue(10, LEASE)).hasSize(1).first()
+                .extracting(CallbackOutboxEntry::getAttempts).isEqualTo(0);
+    }
+
+    @Test
+    void update_shouldNotRecreateDeletedEntry() {
+        getStore().save(createEntry("1", 0));
+        var leased = getStore().leaseDue(10, LEASE).get(0);
+        getStore().delete("1");
+
+        var updated = getStore().update(leased.toBuilder().attempts(1).nextAttemptAt(0).build(), leased.getNextAttemptAt());
+
+        assertThat(updated).isFalse();
+        assertThat(getStore().leaseDue(10, LEASE)).isEmpty();
+    }
+
+    @Test
+    void update_shouldReplayDeadLetter() {
+        getStore().save(createEntry("1", 0).toBuilder().attempts(3).deadLetter(true).errorDetail("error").build());
+        var deadLetter = getStore().findDeadLetters(10).get(0);
+
+        var updated = getStore().update(deadLetter.toBuilder().deadLetter(false).attempts(0).errorDetail(null).build(), deadLetter.getNextAttemptAt());
+
+        assertThat(updated).isTrue();
+        assertThat(getStore().findDeadLetters(10)).isEmpty();
+        assertThat(getStore().leaseDue(10, LEASE)).hasSize(1).first()
+                .extracting(CallbackOutboxEntry::getAttempts).isEqualTo(0);
+    }
+
+    @Test
+    void delete_shouldRemoveEntry() {
+        getStore().save(createEntry("1", 0));
+
+        getStore().delete("1");
+
+        assertThat(getStore().leaseDue(10, LEASE)).isEmpty();
+    }
+
+    protected abstract CallbackOutboxStore getStore();
+
+    private CallbackOutboxEntry createEntry(String id, long nextAttemptAt) {
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId(UUID.randomUUID().toString())
+                .build();
+        var envelope = EventEnvelope.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .at(1234L)
+                .payload(event)
+                .build();
+        var callbackAddress = CallbackAddress.Builder.newInstance()
+                .uri("http://localhost/callback")
+                .events(Set.of("transfer.process"))
+                .build();
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(id)
+                .callbackAddress(callbackAddress)
+                .event(envelope)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.policy.spi.store;
+
+/**
+ * Statistics of a {@link PolicyArchive} that caches the policies of the contract agreements.
+ */
+public interface PolicyArchiveCacheMetrics {
+
+    /**
+     * Number of lookups served from the cache.
+     */
+    long hitCount();
+
+    /**
+     * Number of lookups that had to load the contract agreement.
+     */
+    long missCount();
+
+    /**
+     * Number of policies currently cached.
+     */
+    int cachedPolicies();
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.selector.spi.instance;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -37,6 +38,8 @@ import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 /**
  * Representations of a data plane instance. Every DPF has an ID and a URL as well as a number, how often it was selected,
  * and a timestamp of its last selection time. In addition, there are extensible properties to hold specific properties.
+ * The load reported by the data plane on registration (active flows, queued flows, throughput) is kept in those
+ * properties as well, so that it travels through the existing registration API and stores unchanged.
  */
 public class DataPlaneInstance {
 
@@ -50,6 +53,10 @@ public class DataPlaneInstance {
     public static final String ALLOWED_SOURCE_TYPES = EDC_NAMESPACE + "allowedSourceTypes";
     public static final String ALLOWED_DEST_TYPES = EDC_NAMESPACE + "allowedDestTypes";
 
+    public static final String ACTIVE_FLOWS = EDC_NAMESPACE + "activeFlows";
+    public static final String QUEUED_FLOWS = EDC_NAMESPACE + "queuedFlows";
+    public static final String THROUGHPUT = EDC_NAMESPACE + "throughput";
+
     private Map<String, Object> properties = new HashMap<>();
     private Set<String> allowedTransferTypes = new HashSet<>();
     private Set<String> allowedSourceTypes = new HashSet<>();
@@ -109,6 +116,30 @@ public class DataPlaneInstance {
         return Collections.unmodifiableMap(properties);
     }
 
+    /**
+     * Number of data flows the instance reported as currently running, 0 if it never reported its load.
+     */
+    @JsonIgnore
+    public long getActiveFlows() {
+        return (long) numericProperty(ACTIVE_FLOWS);
+    }
+
+    /**
+     * Number of data flows the instance reported as waiting for a free worker, 0 if it never reported its load.
+     */
+    @JsonIgnore
+    public long getQueuedFlows() {
+        return (long) numericProperty(QUEUED_FLOWS);
+    }
+
+    /**
+     * Throughput in bytes per second the instance reported, 0 if it never reported its load.
+     */
+    @JsonIgnore
+    public double getThroughput() {
+        return numericProperty(THROUGHPUT);
+    }
+
     public Set<String> getAllowedSourceTypes() {
         return Collections.unmodifiableSet(allowedSourceTypes);
     }
@@ -121,6 +152,33 @@ public class DataPlaneInstance {
         return Collections.unmodifiableSet(allowedTransferTypes);
     }
 
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .url(url)
+                .turnCount(turnCount)
+                .lastActive(lastActive)
+                .allowedSourceTypes(new HashSet<>(allowedSourceTypes))
+                .allowedDestTypes(new HashSet<>(allowedDestTypes))
+                .allowedTransferType(new HashSet<>(allowedTransferTypes))
+                .properties(new HashMap<>(properties));
+    }
+
+    private double numericProperty(String key) {
+        var value = properties.get(key);
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof String string) {
+            try {
+                return Double.parseDouble(string);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public static final class Builder {
         private final DataPlaneInstance instance;
@@ -202,6 +260,21 @@ public class DataPlaneInstance {
             return this;
         }
 
+        public Builder activeFlows(long activeFlows) {
+            instance.properties.put(ACTIVE_FLOWS, activeFlows);
+            return this;
+        }
+
+        public Builder queuedFlows(long queuedFlows) {
+            instance.properties.put(QUEUED_FLOWS, queuedFlows);
+            return this;
+        }
+
+        public Builder throughput(double throughput) {
+            instance.properties.put(THROUGHPUT, throughput);
+            return this;
+        }
+
         public Builder properties(Map<String, Object> properties) {
             instance.properties = properties;
             return this;
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the {@link DataPlaneInstance} with the lowest reported load. The load of an instance is its active flows plus
+ * its queued flows multiplied by a weight, as queued flows mean the data plane is already saturated. Ties are broken by
+ * the lowest reported throughput and then at random, so that instances that did not report any load are spread evenly.
+ */
+public class LeastLoadedSelectionStrategy implements SelectionStrategy {
+
+    public static final String NAME = "leastLoaded";
+    public static final double DEFAULT_QUEUED_FLOW_WEIGHT = 2.0;
+
+    private final double queuedFlowWeight;
+
+    public LeastLoadedSelectionStrategy() {
+        this(DEFAULT_QUEUED_FLOW_WEIGHT);
+    }
+
+    public LeastLoadedSelectionStrategy(double queuedFlowWeight) {
+        if (queuedFlowWeight < 0) {
+            throw new IllegalArgumentException("Queued flow weight must not be negative, was " + queuedFlowWeight);
+        }
+        this.queuedFlowWeight = queuedFlowWeight;
+    }
+
+    /**
+     * Guaranteed to always produce a non-null result given that the instances list is not empty
+     */
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        var candidates = new ArrayList<DataPlaneInstance>();
+        var lowestLoad = Double.MAX_VALUE;
+        var lowestThroughput = Double.MAX_VALUE;
+        for (var instance : instances) {
+            var load = load(instance);
+            var throughput = instance.getThroughput();
+            if (load < lowestLoad || (load == lowestLoad && throughput < lowestThroughput)) {
+                candidates.clear();
+                lowestLoad = load;
+                lowestThroughput = throughput;
+            }
+            if (load == lowestLoad && throughput == lowestThroughput) {
+                candidates.add(instance);
+            }
+        }
+
+        return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    private double load(DataPlaneInstance instance) {
+        return instance.getActiveFlows() + queuedFlowWeight * instance.getQueuedFlows();
+    }
+}
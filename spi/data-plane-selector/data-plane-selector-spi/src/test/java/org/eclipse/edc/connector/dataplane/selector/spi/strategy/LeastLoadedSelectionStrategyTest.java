@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LeastLoadedSelectionStrategyTest {
+
+    private final LeastLoadedSelectionStrategy strategy = new LeastLoadedSelectionStrategy();
+
+    @Test
+    void apply_shouldReturnNull_whenNoInstances() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    @Test
+    void apply_shouldPickInstanceWithFewestActiveFlows() {
+        var busy = instance("busy", 10, 0, 0);
+        var idle = instance("idle", 1, 0, 0);
+
+        assertThat(strategy.apply(List.of(busy, idle))).isSameAs(idle);
+    }
+
+    @Test
+    void apply_shouldWeighQueuedFlows() {
+        var queueing = instance("queueing", 2, 2, 0);
+        var running = instance("running", 5, 0, 0);
+
+        assertThat(strategy.apply(List.of(queueing, running))).isSameAs(running);
+    }
+
+    @Test
+    void apply_shouldPreferLowerThroughput_whenLoadIsEqual() {
+        var saturated = instance("saturated", 3, 0, 1_000_000);
+        var light = instance("light", 3, 0, 1_000);
+
+        assertThat(strategy.apply(List.of(saturated, light))).isSameAs(light);
+    }
+
+    @Test
+    void apply_shouldReadLoadReportedAsGenericProperties() {
+        var busy = DataPlaneInstance.Builder.newInstance().url("http://busy")
+                .property(DataPlaneInstance.ACTIVE_FLOWS, 7.0)
+                .build();
+        var idle = DataPlaneInstance.Builder.newInstance().url("http://idle")
+                .property(DataPlaneInstance.ACTIVE_FLOWS, "2")
+                .build();
+
+        assertThat(strategy.apply(List.of(busy, idle))).isSameAs(idle);
+    }
+
+    @RepeatedTest(100)
+    void apply_shouldPickAmongEquallyLoaded() {
+        var instances = List.of(instance("a", 1, 0, 0), instance("b", 1, 0, 0), instance("c", 4, 0, 0));
+
+        assertThat(strategy.apply(instances)).isIn(instances.get(0), instances.get(1));
+    }
+
+    @Test
+    void shouldNotAcceptNegativeWeight() {
+        assertThatThrownBy(() -> new LeastLoadedSelectionStrategy(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DataPlaneInstance instance(String id, long activeFlows, long queuedFlows, double throughput) {
+        return DataPlaneInstance.Builder.newInstance()
+                .id(id)
+                .url("http://any/" + id)
+                .activeFlows(activeFlows)
+                .queuedFlows(queuedFlows)
+                .throughput(throughput)
+                .build();
+    }
+}
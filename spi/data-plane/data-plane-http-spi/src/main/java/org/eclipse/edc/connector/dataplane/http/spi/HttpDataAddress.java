@@ -54,6 +54,7 @@ public class HttpDataAddress extends DataAddress {
     public static final String CONTENT_TYPE = "contentType";
     public static final String OCTET_STREAM = "application/octet-stream";
     public static final String NON_CHUNKED_TRANSFER = "nonChunkedTransfer";
+    public static final String RANGED_PARTS = "rangedParts";
     public static final Set<String> ADDITIONAL_HEADERS_TO_IGNORE = Set.of("content-type");
 
     private HttpDataAddress() {
@@ -141,6 +142,17 @@ public class HttpDataAddress extends DataAddress {
                 .orElse(false);
     }
 
+    /**
+     * Returns the number of byte ranges a source is split into, 0 if it is fetched with a single request. Ranges are only
+     * used for sinks that write every part as a separate object, not for HTTP sinks or pull transfers.
+     */
+    @JsonIgnore
+    public int getRangedParts() {
+        return Optional.ofNullable(getStringProperty(RANGED_PARTS))
+                .map(Integer::parseInt)
+                .orElse(0);
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public static final class Builder extends DataAddress.Builder<HttpDataAddress, Builder> {
 
@@ -232,6 +244,11 @@ public class HttpDataAddress extends DataAddress {
             return this;
         }
 
+        public Builder rangedParts(int rangedParts) {
+            this.property(RANGED_PARTS, String.valueOf(rangedParts));
+            return this;
+        }
+
         public Builder copyFrom(DataAddress other) {
             Optional.ofNullable(other).map(DataAddress::getProperties).orElse(emptyMap()).forEach(this::property);
             return this;
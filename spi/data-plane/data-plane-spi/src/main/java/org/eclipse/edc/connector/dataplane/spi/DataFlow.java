@@ -46,7 +46,9 @@ public class DataFlow extends StatefulEntity<DataFlow> {
     private DataAddress source;
     private DataAddress destination;
     private URI callbackAddress;
+    private String participantId;
     private Map<String, String> properties = new HashMap<>();
+    private DataFlowProgress progress = DataFlowProgress.empty();
 
     private FlowType flowType = FlowType.PUSH;
 
@@ -56,7 +58,9 @@ public class DataFlow extends StatefulEntity<DataFlow> {
                 .source(source)
                 .destination(destination)
                 .callbackAddress(callbackAddress)
+                .participantId(participantId)
                 .properties(properties)
+                .progress(progress)
                 .flowType(flowType);
 
         return copy(builder);
@@ -79,6 +83,13 @@ public class DataFlow extends StatefulEntity<DataFlow> {
         return callbackAddress;
     }
 
+    /**
+     * The id of the participant on the other side of the transfer, if known.
+     */
+    public String getParticipantId() {
+        return participantId;
+    }
+
     public Map<String, String> getProperties() {
         return Collections.unmodifiableMap(properties);
     }
@@ -87,6 +98,17 @@ public class DataFlow extends StatefulEntity<DataFlow> {
         return flowType;
     }
 
+    /**
+     * The progress of the transfer, used to resume it when it gets restarted.
+     */
+    public DataFlowProgress getProgress() {
+        return progress;
+    }
+
+    public void updateProgress(DataFlowProgress progress) {
+        this.progress = progress;
+    }
+
     public DataFlowStartMessage toRequest() {
         return DataFlowStartMessage.Builder.newInstance()
                 .id(getId())
@@ -94,6 +116,7 @@ public class DataFlow extends StatefulEntity<DataFlow> {
                 .destinationDataAddress(getDestination())
                 .processId(getId())
                 .callbackAddress(getCallbackAddress())
+                .participantId(getParticipantId())
                 .traceContext(traceContext)
                 .properties(getProperties())
                 .flowType(getFlowType())
@@ -175,6 +198,11 @@ public class DataFlow extends StatefulEntity<DataFlow> {
             return this;
         }
 
+        public Builder participantId(String participantId) {
+            entity.participantId = participantId;
+            return this;
+        }
+
         public Builder flowType(FlowType flowType) {
             entity.flowType = flowType;
             return this;
@@ -185,5 +213,10 @@ public class DataFlow extends StatefulEntity<DataFlow> {
             return this;
         }
 
+        public Builder progress(DataFlowProgress progress) {
+            entity.progress = progress == null ? DataFlowProgress.empty() : progress;
+            return this;
+        }
+
     }
 }
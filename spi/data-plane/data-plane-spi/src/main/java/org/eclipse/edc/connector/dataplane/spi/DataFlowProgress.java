@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Checkpoint of a {@link DataFlow}: the number of parts and bytes delivered to the sink so far and, for sources that
+ * support resumption, the names of the parts that were completely delivered with their size and the validator of the
+ * content they were read from. Instances are immutable.
+ */
+public final class DataFlowProgress {
+
+    private static final DataFlowProgress EMPTY = new DataFlowProgress(0, 0, Map.of(), null);
+
+    private final long partsTransferred;
+    private final long bytesTransferred;
+    private final Map<String, Long> completedParts;
+    private final String validator;
+
+    public DataFlowProgress(long partsTransferred, long bytesTransferred, Map<String, Long> completedParts) {
+        this(partsTransferred, bytesTransferred, completedParts, null);
+    }
+
+    @JsonCreator
+    public DataFlowProgress(@JsonProperty("partsTransferred") long partsTransferred,
+                            @JsonProperty("bytesTransferred") long bytesTransferred,
+                            @JsonProperty("completedParts") Map<String, Long> completedParts,
+                            @JsonProperty("validator") @Nullable String validator) {
+        this.partsTransferred = partsTransferred;
+        this.bytesTransferred = bytesTransferred;
+        this.completedParts = completedParts == null ? Map.of() : Collections.unmodifiableMap(new HashMap<>(completedParts));
+        this.validator = validator;
+    }
+
+    public static DataFlowProgress empty() {
+        return EMPTY;
+    }
+
+    public long getPartsTransferred() {
+        return partsTransferred;
+    }
+
+    public long getBytesTransferred() {
+        return bytesTransferred;
+    }
+
+    /**
+     * Names of the parts completely delivered to the sink, mapped to their size in bytes.
+     */
+    public Map<String, Long> getCompletedParts() {
+        return completedParts;
+    }
+
+    public boolean isCompleted(String partName) {
+        return completedParts.containsKey(partName);
+    }
+
+    /**
+     * Identifies the version of the source content the completed parts were read from, see
+     * {@link org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource#validator()}.
+     *
+     * @return the validator, or null if the source did not provide one.
+     */
+    @Nullable
+    public String getValidator() {
+        return validator;
+    }
+
+    /**
+     * Returns a new progress that records the validator of the source content.
+     */
+    public DataFlowProgress withValidator(@Nullable String validator) {
+        return new DataFlowProgress(partsTransferred, bytesTransferred, completedParts, validator);
+    }
+
+    /**
+     * Returns a new progress that accounts for a delivered part.
+     *
+     * @param partName the part name, or null if the part cannot be skipped when the transfer is resumed.
+     * @param bytes    the number of bytes of the part.
+     */
+    public DataFlowProgress withTransferredPart(String partName, long bytes) {
+        var parts = completedParts;
+        if (partName != null) {
+            var updated = new HashMap<>(completedParts);
+            updated.put(partName, bytes);
+            parts = updated;
+        }
+        return new DataFlowProgress(partsTransferred + 1, bytesTransferred + bytes, parts, validator);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (DataFlowProgress) o;
+        return partsTransferred == that.partsTransferred && bytesTransferred == that.bytesTransferred &&
+                completedParts.equals(that.completedParts) && Objects.equals(validator, that.validator);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partsTransferred, bytesTransferred, completedParts, validator);
+    }
+}
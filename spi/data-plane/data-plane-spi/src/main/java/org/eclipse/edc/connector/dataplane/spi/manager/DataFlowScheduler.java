@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.manager;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+
+import java.io.InputStream;
+
+/**
+ * Decides when a received data flow can be started and how fast it can transfer data, so that the concurrent flows
+ * and the bandwidth of the data plane are shared among the participants and transfer types.
+ */
+@ExtensionPoint
+public interface DataFlowScheduler {
+
+    /**
+     * Tries to admit the data flow for execution. A flow that cannot be admitted is queued and must be offered again
+     * later: flows of the participants with the fewest running flows are admitted first.
+     *
+     * @param request the data flow request.
+     * @return true if the flow can be started, false if it has to wait.
+     */
+    boolean tryAcquire(DataFlowStartMessage request);
+
+    /**
+     * Releases the slot held by a data flow, either because it ended or because it will be retried later.
+     *
+     * @param dataFlowId the data flow id.
+     */
+    void release(String dataFlowId);
+
+    /**
+     * Decorates a stream of the data flow to limit its throughput to the bandwidth available to the flow.
+     *
+     * @param request the data flow request.
+     * @param stream  the stream.
+     * @return the throttled stream, or the stream itself if no bandwidth limit applies.
+     */
+    InputStream throttle(DataFlowStartMessage request, InputStream stream);
+
+    /**
+     * Number of data flows waiting to be admitted.
+     */
+    int queuedFlows();
+
+    /**
+     * Number of admitted data flows that are running.
+     */
+    int activeFlows();
+}
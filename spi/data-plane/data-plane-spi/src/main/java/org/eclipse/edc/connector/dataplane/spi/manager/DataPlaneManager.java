@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.spi.manager;
 
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.entity.StateEntityManager;
@@ -47,6 +48,12 @@ public interface DataPlaneManager extends StateEntityManager {
      */
     DataFlowStates getTransferState(String processId);
 
+    /**
+     * Returns the last persisted progress of the transfer for the process, null if the process does not exist.
+     */
+    @Nullable
+    DataFlowProgress getTransferProgress(String processId);
+
     /**
      * Terminate the data flow.
      *
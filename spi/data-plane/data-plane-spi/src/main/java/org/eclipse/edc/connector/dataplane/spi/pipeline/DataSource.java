@@ -14,7 +14,10 @@
 
 package org.eclipse.edc.connector.dataplane.spi.pipeline;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.io.InputStream;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -29,6 +32,37 @@ public interface DataSource extends AutoCloseable {
      */
     StreamResult<Stream<Part>> openPartStream();
 
+    /**
+     * Whether the part names are unique and stable across invocations of {@link #openPartStream()}, so that an
+     * interrupted transfer can be resumed by skipping the parts that were already delivered.
+     */
+    default boolean isResumable() {
+        return false;
+    }
+
+    /**
+     * Identifies the version of the content read by the last {@link #openPartStream()}, e.g. an HTTP entity tag. A
+     * resumable source only skips the parts delivered by a previous attempt if both read the content with the same
+     * validator, otherwise the transfer starts over.
+     *
+     * @return the validator, or null if the source cannot identify the version of its content.
+     */
+    @Nullable
+    default String validator() {
+        return null;
+    }
+
+    /**
+     * Opens the source parts as a {@link Flow.Publisher} that pulls parts from the source only on demand.
+     */
+    default StreamResult<Flow.Publisher<Part>> openPartPublisher() {
+        var streamResult = openPartStream();
+        if (streamResult.failed()) {
+            return StreamResult.failure(streamResult.getFailure());
+        }
+        return StreamResult.success(new PartPublisher(streamResult.getContent()));
+    }
+
     /**
      * A data source part. This is typically an underlying file or container that the data contains.
      */
@@ -62,6 +96,14 @@ public interface DataSource extends AutoCloseable {
             return "application/octet-stream";
         }
 
+        /**
+         * Signals that the part content was successfully written by the sink. Sources can use this to commit their
+         * read position, e.g. a stream offset, only once the data was delivered.
+         */
+        default void acknowledge() {
+            // no-op
+        }
+
         @Override
         default void close() throws Exception {
             // no-op
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link DataSink} that consumes the parts of a source as a {@link Flow.Publisher}, signalling demand for parts as
+ * it is able to transfer them. This bounds the parts and bytes a sink holds in flight regardless of how fast the
+ * source produces them.
+ */
+public interface FlowDataSink extends DataSink {
+
+    /**
+     * Transfers the published parts to the sink, returning a future to obtain the result.
+     */
+    CompletableFuture<StreamResult<Object>> transfer(Flow.Publisher<DataSource.Part> parts);
+
+    @Override
+    default CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        var publisherResult = source.openPartPublisher();
+        if (publisherResult.failed()) {
+            return CompletableFuture.completedFuture(StreamResult.failure(publisherResult.getFailure()));
+        }
+        return transfer(publisherResult.getContent());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Publishes the parts of a {@link DataSource} part stream to a single {@link Flow.Subscriber}. Parts are pulled from
+ * the stream only as far as the subscriber signals demand, so a slow subscriber throttles the source instead of having
+ * parts buffered for it. The part stream is closed when it is exhausted, fails or the subscription is cancelled.
+ */
+public class PartPublisher implements Flow.Publisher<DataSource.Part> {
+
+    private final Stream<DataSource.Part> parts;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public PartPublisher(Stream<DataSource.Part> parts) {
+        this.parts = parts;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super DataSource.Part> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new NoopSubscription());
+            subscriber.onError(new IllegalStateException("PartPublisher supports a single subscriber only"));
+            return;
+        }
+        subscriber.onSubscribe(new PartSubscription(subscriber));
+    }
+
+    private class PartSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super DataSource.Part> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        private Iterator<DataSource.Part> iterator;
+        private volatile boolean done;
+
+        PartSubscription(Flow.Subscriber<? super DataSource.Part> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                terminate(new IllegalArgumentException("Requested demand must be positive, was " + n));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            parts.close();
+        }
+
+        /**
+         * Emits parts while there is demand. Only one thread drains at a time, concurrent or reentrant requests are
+         * picked up by the draining thread, which keeps the signals to the subscriber serialized.
+         */
+        private void drain() {
+            if (workInProgress.getAndIncrement() != 0) {
+                return;
+            }
+            var missed = 1;
+            do {
+                while (!done && demand.get() > 0) {
+                    DataSource.Part part;
+                    try {
+                        if (iterator == null) {
+                            iterator = parts.iterator();
+                        }
+                        if (!iterator.hasNext()) {
+                            done = true;
+                            parts.close();
+                            subscriber.onComplete();
+                            return;
+                        }
+                        part = iterator.next();
+                    } catch (RuntimeException e) {
+                        terminate(e);
+                        return;
+                    }
+                    demand.decrementAndGet();
+                    subscriber.onNext(part);
+                }
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void terminate(Throwable throwable) {
+            if (!done) {
+                done = true;
+                parts.close();
+                subscriber.onError(throwable);
+            }
+        }
+    }
+
+    private static class NoopSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
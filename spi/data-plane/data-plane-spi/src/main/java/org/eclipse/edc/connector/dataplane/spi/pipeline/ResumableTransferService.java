@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * A {@link TransferService} that reports the progress of its transfers and can resume a transfer from a previously
+ * reported {@link DataFlowProgress}.
+ */
+public interface ResumableTransferService extends TransferService {
+
+    /**
+     * Transfers data from a source to a destination, skipping the parts already completed according to the progress if
+     * the source supports it (see {@link DataSource#isResumable()}).
+     *
+     * @param request          The data flow request containing the necessary information for the transfer.
+     * @param progress         The progress of previous attempts of the transfer.
+     * @param progressListener Called with the updated progress every time a part was delivered to the sink.
+     * @return A CompletableFuture wrapping a StreamResult indicating the success or failure of the transfer.
+     */
+    CompletableFuture<StreamResult<Object>> transfer(DataFlowStartMessage request, DataFlowProgress progress, Consumer<DataFlowProgress> progressListener);
+
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Accounts for the bytes and parts read from {@link DataSource.Part}s wrapped with {@link #meter(DataSource.Part)}.
+ * This class is thread-safe, so parts transferred concurrently can share a meter.
+ */
+public class TransferMeter {
+
+    private final Clock clock;
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder parts = new LongAdder();
+    private final AtomicReference<Instant> start = new AtomicReference<>();
+
+    public TransferMeter() {
+        this(Clock.systemUTC());
+    }
+
+    public TransferMeter(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Wraps the part so that the bytes read from its stream are accounted for by this meter.
+     */
+    public DataSource.Part meter(DataSource.Part part) {
+        start.compareAndSet(null, clock.instant());
+        parts.increment();
+        return new MeteredPart(part);
+    }
+
+    /**
+     * The number of bytes read from metered parts so far.
+     */
+    public long bytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * The number of parts metered so far.
+     */
+    public long parts() {
+        return parts.sum();
+    }
+
+    /**
+     * The average number of bytes read per second since the first part was metered, 0 if none was.
+     */
+    public double bytesPerSecond() {
+        var first = start.get();
+        if (first == null) {
+            return 0;
+        }
+        var elapsed = Duration.between(first, clock.instant()).toMillis();
+        return elapsed == 0 ? bytes() : bytes() * 1000.0 / elapsed;
+    }
+
+    private class MeteredPart implements DataSource.Part {
+        private final DataSource.Part delegate;
+
+        MeteredPart(DataSource.Part delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String name() {
+            return delegate.name();
+        }
+
+        @Override
+        public long size() {
+            return delegate.size();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new CountingInputStream(delegate.openStream());
+        }
+
+        @Override
+        public String mediaType() {
+            return delegate.mediaType();
+        }
+
+        @Override
+        public void acknowledge() {
+            delegate.acknowledge();
+        }
+
+        @Override
+        public void close() throws Exception {
+            delegate.close();
+        }
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var read = super.read();
+            if (read != -1) {
+                bytes.increment();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            var read = super.read(buffer, offset, length);
+            if (read > 0) {
+                bytes.add(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            var skipped = super.skip(n);
+            bytes.add(skipped);
+            return skipped;
+        }
+    }
+}
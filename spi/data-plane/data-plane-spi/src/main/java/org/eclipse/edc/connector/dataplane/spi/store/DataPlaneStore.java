@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.spi.store;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
 
 /**
@@ -22,4 +23,13 @@ import org.eclipse.edc.spi.persistence.StateEntityStore;
  */
 public interface DataPlaneStore extends StateEntityStore<DataFlow> {
 
+    /**
+     * Persists the progress of a data flow without modifying its state and without acquiring a lease, as the progress
+     * is reported while the data flow is being transferred. Does nothing if the data flow does not exist.
+     *
+     * @param dataFlowId the data flow id.
+     * @param progress   the progress.
+     */
+    void updateProgress(String dataFlowId, DataFlowProgress progress);
+
 }
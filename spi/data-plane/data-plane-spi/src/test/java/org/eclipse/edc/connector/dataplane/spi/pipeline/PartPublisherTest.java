@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartPublisherTest {
+
+    @Test
+    void shouldPullPartsOnlyOnDemand() {
+        var pulled = new AtomicInteger();
+        var closed = new AtomicBoolean();
+        var parts = IntStream.range(0, 5)
+                .peek(i -> pulled.incrementAndGet())
+                .mapToObj(i -> (DataSource.Part) new InputStreamDataSource("part" + i, new ByteArrayInputStream(new byte[0])))
+                .onClose(() -> closed.set(true));
+        var subscriber = new RecordingSubscriber();
+
+        new PartPublisher(parts).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        assertThat(subscriber.received).hasSize(2);
+        assertThat(pulled).hasValue(2);
+        assertThat(subscriber.completed).isFalse();
+
+        subscriber.subscription.request(10);
+        assertThat(subscriber.received).hasSize(5);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldCloseStream_whenCancelled() {
+        var closed = new AtomicBoolean();
+        var parts = Stream.<DataSource.Part>of(new InputStreamDataSource("part", new ByteArrayInputStream(new byte[0])))
+                .onClose(() -> closed.set(true));
+        var subscriber = new RecordingSubscriber();
+
+        new PartPublisher(parts).subscribe(subscriber);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        assertThat(closed).isTrue();
+        assertThat(subscriber.received).isEmpty();
+    }
+
+    @Test
+    void shouldRejectSecondSubscriber() {
+        var publisher = new PartPublisher(Stream.empty());
+        publisher.subscribe(new RecordingSubscriber());
+        var second = new RecordingSubscriber();
+
+        publisher.subscribe(second);
+
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<DataSource.Part> {
+        private final List<DataSource.Part> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(DataSource.Part item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.spi.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransferMeterTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.now());
+    private final Clock clock = mock();
+    private final TransferMeter meter = new TransferMeter(clock);
+
+    @Test
+    void meter_shouldCountBytesReadAndParts() throws IOException {
+        when(clock.instant()).thenAnswer(i -> now.get());
+        var part = meter.meter(new InputStreamDataSource("part", new ByteArrayInputStream("content".getBytes())));
+
+        try (var stream = part.openStream()) {
+            stream.readAllBytes();
+        }
+
+        assertThat(meter.parts()).isEqualTo(1);
+        assertThat(meter.bytes()).isEqualTo(7);
+    }
+
+    @Test
+    void meter_shouldCountBytesActuallyRead_notDeclaredSize() throws IOException {
+        when(clock.instant()).thenAnswer(i -> now.get());
+        DataSource.Part declared = mock();
+        when(declared.size()).thenReturn(100L);
+        when(declared.openStream()).thenReturn(new ByteArrayInputStream("content".getBytes()));
+        var part = meter.meter(declared);
+
+        try (var stream = part.openStream()) {
+            stream.readNBytes(3);
+        }
+
+        assertThat(meter.bytes()).isEqualTo(3);
+    }
+
+    @Test
+    void meter_shouldDelegateToPart() {
+        when(clock.instant()).thenAnswer(i -> now.get());
+        DataSource.Part delegate = mock();
+        when(delegate.name()).thenReturn("part");
+
+        var part = meter.meter(delegate);
+        part.acknowledge();
+
+        assertThat(part.name()).isEqualTo("part");
+        verify(delegate).acknowledge();
+    }
+
+    @Test
+    void bytesPerSecond_shouldAverageSinceFirstPart() throws IOException {
+        when(clock.instant()).thenAnswer(i -> now.get());
+        var part = meter.meter(new InputStreamDataSource("part", new ByteArrayInputStream(new byte[2000])));
+        try (var stream = part.openStream()) {
+            stream.readAllBytes();
+        }
+
+        now.set(now.get().plusSeconds(2));
+
+        assertThat(meter.bytesPerSecond()).isEqualTo(1000.0);
+    }
+
+    @Test
+    void bytesPerSecond_shouldBeZero_whenNoPartMetered() {
+        assertThat(meter.bytesPerSecond()).isZero();
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.spi.testfixtures.store;
 
 import org.eclipse.edc.connector.dataplane.spi.DataFlow;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowProgress;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.entity.Entity;
@@ -35,6 +36,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.COMPLETED;
 import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.RECEIVED;
+import static org.eclipse.edc.connector.dataplane.spi.DataFlowStates.STARTED;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_LEASED;
@@ -56,14 +58,21 @@ public abstract class DataPlaneStoreTestBase {
     protected abstract boolean isLeasedBy(String entityId, String owner);
 
     private DataFlow createDataFlow(String id, DataFlowStates state) {
+        return dataFlowBuilder(id, state).build();
+    }
+
+    private DataFlow createDataFlow(String id, DataFlowStates state, long stateTimestamp) {
+        return dataFlowBuilder(id, state).stateTimestamp(stateTimestamp).build();
+    }
+
+    private DataFlow.Builder dataFlowBuilder(String id, DataFlowStates state) {
         return DataFlow.Builder.newInstance()
                 .id(id)
                 .callbackAddress(URI.create("http://any"))
                 .source(DataAddress.Builder.newInstance().type("src-type").build())
                 .destination(DataAddress.Builder.newInstance().type("dest-type").build())
                 .flowType(FlowType.PUSH)
-                .state(state.code())
-                .build();
+                .state(state.code());
     }
 
     @Nested
@@ -115,6 +124,18 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(leased).extracting(MutableEntity::getUpdatedAt).isSorted();
         }
 
+        @Test
+        void shouldReturnOldestStateTimestampFirst() {
+            var state = RECEIVED;
+            range(0, 5)
+                    .mapToObj(i -> createDataFlow("id-" + i, state, 1000L - i))
+                    .forEach(getStore()::save);
+
+            var leased = getStore().nextNotLeased(2, hasState(state.code()));
+
+            assertThat(leased).extracting(DataFlow::getId).containsExactly("id-4", "id-3");
+        }
+
         @Test
         void shouldReturnFreeEntities() {
             var state = RECEIVED;
@@ -211,4 +232,29 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(result).isFailed().extracting(StoreFailure::getReason).isEqualTo(ALREADY_LEASED);
         }
     }
+
+    @Nested
+    class UpdateProgress {
+
+        @Test
+        void shouldUpdateProgress_withoutChangingState() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createDataFlow(id, STARTED));
+            var progress = DataFlowProgress.empty().withTransferredPart("part1", 10).withTransferredPart(null, 5);
+
+            getStore().updateProgress(id, progress);
+
+            var result = getStore().findById(id);
+            assertThat(result).isNotNull();
+            assertThat(result.getState()).isEqualTo(STARTED.code());
+            assertThat(result.getProgress()).isEqualTo(progress);
+        }
+
+        @Test
+        void shouldDoNothing_whenEntityDoesNotExist() {
+            getStore().updateProgress("unknown", DataFlowProgress.empty().withTransferredPart("part", 1));
+
+            assertThat(getStore().findById("unknown")).isNull();
+        }
+    }
 }
@@ -26,10 +26,11 @@ import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntrySta
 public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
 
     private String contractId;
+    private long nextEvaluationAt;
 
     @Override
     public PolicyMonitorEntry copy() {
-        var builder = Builder.newInstance().contractId(contractId);
+        var builder = Builder.newInstance().contractId(contractId).nextEvaluationAt(nextEvaluationAt);
         return copy(builder);
     }
 
@@ -42,6 +43,17 @@ public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
         return contractId;
     }
 
+    /**
+     * The epoch millis before which the policy evaluation cannot change, the entry is not processed until then.
+     */
+    public long getNextEvaluationAt() {
+        return nextEvaluationAt;
+    }
+
+    public void setNextEvaluationAt(long nextEvaluationAt) {
+        this.nextEvaluationAt = nextEvaluationAt;
+    }
+
     public void transitionToStarted() {
         transitionTo(STARTED.code());
     }
@@ -70,6 +82,11 @@ public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
             return this;
         }
 
+        public Builder nextEvaluationAt(long nextEvaluationAt) {
+            entity.nextEvaluationAt = nextEvaluationAt;
+            return this;
+        }
+
         @Override
         public Builder self() {
             return this;
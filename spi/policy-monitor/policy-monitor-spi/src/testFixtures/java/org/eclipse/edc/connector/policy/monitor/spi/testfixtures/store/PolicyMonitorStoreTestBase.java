@@ -34,6 +34,7 @@ import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntrySta
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_LEASED;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.NOT_FOUND;
 import static org.hamcrest.Matchers.hasSize;
@@ -118,6 +119,23 @@ public abstract class PolicyMonitorStoreTestBase {
             assertThat(leased).isEmpty();
         }
 
+        @Test
+        void shouldReturnOnlyDueItems() {
+            var due = createPolicyMonitorEntry("due", STARTED);
+            due.setNextEvaluationAt(1000);
+            getStore().save(due);
+            var notDue = createPolicyMonitorEntry("not-due", STARTED);
+            notDue.setNextEvaluationAt(2000);
+            getStore().save(notDue);
+
+            var leased = getStore().nextNotLeased(10, hasState(STARTED.code()), criterion("nextEvaluationAt", "<=", 1000L));
+
+            assertThat(leased).hasSize(1).first().satisfies(entry -> {
+                assertThat(entry.getId()).isEqualTo("due");
+                assertThat(entry.getNextEvaluationAt()).isEqualTo(1000);
+            });
+        }
+
         @Test
         void shouldLeaseAgainAfterTimePassed() {
             var entry = createPolicyMonitorEntry(UUID.randomUUID().toString(), STARTED);